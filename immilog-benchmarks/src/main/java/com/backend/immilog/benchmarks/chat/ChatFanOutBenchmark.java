@@ -0,0 +1,144 @@
+package com.backend.immilog.benchmarks.chat;
+
+import com.backend.immilog.chat.config.properties.ChatSinkProperties;
+import com.backend.immilog.chat.domain.model.ChatMessage;
+import com.backend.immilog.chat.infrastructure.cluster.ChatClusterBroadcaster;
+import com.backend.immilog.chat.infrastructure.cluster.ChatTopicSinkRegistry;
+import com.backend.immilog.chat.infrastructure.cluster.ChatTopics;
+import com.backend.immilog.chat.infrastructure.cluster.InMemoryChatClusterBus;
+import com.backend.immilog.chat.presentation.dto.ChatMessageDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.Disposable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅방 브로드캐스트 1건을 roomSize명의 로컬 세션에 전달하는 비용 (인메모리 버스 → ChatTopicSinkRegistry → 세션 프레임)
+ * sharedFrame: 발행 시 만든 JSON을 노드당 한 번 ChatFrame으로 만들고 세션마다 감싸기만 함 (현재 경로)
+ * perSessionEncoding: 세션마다 DTO를 다시 직렬화해 텍스트 프레임을 만듦 (이전 경로)
+ * 세션 하나에 전달된 메시지당 비용은 보조 카운터 deliveries(전달 수/µs)의 역수로 읽음
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChatFanOutBenchmark {
+
+    @Param({"10", "100", "500"})
+    private int roomSize;
+
+    private final DataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+    private final List<Disposable> sessions = new ArrayList<>();
+    private ObjectMapper objectMapper;
+    private ChatTopicSinkRegistry registry;
+    private ChatClusterBroadcaster broadcaster;
+    private ChatMessageDto message;
+    private long deliveredBytes;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        registry = new ChatTopicSinkRegistry(
+                new ChatSinkProperties(null, null, Duration.ZERO),
+                new SimpleMeterRegistry()
+        );
+        broadcaster = new ChatClusterBroadcaster(new InMemoryChatClusterBus(), registry, objectMapper);
+        message = ChatMessageDto.from(new ChatMessage(
+                "65f0c0ffee0000000000abcd",
+                "room-1",
+                1024L,
+                "user-1",
+                "nickname",
+                "안녕하세요, 오늘 모임 장소는 강남역 11번 출구 앞입니다.",
+                ChatMessage.MessageType.TEXT,
+                LocalDateTime.of(2024, 1, 1, 12, 30),
+                false
+        ));
+
+        for (int i = 0; i < roomSize; i++) {
+            sessions.add(broadcaster.subscribeFrames(ChatTopics.room("shared"))
+                    .map(frame -> frame.toDataBuffer(bufferFactory))
+                    .subscribe(this::write));
+            sessions.add(broadcaster.subscribe(ChatTopics.room("per-session"), ChatMessageDto.class)
+                    .map(dto -> bufferFactory.wrap(encode(dto).getBytes(StandardCharsets.UTF_8)))
+                    .subscribe(this::write));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessions.forEach(Disposable::dispose);
+        registry.shutdown();
+    }
+
+    @Benchmark
+    public long sharedFrame(Deliveries deliveries) {
+        return broadcast(ChatTopics.room("shared"), deliveries);
+    }
+
+    @Benchmark
+    public long perSessionEncoding(Deliveries deliveries) {
+        return broadcast(ChatTopics.room("per-session"), deliveries);
+    }
+
+    private long broadcast(
+            String topic,
+            Deliveries deliveries
+    ) {
+        // 인메모리 버스는 발행 스레드에서 구독자에게 바로 전달하므로 block 후에는 모든 세션이 받은 상태
+        broadcaster.publish(topic, message).block();
+        deliveries.deliveries += roomSize;
+        return deliveredBytes;
+    }
+
+    private void write(DataBuffer buffer) {
+        deliveredBytes += buffer.readableByteCount();
+    }
+
+    private String encode(ChatMessageDto dto) {
+        try {
+            return objectMapper.writeValueAsString(dto);
+        } catch (Exception e) {
+            return "{}";
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Deliveries {
+        public long deliveries;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            deliveries = 0;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.backend.immilog.benchmarks.chat;
+
+import com.backend.immilog.chat.domain.model.ChatMessage;
+import com.backend.immilog.chat.infrastructure.cluster.ChatFrame;
+import com.backend.immilog.chat.presentation.dto.ChatMessageDto;
+import com.backend.immilog.chat.websocket.ChatWebSocketHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 1건의 WebSocket 프레임 인코딩(발행 시 JSON 직렬화 + 수신 노드의 ChatFrame 변환)과 수신 메시지 디코딩
+ * 인코딩은 브로드캐스트마다 한 번이므로 방 인원수와 무관 (인원수별 비용은 ChatFanOutBenchmark)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChatMessageEncodingBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ChatMessageDto message;
+    private String incomingPayload;
+
+    @Setup
+    public void setUp() throws Exception {
+        // Spring Boot 자동 구성 ObjectMapper와 같은 설정 (JSR-310 모듈, 날짜를 문자열로)
+        objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        message = ChatMessageDto.from(new ChatMessage(
+                "65f0c0ffee0000000000abcd",
+                "room-1",
+                1024L,
+                "user-1",
+                "nickname",
+                "안녕하세요, 오늘 모임 장소는 강남역 11번 출구 앞입니다.",
+                ChatMessage.MessageType.TEXT,
+                LocalDateTime.of(2024, 1, 1, 12, 30),
+                false
+        ));
+        incomingPayload = objectMapper.writeValueAsString(new ChatWebSocketHandler.ChatMessageRequest(
+                "MESSAGE", "user-1", "nickname", message.content()
+        ));
+    }
+
+    @Benchmark
+    public ChatFrame encode() throws Exception {
+        return ChatFrame.of(objectMapper.writeValueAsString(message));
+    }
+
+    @Benchmark
+    public ChatWebSocketHandler.ChatMessageRequest decode() throws Exception {
+        return objectMapper.readValue(incomingPayload, ChatWebSocketHandler.ChatMessageRequest.class);
+    }
+}
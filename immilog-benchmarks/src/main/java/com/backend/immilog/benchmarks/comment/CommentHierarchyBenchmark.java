@@ -0,0 +1,108 @@
+package com.backend.immilog.benchmarks.comment;
+
+import com.backend.immilog.benchmarks.support.Stubs;
+import com.backend.immilog.comment.application.dto.CommentResult;
+import com.backend.immilog.comment.application.services.CommentQueryService;
+import com.backend.immilog.comment.domain.model.ReferenceType;
+import com.backend.immilog.comment.domain.repositories.CommentRepository;
+import com.backend.immilog.comment.presentation.payload.CommentResponse;
+import com.backend.immilog.interaction.domain.model.InteractionStatus;
+import com.backend.immilog.interaction.domain.model.InteractionType;
+import com.backend.immilog.interaction.domain.model.InteractionUser;
+import com.backend.immilog.interaction.domain.repositories.InteractionUserRepository;
+import com.backend.immilog.shared.enums.ContentStatus;
+import com.backend.immilog.shared.enums.ContentType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시물 상세의 댓글 트리 조립 (부모별 그룹화 + 인터랙션 그룹화 + 역순 조립)
+ * 저장소는 스텁이므로 조회 비용은 포함하지 않음
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommentHierarchyBenchmark {
+    private static final String POST_ID = "post-1";
+    private static final int INTERACTIONS_PER_COMMENT = 3;
+
+    @Param({"20", "200", "1000"})
+    private int commentCount;
+
+    private CommentQueryService commentQueryService;
+
+    @Setup
+    public void setUp() {
+        var random = new Random(42);
+        var createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<CommentResult> comments = new ArrayList<>(commentCount);
+        List<InteractionUser> interactions = new ArrayList<>();
+        for (int i = 0; i < commentCount; i++) {
+            // 약 1/3은 최상위 댓글, 나머지는 앞서 작성된 댓글에 대한 답글
+            String parentId = i == 0 || random.nextInt(3) == 0 ? null : "comment-" + random.nextInt(i);
+            String commentId = "comment-" + i;
+            comments.add(new CommentResult(
+                    commentId,
+                    "user-" + random.nextInt(1_000),
+                    "nickname" + i,
+                    null,
+                    "KR",
+                    "Seoul",
+                    "content " + i,
+                    POST_ID,
+                    parentId,
+                    parentId == null ? ReferenceType.POST : ReferenceType.COMMENT,
+                    0,
+                    0,
+                    ContentStatus.NORMAL,
+                    createdAt.plusMinutes(i),
+                    createdAt.plusMinutes(i)
+            ));
+            for (int u = 0; u < INTERACTIONS_PER_COMMENT; u++) {
+                interactions.add(new InteractionUser(
+                        commentId + "-" + u,
+                        "user-" + random.nextInt(1_000),
+                        commentId,
+                        ContentType.COMMENT,
+                        random.nextBoolean() ? InteractionType.LIKE : InteractionType.BOOKMARK,
+                        InteractionStatus.ACTIVE,
+                        createdAt
+                ));
+            }
+        }
+        Collections.shuffle(interactions, random);
+
+        var commentRepository = Stubs.of(CommentRepository.class, Map.of(
+                "findCommentsByPostId", args -> comments
+        ));
+        var interactionUserRepository = Stubs.of(InteractionUserRepository.class, Map.of(
+                "findByPostIdListAndContentTypeAndInteractionStatus", args -> interactions
+        ));
+        commentQueryService = new CommentQueryService(commentRepository, interactionUserRepository);
+    }
+
+    @Benchmark
+    public List<CommentResponse.CommentInformation> hierarchy() {
+        return commentQueryService.getHierarchicalCommentsByPostId(POST_ID);
+    }
+}
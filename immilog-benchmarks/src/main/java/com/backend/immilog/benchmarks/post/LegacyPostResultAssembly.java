@@ -0,0 +1,112 @@
+package com.backend.immilog.benchmarks.post;
+
+import com.backend.immilog.post.application.dto.PostResult;
+import com.backend.immilog.post.application.enrichment.PostEnrichment;
+import com.backend.immilog.shared.domain.model.InteractionData;
+import com.backend.immilog.shared.domain.model.Resource;
+import com.backend.immilog.shared.domain.model.ResourceType;
+import org.springframework.data.domain.Page;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 비교 기준용: 단일 패스 조립 이전의 PostQueryService.assemblePostResult와 PostResultAssembler 동작
+ * 게시물마다 전체 리소스/인터랙션 목록을 필터링하고, 단계마다 PostResult를 다시 생성
+ */
+final class LegacyPostResultAssembly {
+
+    private LegacyPostResultAssembly() {
+    }
+
+    static Page<PostResult> assemble(
+            List<String> resultIdList,
+            Page<PostResult> postResults,
+            PostEnrichment enrichment
+    ) {
+        var orderMap = IntStream.range(0, resultIdList.size())
+                .boxed()
+                .collect(Collectors.toMap(resultIdList::get, i -> i, (existing, replacement) -> existing));
+
+        var interactionUsers = enrichment.interactions();
+        var commentCounts = enrichment.commentCounts();
+        var postResources = enrichment.resources();
+
+        return postResults.map(postResult -> {
+            var resources = postResources.stream()
+                    .filter(postResource -> postResource.postId().equals(postResult.postId()))
+                    .map(pr -> new Resource(
+                            pr.id(),
+                            pr.postId(),
+                            pr.contentType(),
+                            ResourceType.valueOf(pr.resourceType().name()),
+                            pr.content()
+                    ))
+                    .sorted(Comparator.comparingInt(pr -> orderMap.getOrDefault(pr.entityId(), Integer.MAX_VALUE)))
+                    .toList();
+
+            var interactionDataList = interactionUsers.stream()
+                    .filter(interactionData -> interactionData.postId().equals(postResult.postId()))
+                    .sorted(Comparator.comparingInt(id -> orderMap.getOrDefault(id.postId(), Integer.MAX_VALUE)))
+                    .toList();
+
+            var withInteractions = assembleInteractionData(postResult, interactionDataList);
+            var withResources = assembleResources(withInteractions, resources);
+            long likeCount = interactionDataList.stream()
+                    .filter(interaction -> "LIKE".equals(interaction.interactionType()) &&
+                            "ACTIVE".equals(interaction.interactionStatus())).count();
+            long commentCount = commentCounts.getOrDefault(postResult.postId(), 0L);
+            var withLikeCount = PostResult.builder(withResources).likeCount(likeCount).build();
+            return PostResult.builder(withLikeCount).commentCount(commentCount).build();
+        });
+    }
+
+    private static PostResult assembleInteractionData(
+            PostResult postResult,
+            List<InteractionData> interactionData
+    ) {
+        if (interactionData.isEmpty()) {
+            return postResult;
+        }
+        var newLikeUsers = new ArrayList<>(postResult.likeUsers());
+        var newBookmarkUsers = new ArrayList<>(postResult.bookmarkUsers());
+        newLikeUsers.addAll(interactionData.stream()
+                .filter(u -> "LIKE".equals(u.interactionType()) && "ACTIVE".equals(u.interactionStatus()))
+                .map(InteractionData::userId)
+                .toList());
+        newBookmarkUsers.addAll(interactionData.stream()
+                .filter(u -> "BOOKMARK".equals(u.interactionType()) && "ACTIVE".equals(u.interactionStatus()))
+                .map(InteractionData::userId)
+                .toList());
+        return PostResult.builder(postResult)
+                .likeUsers(newLikeUsers)
+                .bookmarkUsers(newBookmarkUsers)
+                .build();
+    }
+
+    private static PostResult assembleResources(
+            PostResult postResult,
+            List<Resource> resources
+    ) {
+        if (resources.isEmpty()) {
+            return postResult;
+        }
+        var updatedTags = new ArrayList<>(postResult.tags());
+        updatedTags.addAll(resources.stream()
+                .filter(r -> r.resourceType() == ResourceType.TAG)
+                .map(Resource::content)
+                .toList());
+        var updatedAttachments = new ArrayList<>(postResult.attachments());
+        updatedAttachments.addAll(resources.stream()
+                .filter(r -> r.resourceType() == ResourceType.ATTACHMENT)
+                .map(Resource::content)
+                .toList());
+        return PostResult.builder(postResult)
+                .tags(updatedTags)
+                .attachments(updatedAttachments)
+                .build();
+    }
+}
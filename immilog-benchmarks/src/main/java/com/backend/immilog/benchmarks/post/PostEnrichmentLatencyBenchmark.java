@@ -0,0 +1,151 @@
+package com.backend.immilog.benchmarks.post;
+
+import com.backend.immilog.benchmarks.support.Stubs;
+import com.backend.immilog.comment.application.services.CommentQueryService;
+import com.backend.immilog.comment.domain.repositories.CommentRepository;
+import com.backend.immilog.post.application.enrichment.InteractionDataTransport;
+import com.backend.immilog.post.application.enrichment.PostEnrichment;
+import com.backend.immilog.post.application.enrichment.PostEnrichmentService;
+import com.backend.immilog.post.application.services.PostResourceQueryService;
+import com.backend.immilog.post.domain.model.resource.ContentResource;
+import com.backend.immilog.post.domain.model.resource.ResourceType;
+import com.backend.immilog.post.domain.repositories.ContentResourceRepository;
+import com.backend.immilog.shared.config.properties.PostEnrichmentProperties;
+import com.backend.immilog.shared.domain.model.InteractionData;
+import com.backend.immilog.shared.enums.ContentType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * 게시물 페이지 부가 데이터(인터랙션, 리소스, 댓글 수) 조회 지연 시간
+ * legacyRoundTrip: 이전 경로 재현 (Redis Streams 요청/응답으로 인터랙션 조회 후 게시물별 댓글 수, 리소스를 순차 조회)
+ * sequentialInTransaction: 호출자 트랜잭션 안에서 부른 경우 (세 배치 조회를 호출자 스레드에서 순서대로 실행)
+ * parallel: 게시물 조회가 끝난 뒤 트랜잭션 밖에서 부른 경우 (세 배치 조회를 동시에 실행, 현재 목록 조회 경로)
+ * DB 조회와 Redis 왕복은 parkNanos로 고정 지연만 흉내 내므로 절대값보다 경로 간 차이를 봄
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostEnrichmentLatencyBenchmark {
+    private static final long REDIS_RTT_NANOS = 500_000L;    // Redis 왕복 1회 (0.5ms)
+
+    @Param({"2000000"})
+    private long dbQueryNanos;    // 배치 쿼리 1회 (기본 2ms)
+
+    @Param({"10"})
+    private int pageSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ExecutorService executor;
+    private PostEnrichmentService postEnrichmentService;
+    private PostResourceQueryService postResourceQueryService;
+    private List<String> postIds;
+    private List<InteractionData> interactions;
+    private List<ContentResource> resources;
+
+    @Setup
+    public void setUp() {
+        postIds = IntStream.range(0, pageSize).mapToObj(i -> "post" + i).toList();
+        interactions = IntStream.range(0, pageSize * 20)
+                .mapToObj(i -> new InteractionData("i" + i, "post" + (i % pageSize), "user" + i, "ACTIVE", i % 3 == 0 ? "BOOKMARK" : "LIKE", "POST"))
+                .toList();
+        resources = postIds.stream()
+                .map(id -> new ContentResource("r-" + id, id, ContentType.POST, ResourceType.TAG, "tag"))
+                .toList();
+        Map<String, Long> commentCounts = new HashMap<>();
+        postIds.forEach(id -> commentCounts.put(id, 3L));
+
+        postResourceQueryService = new PostResourceQueryService(Stubs.of(ContentResourceRepository.class, Map.of(
+                "findAllByContentIdList", simulateDb(args -> resources)
+        )));
+        var commentRepository = Stubs.of(CommentRepository.class, Map.of(
+                "countCommentsByPostIds", simulateDb(args -> commentCounts)
+        ));
+        var interactionDataTransport = Stubs.of(InteractionDataTransport.class, Map.of(
+                "fetchInteractions", simulateDb(args -> interactions)
+        ));
+
+        // 운영 설정과 같은 가상 스레드 executor
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        postEnrichmentService = new PostEnrichmentService(
+                interactionDataTransport,
+                postResourceQueryService,
+                new CommentQueryService(commentRepository, null),
+                executor,
+                new PostEnrichmentProperties(null, null, null)
+        );
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.close();
+    }
+
+    @Benchmark
+    public Object legacyRoundTrip() throws JsonProcessingException {
+        LockSupport.parkNanos(REDIS_RTT_NANOS); // XADD
+        LockSupport.parkNanos(REDIS_RTT_NANOS); // XREADGROUP
+        LockSupport.parkNanos(dbQueryNanos);    // 핸들러의 인터랙션 조회
+        var json = objectMapper.writeValueAsString(interactions);
+        LockSupport.parkNanos(REDIS_RTT_NANOS); // SET
+        LockSupport.parkNanos(REDIS_RTT_NANOS); // GET
+        var fetched = new ArrayList<>(Arrays.asList(objectMapper.readValue(json, InteractionData[].class)));
+        Map<String, Long> commentCounts = new HashMap<>();
+        for (String postId : postIds) {
+            LockSupport.parkNanos(dbQueryNanos); // 게시물별 댓글 수 조회
+            commentCounts.put(postId, 3L);
+        }
+        var fetchedResources = postResourceQueryService.getResourcesByPostIdList(postIds, ContentType.POST);
+        return List.of(fetched, commentCounts, fetchedResources);
+    }
+
+    @Benchmark
+    public PostEnrichment sequentialInTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            return postEnrichmentService.enrich(postIds, ContentType.POST);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    @Benchmark
+    public PostEnrichment parallel() {
+        return postEnrichmentService.enrich(postIds, ContentType.POST);
+    }
+
+    private Function<Object[], Object> simulateDb(Function<Object[], Object> answer) {
+        return args -> {
+            LockSupport.parkNanos(dbQueryNanos);
+            return answer.apply(args);
+        };
+    }
+}
@@ -0,0 +1,140 @@
+package com.backend.immilog.benchmarks.post;
+
+import com.backend.immilog.benchmarks.support.Stubs;
+import com.backend.immilog.benchmarks.support.SyntheticResultSet;
+import com.backend.immilog.comment.application.services.CommentQueryService;
+import com.backend.immilog.comment.domain.repositories.CommentRepository;
+import com.backend.immilog.post.application.dto.InteractionView;
+import com.backend.immilog.post.application.dto.PostResult;
+import com.backend.immilog.post.application.enrichment.InteractionDataTransport;
+import com.backend.immilog.post.application.enrichment.PostEnrichmentService;
+import com.backend.immilog.post.application.mapper.PostResultAssembler;
+import com.backend.immilog.post.application.services.PostQueryService;
+import com.backend.immilog.post.application.services.PostResourceQueryService;
+import com.backend.immilog.post.domain.model.post.Post;
+import com.backend.immilog.post.domain.model.resource.ContentResource;
+import com.backend.immilog.post.domain.model.resource.ResourceType;
+import com.backend.immilog.post.domain.repositories.ContentResourceRepository;
+import com.backend.immilog.post.domain.repositories.PostDomainRepository;
+import com.backend.immilog.post.infrastructure.jpa.entity.post.PostEntity;
+import com.backend.immilog.shared.config.properties.PostEnrichmentProperties;
+import com.backend.immilog.shared.domain.model.InteractionData;
+import com.backend.immilog.shared.enums.ContentType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PostQueryService의 목록 조립 경로(convertToPostResult -> enrich -> assemblePostResult)
+ * 저장소는 미리 만든 결과를 돌려주는 스텁, 병렬 조회 executor는 호출 스레드에서 바로 실행하므로 조립에 드는 CPU/할당만 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostQueryServiceBenchmark {
+    private static final int TAGS_PER_POST = 3;
+    private static final int INTERACTIONS_PER_POST = 8;
+
+    @Param({"10", "50", "200"})
+    private int pageSize;
+
+    private PostQueryService postQueryService;
+    private List<String> postIds;
+
+    @Setup
+    public void setUp() throws SQLException {
+        var random = new Random(42);
+        List<Post> posts = new RowMapperResultSetExtractor<>(PostRows.postEntityRowMapper())
+                .extractData(new SyntheticResultSet(PostRows.create(pageSize, random)).resultSet())
+                .stream()
+                .map(PostEntity::toDomain)
+                .toList();
+        postIds = posts.stream().map(Post::id).toList();
+
+        List<ContentResource> resources = new ArrayList<>();
+        List<InteractionData> interactions = new ArrayList<>();
+        Map<String, Long> commentCounts = new HashMap<>();
+        for (String postId : postIds) {
+            for (int t = 0; t < TAGS_PER_POST; t++) {
+                resources.add(new ContentResource(postId + "-tag-" + t, postId, ContentType.POST, ResourceType.TAG, "tag" + t));
+            }
+            resources.add(new ContentResource(postId + "-file", postId, ContentType.POST, ResourceType.ATTACHMENT, "https://cdn/" + postId));
+            for (int u = 0; u < INTERACTIONS_PER_POST; u++) {
+                interactions.add(new InteractionData(
+                        postId + "-" + u,
+                        postId,
+                        "user-" + random.nextInt(10_000),
+                        "ACTIVE",
+                        random.nextBoolean() ? "LIKE" : "BOOKMARK",
+                        "POST"
+                ));
+            }
+            commentCounts.put(postId, (long) random.nextInt(50));
+        }
+        Collections.shuffle(resources, random);
+        Collections.shuffle(interactions, random);
+
+        var postDomainRepository = Stubs.of(PostDomainRepository.class, Map.of(
+                "findPostsByIdList", args -> posts
+        ));
+        var interactionDataTransport = Stubs.of(InteractionDataTransport.class, Map.of(
+                "fetchInteractions", args -> interactions
+        ));
+        var contentResourceRepository = Stubs.of(ContentResourceRepository.class, Map.of(
+                "findAllByContentIdList", args -> resources
+        ));
+        var commentRepository = Stubs.of(CommentRepository.class, Map.of(
+                "countCommentsByPostIds", args -> commentCounts
+        ));
+
+        var postEnrichmentService = new PostEnrichmentService(
+                interactionDataTransport,
+                new PostResourceQueryService(contentResourceRepository),
+                new CommentQueryService(commentRepository, null),
+                Runnable::run,
+                new PostEnrichmentProperties(null, null, null)
+        );
+        // 검색/피드 투영/Redis는 이 경로에서 사용하지 않음
+        postQueryService = new PostQueryService(
+                new ObjectMapper(),
+                postDomainRepository,
+                null,
+                new PostResultAssembler(),
+                postEnrichmentService,
+                null,
+                null
+        );
+    }
+
+    @Benchmark
+    public List<PostResult> full() {
+        return postQueryService.getPostsByPostIdList(postIds, InteractionView.FULL);
+    }
+
+    @Benchmark
+    public List<PostResult> summary() {
+        return postQueryService.getPostsByPostIdList(postIds, InteractionView.SUMMARY);
+    }
+}
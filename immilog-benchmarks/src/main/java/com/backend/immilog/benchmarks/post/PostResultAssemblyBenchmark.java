@@ -0,0 +1,115 @@
+package com.backend.immilog.benchmarks.post;
+
+import com.backend.immilog.post.application.dto.PostResult;
+import com.backend.immilog.post.application.enrichment.PostEnrichment;
+import com.backend.immilog.post.application.mapper.PostResultAssembler;
+import com.backend.immilog.post.domain.model.post.Categories;
+import com.backend.immilog.post.domain.model.resource.ContentResource;
+import com.backend.immilog.post.domain.model.resource.ResourceType;
+import com.backend.immilog.shared.domain.model.InteractionData;
+import com.backend.immilog.shared.enums.ContentStatus;
+import com.backend.immilog.shared.enums.ContentType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시물 페이지 조립: 게시물별 전체 목록 필터링 + 단계별 복사(legacy) vs 게시물 ID별 그룹화 + 한 번 생성(grouped)
+ * 할당량은 -prof gc(gc.alloc.rate.norm)로 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostResultAssemblyBenchmark {
+    private static final int TAGS_PER_POST = 3;
+    private static final int ATTACHMENTS_PER_POST = 1;
+    private static final int INTERACTIONS_PER_POST = 8;
+
+    @Param({"10", "50", "200"})
+    private int pageSize;
+
+    private final PostResultAssembler postResultAssembler = new PostResultAssembler();
+    private List<String> postIds;
+    private Page<PostResult> page;
+    private PostEnrichment enrichment;
+
+    @Setup
+    public void setUp() {
+        var random = new Random(42);
+        postIds = new ArrayList<>(pageSize);
+        List<PostResult> postResults = new ArrayList<>(pageSize);
+        List<ContentResource> resources = new ArrayList<>();
+        List<InteractionData> interactions = new ArrayList<>();
+        Map<String, Long> commentCounts = new HashMap<>();
+
+        for (int i = 0; i < pageSize; i++) {
+            String postId = "post-" + i;
+            postIds.add(postId);
+            postResults.add(postResult(postId));
+            for (int t = 0; t < TAGS_PER_POST; t++) {
+                resources.add(new ContentResource("tag-" + i + "-" + t, postId, ContentType.POST, ResourceType.TAG, "tag" + t));
+            }
+            for (int a = 0; a < ATTACHMENTS_PER_POST; a++) {
+                resources.add(new ContentResource("file-" + i + "-" + a, postId, ContentType.POST, ResourceType.ATTACHMENT, "https://cdn/" + postId + "/" + a));
+            }
+            for (int u = 0; u < INTERACTIONS_PER_POST; u++) {
+                interactions.add(new InteractionData(
+                        postId + "-" + u,
+                        postId,
+                        "user-" + random.nextInt(10_000),
+                        random.nextInt(5) == 0 ? "INACTIVE" : "ACTIVE",
+                        random.nextBoolean() ? "LIKE" : "BOOKMARK",
+                        "POST"
+                ));
+            }
+            commentCounts.put(postId, (long) random.nextInt(50));
+        }
+        // 배치 조회 결과는 게시물 순서와 무관하게 섞여 도착
+        Collections.shuffle(resources, random);
+        Collections.shuffle(interactions, random);
+
+        page = new PageImpl<>(postResults, PageRequest.of(0, pageSize), pageSize);
+        enrichment = new PostEnrichment(List.copyOf(interactions), List.copyOf(resources), Map.copyOf(commentCounts));
+    }
+
+    @Benchmark
+    public Page<PostResult> legacy() {
+        return LegacyPostResultAssembly.assemble(postIds, page, enrichment);
+    }
+
+    @Benchmark
+    public List<PostResult> grouped() {
+        return postResultAssembler.assemble(page.getContent(), enrichment);
+    }
+
+    private static PostResult postResult(String postId) {
+        return new PostResult(
+                postId, "writer", null, "nickname", 0L, 10L, 0L, 0L,
+                new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), null, null,
+                "Y", "KR", "Seoul", Categories.COMMUNICATION, ContentStatus.NORMAL,
+                "2024-01-01T00:00", "2024-01-01T00:00", "title " + postId, "content " + postId, null
+        );
+    }
+}
@@ -0,0 +1,58 @@
+package com.backend.immilog.benchmarks.post;
+
+import com.backend.immilog.benchmarks.support.SyntheticResultSet;
+import com.backend.immilog.post.domain.model.post.Post;
+import com.backend.immilog.post.infrastructure.jpa.entity.post.PostEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시물 조회 결과 행 매핑: JdbcClient.query(POST_ENTITY_ROW_MAPPER)와 같은 추출 경로(entity), 도메인 변환까지 포함(domain)
+ * 합성 ResultSet을 사용하므로 드라이버의 바이트 파싱 비용은 포함하지 않음
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostRowMapperBenchmark {
+
+    @Param({"10", "50", "200"})
+    private int rowCount;
+
+    private RowMapper<PostEntity> rowMapper;
+    private SyntheticResultSet resultSet;
+
+    @Setup
+    public void setUp() {
+        rowMapper = PostRows.postEntityRowMapper();
+        resultSet = new SyntheticResultSet(PostRows.create(rowCount, new Random(42)));
+    }
+
+    @Benchmark
+    public List<PostEntity> entity() throws SQLException {
+        return new RowMapperResultSetExtractor<>(rowMapper, rowCount).extractData(resultSet.reset().resultSet());
+    }
+
+    @Benchmark
+    public List<Post> domain() throws SQLException {
+        return entity().stream().map(PostEntity::toDomain).toList();
+    }
+}
@@ -0,0 +1,72 @@
+package com.backend.immilog.benchmarks.post;
+
+import com.backend.immilog.post.domain.model.post.Categories;
+import com.backend.immilog.post.infrastructure.jpa.entity.post.PostEntity;
+import com.backend.immilog.post.infrastructure.jdbc.PostJdbcRepository;
+import com.backend.immilog.shared.enums.ContentStatus;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.lang.reflect.Field;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 피드 조회 쿼리(post + user 조인)가 돌려주는 컬럼 구성의 합성 행
+ */
+final class PostRows {
+    private static final Categories[] CATEGORIES = Categories.values();
+
+    private PostRows() {
+    }
+
+    static List<Map<String, Object>> create(
+            int size,
+            Random random
+    ) {
+        List<Map<String, Object>> rows = new ArrayList<>(size);
+        var createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < size; i++) {
+            // 배지/이미지는 대부분 비어 있으므로 null 컬럼 경로도 함께 측정
+            Map<String, Object> row = new HashMap<>();
+            row.put("post_id", "post-" + i);
+            row.put("user_id", "user-" + random.nextInt(10_000));
+            row.put("nickname", "nickname" + i);
+            row.put("image_url", random.nextInt(3) == 0 ? null : "https://cdn/profile/" + i);
+            row.put("title", "title " + i);
+            row.put("content", "content ".repeat(20) + i);
+            row.put("view_count", (long) random.nextInt(10_000));
+            row.put("region", "Seoul");
+            row.put("status", ContentStatus.NORMAL.name());
+            row.put("country_id", "KR");
+            row.put("category", CATEGORIES[random.nextInt(CATEGORIES.length)].name());
+            row.put("is_public", "Y");
+            row.put("badge", null);
+            row.put("comment_count", (long) random.nextInt(50));
+            row.put("like_count", (long) random.nextInt(100));
+            row.put("bookmark_count", (long) random.nextInt(20));
+            row.put("created_at", Timestamp.valueOf(createdAt.plusMinutes(i)));
+            row.put("updated_at", Timestamp.valueOf(createdAt.plusMinutes(i)));
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * 운영 코드와 같은 매퍼를 측정하도록 private 상수를 그대로 읽어옴
+     */
+    @SuppressWarnings("unchecked")
+    static RowMapper<PostEntity> postEntityRowMapper() {
+        try {
+            Field field = PostJdbcRepository.class.getDeclaredField("POST_ENTITY_ROW_MAPPER");
+            field.setAccessible(true);
+            return (RowMapper<PostEntity>) field.get(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("PostJdbcRepository.POST_ENTITY_ROW_MAPPER not found", e);
+        }
+    }
+}
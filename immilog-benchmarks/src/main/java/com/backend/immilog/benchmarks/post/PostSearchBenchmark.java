@@ -0,0 +1,101 @@
+package com.backend.immilog.benchmarks.post;
+
+import com.backend.immilog.post.application.search.PostSearchIndex;
+import com.backend.immilog.shared.config.properties.PostSearchProperties.Ranking;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시물 키워드 검색: 인프로세스 bi-gram 역색인 vs LIKE '%keyword%' 전체 스캔(문자열 contains 후 COUNT)
+ * 호출마다 검색어를 돌려가며 사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostSearchBenchmark {
+    private static final String[] WORDS = {
+            "비자", "워킹홀리데이", "영주권", "학생", "연장", "신청", "서류", "후기", "질문", "호주",
+            "캐나다", "일본", "독일", "집구하기", "은행", "계좌", "보험", "병원", "취업", "이력서",
+            "면접", "세금", "환급", "운전면허", "항공권", "이사", "중고", "거래", "맛집", "모임"
+    };
+    private static final String[] QUERIES = {"비자 연장", "영주권", "운전면허", "캐나다 취업", "세금 환급"};
+
+    @Param({"50000"})
+    private int postCount;
+
+    private final PostSearchIndex index = new PostSearchIndex();
+    private List<String[]> rows;
+    private int queryIndex;
+
+    @Setup
+    public void setUp() {
+        var random = new Random(42);
+        var now = LocalDateTime.of(2024, 1, 1, 0, 0);
+        rows = new ArrayList<>(postCount);
+        for (int i = 0; i < postCount; i++) {
+            String title = sentence(random, 4);
+            String content = sentence(random, 40);
+            rows.add(new String[]{title, content});
+            index.index("post" + i, title, content, now.minusMinutes(i));
+        }
+    }
+
+    @Benchmark
+    public long likeScan() {
+        String query = nextQuery();
+        long count = 0;
+        for (String[] row : rows) {
+            if (row[0].contains(query) || row[1].contains(query)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long indexBm25() {
+        return index.search(nextQuery(), Ranking.BM25, 0, 10).totalCount();
+    }
+
+    @Benchmark
+    public long indexRecency() {
+        return index.search(nextQuery(), Ranking.RECENCY, 0, 10).totalCount();
+    }
+
+    private String nextQuery() {
+        queryIndex = (queryIndex + 1) % QUERIES.length;
+        return QUERIES[queryIndex];
+    }
+
+    private static String sentence(
+            Random random,
+            int words
+    ) {
+        var builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,75 @@
+package com.backend.immilog.benchmarks.shared;
+
+import com.backend.immilog.shared.config.properties.JwtProperties;
+import com.backend.immilog.shared.config.properties.PostCacheProperties;
+import com.backend.immilog.shared.security.jtw.JwtProvider;
+import com.backend.immilog.user.domain.enums.UserRole;
+import com.backend.immilog.user.domain.enums.UserStatus;
+import com.backend.immilog.user.infrastructure.security.UserStatusCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.Authentication;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행되는 JwtProvider.getAuthentication (CLAIMS 모드, 사용자 조회 없음)
+ * cached: 같은 토큰 반복 요청(검증 결과 캐시 적중), verified: 캐시를 끄고 매번 서명 검증
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+    private static final String SECRET_KEY = Base64.getEncoder().encodeToString("benchmark-secret-key-with-at-least-256-bits!".getBytes());
+
+    private JwtProvider cachingProvider;
+    private JwtProvider verifyingProvider;
+    private String bearerToken;
+
+    @Setup
+    public void setUp() {
+        cachingProvider = provider(null);
+        verifyingProvider = provider(0L);
+        bearerToken = "Bearer " + cachingProvider.issueAccessToken("user-1", "user@immilog.com", UserRole.ROLE_USER, "KR");
+    }
+
+    @Benchmark
+    public Authentication cached() {
+        return cachingProvider.getAuthentication(bearerToken);
+    }
+
+    @Benchmark
+    public Authentication verified() {
+        return verifyingProvider.getAuthentication(bearerToken);
+    }
+
+    private static JwtProvider provider(Long verifiedTokenCacheSize) {
+        var properties = new JwtProperties(
+                "immilog", SECRET_KEY, null, null, JwtProperties.AuthenticationMode.CLAIMS,
+                null, null, null, verifiedTokenCacheSize
+        );
+        // 차단 여부는 로컬 캐시 적중 상황을 가정하고 고정값 반환 (DB 조회 없음)
+        var userStatusCache = new UserStatusCache(null, properties, null, new PostCacheProperties(null, null, null, null, null, null, null)) {
+            @Override
+            public UserStatus getStatus(String userId) {
+                return UserStatus.ACTIVE;
+            }
+        };
+        var provider = new JwtProvider(properties, null, userStatusCache, new SimpleMeterRegistry());
+        provider.init();
+        return provider;
+    }
+}
@@ -0,0 +1,115 @@
+package com.backend.immilog.benchmarks.shared;
+
+import com.backend.immilog.benchmarks.support.Stubs;
+import com.backend.immilog.post.domain.events.PostEvent;
+import com.backend.immilog.shared.config.database.RedisConfig;
+import com.backend.immilog.shared.config.event.RedisEventConfig;
+import com.backend.immilog.shared.domain.event.BatchDomainEventHandler;
+import com.backend.immilog.shared.infrastructure.event.RedisStreamsPushEventListener;
+import com.backend.immilog.shared.infrastructure.event.dto.RedisEventMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 도메인 이벤트 스트림 한 번의 폴링 처리: 봉투(RedisEventMessage) 역직렬화 -> 이벤트 역직렬화 -> 배치 디스패치 -> XACK
+ * 핸들러는 아무 일도 하지 않고, XACK는 Redis로 보내지 않으므로 디코딩과 디스패치 비용만 측정
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisStreamDecodingBenchmark {
+
+    @Param({"1", "16", "128"})
+    private int batchSize;
+
+    private RedisStreamsPushEventListener listener;
+    private List<MapRecord<String, String, String>> records;
+    private Blackhole blackhole;
+
+    @Setup
+    public void setUp(Blackhole blackhole) throws JsonProcessingException {
+        this.blackhole = blackhole;
+        ObjectMapper objectMapper = new RedisConfig(null).eventObjectMapper();
+
+        var handler = new BatchDomainEventHandler<PostEvent.PostChanged>() {
+            @Override
+            public void handleAll(List<PostEvent.PostChanged> events) {
+                RedisStreamDecodingBenchmark.this.blackhole.consume(events);
+            }
+
+            @Override
+            public void handle(PostEvent.PostChanged event) {
+                RedisStreamDecodingBenchmark.this.blackhole.consume(event);
+            }
+
+            @Override
+            public Class<PostEvent.PostChanged> getEventType() {
+                return PostEvent.PostChanged.class;
+            }
+        };
+        var applicationContext = Stubs.of(ApplicationContext.class, Map.of(
+                "getBeansOfType", args -> Map.of("postChangedEventHandler", handler)
+        ));
+        var streamOperations = Stubs.of(StreamOperations.class, Map.of(
+                "acknowledge", args -> 0L
+        ));
+        var eventRedisTemplate = new RedisTemplate<String, Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <HK, HV> StreamOperations<String, HK, HV> opsForStream() {
+                return streamOperations;
+            }
+        };
+        listener = new RedisStreamsPushEventListener(objectMapper, applicationContext, eventRedisTemplate, new SimpleMeterRegistry());
+
+        // RedisEventPublisher와 같은 방식으로 직렬화한 레코드
+        records = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            var event = new PostEvent.PostChanged("post-" + i);
+            var message = new RedisEventMessage(
+                    UUID.randomUUID().toString(),
+                    event.getClass().getName(),
+                    objectMapper.writeValueAsString(event),
+                    LocalDateTime.now().withNano(0)
+            );
+            records.add(StreamRecords.newRecord()
+                    .in(RedisEventConfig.DOMAIN_EVENT_STREAM)
+                    .withId(RecordId.of(i + 1, 0))
+                    .ofMap(Map.of("event", objectMapper.writeValueAsString(message))));
+        }
+    }
+
+    @Benchmark
+    public void onBatch() {
+        listener.onBatch(RedisEventConfig.DOMAIN_EVENT_STREAM, records);
+    }
+}
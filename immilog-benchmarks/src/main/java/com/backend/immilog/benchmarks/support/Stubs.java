@@ -0,0 +1,34 @@
+package com.backend.immilog.benchmarks.support;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 벤치마크용 인터페이스 스텁 (목 라이브러리의 호출 기록/검증 비용이 측정에 섞이지 않도록 동적 프록시로 고정 응답만 반환)
+ * 등록하지 않은 메서드를 호출하면 측정 대상 경로가 바뀐 것이므로 바로 실패시킴
+ */
+public final class Stubs {
+
+    private Stubs() {
+    }
+
+    public static <T> T of(
+            Class<T> type,
+            Map<String, Function<Object[], Object>> answers
+    ) {
+        Object stub = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            var answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            return switch (method.getName()) {
+                case "toString" -> type.getSimpleName() + "Stub";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName() + " is not stubbed");
+            };
+        });
+        return type.cast(stub);
+    }
+}
@@ -0,0 +1,72 @@
+package com.backend.immilog.benchmarks.support;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 미리 만든 행(컬럼명 -> 값)을 순서대로 돌려주는 ResultSet
+ * 드라이버 파싱 비용 없이 RowMapper 자체의 비용만 측정하기 위해 사용하며, 같은 행을 여러 번 읽을 수 있도록 reset 제공
+ */
+public final class SyntheticResultSet {
+    private final List<Map<String, Object>> rows;
+    private final ResultSet resultSet;
+    private int cursor = -1;
+    private boolean lastWasNull;
+
+    public SyntheticResultSet(List<Map<String, Object>> rows) {
+        this.rows = rows;
+        this.resultSet = (ResultSet) Proxy.newProxyInstance(
+                ResultSet.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "next" -> ++cursor < rows.size();
+                    case "getString" -> {
+                        Object value = read(args[0]);
+                        yield value == null ? null : value.toString();
+                    }
+                    case "getLong" -> {
+                        Object value = read(args[0]);
+                        yield value == null ? 0L : ((Number) value).longValue();
+                    }
+                    case "getInt" -> {
+                        Object value = read(args[0]);
+                        yield value == null ? 0 : ((Number) value).intValue();
+                    }
+                    case "getTimestamp" -> (Timestamp) read(args[0]);
+                    case "getObject" -> read(args[0]);
+                    case "wasNull" -> lastWasNull;
+                    case "getRow" -> cursor + 1;
+                    case "close" -> null;
+                    case "isClosed" -> false;
+                    default -> throw new SQLException("ResultSet." + method.getName() + " is not supported");
+                }
+        );
+    }
+
+    public ResultSet resultSet() {
+        return resultSet;
+    }
+
+    public SyntheticResultSet reset() {
+        cursor = -1;
+        lastWasNull = false;
+        return this;
+    }
+
+    private Object read(Object column) throws SQLException {
+        if (!(column instanceof String columnName)) {
+            throw new SQLException("Only column labels are supported: " + column);
+        }
+        Map<String, Object> row = rows.get(cursor);
+        if (!row.containsKey(columnName)) {
+            throw new SQLException("Unknown column: " + columnName);
+        }
+        Object value = row.get(columnName);
+        lastWasNull = value == null;
+        return value;
+    }
+}
@@ -1,15 +1,22 @@
 package com.backend.immilog.chat.application.service;
 
 import com.backend.immilog.chat.domain.model.ChatMessage;
+import com.backend.immilog.chat.domain.model.ChatRoom;
 import com.backend.immilog.chat.infrastructure.repository.ChatMessageRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @Service
 public class ChatMessageService {
     
+    private static final Logger log = LoggerFactory.getLogger(ChatMessageService.class);
+    
     private final ChatMessageRepository chatMessageRepository;
     private final ChatReadStatusService chatReadStatusService;
     private final ChatRoomService chatRoomService;
@@ -33,24 +40,32 @@ public class ChatMessageService {
             String senderNickname,
             String content
     ) {
-        var message = ChatMessage.createTextMessage(chatRoomId, senderId, senderNickname, content);
-        return chatMessageRepository.save(message)
-                .doOnSuccess(savedMessage -> {
-                    // 새 메시지 발송 시 다른 참여자들의 안읽은 수 증가 및 실시간 알림
-                    chatRoomService.getChatRoom(chatRoomId)
-                            .flatMap(chatRoom -> {
-                                var participantIds = chatRoom.participantIds().stream()
-                                        .filter(userId -> !userId.equals(senderId)) // 발신자 제외
-                                        .toList();
-                                
-                                return chatReadStatusService.incrementUnreadCountForParticipants(
-                                        chatRoomId, 
-                                        chatRoom.participantIds(), 
-                                        senderId
-                                )
-                                .then(userNotificationService.notifyUnreadCountUpdateToUsers(chatRoomId, participantIds));
-                            })
-                            .subscribe();
+        // 순번 발급과 참여자 조회를 채팅방 갱신 한 번으로 처리 (안읽은 수는 순번 차이로 계산)
+        return chatRoomService.allocateMessageSeq(chatRoomId)
+                .flatMap(chatRoom -> {
+                    var message = ChatMessage.createTextMessage(chatRoomId, chatRoom.lastMessageSeq(), senderId, senderNickname, content);
+                    var recipientIds = chatRoom.participantIds().stream()
+                            .filter(userId -> !userId.equals(senderId)) // 발신자 제외
+                            .toList();
+                    return chatMessageRepository.save(message)
+                            .flatMap(savedMessage -> notifyRecipients(savedMessage, recipientIds)
+                                    .thenReturn(savedMessage));
+                });
+    }
+    
+    /**
+     * 읽음 상태가 없는 수신자 보정(bulk write 1회) 후 실시간 안읽은 수 알림 예약
+     * 메시지는 이미 저장되었으므로 실패해도 발송은 성공으로 처리하고 로그만 남김
+     */
+    private Mono<Void> notifyRecipients(ChatMessage savedMessage, List<String> recipientIds) {
+        if (recipientIds.isEmpty()) {
+            return Mono.empty();
+        }
+        return chatReadStatusService.initializeMissingReadStatuses(savedMessage.chatRoomId(), recipientIds, savedMessage.seq())
+                .then(userNotificationService.notifyNewMessage(savedMessage.chatRoomId(), savedMessage.seq(), recipientIds))
+                .onErrorResume(e -> {
+                    log.warn("Failed to update unread counts for message {} in chat room {}", savedMessage.id(), savedMessage.chatRoomId(), e);
+                    return Mono.empty();
                 });
     }
     
@@ -60,8 +75,12 @@ public class ChatMessageService {
             String nickname,
             ChatMessage.MessageType systemType
     ) {
-        var message = ChatMessage.createSystemMessage(chatRoomId, userId, nickname, systemType);
-        return chatMessageRepository.save(message);
+        // 시스템 메시지는 안읽은 수에 포함하지 않으므로 새 순번을 발급하지 않고 직전 메시지 순번을 공유
+        return chatRoomService.getChatRoom(chatRoomId)
+                .map(ChatRoom::lastMessageSeq)
+                .defaultIfEmpty(0L)
+                .map(seq -> ChatMessage.createSystemMessage(chatRoomId, seq, userId, nickname, systemType))
+                .flatMap(chatMessageRepository::save);
     }
     
     public Flux<ChatMessage> getChatHistory(String chatRoomId, int page, int size) {
@@ -1,133 +1,105 @@
 package com.backend.immilog.chat.application.service;
 
+import com.backend.immilog.chat.domain.model.ChatRoom;
 import com.backend.immilog.chat.domain.model.ChatRoomReadStatus;
 import com.backend.immilog.chat.infrastructure.repository.ChatMessageRepository;
 import com.backend.immilog.chat.infrastructure.repository.ChatRoomReadStatusRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 public class ChatReadStatusService {
-    
+    private static final Logger log = LoggerFactory.getLogger(ChatReadStatusService.class);
+
     private final ChatRoomReadStatusRepository readStatusRepository;
     private final ChatMessageRepository messageRepository;
+    private final ChatUnreadCountService chatUnreadCountService;
     private final UserNotificationService userNotificationService;
-    
+
     public ChatReadStatusService(
             ChatRoomReadStatusRepository readStatusRepository,
             ChatMessageRepository messageRepository,
+            ChatUnreadCountService chatUnreadCountService,
             UserNotificationService userNotificationService
     ) {
         this.readStatusRepository = readStatusRepository;
         this.messageRepository = messageRepository;
+        this.chatUnreadCountService = chatUnreadCountService;
         this.userNotificationService = userNotificationService;
     }
-    
+
     /**
-     * 사용자가 채팅방에 처음 입장할 때 읽음 상태 초기화
+     * 사용자가 채팅방에 처음 입장할 때 읽음 상태 초기화 (입장 전 메시지는 안읽음으로 세지 않음)
      */
-    public Mono<ChatRoomReadStatus> initializeReadStatus(String chatRoomId, String userId) {
-        return readStatusRepository.findByChatRoomIdAndUserId(chatRoomId, userId)
-                .switchIfEmpty(Mono.defer(() -> {
-                    var newStatus = ChatRoomReadStatus.create(chatRoomId, userId);
-                    return readStatusRepository.save(newStatus);
-                }))
-                .doOnSuccess(result -> userNotificationService.notifyUnreadCountUpdate(userId, chatRoomId).subscribe());
+    public Mono<Void> initializeReadStatus(String chatRoomId, String userId, long lastReadSeq) {
+        var newStatus = ChatRoomReadStatus.create(chatRoomId, userId, lastReadSeq);
+        // 알림 실패로 입장까지 실패하지 않도록 알림 오류는 기록만 함
+        return readStatusRepository.insertIfAbsent(newStatus)
+                .then(userNotificationService.notifyUnreadCountUpdate(userId, chatRoomId)
+                        .onErrorResume(e -> {
+                            log.warn("Failed to push unread count to user {} for chat room {}", userId, chatRoomId, e);
+                            return Mono.empty();
+                        }));
     }
-    
+
     /**
-     * 메시지 읽음 처리
+     * 새 메시지 발송 시 읽음 상태가 없는 수신자만 생성 (이번 메시지부터 안읽음으로 집계)
      */
-    public Mono<Void> markMessageAsRead(String chatRoomId, String userId, String messageId) {
-        return readStatusRepository.findByChatRoomIdAndUserId(chatRoomId, userId)
-                .switchIfEmpty(initializeReadStatus(chatRoomId, userId))
-                .flatMap(readStatus -> {
-                    // 안읽은 메시지 수 계산 (마지막 읽은 메시지 이후의 메시지 수)
-                    return calculateUnreadCount(chatRoomId, messageId, readStatus.lastReadAt())
-                            .flatMap(unreadCount -> {
-                                var updatedStatus = readStatus.updateLastRead(messageId, unreadCount.intValue());
-                                return readStatusRepository.save(updatedStatus);
-                            });
-                })
-                .flatMap(result -> userNotificationService.notifyUnreadCountUpdate(userId, chatRoomId))
-                .doOnSuccess(result -> { /* Marked message as read and notified */ });
+    public Mono<Void> initializeMissingReadStatuses(String chatRoomId, List<String> userIds, long messageSeq) {
+        return readStatusRepository.insertMissing(chatRoomId, userIds, messageSeq - 1);
     }
-    
+
     /**
-     * 채팅방의 모든 메시지를 읽음 처리
+     * 메시지 읽음 처리 (해당 메시지 순번까지 읽음, 이미 더 읽었으면 그대로)
      */
-    public Mono<Void> markAllMessagesAsRead(String chatRoomId, String userId) {
-        return readStatusRepository.findByChatRoomIdAndUserId(chatRoomId, userId)
-                .switchIfEmpty(initializeReadStatus(chatRoomId, userId))
-                .flatMap(readStatus -> {
-                    // 가장 최근 메시지 ID 조회
-                    return messageRepository.findFirstByChatRoomIdOrderBySentAtDesc(chatRoomId)
-                            .flatMap(latestMessage -> {
-                                var updatedStatus = readStatus.resetUnreadCount(latestMessage.id());
-                                return readStatusRepository.save(updatedStatus);
-                            });
-                })
-                .flatMap(result -> userNotificationService.notifyUnreadCountUpdate(userId, chatRoomId))
-                .doOnSuccess(result -> { /* Marked all messages as read and notified */ });
+    public Mono<Void> markMessageAsRead(String chatRoomId, String userId, String messageId) {
+        return messageRepository.findById(messageId)
+                .filter(message -> message.chatRoomId().equals(chatRoomId))
+                .flatMap(message -> readStatusRepository.advanceLastRead(chatRoomId, userId, message.seq(), message.id()))
+                .then(userNotificationService.notifyUnreadCountUpdate(userId, chatRoomId));
     }
-    
+
     /**
-     * 새 메시지 발송 시 모든 참여자의 안읽은 수 증가
+     * 채팅방의 모든 메시지를 읽음 처리
      */
-    @Transactional
-    public Mono<Void> incrementUnreadCountForParticipants(String chatRoomId, List<String> participantIds, String senderId) {
-        var participants = participantIds.stream()
-                .filter(userId -> !userId.equals(senderId)) // 발신자 제외
-                .toList();
-        
-        return Flux.fromIterable(participants)
-                .flatMap(userId -> 
-                    readStatusRepository.findByChatRoomIdAndUserId(chatRoomId, userId)
-                            .switchIfEmpty(initializeReadStatus(chatRoomId, userId))
-                            .flatMap(readStatus -> {
-                                var updatedStatus = readStatus.incrementUnreadCount();
-                                return readStatusRepository.save(updatedStatus);
-                            })
-                )
-                .then();
+    public Mono<Void> markAllMessagesAsRead(String chatRoomId, String userId) {
+        // 가장 최근 메시지까지 읽음
+        return messageRepository.findFirstByChatRoomIdOrderBySentAtDesc(chatRoomId)
+                .flatMap(latestMessage -> readStatusRepository.advanceLastRead(chatRoomId, userId, latestMessage.seq(), latestMessage.id()))
+                .then(userNotificationService.notifyUnreadCountUpdate(userId, chatRoomId));
     }
-    
+
     /**
      * 특정 사용자의 안읽은 메시지 수 조회
      */
     public Mono<Integer> getUnreadCount(String chatRoomId, String userId) {
-        return readStatusRepository.findByChatRoomIdAndUserId(chatRoomId, userId)
-                .map(ChatRoomReadStatus::unreadCount)
-                .defaultIfEmpty(0);
+        return chatUnreadCountService.getUnreadCount(chatRoomId, userId);
+    }
+
+    public Mono<Integer> getUnreadCount(ChatRoom chatRoom, String userId) {
+        return chatUnreadCountService.getUnreadCount(chatRoom, userId);
     }
-    
+
     /**
      * 사용자의 모든 채팅방 안읽은 메시지 수 조회
      */
     public Mono<Map<String, Integer>> getAllUnreadCounts(String userId) {
-        return readStatusRepository.findByUserId(userId)
-                .collectMap(
-                        ChatRoomReadStatus::chatRoomId,
-                        ChatRoomReadStatus::unreadCount
-                );
+        return chatUnreadCountService.getAllUnreadCounts(userId);
     }
-    
+
     /**
      * 사용자의 총 안읽은 메시지 수 조회
      */
     public Mono<Integer> getTotalUnreadCount(String userId) {
-        return readStatusRepository.findByUserId(userId)
-                .map(ChatRoomReadStatus::unreadCount)
-                .reduce(0, Integer::sum);
+        return chatUnreadCountService.getTotalUnreadCount(userId);
     }
-    
+
     /**
      * 채팅방 나가기 시 읽음 상태 삭제
      */
@@ -135,7 +107,7 @@ public class ChatReadStatusService {
     public Mono<Void> removeReadStatus(String chatRoomId, String userId) {
         return readStatusRepository.deleteByChatRoomIdAndUserId(chatRoomId, userId);
     }
-    
+
     /**
      * 채팅방 삭제 시 모든 읽음 상태 삭제
      */
@@ -143,17 +115,4 @@ public class ChatReadStatusService {
     public Mono<Void> removeAllReadStatusForRoom(String chatRoomId) {
         return readStatusRepository.deleteByChatRoomId(chatRoomId);
     }
-    
-    /**
-     * 안읽은 메시지 수 계산 (마지막 읽은 시간 이후의 메시지 수)
-     */
-    private Mono<Long> calculateUnreadCount(String chatRoomId, String lastReadMessageId, LocalDateTime lastReadAt) {
-        if (lastReadAt == null) {
-            // 처음 읽는 경우, 현재 메시지까지 모든 메시지를 읽음으로 처리
-            return Mono.just(0L);
-        }
-        
-        // 마지막 읽은 시간 이후의 메시지 수 계산
-        return messageRepository.countByChatRoomIdAndSentAtAfter(chatRoomId, lastReadAt);
-    }
-}
\ No newline at end of file
+}
@@ -35,6 +35,8 @@ public class ChatRoomService {
     public Mono<ChatRoom> createChatRoom(String name, String countryId, String createdBy) {
         var chatRoom = ChatRoom.create(name, countryId, createdBy);
         return chatRoomRepository.save(chatRoom)
+                .flatMap(savedRoom -> chatReadStatusService.initializeReadStatus(savedRoom.id(), createdBy, savedRoom.lastMessageSeq())
+                        .thenReturn(savedRoom))
                 .doOnNext(savedRoom -> eventPublisher.publishEvent(ChatRoomEvent.created(savedRoom)));
     }
     
@@ -50,16 +52,15 @@ public class ChatRoomService {
     }
     
     public Mono<ChatRoom> joinChatRoom(String chatRoomId, String userId) {
-        return chatRoomRepository.findById(chatRoomId)
-                .map(chatRoom -> chatRoom.addParticipant(userId))
-                .flatMap(chatRoomRepository::save)
+        // 문서 전체 저장 시 동시에 발급된 메시지 순번을 덮어쓰므로 참여자만 원자적으로 갱신
+        return chatRoomRepository.addParticipant(chatRoomId, userId)
+                .flatMap(savedRoom -> chatReadStatusService.initializeReadStatus(chatRoomId, userId, savedRoom.lastMessageSeq())
+                        .thenReturn(savedRoom))
                 .doOnNext(savedRoom -> eventPublisher.publishEvent(ChatRoomEvent.userJoined(savedRoom, userId)));
     }
     
     public Mono<ChatRoom> leaveChatRoom(String chatRoomId, String userId) {
-        return chatRoomRepository.findById(chatRoomId)
-                .map(chatRoom -> chatRoom.removeParticipant(userId))
-                .flatMap(chatRoomRepository::save)
+        return chatRoomRepository.removeParticipant(chatRoomId, userId)
                 .doOnNext(savedRoom -> eventPublisher.publishEvent(ChatRoomEvent.userLeft(savedRoom, userId)));
     }
     
@@ -67,6 +68,13 @@ public class ChatRoomService {
         return chatRoomRepository.findById(chatRoomId);
     }
     
+    /**
+     * 새 메시지 순번 발급 (갱신된 채팅방 반환)
+     */
+    public Mono<ChatRoom> allocateMessageSeq(String chatRoomId) {
+        return chatRoomRepository.incrementMessageSeq(chatRoomId);
+    }
+    
     public Mono<Boolean> isUserAlreadyParticipant(String chatRoomId, String userId) {
         return chatRoomRepository.findById(chatRoomId)
                 .map(chatRoom -> chatRoom.hasParticipant(userId))
@@ -100,7 +108,7 @@ public class ChatRoomService {
                 .next()
                 .switchIfEmpty(Mono.empty());
         
-        var unreadCountMono = chatReadStatusService.getUnreadCount(chatRoom.id(), userId);
+        var unreadCountMono = chatReadStatusService.getUnreadCount(chatRoom, userId);
         
         return Mono.zip(latestMessageMono, unreadCountMono)
                 .map(tuple -> ChatRoomDto.from(chatRoom, tuple.getT1(), tuple.getT2()))
@@ -1,25 +1,33 @@
 package com.backend.immilog.chat.application.service;
 
 import com.backend.immilog.chat.domain.event.ChatRoomEvent;
+import com.backend.immilog.chat.infrastructure.cluster.ChatClusterBroadcaster;
+import com.backend.immilog.chat.infrastructure.cluster.ChatTopics;
 import com.backend.immilog.chat.infrastructure.repository.ChatRoomRepository;
 import com.backend.immilog.chat.presentation.dto.ChatRoomDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.Sinks;
+import reactor.core.publisher.Mono;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 @Service
 public class ChatRoomStreamService {
+    private static final Logger log = LoggerFactory.getLogger(ChatRoomStreamService.class);
     
-    private final Map<String, Sinks.Many<ChatRoomEvent>> countryStreams = new ConcurrentHashMap<>();
-    private final Map<String, Sinks.Many<ChatRoomEvent>> userStreams = new ConcurrentHashMap<>();
     private final ChatRoomRepository chatRoomRepository;
+    private final ChatClusterBroadcaster chatClusterBroadcaster;
     
-    public ChatRoomStreamService(ChatRoomRepository chatRoomRepository) {
+    public ChatRoomStreamService(
+            ChatRoomRepository chatRoomRepository,
+            ChatClusterBroadcaster chatClusterBroadcaster
+    ) {
         this.chatRoomRepository = chatRoomRepository;
+        this.chatClusterBroadcaster = chatClusterBroadcaster;
     }
     
     public Flux<ChatRoomDto> streamChatRoomsByCountry(String countryId) {
@@ -27,8 +35,7 @@ public class ChatRoomStreamService {
         Flux<ChatRoomDto> initialRooms = getChatRoomsByCountry(countryId)
                 .map(ChatRoomDto::from);
                 
-        Flux<ChatRoomDto> eventStream = getOrCreateCountryStream(countryId)
-                .asFlux()
+        Flux<ChatRoomDto> eventStream = chatClusterBroadcaster.subscribe(ChatTopics.roomsByCountry(countryId), ChatRoomEvent.class)
                 .filter(event -> shouldIncludeEvent(event, countryId))
                 .map(event -> ChatRoomDto.from(event.chatRoom()));
         
@@ -40,36 +47,28 @@ public class ChatRoomStreamService {
         Flux<ChatRoomDto> initialRooms = getUserChatRooms(userId)
                 .map(ChatRoomDto::from);
                 
-        Flux<ChatRoomDto> eventStream = getOrCreateUserStream(userId)
-                .asFlux()
+        Flux<ChatRoomDto> eventStream = chatClusterBroadcaster.subscribe(ChatTopics.roomsByUser(userId), ChatRoomEvent.class)
                 .filter(event -> shouldIncludeUserEvent(event, userId))
                 .map(event -> ChatRoomDto.from(event.chatRoom()));
         
         return Flux.concat(initialRooms, eventStream).distinct(ChatRoomDto::id);
     }
     
-    public void publishEvent(ChatRoomEvent event) {
-        String countryId = event.chatRoom().countryId();
-        
-        // 해당 국가 스트림에 이벤트 발행
-        Sinks.Many<ChatRoomEvent> countryStream = countryStreams.get(countryId);
-        if (countryStream != null) {
-            countryStream.tryEmitNext(event);
-        }
-        
-        // "ALL" 스트림에도 이벤트 발행
-        Sinks.Many<ChatRoomEvent> allStream = countryStreams.get("ALL");
-        if (allStream != null) {
-            allStream.tryEmitNext(event);
-        }
-        
-        // 사용자별 스트림에 이벤트 발행
-        publishToUserStreams(event);
-    }
-    
-    private Sinks.Many<ChatRoomEvent> getOrCreateCountryStream(String countryId) {
-        return countryStreams.computeIfAbsent(countryId, 
-            k -> Sinks.many().multicast().onBackpressureBuffer());
+    /**
+     * 국가/전체/참여자(생성자 포함) 토픽으로 발행, 해당 토픽을 구독 중인 노드에만 전달됨
+     */
+    public Mono<Void> publishEvent(ChatRoomEvent event) {
+        var chatRoom = event.chatRoom();
+        Set<String> topics = new LinkedHashSet<>();
+        topics.add(ChatTopics.roomsByCountry(chatRoom.countryId()));
+        topics.add(ChatTopics.roomsByCountry("ALL"));
+        chatRoom.participantIds().forEach(participantId -> topics.add(ChatTopics.roomsByUser(participantId)));
+        // 채팅방 생성자에게도 이벤트 발행 (참여자에 포함되지 않을 수 있으므로)
+        topics.add(ChatTopics.roomsByUser(chatRoom.createdBy()));
+
+        return Flux.fromIterable(topics)
+                .flatMap(topic -> chatClusterBroadcaster.publish(topic, event))
+                .then();
     }
     
     private boolean shouldIncludeEvent(ChatRoomEvent event, String requestedCountryId) {
@@ -84,28 +83,6 @@ public class ChatRoomStreamService {
         return eventCountryId.equals(requestedCountryId);
     }
     
-    private Sinks.Many<ChatRoomEvent> getOrCreateUserStream(String userId) {
-        return userStreams.computeIfAbsent(userId, 
-            k -> Sinks.many().multicast().onBackpressureBuffer());
-    }
-    
-    private void publishToUserStreams(ChatRoomEvent event) {
-        // 채팅방 참여자들에게 이벤트 발행
-        for (String participantId : event.chatRoom().participantIds()) {
-            Sinks.Many<ChatRoomEvent> userStream = userStreams.get(participantId);
-            if (userStream != null) {
-                userStream.tryEmitNext(event);
-            }
-        }
-        
-        // 채팅방 생성자에게도 이벤트 발행 (참여자에 포함되지 않을 수 있으므로)
-        String creatorId = event.chatRoom().createdBy();
-        Sinks.Many<ChatRoomEvent> creatorStream = userStreams.get(creatorId);
-        if (creatorStream != null && !event.chatRoom().participantIds().contains(creatorId)) {
-            creatorStream.tryEmitNext(event);
-        }
-    }
-    
     private boolean shouldIncludeUserEvent(ChatRoomEvent event, String userId) {
         // 사용자가 참여 중인 채팅방의 이벤트만 포함
         return event.chatRoom().participantIds().contains(userId) || 
@@ -125,6 +102,9 @@ public class ChatRoomStreamService {
     
     @EventListener
     public void handleChatRoomEvent(ChatRoomEvent event) {
-        publishEvent(event);
+        publishEvent(event).subscribe(
+                null,
+                e -> log.warn("Failed to publish {} event for chat room {}", event.type(), event.chatRoom().id(), e)
+        );
     }
 }
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com.backend.immilog.chat.application.service;
+
+import com.backend.immilog.chat.domain.model.ChatRoom;
+import com.backend.immilog.chat.domain.model.ChatRoomReadStatus;
+import com.backend.immilog.chat.infrastructure.repository.ChatRoomReadStatusRepository;
+import com.backend.immilog.chat.infrastructure.repository.ChatRoomRepository;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 안읽은 메시지 수 계산 (채팅방 lastMessageSeq - 읽음 상태 lastReadSeq)
+ * 메시지 수를 세거나 발송 시 참여자별로 쓰지 않고, 채팅방과 읽음 상태 조회만으로 계산
+ */
+@Service
+public class ChatUnreadCountService {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomReadStatusRepository readStatusRepository;
+
+    public ChatUnreadCountService(
+            ChatRoomRepository chatRoomRepository,
+            ChatRoomReadStatusRepository readStatusRepository
+    ) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.readStatusRepository = readStatusRepository;
+    }
+
+    /**
+     * 특정 채팅방의 안읽은 메시지 수 (읽음 상태가 없으면 0)
+     */
+    public Mono<Integer> getUnreadCount(String chatRoomId, String userId) {
+        return chatRoomRepository.findById(chatRoomId)
+                .flatMap(chatRoom -> getUnreadCount(chatRoom, userId))
+                .defaultIfEmpty(0);
+    }
+
+    /**
+     * 이미 조회한 채팅방의 순번으로 계산 (채팅방 재조회 없음)
+     */
+    public Mono<Integer> getUnreadCount(ChatRoom chatRoom, String userId) {
+        return getUnreadCount(chatRoom.id(), userId, chatRoom.lastMessageSeq());
+    }
+
+    /**
+     * 발송한 메시지의 순번으로 계산 (발송 직후 알림용)
+     */
+    public Mono<Integer> getUnreadCount(String chatRoomId, String userId, long roomSeq) {
+        return readStatusRepository.findByChatRoomIdAndUserId(chatRoomId, userId)
+                .map(readStatus -> readStatus.unreadCount(roomSeq))
+                .defaultIfEmpty(0);
+    }
+
+    /**
+     * 사용자의 채팅방별 안읽은 메시지 수 (읽음 상태 조회 1회 + 채팅방 일괄 조회 1회)
+     */
+    public Mono<Map<String, Integer>> getAllUnreadCounts(String userId) {
+        return readStatusRepository.findByUserId(userId)
+                .collectList()
+                .flatMap(readStatuses -> {
+                    if (readStatuses.isEmpty()) {
+                        return Mono.just(Map.<String, Integer>of());
+                    }
+                    var chatRoomIds = readStatuses.stream()
+                            .map(ChatRoomReadStatus::chatRoomId)
+                            .toList();
+                    return chatRoomRepository.findAllById(chatRoomIds)
+                            .collectMap(ChatRoom::id, ChatRoom::lastMessageSeq)
+                            .map(roomSeqs -> readStatuses.stream()
+                                    .collect(Collectors.toMap(
+                                            ChatRoomReadStatus::chatRoomId,
+                                            readStatus -> readStatus.unreadCount(roomSeqs.getOrDefault(readStatus.chatRoomId(), 0L)),
+                                            Integer::sum
+                                    )));
+                });
+    }
+
+    /**
+     * 사용자의 총 안읽은 메시지 수
+     */
+    public Mono<Integer> getTotalUnreadCount(String userId) {
+        return getAllUnreadCounts(userId)
+                .map(unreadCounts -> unreadCounts.values().stream().mapToInt(Integer::intValue).sum());
+    }
+}
@@ -1,57 +1,138 @@
 package com.backend.immilog.chat.application.service;
 
-import com.backend.immilog.chat.infrastructure.repository.ChatRoomReadStatusRepository;
+import com.backend.immilog.chat.config.properties.ChatNotificationProperties;
 import com.backend.immilog.chat.presentation.dto.UserNotificationDto;
 import com.backend.immilog.chat.websocket.UserNotificationWebSocketHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 @Service
 public class UserNotificationService {
+    private static final Logger log = LoggerFactory.getLogger(UserNotificationService.class);
 
     private final UserNotificationWebSocketHandler webSocketHandler;
-    private final ChatRoomReadStatusRepository readStatusRepository;
+    private final ChatUnreadCountService chatUnreadCountService;
+    private final Duration coalesceWindow;
+    private final Counter failedNotifications;
+    // 사용자별로 전송 대기 중인 채팅방 → 새 메시지 순번 (창이 끝날 때 사용자마다 한 번에 전송)
+    private final Map<String, Map<String, Long>> pendingUpdates = new ConcurrentHashMap<>();
 
     public UserNotificationService(
             UserNotificationWebSocketHandler webSocketHandler,
-            ChatRoomReadStatusRepository readStatusRepository
+            ChatUnreadCountService chatUnreadCountService,
+            ChatNotificationProperties properties,
+            MeterRegistry meterRegistry
     ) {
         this.webSocketHandler = webSocketHandler;
-        this.readStatusRepository = readStatusRepository;
+        this.chatUnreadCountService = chatUnreadCountService;
+        this.coalesceWindow = properties.coalesceWindow();
+        this.failedNotifications = Counter.builder("immilog.chat.notifications.failed")
+                .description("Coalesced unread count notifications that failed to send")
+                .register(meterRegistry);
     }
 
     public Mono<Void> notifyUnreadCountUpdate(String userId, String chatRoomId) {
-        return getUnreadCount(chatRoomId, userId)
-                .flatMap(unreadCount -> 
-                    getTotalUnreadCount(userId)
-                            .map(totalUnreadCount -> {
-                                var message = UserNotificationDto.UnreadCountUpdateMessage.create(
-                                        chatRoomId,
-                                        unreadCount,
-                                        totalUnreadCount
-                                );
-                                webSocketHandler.sendUnreadCountUpdate(userId, message);
-                                return message;
-                            })
-                )
-                .then();
+        return notifyUnreadCountUpdate(userId, chatRoomId, chatUnreadCountService.getUnreadCount(chatRoomId, userId));
     }
 
-    public Mono<Void> notifyUnreadCountUpdateToUsers(String chatRoomId, java.util.List<String> userIds) {
-        return reactor.core.publisher.Flux.fromIterable(userIds)
-                .flatMap(userId -> notifyUnreadCountUpdate(userId, chatRoomId))
+    /**
+     * 새 메시지 발송 시: 발송한 메시지의 순번으로 안읽은 수를 계산해 채팅방 재조회 없이 알림
+     */
+    public Mono<Void> notifyUnreadCountUpdateToUsers(String chatRoomId, long roomSeq, List<String> userIds) {
+        return Flux.fromIterable(userIds)
+                .flatMap(userId -> notifyUnreadCountUpdate(
+                        userId,
+                        chatRoomId,
+                        chatUnreadCountService.getUnreadCount(chatRoomId, userId, roomSeq)
+                ))
                 .then();
     }
 
-    private Mono<Integer> getUnreadCount(String chatRoomId, String userId) {
-        return readStatusRepository.findByChatRoomIdAndUserId(chatRoomId, userId)
-                .map(readStatus -> readStatus.unreadCount())
-                .defaultIfEmpty(0);
+    /**
+     * 새 메시지 발송 시 알림: 연속 발송을 사용자별로 coalesceWindow 동안 모아 사용자마다 한 번만 전송
+     * 창 안에 여러 채팅방 메시지가 오면 채팅방별 안읽은 수를 한 메시지에 담고 총 안읽은 수는 한 번만 계산
+     */
+    public Mono<Void> notifyNewMessage(String chatRoomId, long roomSeq, List<String> userIds) {
+        if (coalesceWindow.isZero()) {
+            return notifyUnreadCountUpdateToUsers(chatRoomId, roomSeq, userIds);
+        }
+        return Mono.fromRunnable(() -> userIds.forEach(userId -> enqueue(userId, chatRoomId, roomSeq)));
+    }
+
+    private void enqueue(String userId, String chatRoomId, long roomSeq) {
+        pendingUpdates.compute(userId, (key, rooms) -> {
+            if (rooms == null) {
+                // 창의 첫 메시지에서만 전송 예약, 지연·조회·전송을 하나의 체인으로 구독
+                Mono.delay(coalesceWindow)
+                        .then(Mono.defer(() -> flush(userId)))
+                        .subscribe();
+                rooms = new HashMap<>();
+            }
+            // compute 안에서만 변경하고, flush는 맵에서 꺼낸 뒤에만 읽으므로 동기화가 필요 없음
+            rooms.merge(chatRoomId, roomSeq, Math::max);
+            return rooms;
+        });
     }
 
-    private Mono<Integer> getTotalUnreadCount(String userId) {
-        return readStatusRepository.findByUserId(userId)
-                .map(readStatus -> readStatus.unreadCount())
-                .reduce(0, Integer::sum);
+    private Mono<Void> flush(String userId) {
+        var rooms = pendingUpdates.remove(userId);
+        if (rooms == null || rooms.isEmpty()) {
+            return Mono.empty();
+        }
+        return Flux.fromIterable(rooms.entrySet())
+                .flatMapSequential(room -> chatUnreadCountService.getUnreadCount(room.getKey(), userId, room.getValue())
+                        .map(unreadCount -> new UserNotificationDto.RoomUnreadCount(room.getKey(), unreadCount)))
+                .collectList()
+                .zipWith(chatUnreadCountService.getTotalUnreadCount(userId))
+                .flatMap(counts -> send(userId, counts.getT1(), counts.getT2()))
+                .onErrorResume(e -> {
+                    failedNotifications.increment();
+                    log.warn("Failed to push unread counts to user {} for {} chat rooms", userId, rooms.size(), e);
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> send(String userId, List<UserNotificationDto.RoomUnreadCount> chatRooms, int totalUnreadCount) {
+        if (chatRooms.isEmpty()) {
+            return Mono.empty();
+        }
+        if (chatRooms.size() == 1) {
+            // 채팅방 하나면 즉시 전송 경로와 같은 형식 유지
+            var room = chatRooms.getFirst();
+            return webSocketHandler.sendUnreadCountUpdate(
+                    userId,
+                    UserNotificationDto.UnreadCountUpdateMessage.create(room.chatRoomId(), room.unreadCount(), totalUnreadCount)
+            );
+        }
+        return webSocketHandler.sendUnreadCountsUpdate(
+                userId,
+                UserNotificationDto.UnreadCountsUpdateMessage.create(chatRooms, totalUnreadCount)
+        );
+    }
+
+    private Mono<Void> notifyUnreadCountUpdate(String userId, String chatRoomId, Mono<Integer> unreadCountMono) {
+        return unreadCountMono
+                .flatMap(unreadCount -> 
+                    chatUnreadCountService.getTotalUnreadCount(userId)
+                            .flatMap(totalUnreadCount -> {
+                                var message = UserNotificationDto.UnreadCountUpdateMessage.create(
+                                        chatRoomId,
+                                        unreadCount,
+                                        totalUnreadCount
+                                );
+                                return webSocketHandler.sendUnreadCountUpdate(userId, message);
+                            })
+                );
     }
-}
\ No newline at end of file
+}
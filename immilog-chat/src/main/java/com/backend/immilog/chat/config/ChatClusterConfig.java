@@ -0,0 +1,56 @@
+package com.backend.immilog.chat.config;
+
+import com.backend.immilog.chat.config.properties.ChatClusterProperties;
+import com.backend.immilog.chat.config.properties.ChatNotificationProperties;
+import com.backend.immilog.chat.config.properties.ChatSinkProperties;
+import com.backend.immilog.chat.infrastructure.cluster.ChatClusterBus;
+import com.backend.immilog.chat.infrastructure.cluster.InMemoryChatClusterBus;
+import com.backend.immilog.chat.infrastructure.cluster.RedisChatClusterBus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+
+@Configuration
+@EnableConfigurationProperties({ChatClusterProperties.class, ChatSinkProperties.class, ChatNotificationProperties.class})
+public class ChatClusterConfig {
+    private static final Logger log = LoggerFactory.getLogger(ChatClusterConfig.class);
+
+    /**
+     * 명시적으로 memory를 지정한 경우에만 사용 (다른 노드에 접속한 사용자에게는 메시지가 전달되지 않음)
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "chat.cluster", name = "backend", havingValue = "memory")
+    public ChatClusterBus inMemoryChatClusterBus() {
+        log.warn("[CHAT CLUSTER] chat.cluster.backend=memory: messages are delivered only to sessions on this node. "
+                + "Use redis when running more than one chat node.");
+        return new InMemoryChatClusterBus();
+    }
+
+    @Bean(destroyMethod = "destroy")
+    @ConditionalOnProperty(prefix = "chat.cluster", name = "backend", havingValue = "redis", matchIfMissing = true)
+    public ReactiveRedisMessageListenerContainer chatRedisMessageListenerContainer(
+            ReactiveRedisConnectionFactory connectionFactory
+    ) {
+        return new ReactiveRedisMessageListenerContainer(connectionFactory);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "chat.cluster", name = "backend", havingValue = "redis", matchIfMissing = true)
+    public ChatClusterBus redisChatClusterBus(
+            ReactiveStringRedisTemplate reactiveStringRedisTemplate,
+            ReactiveRedisMessageListenerContainer chatRedisMessageListenerContainer,
+            ChatClusterProperties properties
+    ) {
+        return new RedisChatClusterBus(
+                reactiveStringRedisTemplate,
+                chatRedisMessageListenerContainer,
+                properties.channelPrefix()
+        );
+    }
+}
@@ -1,18 +1,24 @@
 package com.backend.immilog.chat.config;
 
+import com.backend.immilog.chat.config.properties.ChatWebSocketProperties;
 import com.backend.immilog.chat.websocket.ChatWebSocketHandler;
 import com.backend.immilog.chat.websocket.UserNotificationWebSocketHandler;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.HandlerMapping;
 import org.springframework.web.reactive.handler.SimpleUrlHandlerMapping;
 import org.springframework.web.reactive.socket.WebSocketHandler;
+import org.springframework.web.reactive.socket.server.support.HandshakeWebSocketService;
 import org.springframework.web.reactive.socket.server.support.WebSocketHandlerAdapter;
+import org.springframework.web.reactive.socket.server.upgrade.ReactorNettyRequestUpgradeStrategy;
+import reactor.netty.http.server.WebsocketServerSpec;
 
 import java.util.HashMap;
 import java.util.Map;
 
 @Configuration
+@EnableConfigurationProperties(ChatWebSocketProperties.class)
 public class WebSocketConfig {
 
     @Bean
@@ -31,7 +37,11 @@ public class WebSocketConfig {
     }
 
     @Bean
-    public WebSocketHandlerAdapter handlerAdapter() {
-        return new WebSocketHandlerAdapter();
+    public WebSocketHandlerAdapter handlerAdapter(ChatWebSocketProperties properties) {
+        // 압축은 세션(연결)마다 deflate 컨텍스트를 가지므로, 공유 프레임이라도 압축 비용은 세션 수만큼 발생
+        var upgradeStrategy = new ReactorNettyRequestUpgradeStrategy(
+                () -> WebsocketServerSpec.builder().compress(properties.compression())
+        );
+        return new WebSocketHandlerAdapter(new HandshakeWebSocketService(upgradeStrategy));
     }
 }
\ No newline at end of file
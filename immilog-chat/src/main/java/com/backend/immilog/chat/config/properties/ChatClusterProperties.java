@@ -0,0 +1,28 @@
+package com.backend.immilog.chat.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 채팅 노드 간 팬아웃 설정
+ * backend: REDIS(기본, Redis pub/sub으로 여러 노드에 전달), MEMORY(단일 노드/테스트, 지정 시 기동 로그에 경고)
+ * channelPrefix: Redis 채널 이름 앞에 붙일 값
+ */
+@ConfigurationProperties(prefix = "chat.cluster")
+public record ChatClusterProperties(
+        Backend backend,
+        String channelPrefix
+) {
+    public ChatClusterProperties {
+        if (backend == null) {
+            backend = Backend.REDIS;
+        }
+        if (channelPrefix == null) {
+            channelPrefix = "immilog:chat:";
+        }
+    }
+
+    public enum Backend {
+        MEMORY,
+        REDIS
+    }
+}
@@ -0,0 +1,20 @@
+package com.backend.immilog.chat.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 안읽은 수 알림 설정
+ * coalesceWindow: 새 메시지 알림을 사용자별로 모으는 시간 (0이면 메시지마다 바로 전송)
+ */
+@ConfigurationProperties(prefix = "chat.notification")
+public record ChatNotificationProperties(
+        Duration coalesceWindow
+) {
+    public ChatNotificationProperties {
+        if (coalesceWindow == null) {
+            coalesceWindow = Duration.ofMillis(200);
+        }
+    }
+}
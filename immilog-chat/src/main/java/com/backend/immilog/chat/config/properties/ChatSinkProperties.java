@@ -0,0 +1,35 @@
+package com.backend.immilog.chat.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 토픽(채팅방/사용자)별 로컬 전달 설정
+ * bufferSize: 세션 하나가 쌓아 둘 수 있는 최대 메시지 수
+ * overflowPolicy: 버퍼가 가득 찼을 때 처리 (DROP_OLDEST: 가장 오래된 메시지 버림, DISCONNECT: 느린 세션 연결 종료)
+ * idleTimeout: 마지막 세션이 떠난 뒤 토픽 구독을 유지하는 시간 (짧은 재접속 시 버스 재구독 방지)
+ */
+@ConfigurationProperties(prefix = "chat.sink")
+public record ChatSinkProperties(
+        Integer bufferSize,
+        OverflowPolicy overflowPolicy,
+        Duration idleTimeout
+) {
+    public ChatSinkProperties {
+        if (bufferSize == null) {
+            bufferSize = 256;
+        }
+        if (overflowPolicy == null) {
+            overflowPolicy = OverflowPolicy.DROP_OLDEST;
+        }
+        if (idleTimeout == null) {
+            idleTimeout = Duration.ofSeconds(30);
+        }
+    }
+
+    public enum OverflowPolicy {
+        DROP_OLDEST,
+        DISCONNECT
+    }
+}
@@ -0,0 +1,18 @@
+package com.backend.immilog.chat.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * WebSocket 전송 설정
+ * compression: 핸드셰이크에서 클라이언트가 permessage-deflate를 제안하면 수락 (기본 비활성)
+ */
+@ConfigurationProperties(prefix = "chat.websocket")
+public record ChatWebSocketProperties(
+        Boolean compression
+) {
+    public ChatWebSocketProperties {
+        if (compression == null) {
+            compression = false;
+        }
+    }
+}
@@ -10,6 +10,7 @@ public record ChatMessage(
         @Id
         String id,
         String chatRoomId,
+        long seq,                   // 채팅방 내 메시지 순번 (ChatRoom.lastMessageSeq에서 발급)
         String senderId,
         String senderNickname,
         String content,
@@ -27,6 +28,7 @@ public record ChatMessage(
     
     public static ChatMessage createTextMessage(
             String chatRoomId,
+            long seq,
             String senderId,
             String senderNickname,
             String content
@@ -34,6 +36,7 @@ public record ChatMessage(
         return new ChatMessage(
                 null,
                 chatRoomId,
+                seq,
                 senderId,
                 senderNickname,
                 content,
@@ -45,6 +48,7 @@ public record ChatMessage(
     
     public static ChatMessage createSystemMessage(
             String chatRoomId,
+            long seq,
             String userId,
             String nickname,
             MessageType systemType
@@ -58,6 +62,7 @@ public record ChatMessage(
         return new ChatMessage(
                 null,
                 chatRoomId,
+                seq,
                 userId,
                 nickname,
                 content,
@@ -71,6 +76,7 @@ public record ChatMessage(
         return new ChatMessage(
                 id,
                 chatRoomId,
+                seq,
                 senderId,
                 senderNickname,
                 "[삭제된 메시지]",
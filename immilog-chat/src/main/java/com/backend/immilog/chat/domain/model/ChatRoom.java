@@ -6,6 +6,9 @@ import org.springframework.data.mongodb.core.mapping.Document;
 import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * participantIds와 lastMessageSeq는 문서 전체 저장(save)으로 덮어쓰지 않고 ChatRoomRepository의 원자적 갱신으로만 변경
+ */
 @Document(collection = "chat_rooms")
 public record ChatRoom(
         @Id
@@ -16,7 +19,8 @@ public record ChatRoom(
         String createdBy,
         LocalDateTime createdAt,
         LocalDateTime updatedAt,
-        boolean isActive
+        boolean isActive,
+        long lastMessageSeq         // 마지막으로 발급한 메시지 순번
 ) {
     public static ChatRoom create(
             String name,
@@ -31,47 +35,12 @@ public record ChatRoom(
                 createdBy,
                 LocalDateTime.now(),
                 LocalDateTime.now(),
-                true
+                true,
+                0L
         );
     }
-    
-    public ChatRoom addParticipant(String userId) {
-        if (participantIds.contains(userId)) {
-            return this;
-        }
-        
-        var newParticipants = new java.util.ArrayList<>(participantIds);
-        newParticipants.add(userId);
-        
-        return new ChatRoom(
-                id,
-                name,
-                countryId,
-                newParticipants,
-                createdBy,
-                createdAt,
-                LocalDateTime.now(),
-                isActive
-        );
-    }
-    
-    public ChatRoom removeParticipant(String userId) {
-        var newParticipants = new java.util.ArrayList<>(participantIds);
-        newParticipants.remove(userId);
-        
-        return new ChatRoom(
-                id,
-                name,
-                countryId,
-                newParticipants,
-                createdBy,
-                createdAt,
-                LocalDateTime.now(),
-                isActive
-        );
-    }
-    
+
     public boolean hasParticipant(String userId) {
         return participantIds.contains(userId);
     }
-}
\ No newline at end of file
+}
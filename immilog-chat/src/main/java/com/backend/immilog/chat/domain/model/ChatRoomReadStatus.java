@@ -6,6 +6,9 @@ import org.springframework.data.mongodb.core.index.CompoundIndex;
 
 import java.time.LocalDateTime;
 
+/**
+ * 안읽은 수는 저장하지 않고 채팅방의 lastMessageSeq - lastReadSeq로 계산 (메시지 발송 시 쓰기 없음)
+ */
 @Document(collection = "chat_room_read_status")
 @CompoundIndex(name = "chatroom_user_idx", def = "{'chatRoomId': 1, 'userId': 1}", unique = true)
 public record ChatRoomReadStatus(
@@ -15,12 +18,13 @@ public record ChatRoomReadStatus(
         String userId,
         String lastReadMessageId,    // 마지막으로 읽은 메시지 ID
         LocalDateTime lastReadAt,    // 마지막 읽은 시간
-        int unreadCount             // 안읽은 메시지 수
+        long lastReadSeq             // 마지막으로 읽은 메시지 순번
 ) {
-    
+
     public static ChatRoomReadStatus create(
             String chatRoomId,
-            String userId
+            String userId,
+            long lastReadSeq
     ) {
         return new ChatRoomReadStatus(
                 null,
@@ -28,43 +32,11 @@ public record ChatRoomReadStatus(
                 userId,
                 null,  // 아직 읽은 메시지 없음
                 LocalDateTime.now(),
-                0
-        );
-    }
-    
-    public ChatRoomReadStatus updateLastRead(
-            String lastReadMessageId,
-            int unreadCount
-    ) {
-        return new ChatRoomReadStatus(
-                id,
-                chatRoomId,
-                userId,
-                lastReadMessageId,
-                LocalDateTime.now(),
-                unreadCount
+                lastReadSeq
         );
     }
-    
-    public ChatRoomReadStatus incrementUnreadCount() {
-        return new ChatRoomReadStatus(
-                id,
-                chatRoomId,
-                userId,
-                lastReadMessageId,
-                lastReadAt,
-                unreadCount + 1
-        );
-    }
-    
-    public ChatRoomReadStatus resetUnreadCount(String lastReadMessageId) {
-        return new ChatRoomReadStatus(
-                id,
-                chatRoomId,
-                userId,
-                lastReadMessageId,
-                LocalDateTime.now(),
-                0
-        );
+
+    public int unreadCount(long roomSeq) {
+        return (int) Math.max(0L, roomSeq - lastReadSeq);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,107 @@
+package com.backend.immilog.chat.infrastructure.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+
+/**
+ * 채팅 메시지/읽음 상태/채팅방 이벤트를 클러스터 버스로 발행하고 구독
+ * 1. 발행은 JSON으로 직렬화해 버스에 전달 (로컬 구독자도 버스를 통해 받으므로 노드와 관계없이 같은 순서로 수신)
+ * 2. 같은 토픽의 로컬 구독자는 버스 구독 하나를 공유 (참조 카운트/유휴 해제/세션별 버퍼는 ChatTopicSinkRegistry)
+ * 3. WebSocket으로 그대로 내보내는 토픽은 subscribeFrames로 받아, 발행 시 만든 JSON을 노드당 한 번만 프레임으로 변환
+ */
+@Component
+public class ChatClusterBroadcaster {
+    private static final Logger log = LoggerFactory.getLogger(ChatClusterBroadcaster.class);
+    private static final Duration RESUBSCRIBE_MIN_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration RESUBSCRIBE_MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final ChatClusterBus chatClusterBus;
+    private final ChatTopicSinkRegistry chatTopicSinkRegistry;
+    private final ObjectMapper objectMapper;
+
+    public ChatClusterBroadcaster(
+            ChatClusterBus chatClusterBus,
+            ChatTopicSinkRegistry chatTopicSinkRegistry,
+            ObjectMapper objectMapper
+    ) {
+        this.chatClusterBus = chatClusterBus;
+        this.chatTopicSinkRegistry = chatTopicSinkRegistry;
+        this.objectMapper = objectMapper;
+    }
+
+    public Mono<Void> publish(
+            String topic,
+            Object message
+    ) {
+        return Mono.fromCallable(() -> objectMapper.writeValueAsString(message))
+                .flatMap(payload -> chatClusterBus.publish(topic, payload));
+    }
+
+    public <T> Flux<T> subscribe(
+            String topic,
+            Class<T> type
+    ) {
+        return chatTopicSinkRegistry.subscribe(topic, () -> busMessages(topic, type))
+                .cast(type);
+    }
+
+    /**
+     * 버스의 JSON을 다시 역직렬화/직렬화하지 않고 공유 프레임으로 전달 (같은 토픽을 subscribe와 섞어 쓰지 않음)
+     */
+    public Flux<ChatFrame> subscribeFrames(String topic) {
+        return chatTopicSinkRegistry.subscribe(topic, () -> busFrames(topic))
+                .cast(ChatFrame.class);
+    }
+
+    /**
+     * 현재 이 노드가 버스에서 구독 중인 토픽 수 (유휴 해제 대기 중인 토픽 포함)
+     */
+    public int subscribedTopicCount() {
+        return chatTopicSinkRegistry.topicCount();
+    }
+
+    private Flux<Object> busMessages(
+            String topic,
+            Class<?> type
+    ) {
+        return resubscribeOnFailure(topic, chatClusterBus.subscribe(topic)
+                .mapNotNull(payload -> decode(topic, payload, type)));
+    }
+
+    private Flux<Object> busFrames(String topic) {
+        return resubscribeOnFailure(topic, chatClusterBus.subscribe(topic)
+                .map(ChatFrame::of));
+    }
+
+    private Flux<Object> resubscribeOnFailure(
+            String topic,
+            Flux<?> messages
+    ) {
+        return messages
+                .cast(Object.class)
+                // 버스 연결이 끊기면 세션을 끊지 않고 다시 구독 (끊긴 동안의 메시지는 유실)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, RESUBSCRIBE_MIN_BACKOFF)
+                        .maxBackoff(RESUBSCRIBE_MAX_BACKOFF)
+                        .doBeforeRetry(signal -> log.warn("Resubscribing chat topic {} after bus failure", topic, signal.failure())));
+    }
+
+    private <T> T decode(
+            String topic,
+            String payload,
+            Class<T> type
+    ) {
+        try {
+            return objectMapper.readValue(payload, type);
+        } catch (Exception e) {
+            log.warn("Dropping undecodable message on chat topic {}", topic, e);
+            return null;
+        }
+    }
+}
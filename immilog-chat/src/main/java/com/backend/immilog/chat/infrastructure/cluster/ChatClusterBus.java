@@ -0,0 +1,26 @@
+package com.backend.immilog.chat.infrastructure.cluster;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 채팅 노드 간 메시지 전달 계층
+ * 토픽(채팅방, 사용자 등) 단위로 구독하며, 구독 중인 노드에만 메시지가 전달됨
+ * 발행한 노드도 같은 토픽을 구독하고 있으면 자신의 메시지를 받음 (로컬 전달도 이 경로를 사용)
+ */
+public interface ChatClusterBus {
+
+    /**
+     * @param topic   ChatTopics로 만든 토픽
+     * @param payload 직렬화된 메시지
+     */
+    Mono<Void> publish(
+            String topic,
+            String payload
+    );
+
+    /**
+     * 구독을 취소하면 이 노드는 해당 토픽의 메시지를 더 이상 받지 않음
+     */
+    Flux<String> subscribe(String topic);
+}
@@ -0,0 +1,36 @@
+package com.backend.immilog.chat.infrastructure.cluster;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 한 번 인코딩한 WebSocket 텍스트 프레임 본문 (UTF-8 JSON)
+ * 같은 토픽의 모든 세션이 이 바이트 배열을 공유하고, 세션마다 복사 없이 읽기 전용 뷰만 감싸서 전송
+ */
+public final class ChatFrame {
+    private final byte[] payload;
+
+    private ChatFrame(byte[] payload) {
+        this.payload = payload;
+    }
+
+    public static ChatFrame of(String json) {
+        return new ChatFrame(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public DataBuffer toDataBuffer(DataBufferFactory bufferFactory) {
+        return bufferFactory.wrap(ByteBuffer.wrap(payload).asReadOnlyBuffer());
+    }
+
+    public int size() {
+        return payload.length;
+    }
+
+    @Override
+    public String toString() {
+        return new String(payload, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,225 @@
+package com.backend.immilog.chat.infrastructure.cluster;
+
+import com.backend.immilog.chat.config.properties.ChatSinkProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 토픽(채팅방/사용자)별 로컬 Sink 관리
+ * 1. 토픽마다 원천(버스 구독) 하나를 여러 세션이 공유하고, 세션 수를 참조 카운트로 관리
+ * 2. 마지막 세션이 떠나고 idleTimeout이 지나면 원천 구독을 해제하고 Sink를 제거
+ * 3. 세션마다 bufferSize 크기의 버퍼를 두어, 느린 세션이 다른 세션을 막거나 메모리를 계속 붙잡지 않도록 함
+ *    가득 차면 overflowPolicy에 따라 가장 오래된 메시지를 버리거나 해당 세션의 연결을 끊음
+ */
+@Component
+public class ChatTopicSinkRegistry {
+    private static final Logger log = LoggerFactory.getLogger(ChatTopicSinkRegistry.class);
+    private static final long MIN_SWEEP_INTERVAL_MILLIS = 1_000L;
+
+    private final ChatSinkProperties properties;
+    private final Map<String, TopicSink> topics = new ConcurrentHashMap<>();
+    private final AtomicLong bufferedMessages = new AtomicLong();
+    private final Counter droppedMessages;
+    private final Disposable evictionTask;
+
+    public ChatTopicSinkRegistry(
+            ChatSinkProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        for (String kind : ChatTopics.KINDS) {
+            Gauge.builder("immilog.chat.topics.active", this, registry -> registry.activeTopics(kind))
+                    .description("Topics with at least one local session")
+                    .tag("kind", kind)
+                    .register(meterRegistry);
+            Gauge.builder("immilog.chat.sessions", this, registry -> registry.sessions(kind))
+                    .description("Local sessions subscribed to chat topics")
+                    .tag("kind", kind)
+                    .register(meterRegistry);
+        }
+        Gauge.builder("immilog.chat.messages.buffered", bufferedMessages, AtomicLong::get)
+                .description("Messages waiting in per-session buffers")
+                .register(meterRegistry);
+        this.droppedMessages = Counter.builder("immilog.chat.messages.dropped")
+                .description("Messages dropped because a session buffer was full")
+                .tag("policy", properties.overflowPolicy().name())
+                .register(meterRegistry);
+
+        long sweepMillis = Math.max(MIN_SWEEP_INTERVAL_MILLIS, properties.idleTimeout().toMillis() / 2);
+        this.evictionTask = Schedulers.parallel()
+                .schedulePeriodically(this::evictIdle, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param source 토픽의 첫 세션이 들어올 때 한 번만 구독하는 원천 (같은 토픽에는 항상 같은 타입의 메시지가 흐름)
+     */
+    public Flux<Object> subscribe(
+            String topic,
+            Supplier<Flux<Object>> source
+    ) {
+        return Flux.defer(() -> {
+            var topicSink = acquire(topic, source);
+            var pending = new AtomicInteger();
+            // onBackpressureBuffer의 ERROR는 버퍼를 다 소비한 뒤에야 전달되므로, 멈춘 세션도 바로 끊기도록 별도 신호로 종료
+            Sinks.Empty<Void> overflow = Sinks.empty();
+            return topicSink.sink.asFlux()
+                    .doOnNext(message -> {
+                        pending.incrementAndGet();
+                        bufferedMessages.incrementAndGet();
+                    })
+                    .onBackpressureBuffer(properties.bufferSize(), dropped -> onOverflow(topic, pending, overflow), overflowStrategy())
+                    .doOnNext(message -> {
+                        pending.decrementAndGet();
+                        bufferedMessages.decrementAndGet();
+                    })
+                    .takeUntilOther(overflow.asMono())
+                    .doFinally(signal -> {
+                        bufferedMessages.addAndGet(-pending.getAndSet(0));
+                        release(topic, topicSink);
+                    });
+        });
+    }
+
+    public int topicCount() {
+        return topics.size();
+    }
+
+    public long bufferedMessages() {
+        return bufferedMessages.get();
+    }
+
+    /**
+     * idleTimeout이 지난 빈 토픽 제거 (주기적으로 실행)
+     */
+    public void evictIdle() {
+        long now = System.nanoTime();
+        long timeoutNanos = properties.idleTimeout().toNanos();
+        for (String topic : topics.keySet()) {
+            topics.computeIfPresent(topic, (key, topicSink) -> {
+                if (topicSink.sessions == 0 && now - topicSink.idleSince >= timeoutNanos) {
+                    topicSink.close();
+                    return null;
+                }
+                return topicSink;
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        evictionTask.dispose();
+        topics.values().forEach(TopicSink::close);
+        topics.clear();
+    }
+
+    private TopicSink acquire(
+            String topic,
+            Supplier<Flux<Object>> source
+    ) {
+        // 참조 카운트 변경과 제거를 같은 키에 대해 원자적으로 처리
+        return topics.compute(topic, (key, existing) -> {
+            var topicSink = existing != null ? existing : new TopicSink(topic, source.get());
+            topicSink.sessions++;
+            return topicSink;
+        });
+    }
+
+    private void release(
+            String topic,
+            TopicSink released
+    ) {
+        topics.computeIfPresent(topic, (key, topicSink) -> {
+            if (topicSink != released) {
+                return topicSink;
+            }
+            topicSink.sessions--;
+            if (topicSink.sessions > 0) {
+                return topicSink;
+            }
+            if (properties.idleTimeout().isZero()) {
+                topicSink.close();
+                return null;
+            }
+            topicSink.idleSince = System.nanoTime();
+            return topicSink;
+        });
+    }
+
+    private void onOverflow(
+            String topic,
+            AtomicInteger pending,
+            Sinks.Empty<Void> overflow
+    ) {
+        pending.decrementAndGet();
+        bufferedMessages.decrementAndGet();
+        droppedMessages.increment();
+        if (properties.overflowPolicy() == ChatSinkProperties.OverflowPolicy.DISCONNECT) {
+            log.info("Disconnecting slow session on chat topic {} (buffer size {})", topic, properties.bufferSize());
+            overflow.tryEmitError(Exceptions.failWithOverflow("Chat session buffer is full: " + topic));
+        }
+    }
+
+    private BufferOverflowStrategy overflowStrategy() {
+        return switch (properties.overflowPolicy()) {
+            case DROP_OLDEST -> BufferOverflowStrategy.DROP_OLDEST;
+            case DISCONNECT -> BufferOverflowStrategy.ERROR;
+        };
+    }
+
+    private int activeTopics(String kind) {
+        return (int) topics.entrySet().stream()
+                .filter(entry -> entry.getValue().sessions > 0 && ChatTopics.kind(entry.getKey()).equals(kind))
+                .count();
+    }
+
+    private int sessions(String kind) {
+        return topics.entrySet().stream()
+                .filter(entry -> ChatTopics.kind(entry.getKey()).equals(kind))
+                .mapToInt(entry -> entry.getValue().sessions)
+                .sum();
+    }
+
+    /**
+     * 세션 수와 유휴 시작 시각은 topics.compute 안에서만 변경
+     */
+    private static final class TopicSink {
+        // 구독자별 버퍼는 subscribe에서 따로 두므로 Sink 자체는 버퍼 없이 현재 구독자에게만 전달
+        private final Sinks.Many<Object> sink = Sinks.many().multicast().directBestEffort();
+        private final Disposable upstream;
+        private volatile int sessions;
+        private volatile long idleSince;
+
+        private TopicSink(
+                String topic,
+                Flux<Object> source
+        ) {
+            this.upstream = source.subscribe(
+                    sink::tryEmitNext,
+                    e -> log.error("Chat topic {} source terminated", topic, e)
+            );
+        }
+
+        private void close() {
+            upstream.dispose();
+            sink.tryEmitComplete();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.backend.immilog.chat.infrastructure.cluster;
+
+import java.util.List;
+
+/**
+ * 클러스터 버스 토픽 이름 ({종류}:{키})
+ */
+public final class ChatTopics {
+    public static final String ROOM = "room";
+    public static final String READ_STATUS = "read";
+    public static final String ROOMS = "rooms";
+    public static final String NOTIFICATIONS = "notifications";
+    public static final List<String> KINDS = List.of(ROOM, READ_STATUS, ROOMS, NOTIFICATIONS);
+
+    private ChatTopics() {
+    }
+
+    public static String room(String chatRoomId) {
+        return ROOM + ":" + chatRoomId;
+    }
+
+    public static String readStatus(String chatRoomId) {
+        return READ_STATUS + ":" + chatRoomId;
+    }
+
+    public static String roomsByCountry(String countryId) {
+        return ROOMS + ":country:" + countryId;
+    }
+
+    public static String roomsByUser(String userId) {
+        return ROOMS + ":user:" + userId;
+    }
+
+    public static String userNotifications(String userId) {
+        return NOTIFICATIONS + ":" + userId;
+    }
+
+    public static String kind(String topic) {
+        int separator = topic.indexOf(':');
+        return separator < 0 ? topic : topic.substring(0, separator);
+    }
+}
@@ -0,0 +1,77 @@
+package com.backend.immilog.chat.infrastructure.cluster;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단일 노드/테스트용 버스: 같은 JVM 안의 구독자에게만 전달
+ */
+public class InMemoryChatClusterBus implements ChatClusterBus {
+    // 여러 스레드가 동시에 발행할 때 직렬화 실패를 재시도하는 최대 시간
+    private static final Duration EMIT_TIMEOUT = Duration.ofMillis(100);
+
+    private final Map<String, Topic> topics = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<Void> publish(
+            String topic,
+            String payload
+    ) {
+        return Mono.fromRunnable(() -> {
+            var entry = topics.get(topic);
+            if (entry != null) {
+                entry.sink.emitNext(payload, Sinks.EmitFailureHandler.busyLooping(EMIT_TIMEOUT));
+            }
+        });
+    }
+
+    @Override
+    public Flux<String> subscribe(String topic) {
+        return Flux.defer(() -> {
+            // Sink 구독 전에 참조 카운트를 올려, 아직 구독하지 않은 구독자의 토픽이 제거되지 않도록 함
+            var entry = acquire(topic);
+            return entry.sink.asFlux()
+                    .doFinally(signal -> release(topic, entry));
+        });
+    }
+
+    int topicCount() {
+        return topics.size();
+    }
+
+    private Topic acquire(String topic) {
+        // 참조 카운트 변경과 제거를 같은 키에 대해 원자적으로 처리
+        return topics.compute(topic, (key, existing) -> {
+            var entry = existing != null ? existing : new Topic();
+            entry.subscribers++;
+            return entry;
+        });
+    }
+
+    private void release(
+            String topic,
+            Topic released
+    ) {
+        // 마지막 구독자가 떠난 토픽은 제거 (이후 발행은 전달 대상 없음)
+        topics.computeIfPresent(topic, (key, entry) -> {
+            if (entry != released) {
+                return entry;
+            }
+            entry.subscribers--;
+            return entry.subscribers > 0 ? entry : null;
+        });
+    }
+
+    /**
+     * 구독자 수는 topics.compute 안에서만 변경
+     */
+    private static final class Topic {
+        private final Sinks.Many<String> sink = Sinks.many().multicast().directBestEffort();
+        private int subscribers;
+    }
+}
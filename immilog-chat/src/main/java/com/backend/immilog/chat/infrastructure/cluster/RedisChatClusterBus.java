@@ -0,0 +1,43 @@
+package com.backend.immilog.chat.infrastructure.cluster;
+
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Redis pub/sub 버스: 토픽마다 채널 하나를 사용
+ * 노드는 로컬 구독자가 있는 채널만 SUBSCRIBE 하므로, Redis는 해당 채팅방 사용자가 접속한 노드에만 메시지를 보냄
+ */
+public class RedisChatClusterBus implements ChatClusterBus {
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final ReactiveRedisMessageListenerContainer listenerContainer;
+    private final String channelPrefix;
+
+    public RedisChatClusterBus(
+            ReactiveStringRedisTemplate redisTemplate,
+            ReactiveRedisMessageListenerContainer listenerContainer,
+            String channelPrefix
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.channelPrefix = channelPrefix;
+    }
+
+    @Override
+    public Mono<Void> publish(
+            String topic,
+            String payload
+    ) {
+        return redisTemplate.convertAndSend(channelPrefix + topic, payload).then();
+    }
+
+    @Override
+    public Flux<String> subscribe(String topic) {
+        // 구독 취소 시 컨테이너가 해당 채널을 UNSUBSCRIBE
+        return listenerContainer.receive(ChannelTopic.of(channelPrefix + topic))
+                .map(ReactiveSubscription.Message::getMessage);
+    }
+}
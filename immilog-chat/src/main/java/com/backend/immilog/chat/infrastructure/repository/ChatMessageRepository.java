@@ -7,8 +7,6 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.time.LocalDateTime;
-
 @Repository
 public interface ChatMessageRepository extends ReactiveMongoRepository<ChatMessage, String> {
     
@@ -20,9 +18,4 @@ public interface ChatMessageRepository extends ReactiveMongoRepository<ChatMessa
      * 가장 최근 메시지 조회
      */
     Mono<ChatMessage> findFirstByChatRoomIdOrderBySentAtDesc(String chatRoomId);
-    
-    /**
-     * 특정 시간 이후의 메시지 수 조회
-     */
-    Mono<Long> countByChatRoomIdAndSentAtAfter(String chatRoomId, LocalDateTime sentAt);
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.backend.immilog.chat.infrastructure.repository;
+
+import com.backend.immilog.chat.domain.model.ChatRoomReadStatus;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface ChatRoomReadStatusRepositoryCustom {
+
+    /**
+     * 읽음 위치를 앞으로만 이동 (이미 더 뒤까지 읽었으면 변경 없음, 상태가 없으면 생성)
+     */
+    Mono<Void> advanceLastRead(String chatRoomId, String userId, long lastReadSeq, String lastReadMessageId);
+
+    /**
+     * 읽음 상태가 없을 때만 생성 (이미 있으면 기존 읽음 위치 유지)
+     */
+    Mono<Void> insertIfAbsent(ChatRoomReadStatus readStatus);
+
+    /**
+     * 여러 사용자의 읽음 상태 중 없는 것만 한 번의 bulk write로 생성 (기존 상태는 변경 없음)
+     */
+    Mono<Void> insertMissing(String chatRoomId, List<String> userIds, long lastReadSeq);
+}
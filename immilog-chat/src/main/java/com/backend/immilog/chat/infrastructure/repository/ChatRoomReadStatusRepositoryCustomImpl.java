@@ -0,0 +1,90 @@
+package com.backend.immilog.chat.infrastructure.repository;
+
+import com.backend.immilog.chat.domain.model.ChatRoomReadStatus;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+public class ChatRoomReadStatusRepositoryCustomImpl implements ChatRoomReadStatusRepositoryCustom {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public ChatRoomReadStatusRepositoryCustomImpl(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Mono<Void> advanceLastRead(
+            String chatRoomId,
+            String userId,
+            long lastReadSeq,
+            String lastReadMessageId
+    ) {
+        // lastReadSeq가 없는 이관 전 상태도 읽음 처리 (ChatSeqBackfill은 이미 값이 있는 상태를 건너뜀)
+        var behind = Query.query(where("chatRoomId").is(chatRoomId)
+                .and("userId").is(userId)
+                .orOperator(where("lastReadSeq").lt(lastReadSeq), where("lastReadSeq").exists(false)));
+        var update = new Update()
+                .set("lastReadSeq", lastReadSeq)
+                .set("lastReadMessageId", lastReadMessageId)
+                .set("lastReadAt", LocalDateTime.now());
+        return mongoTemplate.updateFirst(behind, update, ChatRoomReadStatus.class)
+                .flatMap(result -> {
+                    if (result.getMatchedCount() > 0) {
+                        return Mono.empty();
+                    }
+                    // 상태가 없거나 이미 더 뒤까지 읽은 경우: 없을 때만 생성
+                    var readStatus = new ChatRoomReadStatus(
+                            null,
+                            chatRoomId,
+                            userId,
+                            lastReadMessageId,
+                            LocalDateTime.now(),
+                            lastReadSeq
+                    );
+                    return insertIfAbsent(readStatus);
+                });
+    }
+
+    @Override
+    public Mono<Void> insertIfAbsent(ChatRoomReadStatus readStatus) {
+        var query = Query.query(where("chatRoomId").is(readStatus.chatRoomId())
+                .and("userId").is(readStatus.userId()));
+        var update = new Update()
+                .setOnInsert("lastReadMessageId", readStatus.lastReadMessageId())
+                .setOnInsert("lastReadAt", readStatus.lastReadAt())
+                .setOnInsert("lastReadSeq", readStatus.lastReadSeq());
+        return mongoTemplate.upsert(query, update, ChatRoomReadStatus.class)
+                .then();
+    }
+
+    @Override
+    public Mono<Void> insertMissing(
+            String chatRoomId,
+            List<String> userIds,
+            long lastReadSeq
+    ) {
+        if (userIds.isEmpty()) {
+            return Mono.empty();
+        }
+        // updateMany의 upsert는 문서를 하나만 만들 수 있으므로 사용자별 upsert를 unordered bulk 한 번으로 전송
+        var bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatRoomReadStatus.class);
+        for (String userId : userIds) {
+            bulkOperations.upsert(
+                    Query.query(where("chatRoomId").is(chatRoomId).and("userId").is(userId)),
+                    new Update()
+                            .setOnInsert("lastReadAt", LocalDateTime.now())
+                            .setOnInsert("lastReadSeq", lastReadSeq)
+            );
+        }
+        return bulkOperations.execute()
+                .then();
+    }
+}
@@ -6,7 +6,7 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 
 @Repository
-public interface ChatRoomRepository extends ReactiveMongoRepository<ChatRoom, String> {
+public interface ChatRoomRepository extends ReactiveMongoRepository<ChatRoom, String>, ChatRoomRepositoryCustom {
     
     Flux<ChatRoom> findByCountryIdAndIsActiveTrue(String countryId);
     
@@ -0,0 +1,19 @@
+package com.backend.immilog.chat.infrastructure.repository;
+
+import com.backend.immilog.chat.domain.model.ChatRoom;
+import reactor.core.publisher.Mono;
+
+/**
+ * 채팅방 문서의 부분 원자적 갱신 (동시 발송 중에도 lastMessageSeq가 되돌아가지 않도록 save 대신 사용)
+ */
+public interface ChatRoomRepositoryCustom {
+
+    /**
+     * 메시지 순번 발급: lastMessageSeq를 1 증가시키고 갱신된 채팅방 반환
+     */
+    Mono<ChatRoom> incrementMessageSeq(String chatRoomId);
+
+    Mono<ChatRoom> addParticipant(String chatRoomId, String userId);
+
+    Mono<ChatRoom> removeParticipant(String chatRoomId, String userId);
+}
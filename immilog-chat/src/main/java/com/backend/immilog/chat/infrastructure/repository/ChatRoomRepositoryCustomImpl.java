@@ -0,0 +1,49 @@
+package com.backend.immilog.chat.infrastructure.repository;
+
+import com.backend.immilog.chat.domain.model.ChatRoom;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+public class ChatRoomRepositoryCustomImpl implements ChatRoomRepositoryCustom {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public ChatRoomRepositoryCustomImpl(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Mono<ChatRoom> incrementMessageSeq(String chatRoomId) {
+        return findAndModify(chatRoomId, new Update().inc("lastMessageSeq", 1));
+    }
+
+    @Override
+    public Mono<ChatRoom> addParticipant(String chatRoomId, String userId) {
+        return findAndModify(chatRoomId, new Update()
+                .addToSet("participantIds", userId)
+                .set("updatedAt", LocalDateTime.now()));
+    }
+
+    @Override
+    public Mono<ChatRoom> removeParticipant(String chatRoomId, String userId) {
+        return findAndModify(chatRoomId, new Update()
+                .pull("participantIds", userId)
+                .set("updatedAt", LocalDateTime.now()));
+    }
+
+    private Mono<ChatRoom> findAndModify(String chatRoomId, Update update) {
+        return mongoTemplate.findAndModify(
+                Query.query(where("id").is(chatRoomId)),
+                update,
+                FindAndModifyOptions.options().returnNew(true),
+                ChatRoom.class
+        );
+    }
+}
@@ -0,0 +1,161 @@
+package com.backend.immilog.chat.infrastructure.repository;
+
+import com.backend.immilog.chat.domain.model.ChatMessage;
+import com.backend.immilog.chat.domain.model.ChatRoomReadStatus;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * 메시지 순번 도입 이전 데이터 이관 (기동 시 한 번, 이관할 문서가 없으면 조회 두 번으로 끝남)
+ * 1. seq가 없는 이전 메시지: 채팅방별로 최신 메시지부터 0, -1, -2 ... 순으로 부여 (시스템 메시지는 바로 앞 메시지 순번 공유)
+ *    이관 후 메시지는 1부터 발급되고 lastMessageSeq가 없는 채팅방은 0으로 읽히므로, 채팅방 문서와 이관 후 메시지는 건드리지 않음
+ * 2. lastReadSeq가 없는 이전 읽음 상태: 저장돼 있던 unreadCount만큼 0보다 앞(-unreadCount)으로 두어 이관 전 안읽은 수를 유지
+ *    unreadCount가 없으면 lastReadMessageId의 순번, 둘 다 없으면 0 (이전 메시지는 모두 읽음)
+ * 이관이 끝나기 전에는 이전 메시지가 안읽은 수에 잡히지 않고, 이관 도중 읽음 처리된 상태는 그 순번을 그대로 사용
+ * 중간에 실패해도 다음 기동 때 남은 문서만 이어서 처리
+ */
+@Component
+public class ChatSeqBackfill {
+    private static final Logger log = LoggerFactory.getLogger(ChatSeqBackfill.class);
+    private static final int BATCH_SIZE = 500;
+    private static final String READ_STATUS_COLLECTION = "chat_room_read_status";
+    private static final List<ChatMessage.MessageType> SYSTEM_TYPES = List.of(
+            ChatMessage.MessageType.SYSTEM_JOIN,
+            ChatMessage.MessageType.SYSTEM_LEAVE
+    );
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public ChatSeqBackfill(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        backfill().subscribe(
+                result -> {
+                    if (result.getT1() > 0 || result.getT2() > 0) {
+                        log.info("[CHAT SEQ BACKFILL] Assigned seq to {} messages, lastReadSeq to {} read statuses",
+                                result.getT1(), result.getT2());
+                    }
+                },
+                e -> log.error("[CHAT SEQ BACKFILL] Failed, remaining documents are retried on next startup", e)
+        );
+    }
+
+    /**
+     * 메시지 순번을 먼저 채운 뒤 읽음 상태를 채움 (lastReadMessageId로 순번을 찾는 경우가 있으므로)
+     */
+    public Mono<Tuple2<Long, Long>> backfill() {
+        return backfillMessageSeqs()
+                .flatMap(messages -> backfillLastReadSeqs().map(statuses -> Tuples.of(messages, statuses)));
+    }
+
+    Mono<Long> backfillMessageSeqs() {
+        return mongoTemplate.findDistinct(Query.query(where("seq").exists(false)), "chatRoomId", ChatMessage.class, String.class)
+                .concatMap(this::backfillRoom)
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<Long> backfillRoom(String chatRoomId) {
+        var legacyMessages = Query.query(where("chatRoomId").is(chatRoomId).and("seq").exists(false))
+                .with(Sort.by(Sort.Direction.DESC, "sentAt", "id"));
+        return resumeSeq(chatRoomId)
+                .flatMap(startSeq -> {
+                    var allocator = new LegacySeqAllocator(startSeq);
+                    return mongoTemplate.find(legacyMessages, ChatMessage.class)
+                            .map(message -> Tuples.of(message.id(), allocator.next(message.isSystemMessage())))
+                            .buffer(BATCH_SIZE)
+                            .concatMap(this::assignSeqs)
+                            .reduce(0L, Long::sum);
+                });
+    }
+
+    /**
+     * 이전 실행이 중간에 멈췄다면 이미 부여한 가장 작은 순번 바로 앞부터 이어서 부여 (남은 메시지는 모두 그보다 오래됨)
+     */
+    private Mono<Long> resumeSeq(String chatRoomId) {
+        var assigned = Query.query(where("chatRoomId").is(chatRoomId)
+                        .and("seq").lte(0)
+                        .and("messageType").nin(SYSTEM_TYPES))
+                .with(Sort.by(Sort.Direction.ASC, "seq"));
+        return mongoTemplate.findOne(assigned, ChatMessage.class)
+                .map(message -> message.seq() - 1)
+                .defaultIfEmpty(0L);
+    }
+
+    private Mono<Long> assignSeqs(List<Tuple2<String, Long>> seqs) {
+        var bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatMessage.class);
+        for (var seq : seqs) {
+            bulkOperations.updateOne(
+                    Query.query(where("id").is(seq.getT1()).and("seq").exists(false)),
+                    new Update().set("seq", seq.getT2())
+            );
+        }
+        return bulkOperations.execute()
+                .map(result -> (long) result.getModifiedCount());
+    }
+
+    Mono<Long> backfillLastReadSeqs() {
+        // 이전 필드(unreadCount)를 읽어야 하므로 엔티티 대신 원본 문서로 조회
+        return mongoTemplate.find(Query.query(where("lastReadSeq").exists(false)), Document.class, READ_STATUS_COLLECTION)
+                .concatMap(status -> legacyLastReadSeq(status)
+                        .flatMap(lastReadSeq -> mongoTemplate.updateFirst(
+                                Query.query(where("_id").is(status.get("_id")).and("lastReadSeq").exists(false)),
+                                new Update().set("lastReadSeq", lastReadSeq).unset("unreadCount"),
+                                ChatRoomReadStatus.class
+                        )))
+                .map(UpdateResult::getModifiedCount)
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<Long> legacyLastReadSeq(Document status) {
+        var unreadCount = status.get("unreadCount", Number.class);
+        if (unreadCount != null) {
+            return Mono.just(-unreadCount.longValue());
+        }
+        var lastReadMessageId = status.getString("lastReadMessageId");
+        if (lastReadMessageId == null) {
+            return Mono.just(0L);
+        }
+        return mongoTemplate.findById(lastReadMessageId, ChatMessage.class)
+                .map(ChatMessage::seq)
+                .defaultIfEmpty(0L);
+    }
+
+    /**
+     * 최신 메시지부터 거슬러 올라가며 순번 부여 (시스템 메시지는 순번을 소비하지 않고 바로 앞 메시지 순번을 받음)
+     */
+    static final class LegacySeqAllocator {
+        private long nextSeq;
+
+        LegacySeqAllocator(long startSeq) {
+            this.nextSeq = startSeq;
+        }
+
+        long next(boolean systemMessage) {
+            long seq = nextSeq;
+            if (!systemMessage) {
+                nextSeq--;
+            }
+            return seq;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import java.time.LocalDateTime;
 public record ChatMessageDto(
         String id,
         String chatRoomId,
+        long seq,
         String senderId,
         String senderNickname,
         String content,
@@ -20,6 +21,7 @@ public record ChatMessageDto(
         return new ChatMessageDto(
                 message.id(),
                 message.chatRoomId(),
+                message.seq(),
                 message.senderId(),
                 message.senderNickname(),
                 message.content(),
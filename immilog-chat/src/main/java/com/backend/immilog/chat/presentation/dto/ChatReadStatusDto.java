@@ -12,15 +12,17 @@ public class ChatReadStatusDto {
             String userId,
             String lastReadMessageId,
             LocalDateTime lastReadAt,
+            long lastReadSeq,
             int unreadCount
     ) {
-        public static ReadStatusResponse from(ChatRoomReadStatus readStatus) {
+        public static ReadStatusResponse from(ChatRoomReadStatus readStatus, long roomSeq) {
             return new ReadStatusResponse(
                     readStatus.chatRoomId(),
                     readStatus.userId(),
                     readStatus.lastReadMessageId(),
                     readStatus.lastReadAt(),
-                    readStatus.unreadCount()
+                    readStatus.lastReadSeq(),
+                    readStatus.unreadCount(roomSeq)
             );
         }
     }
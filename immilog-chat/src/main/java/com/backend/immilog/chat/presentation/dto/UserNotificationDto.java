@@ -1,5 +1,7 @@
 package com.backend.immilog.chat.presentation.dto;
 
+import java.util.List;
+
 public class UserNotificationDto {
     
     public record UnreadCountUpdateMessage(
@@ -21,4 +23,29 @@ public class UserNotificationDto {
             );
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 모으는 창 안에 여러 채팅방의 안읽은 수가 바뀐 경우 한 번에 보내는 알림 (총 안읽은 수는 한 번만 계산)
+     */
+    public record UnreadCountsUpdateMessage(
+            String type,
+            List<RoomUnreadCount> chatRooms,
+            int totalUnreadCount
+    ) {
+        public static UnreadCountsUpdateMessage create(
+                List<RoomUnreadCount> chatRooms,
+                int totalUnreadCount
+        ) {
+            return new UnreadCountsUpdateMessage(
+                    "UNREAD_COUNTS_UPDATE",
+                    List.copyOf(chatRooms),
+                    totalUnreadCount
+            );
+        }
+    }
+
+    public record RoomUnreadCount(
+            String chatRoomId,
+            int unreadCount
+    ) {}
+}
@@ -3,39 +3,42 @@ package com.backend.immilog.chat.websocket;
 import com.backend.immilog.chat.application.service.ChatMessageService;
 import com.backend.immilog.chat.application.service.ChatReadStatusService;
 import com.backend.immilog.chat.application.service.ChatRoomService;
+import com.backend.immilog.chat.infrastructure.cluster.ChatClusterBroadcaster;
+import com.backend.immilog.chat.infrastructure.cluster.ChatFrame;
+import com.backend.immilog.chat.infrastructure.cluster.ChatTopics;
 import com.backend.immilog.chat.presentation.dto.ChatMessageDto;
 import com.backend.immilog.chat.presentation.dto.ChatReadStatusDto;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.socket.WebSocketHandler;
 import org.springframework.web.reactive.socket.WebSocketMessage;
 import org.springframework.web.reactive.socket.WebSocketSession;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.Sinks;
-
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class ChatWebSocketHandler implements WebSocketHandler {
+    private static final Logger log = LoggerFactory.getLogger(ChatWebSocketHandler.class);
 
     private final ChatMessageService chatMessageService;
     private final ChatRoomService chatRoomService;
     private final ChatReadStatusService chatReadStatusService;
+    private final ChatClusterBroadcaster chatClusterBroadcaster;
     private final ObjectMapper objectMapper;
 
-    private final Map<String, Sinks.Many<ChatMessageDto>> chatRoomSinks = new ConcurrentHashMap<>();
-    private final Map<String, Sinks.Many<ChatReadStatusDto.ReadStatusUpdateEvent>> readStatusSinks = new ConcurrentHashMap<>();
-
     public ChatWebSocketHandler(
             ChatMessageService chatMessageService,
             ChatRoomService chatRoomService,
             ChatReadStatusService chatReadStatusService,
+            ChatClusterBroadcaster chatClusterBroadcaster,
             ObjectMapper objectMapper
     ) {
         this.chatMessageService = chatMessageService;
         this.chatRoomService = chatRoomService;
         this.chatReadStatusService = chatReadStatusService;
+        this.chatClusterBroadcaster = chatClusterBroadcaster;
         this.objectMapper = objectMapper;
     }
 
@@ -48,25 +51,27 @@ public class ChatWebSocketHandler implements WebSocketHandler {
             return session.close();
         }
 
-        // 해당 채팅방의 Sink를 가져오거나 생성
-        var sink = chatRoomSinks.computeIfAbsent(
-                chatRoomId,
-                k -> Sinks.many().multicast().onBackpressureBuffer()
-        );
-
+        // 저장된 메시지는 클러스터 버스로 발행해 다른 노드에 접속한 참여자에게도 전달
         var input = session.receive()
                 .map(WebSocketMessage::getPayloadAsText)
                 .flatMap(payload -> handleIncomingMessage(payload, chatRoomId))
-                .doOnNext(sink::tryEmitNext)
+                .flatMap(message -> chatClusterBroadcaster.publish(ChatTopics.room(chatRoomId), message)
+                        .onErrorResume(e -> {
+                            log.warn("Failed to broadcast message {} to chat room {}", message.id(), chatRoomId, e);
+                            return Mono.empty();
+                        }))
                 .then();
 
-        var output = sink.asFlux()
-                .map(this::messageToJson)
-                .map(session::textMessage);
+        // 발행 시 한 번 만든 JSON 프레임을 방의 모든 세션이 공유 (세션별 직렬화 없음)
+        var output = Flux.merge(
+                        chatClusterBroadcaster.subscribeFrames(ChatTopics.room(chatRoomId)),
+                        chatClusterBroadcaster.subscribeFrames(ChatTopics.readStatus(chatRoomId))
+                )
+                .map(frame -> toTextMessage(session, frame));
 
+        // 세션 종료 시 토픽 참조 해제는 ChatTopicSinkRegistry가 구독 취소 시점에 처리
         return session.send(output)
-                .and(input)
-                .doFinally(signalType -> cleanupSession(chatRoomId));
+                .and(input);
     }
 
     private String extractChatRoomId(WebSocketSession session) {
@@ -126,7 +131,7 @@ public class ChatWebSocketHandler implements WebSocketHandler {
                     if (request.content() != null) {
                         chatReadStatusService.markMessageAsRead(chatRoomId, request.senderId(), request.content())
                                 .then(chatReadStatusService.getUnreadCount(chatRoomId, request.senderId()))
-                                .doOnNext(unreadCount -> {
+                                .flatMap(unreadCount -> {
                                     // 읽음 상태 업데이트 이벤트 전파
                                     var readStatusEvent = new ChatReadStatusDto.ReadStatusUpdateEvent(
                                             chatRoomId,
@@ -134,9 +139,12 @@ public class ChatWebSocketHandler implements WebSocketHandler {
                                             request.content(),
                                             unreadCount
                                     );
-                                    broadcastReadStatusUpdate(chatRoomId, readStatusEvent);
+                                    return broadcastReadStatusUpdate(chatRoomId, readStatusEvent);
                                 })
-                                .subscribe();
+                                .subscribe(
+                                        null,
+                                        e -> log.warn("Failed to update read status in chat room {}", chatRoomId, e)
+                                );
                     }
                     return Mono.empty();
 
@@ -148,25 +156,18 @@ public class ChatWebSocketHandler implements WebSocketHandler {
         }
     }
 
-    private String messageToJson(ChatMessageDto message) {
-        try {
-            return objectMapper.writeValueAsString(message);
-        } catch (Exception e) {
-            return "{}";
-        }
+    private WebSocketMessage toTextMessage(
+            WebSocketSession session,
+            ChatFrame frame
+    ) {
+        return new WebSocketMessage(WebSocketMessage.Type.TEXT, frame.toDataBuffer(session.bufferFactory()));
     }
 
-    private void cleanupSession(String chatRoomId) {
-    }
-    
     /**
-     * 채팅방의 모든 참여자에게 읽음 상태 업데이트 브로드캐스트
+     * 채팅방의 모든 참여자에게 읽음 상태 업데이트 브로드캐스트 (다른 노드 포함)
      */
-    private void broadcastReadStatusUpdate(String chatRoomId, ChatReadStatusDto.ReadStatusUpdateEvent event) {
-        var readStatusSink = readStatusSinks.get(chatRoomId);
-        if (readStatusSink != null) {
-            readStatusSink.tryEmitNext(event);
-        }
+    private Mono<Void> broadcastReadStatusUpdate(String chatRoomId, ChatReadStatusDto.ReadStatusUpdateEvent event) {
+        return chatClusterBroadcaster.publish(ChatTopics.readStatus(chatRoomId), event);
     }
 
     public record ChatMessageRequest(
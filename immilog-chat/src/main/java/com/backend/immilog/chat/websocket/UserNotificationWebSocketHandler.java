@@ -1,25 +1,21 @@
 package com.backend.immilog.chat.websocket;
 
+import com.backend.immilog.chat.infrastructure.cluster.ChatClusterBroadcaster;
+import com.backend.immilog.chat.infrastructure.cluster.ChatTopics;
 import com.backend.immilog.chat.presentation.dto.UserNotificationDto;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.socket.WebSocketHandler;
 import org.springframework.web.reactive.socket.WebSocketMessage;
 import org.springframework.web.reactive.socket.WebSocketSession;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.Sinks;
-
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class UserNotificationWebSocketHandler implements WebSocketHandler {
 
-    private final ObjectMapper objectMapper;
-    private final Map<String, Sinks.Many<UserNotificationDto.UnreadCountUpdateMessage>> userSinks = new ConcurrentHashMap<>();
+    private final ChatClusterBroadcaster chatClusterBroadcaster;
 
-    public UserNotificationWebSocketHandler(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+    public UserNotificationWebSocketHandler(ChatClusterBroadcaster chatClusterBroadcaster) {
+        this.chatClusterBroadcaster = chatClusterBroadcaster;
     }
 
     @Override
@@ -30,22 +26,16 @@ public class UserNotificationWebSocketHandler implements WebSocketHandler {
             return session.close();
         }
 
-        var sink = userSinks.computeIfAbsent(
-                userId,
-                k -> Sinks.many().multicast().onBackpressureBuffer()
-        );
-
         var input = session.receive()
                 .map(WebSocketMessage::getPayloadAsText)
                 .then();
 
-        var output = sink.asFlux()
-                .map(this::messageToJson)
-                .map(session::textMessage);
+        // 같은 사용자가 여러 노드에 접속해 있어도 모든 세션이 알림을 받음
+        var output = chatClusterBroadcaster.subscribeFrames(ChatTopics.userNotifications(userId))
+                .map(frame -> new WebSocketMessage(WebSocketMessage.Type.TEXT, frame.toDataBuffer(session.bufferFactory())));
 
         return session.send(output)
-                .and(input)
-                .doFinally(signalType -> cleanupSession(userId));
+                .and(input);
     }
 
     private String extractUserId(WebSocketSession session) {
@@ -55,22 +45,14 @@ public class UserNotificationWebSocketHandler implements WebSocketHandler {
         return segments.length >= 4 ? segments[3] : null;
     }
 
-    private String messageToJson(UserNotificationDto.UnreadCountUpdateMessage message) {
-        try {
-            return objectMapper.writeValueAsString(message);
-        } catch (Exception e) {
-            return "{}";
-        }
-    }
-
-    private void cleanupSession(String userId) {
-        userSinks.remove(userId);
+    /**
+     * 사용자가 접속한 노드로 안읽은 수 알림 전달 (접속한 노드가 없으면 버스에서 버려짐)
+     */
+    public Mono<Void> sendUnreadCountUpdate(String userId, UserNotificationDto.UnreadCountUpdateMessage message) {
+        return chatClusterBroadcaster.publish(ChatTopics.userNotifications(userId), message);
     }
 
-    public void sendUnreadCountUpdate(String userId, UserNotificationDto.UnreadCountUpdateMessage message) {
-        var sink = userSinks.get(userId);
-        if (sink != null) {
-            sink.tryEmitNext(message);
-        }
+    public Mono<Void> sendUnreadCountsUpdate(String userId, UserNotificationDto.UnreadCountsUpdateMessage message) {
+        return chatClusterBroadcaster.publish(ChatTopics.userNotifications(userId), message);
     }
 }
\ No newline at end of file
@@ -0,0 +1,93 @@
+package com.backend.immilog.chat.application.service;
+
+import com.backend.immilog.chat.domain.model.ChatRoom;
+import com.backend.immilog.chat.domain.model.ChatRoomReadStatus;
+import com.backend.immilog.chat.infrastructure.repository.ChatRoomReadStatusRepository;
+import com.backend.immilog.chat.infrastructure.repository.ChatRoomRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatUnreadCountServiceTest {
+    private final ChatRoomRepository chatRoomRepository = mock(ChatRoomRepository.class);
+    private final ChatRoomReadStatusRepository readStatusRepository = mock(ChatRoomReadStatusRepository.class);
+    private final ChatUnreadCountService chatUnreadCountService = new ChatUnreadCountService(chatRoomRepository, readStatusRepository);
+
+    @Test
+    @DisplayName("안읽은 수는 채팅방 순번과 마지막으로 읽은 순번의 차이다")
+    void unreadCountFromSequence() {
+        //given
+        when(chatRoomRepository.findById("room-1")).thenReturn(Mono.just(room("room-1", 42L)));
+        when(readStatusRepository.findByChatRoomIdAndUserId("room-1", "user-1")).thenReturn(Mono.just(readStatus("room-1", 37L)));
+
+        //when
+        var unreadCount = chatUnreadCountService.getUnreadCount("room-1", "user-1").block();
+
+        //then
+        assertThat(unreadCount).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("읽음 상태가 없으면 안읽은 수는 0이다")
+    void noReadStatus() {
+        //given
+        when(readStatusRepository.findByChatRoomIdAndUserId("room-1", "user-1")).thenReturn(Mono.empty());
+
+        //when
+        var unreadCount = chatUnreadCountService.getUnreadCount("room-1", "user-1", 42L).block();
+
+        //then
+        assertThat(unreadCount).isZero();
+    }
+
+    @Test
+    @DisplayName("사용자의 전체 안읽은 수는 채팅방을 한 번에 조회해 합산한다")
+    void totalUnreadCountWithSingleRoomLookup() {
+        //given
+        when(readStatusRepository.findByUserId("user-1")).thenReturn(Flux.just(
+                readStatus("room-1", 10L),
+                readStatus("room-2", 3L),
+                readStatus("room-3", 7L)
+        ));
+        when(chatRoomRepository.findAllById(anyIterable())).thenReturn(Flux.just(
+                room("room-1", 12L),
+                room("room-2", 3L),
+                room("room-3", 10L)
+        ));
+
+        //when
+        var unreadCounts = chatUnreadCountService.getAllUnreadCounts("user-1").block();
+        var totalUnreadCount = chatUnreadCountService.getTotalUnreadCount("user-1").block();
+
+        //then
+        assertThat(unreadCounts).containsEntry("room-1", 2).containsEntry("room-2", 0).containsEntry("room-3", 3);
+        assertThat(totalUnreadCount).isEqualTo(5);
+        verify(chatRoomRepository, times(2)).findAllById(anyIterable());
+    }
+
+    private ChatRoom room(
+            String chatRoomId,
+            long lastMessageSeq
+    ) {
+        var now = LocalDateTime.of(2024, 1, 1, 12, 0);
+        return new ChatRoom(chatRoomId, "room", "KR", List.of("user-1", "user-2"), "user-2", now, now, true, lastMessageSeq);
+    }
+
+    private ChatRoomReadStatus readStatus(
+            String chatRoomId,
+            long lastReadSeq
+    ) {
+        return new ChatRoomReadStatus("status-" + chatRoomId, chatRoomId, "user-1", null, LocalDateTime.of(2024, 1, 1, 12, 0), lastReadSeq);
+    }
+}
@@ -0,0 +1,125 @@
+package com.backend.immilog.chat.application.service;
+
+import com.backend.immilog.chat.config.properties.ChatNotificationProperties;
+import com.backend.immilog.chat.presentation.dto.UserNotificationDto.RoomUnreadCount;
+import com.backend.immilog.chat.presentation.dto.UserNotificationDto.UnreadCountUpdateMessage;
+import com.backend.immilog.chat.presentation.dto.UserNotificationDto.UnreadCountsUpdateMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.backend.immilog.chat.websocket.UserNotificationWebSocketHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserNotificationServiceTest {
+    private final UserNotificationWebSocketHandler webSocketHandler = mock(UserNotificationWebSocketHandler.class);
+    private final ChatUnreadCountService chatUnreadCountService = mock(ChatUnreadCountService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("연속으로 도착한 새 메시지 알림은 사용자별로 창 안에서 한 번만 최신 값으로 전송한다")
+    void coalescesBurstPerUser() {
+        //given
+        var userNotificationService = userNotificationService(Duration.ofMillis(50));
+        when(chatUnreadCountService.getUnreadCount(eq("room-1"), anyString(), anyLong()))
+                .thenAnswer(invocation -> Mono.just((int) (long) invocation.getArgument(2)));
+        when(chatUnreadCountService.getTotalUnreadCount(anyString())).thenReturn(Mono.just(10));
+        when(webSocketHandler.sendUnreadCountUpdate(anyString(), any())).thenReturn(Mono.empty());
+
+        //when
+        for (long seq = 1; seq <= 5; seq++) {
+            userNotificationService.notifyNewMessage("room-1", seq, List.of("user-1", "user-2")).block();
+        }
+
+        //then
+        var captor = ArgumentCaptor.forClass(UnreadCountUpdateMessage.class);
+        verify(webSocketHandler, after(300).times(1)).sendUnreadCountUpdate(eq("user-1"), captor.capture());
+        verify(webSocketHandler, times(1)).sendUnreadCountUpdate(eq("user-2"), any());
+        assertThat(captor.getValue().unreadCount()).isEqualTo(5);
+        assertThat(captor.getValue().totalUnreadCount()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("창 안에 여러 채팅방 메시지가 오면 사용자에게 한 번만 보내고 총 안읽은 수도 한 번만 계산한다")
+    void coalescesChatRoomsPerUser() {
+        //given
+        var userNotificationService = userNotificationService(Duration.ofMillis(50));
+        when(chatUnreadCountService.getUnreadCount(anyString(), eq("user-1"), anyLong()))
+                .thenAnswer(invocation -> Mono.just((int) (long) invocation.getArgument(2)));
+        when(chatUnreadCountService.getTotalUnreadCount("user-1")).thenReturn(Mono.just(10));
+        when(webSocketHandler.sendUnreadCountsUpdate(anyString(), any())).thenReturn(Mono.empty());
+
+        //when
+        userNotificationService.notifyNewMessage("room-a", 2L, List.of("user-1")).block();
+        userNotificationService.notifyNewMessage("room-a", 3L, List.of("user-1")).block();
+        userNotificationService.notifyNewMessage("room-b", 7L, List.of("user-1")).block();
+
+        //then
+        var captor = ArgumentCaptor.forClass(UnreadCountsUpdateMessage.class);
+        verify(webSocketHandler, after(300).times(1)).sendUnreadCountsUpdate(eq("user-1"), captor.capture());
+        verify(webSocketHandler, never()).sendUnreadCountUpdate(anyString(), any());
+        verify(chatUnreadCountService, times(1)).getTotalUnreadCount("user-1");
+        assertThat(captor.getValue().totalUnreadCount()).isEqualTo(10);
+        assertThat(captor.getValue().chatRooms()).containsExactlyInAnyOrder(
+                new RoomUnreadCount("room-a", 3),
+                new RoomUnreadCount("room-b", 7)
+        );
+    }
+
+    @Test
+    @DisplayName("모아 둔 알림 전송이 실패하면 실패 수를 센다")
+    void countsFailedFlush() {
+        //given
+        var userNotificationService = userNotificationService(Duration.ofMillis(50));
+        when(chatUnreadCountService.getUnreadCount(anyString(), anyString(), anyLong())).thenReturn(Mono.just(1));
+        when(chatUnreadCountService.getTotalUnreadCount(anyString())).thenReturn(Mono.just(1));
+        when(webSocketHandler.sendUnreadCountUpdate(anyString(), any())).thenReturn(Mono.error(new IllegalStateException("bus down")));
+
+        //when
+        userNotificationService.notifyNewMessage("room-1", 1L, List.of("user-1")).block();
+
+        //then
+        verify(webSocketHandler, after(300).times(1)).sendUnreadCountUpdate(eq("user-1"), any());
+        assertThat(meterRegistry.counter("immilog.chat.notifications.failed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("모으는 시간이 0이면 발송 파이프라인 안에서 바로 전송한다")
+    void sendsImmediatelyWithoutWindow() {
+        //given
+        var userNotificationService = userNotificationService(Duration.ZERO);
+        when(chatUnreadCountService.getUnreadCount("room-1", "user-1", 3L)).thenReturn(Mono.just(1));
+        when(chatUnreadCountService.getTotalUnreadCount("user-1")).thenReturn(Mono.just(4));
+        when(webSocketHandler.sendUnreadCountUpdate(anyString(), any())).thenReturn(Mono.empty());
+
+        //when
+        userNotificationService.notifyNewMessage("room-1", 3L, List.of("user-1")).block();
+
+        //then
+        verify(webSocketHandler).sendUnreadCountUpdate("user-1", UnreadCountUpdateMessage.create("room-1", 1, 4));
+    }
+
+    private UserNotificationService userNotificationService(Duration coalesceWindow) {
+        return new UserNotificationService(
+                webSocketHandler,
+                chatUnreadCountService,
+                new ChatNotificationProperties(coalesceWindow),
+                meterRegistry
+        );
+    }
+}
@@ -0,0 +1,119 @@
+package com.backend.immilog.chat.infrastructure.cluster;
+
+import com.backend.immilog.chat.config.properties.ChatSinkProperties;
+import com.backend.immilog.chat.presentation.dto.ChatMessageDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatClusterBroadcasterTest {
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final InMemoryChatClusterBus bus = new InMemoryChatClusterBus();
+
+    @Test
+    @DisplayName("다른 노드에서 발행한 메시지를 같은 채팅방 구독자가 받는다")
+    void deliversAcrossNodes() {
+        //given
+        var nodeA = broadcaster();
+        var nodeB = broadcaster();
+        List<ChatMessageDto> received = new CopyOnWriteArrayList<>();
+        var subscription = nodeB.subscribe(ChatTopics.room("room-1"), ChatMessageDto.class).subscribe(received::add);
+
+        //when
+        nodeA.publish(ChatTopics.room("room-1"), message("room-1", "hello")).block();
+        nodeA.publish(ChatTopics.room("room-2"), message("room-2", "other room")).block();
+
+        //then
+        assertThat(received).extracting(ChatMessageDto::content).containsExactly("hello");
+        subscription.dispose();
+    }
+
+    @Test
+    @DisplayName("같은 토픽의 로컬 구독자는 버스 구독 하나를 공유하고, 모두 떠나면 구독을 해제한다")
+    void sharesBusSubscriptionPerTopic() {
+        //given
+        var broadcaster = broadcaster();
+        List<String> first = new CopyOnWriteArrayList<>();
+        List<String> second = new CopyOnWriteArrayList<>();
+        var firstSubscription = broadcaster.subscribe(ChatTopics.room("room-1"), ChatMessageDto.class)
+                .subscribe(message -> first.add(message.content()));
+        var secondSubscription = broadcaster.subscribe(ChatTopics.room("room-1"), ChatMessageDto.class)
+                .subscribe(message -> second.add(message.content()));
+
+        //when
+        broadcaster.publish(ChatTopics.room("room-1"), message("room-1", "hi")).block();
+        firstSubscription.dispose();
+        int topicsWhileSubscribed = broadcaster.subscribedTopicCount();
+        secondSubscription.dispose();
+
+        //then
+        assertThat(first).containsExactly("hi");
+        assertThat(second).containsExactly("hi");
+        assertThat(topicsWhileSubscribed).isEqualTo(1);
+        assertThat(broadcaster.subscribedTopicCount()).isZero();
+        assertThat(bus.topicCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("프레임 구독자는 발행 시 직렬화한 JSON을 같은 프레임 인스턴스로 공유한다")
+    void sharesEncodedFrameAcrossSessions() throws Exception {
+        //given
+        var broadcaster = broadcaster();
+        List<ChatFrame> first = new CopyOnWriteArrayList<>();
+        List<ChatFrame> second = new CopyOnWriteArrayList<>();
+        var firstSubscription = broadcaster.subscribeFrames(ChatTopics.room("room-1")).subscribe(first::add);
+        var secondSubscription = broadcaster.subscribeFrames(ChatTopics.room("room-1")).subscribe(second::add);
+        var message = message("room-1", "hello");
+
+        //when
+        broadcaster.publish(ChatTopics.room("room-1"), message).block();
+
+        //then
+        assertThat(first).hasSize(1);
+        assertThat(second).hasSize(1);
+        assertThat(second.get(0)).isSameAs(first.get(0));
+        assertThat(first.get(0).toString()).isEqualTo(objectMapper.writeValueAsString(message));
+        firstSubscription.dispose();
+        secondSubscription.dispose();
+    }
+
+    @Test
+    @DisplayName("구독자가 없는 토픽으로 발행해도 실패하지 않는다")
+    void publishWithoutSubscribers() {
+        //given
+        var broadcaster = broadcaster();
+
+        //when
+        broadcaster.publish(ChatTopics.userNotifications("user-1"), message("room-1", "nobody")).block();
+
+        //then
+        assertThat(bus.topicCount()).isZero();
+    }
+
+    private ChatMessageDto message(
+            String chatRoomId,
+            String content
+    ) {
+        return new ChatMessageDto("id", chatRoomId, 1L, "user-1", "nickname", content, "TEXT", LocalDateTime.of(2024, 1, 1, 12, 0), false);
+    }
+
+    private ChatClusterBroadcaster broadcaster() {
+        var registry = new ChatTopicSinkRegistry(
+                new ChatSinkProperties(null, null, Duration.ZERO),
+                new SimpleMeterRegistry()
+        );
+        return new ChatClusterBroadcaster(bus, registry, objectMapper);
+    }
+}
@@ -0,0 +1,163 @@
+package com.backend.immilog.chat.infrastructure.cluster;
+
+import com.backend.immilog.chat.config.properties.ChatSinkProperties;
+import com.backend.immilog.chat.config.properties.ChatSinkProperties.OverflowPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatTopicSinkRegistryTest {
+    private static final String TOPIC = ChatTopics.room("room-1");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Sinks.Many<Object> source = Sinks.many().multicast().directBestEffort();
+    private final AtomicInteger sourceSubscriptions = new AtomicInteger();
+    private ChatTopicSinkRegistry registry;
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST 정책에서는 버퍼 크기를 넘는 오래된 메시지를 버리고 최신 메시지만 남긴다")
+    void dropOldestKeepsBufferBounded() {
+        //given
+        registry = registry(2, OverflowPolicy.DROP_OLDEST, Duration.ZERO);
+        var slow = new SlowSubscriber();
+        registry.subscribe(TOPIC, this::source).subscribe(slow);
+
+        //when
+        emit("m1", "m2", "m3", "m4", "m5");
+        long bufferedBeforeDrain = registry.bufferedMessages();
+        slow.request(10);
+
+        //then
+        assertThat(bufferedBeforeDrain).isEqualTo(2);
+        assertThat(slow.received).containsExactly("m4", "m5");
+        assertThat(registry.bufferedMessages()).isZero();
+        assertThat(meterRegistry.get("immilog.chat.messages.dropped").counter().count()).isEqualTo(3);
+        slow.dispose();
+    }
+
+    @Test
+    @DisplayName("DISCONNECT 정책에서는 버퍼가 가득 찬 세션만 오류로 종료하고 참조를 해제한다")
+    void disconnectTerminatesSlowSession() {
+        //given
+        registry = registry(2, OverflowPolicy.DISCONNECT, Duration.ZERO);
+        var slow = new SlowSubscriber();
+        List<Object> fast = new CopyOnWriteArrayList<>();
+        registry.subscribe(TOPIC, this::source).subscribe(slow);
+        var fastSubscription = registry.subscribe(TOPIC, this::source).subscribe(fast::add);
+
+        //when
+        emit("m1", "m2", "m3");
+
+        //then
+        assertThat(slow.error.get()).isNotNull();
+        assertThat(fast).containsExactly("m1", "m2", "m3");
+        assertThat(registry.bufferedMessages()).isZero();
+        assertThat(meterRegistry.get("immilog.chat.sessions").tag("kind", ChatTopics.ROOM).gauge().value()).isEqualTo(1);
+        fastSubscription.dispose();
+        assertThat(registry.topicCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("마지막 세션이 떠나도 idleTimeout 동안은 원천 구독을 유지하고, 지나면 제거한다")
+    void evictsIdleTopicAfterTimeout() throws InterruptedException {
+        //given
+        registry = registry(16, OverflowPolicy.DROP_OLDEST, Duration.ofMillis(20));
+        registry.subscribe(TOPIC, this::source).subscribe().dispose();
+
+        //when
+        registry.evictIdle();
+        int topicsBeforeTimeout = registry.topicCount();
+        var resubscription = registry.subscribe(TOPIC, this::source).subscribe();
+        resubscription.dispose();
+        Thread.sleep(40);
+        registry.evictIdle();
+
+        //then
+        assertThat(topicsBeforeTimeout).isEqualTo(1);
+        assertThat(sourceSubscriptions.get()).isEqualTo(1);
+        assertThat(registry.topicCount()).isZero();
+        assertThat(source.currentSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("종류별 활성 토픽 수와 세션 수를 게이지로 노출한다")
+    void exposesGauges() {
+        //given
+        registry = registry(16, OverflowPolicy.DROP_OLDEST, Duration.ZERO);
+        var first = registry.subscribe(TOPIC, this::source).subscribe();
+        var second = registry.subscribe(TOPIC, this::source).subscribe();
+        var notification = registry.subscribe(ChatTopics.userNotifications("user-1"), Flux::never).subscribe();
+
+        //when
+        double roomTopics = meterRegistry.get("immilog.chat.topics.active").tag("kind", ChatTopics.ROOM).gauge().value();
+        double roomSessions = meterRegistry.get("immilog.chat.sessions").tag("kind", ChatTopics.ROOM).gauge().value();
+        double notificationSessions = meterRegistry.get("immilog.chat.sessions").tag("kind", ChatTopics.NOTIFICATIONS).gauge().value();
+        first.dispose();
+        second.dispose();
+        notification.dispose();
+
+        //then
+        assertThat(roomTopics).isEqualTo(1);
+        assertThat(roomSessions).isEqualTo(2);
+        assertThat(notificationSessions).isEqualTo(1);
+        assertThat(meterRegistry.get("immilog.chat.sessions").tag("kind", ChatTopics.ROOM).gauge().value()).isZero();
+    }
+
+    private ChatTopicSinkRegistry registry(
+            int bufferSize,
+            OverflowPolicy overflowPolicy,
+            Duration idleTimeout
+    ) {
+        return new ChatTopicSinkRegistry(new ChatSinkProperties(bufferSize, overflowPolicy, idleTimeout), meterRegistry);
+    }
+
+    private Flux<Object> source() {
+        sourceSubscriptions.incrementAndGet();
+        return source.asFlux();
+    }
+
+    private void emit(String... messages) {
+        for (String message : messages) {
+            source.tryEmitNext(message);
+        }
+    }
+
+    /**
+     * 요청하기 전까지 메시지를 받지 않는 느린 세션
+     */
+    private static class SlowSubscriber extends BaseSubscriber<Object> {
+        private final List<Object> received = new CopyOnWriteArrayList<>();
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        @Override
+        protected void hookOnSubscribe(org.reactivestreams.Subscription subscription) {
+        }
+
+        @Override
+        protected void hookOnNext(Object value) {
+            received.add(value);
+        }
+
+        @Override
+        protected void hookOnError(Throwable throwable) {
+            error.set(throwable);
+        }
+    }
+}
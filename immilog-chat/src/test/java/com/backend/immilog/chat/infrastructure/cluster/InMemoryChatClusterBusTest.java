@@ -0,0 +1,79 @@
+package com.backend.immilog.chat.infrastructure.cluster;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryChatClusterBusTest {
+    private static final String TOPIC = ChatTopics.room("room-1");
+
+    @Test
+    @DisplayName("구독과 해제가 겹쳐도 남아 있는 구독자의 토픽은 제거되지 않는다")
+    void keepsTopicWhileSubscriberRemains() throws Exception {
+        //given
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 500; i++) {
+                var bus = new InMemoryChatClusterBus();
+                List<String> received = new CopyOnWriteArrayList<>();
+                var start = new CountDownLatch(1);
+
+                //when
+                Future<?> leaving = executor.submit(() -> {
+                    await(start);
+                    bus.subscribe(TOPIC).subscribe().dispose();
+                });
+                var staying = executor.submit(() -> {
+                    await(start);
+                    return bus.subscribe(TOPIC).subscribe(received::add);
+                });
+                start.countDown();
+                leaving.get(5, TimeUnit.SECONDS);
+                var subscription = staying.get(5, TimeUnit.SECONDS);
+                bus.publish(TOPIC, "hello").block();
+
+                //then
+                assertThat(received).as("iteration %d", i).containsExactly("hello");
+                assertThat(bus.topicCount()).isEqualTo(1);
+                subscription.dispose();
+                assertThat(bus.topicCount()).isZero();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 토픽의 구독자가 모두 떠나야 토픽을 제거한다")
+    void removesTopicAfterLastSubscriber() {
+        //given
+        var bus = new InMemoryChatClusterBus();
+        var first = bus.subscribe(TOPIC).subscribe();
+        var second = bus.subscribe(TOPIC).subscribe();
+
+        //when
+        first.dispose();
+        int topicsWhileSubscribed = bus.topicCount();
+        second.dispose();
+
+        //then
+        assertThat(topicsWhileSubscribed).isEqualTo(1);
+        assertThat(bus.topicCount()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
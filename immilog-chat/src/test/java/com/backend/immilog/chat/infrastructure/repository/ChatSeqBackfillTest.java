@@ -0,0 +1,56 @@
+package com.backend.immilog.chat.infrastructure.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatSeqBackfillTest {
+
+    @Test
+    @DisplayName("이전 메시지는 최신 메시지부터 0, -1, -2 순으로 순번을 받는다")
+    void assignsDescendingSeqFromNewest() {
+        //given
+        var allocator = new ChatSeqBackfill.LegacySeqAllocator(0L);
+
+        //when
+        long newest = allocator.next(false);
+        long older = allocator.next(false);
+        long oldest = allocator.next(false);
+
+        //then
+        assertThat(newest).isZero();
+        assertThat(older).isEqualTo(-1L);
+        assertThat(oldest).isEqualTo(-2L);
+    }
+
+    @Test
+    @DisplayName("시스템 메시지는 순번을 소비하지 않고 바로 앞 메시지와 같은 순번을 받는다")
+    void systemMessageSharesPrecedingSeq() {
+        //given
+        var allocator = new ChatSeqBackfill.LegacySeqAllocator(0L);
+
+        //when
+        long join = allocator.next(true);
+        long text = allocator.next(false);
+        long olderText = allocator.next(false);
+
+        //then
+        assertThat(join).isZero();
+        assertThat(text).isZero();
+        assertThat(olderText).isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("중단된 이관은 이미 부여한 순번 바로 앞부터 이어서 부여한다")
+    void resumesBelowAssignedSeq() {
+        //given
+        var allocator = new ChatSeqBackfill.LegacySeqAllocator(-5L);
+
+        //when
+        long seq = allocator.next(false);
+
+        //then
+        assertThat(seq).isEqualTo(-5L);
+    }
+}
@@ -5,16 +5,26 @@ import com.backend.immilog.comment.domain.repositories.CommentRepository;
 import com.backend.immilog.comment.presentation.payload.CommentResponse;
 import com.backend.immilog.interaction.domain.model.InteractionStatus;
 import com.backend.immilog.interaction.domain.model.InteractionType;
+import com.backend.immilog.interaction.domain.model.InteractionUser;
 import com.backend.immilog.interaction.domain.repositories.InteractionUserRepository;
+import com.backend.immilog.shared.enums.ContentType;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class CommentQueryService {
+    private static final String ROOT_KEY = "ROOT";
+
     private final CommentRepository commentRepository;
     private final InteractionUserRepository interactionUserRepository;
 
@@ -33,60 +43,75 @@ public class CommentQueryService {
     }
 
     private List<CommentResponse.CommentInformation> buildCommentHierarchy(List<CommentResult> comments) {
+        if (comments.isEmpty()) {
+            return List.of();
+        }
+
         // parentId별로 그룹핑
         Map<String, List<CommentResult>> commentsByParentId = comments.stream()
-                .collect(Collectors.groupingBy(comment -> 
-                    comment.parentId() != null ? comment.parentId() : "ROOT"));
+                .collect(Collectors.groupingBy(comment ->
+                    comment.parentId() != null ? comment.parentId() : ROOT_KEY));
+
+        // 스레드 전체 댓글의 좋아요/북마크를 한 번의 IN 쿼리로 조회 후 댓글별 그룹핑
+        var commentIds = comments.stream().map(CommentResult::id).toList();
+        Map<String, List<InteractionUser>> interactionsByCommentId = interactionUserRepository
+                .findByPostIdListAndContentTypeAndInteractionStatus(
+                        commentIds,
+                        ContentType.COMMENT,
+                        InteractionStatus.ACTIVE
+                )
+                .stream()
+                .collect(Collectors.groupingBy(InteractionUser::postId));
 
         // 최상위 댓글들 (parentId가 null인 것들)
-        List<CommentResult> rootComments = commentsByParentId.getOrDefault("ROOT", new ArrayList<>());
+        List<CommentResult> rootComments = commentsByParentId.getOrDefault(ROOT_KEY, List.of());
+
+        // 부모가 자식보다 먼저 오도록 순회 순서 수집 (재귀 없이 스택 사용)
+        List<CommentResult> visitOrder = new ArrayList<>(comments.size());
+        Set<String> visited = new HashSet<>();
+        Deque<CommentResult> stack = new ArrayDeque<>(rootComments);
+        while (!stack.isEmpty()) {
+            var comment = stack.pop();
+            if (!visited.add(comment.id())) {
+                continue;
+            }
+            visitOrder.add(comment);
+            stack.addAll(commentsByParentId.getOrDefault(comment.id(), List.of()));
+        }
+
+        // 역순으로 조립하면 대댓글이 항상 부모보다 먼저 만들어짐
+        Map<String, CommentResponse.CommentInformation> built = new HashMap<>(visitOrder.size() * 2);
+        for (int i = visitOrder.size() - 1; i >= 0; i--) {
+            var comment = visitOrder.get(i);
+            var replyInfos = commentsByParentId.getOrDefault(comment.id(), List.of()).stream()
+                    .map(reply -> built.get(reply.id()))
+                    .filter(Objects::nonNull)
+                    .toList();
+            var interactions = interactionsByCommentId.getOrDefault(comment.id(), List.of());
+            built.put(comment.id(), toCommentInformation(comment, interactions, replyInfos));
+        }
 
-        // 계층구조 빌드
         return rootComments.stream()
-                .map(rootComment -> buildCommentWithReplies(rootComment, commentsByParentId))
+                .map(rootComment -> built.get(rootComment.id()))
+                .filter(Objects::nonNull)
                 .toList();
     }
 
-    private CommentResponse.CommentInformation buildCommentWithReplies(
-            CommentResult comment, 
-            Map<String, List<CommentResult>> commentsByParentId
+    private CommentResponse.CommentInformation toCommentInformation(
+            CommentResult comment,
+            List<InteractionUser> interactions,
+            List<CommentResponse.CommentInformation> replyInfos
     ) {
-        // 현재 댓글의 대댓글들 조회
-        List<CommentResult> replies = commentsByParentId.getOrDefault(comment.id(), new ArrayList<>());
-        
-        // 대댓글들을 재귀적으로 처리
-        List<CommentResponse.CommentInformation> replyInfos = replies.stream()
-                .map(reply -> buildCommentWithReplies(reply, commentsByParentId))
-                .toList();
-
-        // 댓글 좋아요 수 실시간 계산
-        Long likeCount = interactionUserRepository.countByCommentIdAndInteractionTypeAndInteractionStatus(
-                comment.id(),
-                InteractionType.LIKE,
-                InteractionStatus.ACTIVE
-        );
-
-        // 댓글 좋아요 사용자 목록 조회
-        var likeUsers = interactionUserRepository.findByPostIdListAndContentTypeAndInteractionStatus(
-                List.of(comment.id()),
-                com.backend.immilog.shared.enums.ContentType.COMMENT,
-                InteractionStatus.ACTIVE
-        ).stream()
+        var likeUsers = interactions.stream()
                 .filter(interaction -> InteractionType.LIKE.equals(interaction.interactionType()))
-                .map(interaction -> interaction.userId())
+                .map(InteractionUser::userId)
                 .toList();
 
-        // 댓글 북마크 사용자 목록 조회
-        var bookmarkUsers = interactionUserRepository.findByPostIdListAndContentTypeAndInteractionStatus(
-                List.of(comment.id()),
-                com.backend.immilog.shared.enums.ContentType.COMMENT,
-                InteractionStatus.ACTIVE
-        ).stream()
+        var bookmarkUsers = interactions.stream()
                 .filter(interaction -> InteractionType.BOOKMARK.equals(interaction.interactionType()))
-                .map(interaction -> interaction.userId())
+                .map(InteractionUser::userId)
                 .toList();
 
-        // CommentInformation 생성
         return new CommentResponse.CommentInformation(
                 comment.id(),
                 comment.userId(),
@@ -99,7 +124,7 @@ public class CommentQueryService {
                 comment.parentId(),
                 comment.referenceType(),
                 comment.replyCount(),
-                likeCount.intValue(),
+                likeUsers.size(),
                 likeUsers,
                 bookmarkUsers,
                 comment.status(),
@@ -114,15 +139,17 @@ public class CommentQueryService {
     }
 
     public long getCommentCountByPostId(String postId) {
-        return commentRepository.findCommentsByPostId(postId).size();
+        return commentRepository.countCommentsByPostIds(List.of(postId)).getOrDefault(postId, 0L);
     }
 
     public Map<String, Long> getCommentCountsByPostIds(List<String> postIds) {
-        return postIds.stream()
-                .distinct()
+        var distinctPostIds = postIds.stream().distinct().toList();
+        var counts = commentRepository.countCommentsByPostIds(distinctPostIds);
+        // 댓글이 없는 게시물은 GROUP BY 결과에 없으므로 0으로 채움
+        return distinctPostIds.stream()
                 .collect(Collectors.toMap(
                         postId -> postId,
-                        this::getCommentCountByPostId
+                        postId -> counts.getOrDefault(postId, 0L)
                 ));
     }
 }
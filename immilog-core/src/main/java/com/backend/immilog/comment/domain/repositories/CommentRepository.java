@@ -4,6 +4,7 @@ import com.backend.immilog.comment.application.dto.CommentResult;
 import com.backend.immilog.comment.domain.model.Comment;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface CommentRepository {
@@ -16,4 +17,6 @@ public interface CommentRepository {
     void deleteById(String commentId);
 
     CommentResult getCommentById(String commentId);
+
+    Map<String, Long> countCommentsByPostIds(List<String> postIds);
 }
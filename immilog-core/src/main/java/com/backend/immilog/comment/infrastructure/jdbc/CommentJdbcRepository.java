@@ -8,7 +8,10 @@ import org.springframework.stereotype.Repository;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Repository
 public class CommentJdbcRepository {
@@ -93,6 +96,33 @@ public class CommentJdbcRepository {
         return jdbcTemplate.queryForObject(sql, this::mapToCommentResult, commentId);
     }
 
+    public Map<String, Long> countCommentsByPostIds(List<String> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+
+        String inClause = postIds.stream()
+                .map(id -> "?")
+                .collect(Collectors.joining(", "));
+
+        var sql = """
+                SELECT c.post_id, COUNT(*) AS comment_count
+                FROM comment c
+                WHERE c.post_id IN (%s) AND c.status = 'NORMAL'
+                GROUP BY c.post_id
+                """.formatted(inClause);
+
+        Map<String, Long> counts = new HashMap<>();
+        jdbcTemplate.query(
+                sql,
+                rs -> {
+                    counts.put(rs.getString("post_id"), rs.getLong("comment_count"));
+                },
+                postIds.toArray()
+        );
+        return counts;
+    }
+
     private ReferenceType parseReferenceType(String referenceTypeString) {
         System.out.println("DEBUG: parseReferenceType called with: '" + referenceTypeString + "' (length: " + 
                           (referenceTypeString == null ? "null" : referenceTypeString.length()) + ")");
@@ -9,6 +9,7 @@ import com.backend.immilog.comment.infrastructure.jpa.CommentJpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -49,4 +50,9 @@ public class CommentRepositoryImpl implements CommentRepository {
     public CommentResult getCommentById(String commentId) {
         return commentJdbcRepository.findCommentById(commentId);
     }
+
+    @Override
+    public Map<String, Long> countCommentsByPostIds(List<String> postIds) {
+        return commentJdbcRepository.countCommentsByPostIds(postIds);
+    }
 }
@@ -1,7 +1,9 @@
 package com.backend.immilog.interaction.application.services;
 
+import com.backend.immilog.interaction.domain.event.InteractionToggledEvent;
 import com.backend.immilog.interaction.domain.model.InteractionUser;
 import com.backend.immilog.interaction.domain.repositories.InteractionUserRepository;
+import com.backend.immilog.shared.domain.event.DomainEvents;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,21 +15,50 @@ public class InteractionUserCommandService {
         this.interactionUserRepository = interactionUserRepository;
     }
 
+    /**
+     * 인터랙션 상태를 upsert로 뒤집고, 같은 트랜잭션에서 대상의 카운터를 +1/-1 갱신
+     */
     @Transactional
     public InteractionUser toggleInteraction(InteractionUser interactionUser) {
-        return interactionUserRepository
-                .findByUserIdAndInteractionTypeAndContentTypeAndPostId(
-                        interactionUser.userId(),
-                        interactionUser.interactionType(),
-                        interactionUser.contentType(),
-                        interactionUser.postId()
-                )
-                .map(existing -> interactionUserRepository.save(existing.toggleStatus()))
-                .orElseGet(() -> interactionUserRepository.save(interactionUser));
+        var saved = interactionUserRepository.toggle(interactionUser);
+        applyCountChange(saved, saved.interactionStatus().isActive());
+        return saved;
     }
 
+    /**
+     * 카운터 도입 전 데이터나 어긋난 카운터를 인터랙션 행 기준으로 다시 계산
+     */
+    @Transactional
+    public int recountCounts() {
+        return interactionUserRepository.recountCounts();
+    }
+
+    /**
+     * ACTIVE 행을 지우면 토글 해제와 같이 같은 트랜잭션에서 카운터를 1 내리고 이벤트 발행
+     */
     @Transactional
     public void deleteInteraction(String interactionId) {
-        interactionUserRepository.deleteById(interactionId);
+        interactionUserRepository.deleteById(interactionId)
+                .filter(deleted -> deleted.interactionStatus().isActive())
+                .ifPresent(deleted -> applyCountChange(deleted, false));
+    }
+
+    private void applyCountChange(
+            InteractionUser interactionUser,
+            boolean active
+    ) {
+        interactionUserRepository.increaseCount(
+                interactionUser.contentType(),
+                interactionUser.postId(),
+                interactionUser.interactionType(),
+                active ? 1L : -1L
+        );
+        DomainEvents.raise(new InteractionToggledEvent(
+                interactionUser.postId(),
+                interactionUser.userId(),
+                interactionUser.contentType().name(),
+                interactionUser.interactionType().name(),
+                active
+        ));
     }
 }
\ No newline at end of file
@@ -27,6 +27,22 @@ public class InteractionUserQueryService {
                 interactionStatus);
     }
 
+    /**
+     * 한 사용자가 주어진 게시물들에 남긴 ACTIVE 인터랙션만 조회 (게시물당 최대 좋아요/북마크 각 1건)
+     */
+    public List<InteractionUser> getUserInteractions(
+            String userId,
+            List<String> postIdList,
+            ContentType contentType
+    ) {
+        return interactionUserRepository.findByUserIdAndPostIdListAndContentTypeAndInteractionStatus(
+                userId,
+                postIdList,
+                contentType,
+                InteractionStatus.ACTIVE
+        );
+    }
+
     public List<InteractionUser> getBookmarkInteractions(
             String userId,
             ContentType contentType,
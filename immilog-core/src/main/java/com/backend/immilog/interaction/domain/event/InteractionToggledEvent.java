@@ -0,0 +1,58 @@
+package com.backend.immilog.interaction.domain.event;
+
+import com.backend.immilog.shared.domain.event.DomainEvent;
+
+import java.time.LocalDateTime;
+
+public class InteractionToggledEvent implements DomainEvent {
+    private String postId;
+    private String userId;
+    private String contentType;
+    private String interactionType;
+    private boolean active;
+    private LocalDateTime occurredAt;
+
+    public InteractionToggledEvent() {
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    public InteractionToggledEvent(
+            String postId,
+            String userId,
+            String contentType,
+            String interactionType,
+            boolean active
+    ) {
+        this.postId = postId;
+        this.userId = userId;
+        this.contentType = contentType;
+        this.interactionType = interactionType;
+        this.active = active;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    public String getPostId() {
+        return postId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getInteractionType() {
+        return interactionType;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    @Override
+    public LocalDateTime occurredAt() {
+        return occurredAt;
+    }
+}
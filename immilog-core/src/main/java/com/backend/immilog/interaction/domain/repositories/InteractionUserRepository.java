@@ -15,6 +15,13 @@ public interface InteractionUserRepository {
             InteractionStatus interactionStatus
     );
 
+    List<InteractionUser> findByUserIdAndPostIdListAndContentTypeAndInteractionStatus(
+            String userId,
+            List<String> postIdList,
+            ContentType contentType,
+            InteractionStatus interactionStatus
+    );
+
     List<InteractionUser> findBookmarksByUserIdAndContentTypeAndInteractionStatus(
             String userId,
             ContentType contentType,
@@ -25,7 +32,27 @@ public interface InteractionUserRepository {
 
     InteractionUser save(InteractionUser interactionUser);
 
-    void deleteById(String id);
+    /**
+     * 같은 (사용자, 대상, 대상 타입, 인터랙션 타입)의 상태를 한 번의 upsert로 뒤집고 결과를 반환
+     */
+    InteractionUser toggle(InteractionUser interactionUser);
+
+    /**
+     * 대상의 인터랙션 카운터에 증감분 반영 (카운터가 있는 게시물만 대상)
+     */
+    void increaseCount(
+            ContentType contentType,
+            String postId,
+            InteractionType interactionType,
+            long delta
+    );
+
+    int recountCounts();
+
+    /**
+     * 행을 삭제하고 실제로 지운 행을 반환 (없으면 empty)
+     */
+    Optional<InteractionUser> deleteById(String id);
 
     Optional<InteractionUser> findByUserIdAndInteractionTypeAndContentTypeAndPostId(
             String userId,
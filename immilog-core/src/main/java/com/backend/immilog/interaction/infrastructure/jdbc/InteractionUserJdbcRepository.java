@@ -0,0 +1,143 @@
+package com.backend.immilog.interaction.infrastructure.jdbc;
+
+import com.aventrix.jnanoid.jnanoid.NanoIdUtils;
+import com.backend.immilog.interaction.domain.model.InteractionStatus;
+import com.backend.immilog.interaction.domain.model.InteractionType;
+import com.backend.immilog.interaction.domain.model.InteractionUser;
+import com.backend.immilog.shared.enums.ContentType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Optional;
+
+@Repository
+public class InteractionUserJdbcRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    public InteractionUserJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * (user_id, post_id, post_type, interaction_type) 유니크 키에 대한 단일 upsert
+     * 처음이면 ACTIVE로 추가하고, 이미 있으면 상태를 뒤집음
+     * 조회 후 저장하지 않으므로 동시 요청에도 행이 중복되지 않고, 같은 키의 토글은 행 락으로 직렬화됨
+     */
+    public InteractionUser toggle(InteractionUser interactionUser) {
+        jdbcTemplate.update(
+                """
+                        INSERT INTO interaction_user
+                            (interaction_user_id, user_id, post_id, post_type, interaction_type, interaction_status, created_at)
+                        VALUES (?, ?, ?, ?, ?, 'ACTIVE', ?)
+                        ON DUPLICATE KEY UPDATE
+                            interaction_status = IF(interaction_status = 'ACTIVE', 'INACTIVE', 'ACTIVE'),
+                            created_at = VALUES(created_at)
+                        """,
+                NanoIdUtils.randomNanoId(),
+                interactionUser.userId(),
+                interactionUser.postId(),
+                interactionUser.contentType().name(),
+                interactionUser.interactionType().name(),
+                Timestamp.valueOf(interactionUser.createdAt())
+        );
+        // upsert가 잡은 행 락 안에서 읽으므로 방금 반영한 상태가 보임
+        return jdbcTemplate.queryForObject(
+                """
+                        SELECT interaction_user_id, user_id, post_id, post_type, interaction_type, interaction_status, created_at
+                        FROM interaction_user
+                        WHERE user_id = ? AND post_id = ? AND post_type = ? AND interaction_type = ?
+                        """,
+                this::mapToInteractionUser,
+                interactionUser.userId(),
+                interactionUser.postId(),
+                interactionUser.contentType().name(),
+                interactionUser.interactionType().name()
+        );
+    }
+
+    /**
+     * 행 락을 잡고 읽은 뒤 삭제하고, 실제로 지운 행을 반환
+     * 같은 행을 동시에 삭제하면 뒤의 요청은 락을 기다린 뒤 행을 찾지 못하므로 카운터가 두 번 내려가지 않음
+     */
+    public Optional<InteractionUser> delete(String interactionId) {
+        var deleted = jdbcTemplate.query(
+                """
+                        SELECT interaction_user_id, user_id, post_id, post_type, interaction_type, interaction_status, created_at
+                        FROM interaction_user
+                        WHERE interaction_user_id = ?
+                        FOR UPDATE
+                        """,
+                this::mapToInteractionUser,
+                interactionId
+        ).stream().findFirst();
+        deleted.ifPresent(interactionUser -> jdbcTemplate.update(
+                "DELETE FROM interaction_user WHERE interaction_user_id = ?",
+                interactionUser.id()
+        ));
+        return deleted;
+    }
+
+    /**
+     * 게시물의 좋아요/북마크 카운터에 증감분 반영 (0 미만으로 내려가지 않음)
+     */
+    public void increasePostCount(
+            String postId,
+            InteractionType interactionType,
+            long delta
+    ) {
+        jdbcTemplate.update(
+                String.format("""
+                        UPDATE post
+                        SET %1$s = GREATEST(COALESCE(%1$s, 0) + ?, 0)
+                        WHERE post_id = ?
+                        """, postCountColumn(interactionType)),
+                delta,
+                postId
+        );
+    }
+
+    /**
+     * ACTIVE 인터랙션 행으로 모든 게시물의 카운터를 다시 계산 (카운터 도입 전 데이터 보정용)
+     */
+    public int recountPostCounts() {
+        return jdbcTemplate.update("""
+                UPDATE post p
+                LEFT JOIN (
+                    SELECT post_id,
+                           SUM(interaction_type = 'LIKE') AS like_count,
+                           SUM(interaction_type = 'BOOKMARK') AS bookmark_count
+                    FROM interaction_user
+                    WHERE post_type = 'POST' AND interaction_status = 'ACTIVE'
+                    GROUP BY post_id
+                ) c ON c.post_id = p.post_id
+                SET p.like_count = COALESCE(c.like_count, 0),
+                    p.bookmark_count = COALESCE(c.bookmark_count, 0)
+                """);
+    }
+
+    private static String postCountColumn(InteractionType interactionType) {
+        return switch (interactionType) {
+            case LIKE -> "like_count";
+            case BOOKMARK -> "bookmark_count";
+        };
+    }
+
+    private InteractionUser mapToInteractionUser(
+            ResultSet rs,
+            int rowNum
+    ) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new InteractionUser(
+                rs.getString("interaction_user_id"),
+                rs.getString("user_id"),
+                rs.getString("post_id"),
+                ContentType.valueOf(rs.getString("post_type")),
+                InteractionType.valueOf(rs.getString("interaction_type")),
+                InteractionStatus.valueOf(rs.getString("interaction_status")),
+                createdAt == null ? null : createdAt.toLocalDateTime()
+        );
+    }
+}
@@ -12,7 +12,16 @@ import java.time.LocalDateTime;
 
 @DynamicUpdate
 @Entity
-@Table(name = "interaction_user")
+@Table(
+        name = "interaction_user",
+        uniqueConstraints = {
+                // 토글 upsert 대상 키, 같은 사용자의 같은 인터랙션은 한 행만 존재
+                @UniqueConstraint(
+                        name = "uk_interaction_user_target",
+                        columnNames = {"user_id", "post_id", "post_type", "interaction_type"}
+                )
+        }
+)
 public class InteractionUserEntity {
     @Id
     @Column(name = "interaction_user_id")
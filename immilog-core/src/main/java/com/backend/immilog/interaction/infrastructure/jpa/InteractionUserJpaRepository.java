@@ -19,6 +19,14 @@ public interface InteractionUserJpaRepository extends JpaRepository<InteractionU
             ContentType contentType
     );
 
+    // (user_id, post_id, ...) 유니크 키 앞부분으로 조회
+    List<InteractionUserEntity> findByUserIdAndPostIdInAndContentTypeAndInteractionStatus(
+            String userId,
+            List<String> postIdList,
+            ContentType contentType,
+            InteractionStatus interactionStatus
+    );
+
     Optional<InteractionUserEntity> findByUserIdAndInteractionTypeAndContentTypeAndPostId(
             String userId,
             InteractionType interactionType,
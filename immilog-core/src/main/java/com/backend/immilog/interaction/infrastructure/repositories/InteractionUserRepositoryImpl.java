@@ -4,6 +4,7 @@ import com.backend.immilog.interaction.domain.model.InteractionStatus;
 import com.backend.immilog.interaction.domain.model.InteractionType;
 import com.backend.immilog.interaction.domain.model.InteractionUser;
 import com.backend.immilog.interaction.domain.repositories.InteractionUserRepository;
+import com.backend.immilog.interaction.infrastructure.jdbc.InteractionUserJdbcRepository;
 import com.backend.immilog.interaction.infrastructure.jpa.InteractionUserEntity;
 import com.backend.immilog.interaction.infrastructure.jpa.InteractionUserJpaRepository;
 import com.backend.immilog.shared.enums.ContentType;
@@ -15,9 +16,14 @@ import java.util.Optional;
 @Repository
 public class InteractionUserRepositoryImpl implements InteractionUserRepository {
     private final InteractionUserJpaRepository interactionUserJpaRepository;
+    private final InteractionUserJdbcRepository interactionUserJdbcRepository;
 
-    public InteractionUserRepositoryImpl(InteractionUserJpaRepository interactionUserJpaRepository) {
+    public InteractionUserRepositoryImpl(
+            InteractionUserJpaRepository interactionUserJpaRepository,
+            InteractionUserJdbcRepository interactionUserJdbcRepository
+    ) {
         this.interactionUserJpaRepository = interactionUserJpaRepository;
+        this.interactionUserJdbcRepository = interactionUserJdbcRepository;
     }
 
     @Override
@@ -32,6 +38,24 @@ public class InteractionUserRepositoryImpl implements InteractionUserRepository
                 .toList();
     }
 
+    @Override
+    public List<InteractionUser> findByUserIdAndPostIdListAndContentTypeAndInteractionStatus(
+            String userId,
+            List<String> postIdList,
+            ContentType contentType,
+            InteractionStatus interactionStatus
+    ) {
+        return interactionUserJpaRepository.findByUserIdAndPostIdInAndContentTypeAndInteractionStatus(
+                        userId,
+                        postIdList,
+                        contentType,
+                        interactionStatus
+                )
+                .stream()
+                .map(InteractionUserEntity::toDomain)
+                .toList();
+    }
+
     @Override
     public List<InteractionUser> findBookmarksByUserIdAndContentTypeAndInteractionStatus(
             String userId,
@@ -57,8 +81,31 @@ public class InteractionUserRepositoryImpl implements InteractionUserRepository
     }
 
     @Override
-    public void deleteById(String id) {
-        interactionUserJpaRepository.deleteById(id);
+    public InteractionUser toggle(InteractionUser interactionUser) {
+        return interactionUserJdbcRepository.toggle(interactionUser);
+    }
+
+    @Override
+    public void increaseCount(
+            ContentType contentType,
+            String postId,
+            InteractionType interactionType,
+            long delta
+    ) {
+        if (contentType != ContentType.POST || delta == 0) {
+            return;
+        }
+        interactionUserJdbcRepository.increasePostCount(postId, interactionType, delta);
+    }
+
+    @Override
+    public int recountCounts() {
+        return interactionUserJdbcRepository.recountPostCounts();
+    }
+
+    @Override
+    public Optional<InteractionUser> deleteById(String id) {
+        return interactionUserJdbcRepository.delete(id);
     }
 
     @Override
@@ -0,0 +1,27 @@
+package com.backend.immilog.interaction.presentation.endpoint;
+
+import com.backend.immilog.interaction.application.services.InteractionUserCommandService;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 게시물 좋아요/북마크 카운터 운영용 관리 엔드포인트
+ * POST /actuator/interactioncounters : 인터랙션 행 기준으로 카운터 재계산
+ */
+@Component
+@Endpoint(id = "interactioncounters")
+public class InteractionCounterEndpoint {
+    private final InteractionUserCommandService interactionUserCommandService;
+
+    public InteractionCounterEndpoint(InteractionUserCommandService interactionUserCommandService) {
+        this.interactionUserCommandService = interactionUserCommandService;
+    }
+
+    @WriteOperation
+    public Map<String, Object> recount() {
+        return Map.of("updated", interactionUserCommandService.recountCounts());
+    }
+}
@@ -0,0 +1,23 @@
+package com.backend.immilog.post.application.dto;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 캐시 저장용 피드 페이지 (PageImpl은 역직렬화할 수 없으므로 내용과 전체 개수만 보관)
+ */
+public record CachedPostPage(
+        List<PostResult> content,
+        long totalElements
+) {
+    public static CachedPostPage from(Page<PostResult> page) {
+        return new CachedPostPage(page.getContent(), page.getTotalElements());
+    }
+
+    public Page<PostResult> toPage(Pageable pageable) {
+        return new PageImpl<>(content, pageable, totalElements);
+    }
+}
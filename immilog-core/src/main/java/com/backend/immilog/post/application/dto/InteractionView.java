@@ -0,0 +1,15 @@
+package com.backend.immilog.post.application.dto;
+
+/**
+ * 게시물 응답의 인터랙션 표현 방식
+ * FULL: 좋아요/북마크 사용자 ID 전체 목록 (기존 응답)
+ * SUMMARY: 좋아요/북마크 수와 조회한 사용자의 likedByMe/bookmarkedByMe 여부만 포함
+ */
+public enum InteractionView {
+    FULL,
+    SUMMARY;
+
+    public boolean includesUsers() {
+        return this == FULL;
+    }
+}
@@ -0,0 +1,44 @@
+package com.backend.immilog.post.application.dto;
+
+import org.springframework.util.DigestUtils;
+
+/**
+ * 응답 본문을 미리 직렬화해 둔 인기 게시물 목록
+ * etag는 본문 내용으로 만들기 때문에 버전이 올라가도 목록이 같으면 그대로 유지됨
+ */
+public record PopularPostSnapshot(
+        byte[] body,
+        String etag,
+        long version,
+        long builtAt
+) {
+    public static PopularPostSnapshot of(
+            byte[] body,
+            long version,
+            long builtAt
+    ) {
+        return new PopularPostSnapshot(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"", version, builtAt);
+    }
+
+    /**
+     * If-None-Match 값(쉼표로 구분된 목록, 약한 비교, *)과 일치하는지 확인
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            var tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -14,10 +14,13 @@ public record PostResult(
         Long commentCount,
         Long viewCount,
         Long likeCount,
+        Long bookmarkCount,
         List<String> tags,
         List<String> attachments,
         List<String> likeUsers,
         List<String> bookmarkUsers,
+        Boolean likedByMe,
+        Boolean bookmarkedByMe,
         String isPublic,
         String country,
         String region,
@@ -39,10 +42,13 @@ public record PostResult(
                 this.commentCount,
                 this.viewCount,
                 this.likeCount,
+                this.bookmarkCount,
                 this.tags,
                 this.attachments,
                 this.likeUsers,
                 this.bookmarkUsers,
+                this.likedByMe,
+                this.bookmarkedByMe,
                 this.isPublic,
                 this.country,
                 this.region,
@@ -55,4 +61,111 @@ public record PostResult(
                 this.keyword
         );
     }
+
+    public static Builder builder(PostResult base) {
+        return new Builder(base);
+    }
+
+    /**
+     * 조회 결과에 인터랙션/리소스/집계 값을 채워 한 번에 생성하기 위한 빌더
+     */
+    public static final class Builder {
+        private final PostResult base;
+        private Long commentCount;
+        private Long likeCount;
+        private Long bookmarkCount;
+        private List<String> tags;
+        private List<String> attachments;
+        private List<String> likeUsers;
+        private List<String> bookmarkUsers;
+        private Boolean likedByMe;
+        private Boolean bookmarkedByMe;
+
+        private Builder(PostResult base) {
+            this.base = base;
+            this.commentCount = base.commentCount;
+            this.likeCount = base.likeCount;
+            this.bookmarkCount = base.bookmarkCount;
+            this.tags = base.tags;
+            this.attachments = base.attachments;
+            this.likeUsers = base.likeUsers;
+            this.bookmarkUsers = base.bookmarkUsers;
+            this.likedByMe = base.likedByMe;
+            this.bookmarkedByMe = base.bookmarkedByMe;
+        }
+
+        public Builder commentCount(Long commentCount) {
+            this.commentCount = commentCount;
+            return this;
+        }
+
+        public Builder likeCount(Long likeCount) {
+            this.likeCount = likeCount;
+            return this;
+        }
+
+        public Builder bookmarkCount(Long bookmarkCount) {
+            this.bookmarkCount = bookmarkCount;
+            return this;
+        }
+
+        public Builder tags(List<String> tags) {
+            this.tags = tags;
+            return this;
+        }
+
+        public Builder attachments(List<String> attachments) {
+            this.attachments = attachments;
+            return this;
+        }
+
+        public Builder likeUsers(List<String> likeUsers) {
+            this.likeUsers = likeUsers;
+            return this;
+        }
+
+        public Builder bookmarkUsers(List<String> bookmarkUsers) {
+            this.bookmarkUsers = bookmarkUsers;
+            return this;
+        }
+
+        public Builder likedByMe(Boolean likedByMe) {
+            this.likedByMe = likedByMe;
+            return this;
+        }
+
+        public Builder bookmarkedByMe(Boolean bookmarkedByMe) {
+            this.bookmarkedByMe = bookmarkedByMe;
+            return this;
+        }
+
+        public PostResult build() {
+            return new PostResult(
+                    base.postId,
+                    base.userId,
+                    base.userProfileUrl,
+                    base.userNickname,
+                    commentCount,
+                    base.viewCount,
+                    likeCount,
+                    bookmarkCount,
+                    tags,
+                    attachments,
+                    likeUsers,
+                    bookmarkUsers,
+                    likedByMe,
+                    bookmarkedByMe,
+                    base.isPublic,
+                    base.country,
+                    base.region,
+                    base.category,
+                    base.status,
+                    base.createdAt,
+                    base.updatedAt,
+                    base.title,
+                    base.content,
+                    base.keyword
+            );
+        }
+    }
 }
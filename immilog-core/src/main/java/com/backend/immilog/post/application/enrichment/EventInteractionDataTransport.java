@@ -0,0 +1,60 @@
+package com.backend.immilog.post.application.enrichment;
+
+import com.backend.immilog.post.domain.events.PostEvent;
+import com.backend.immilog.shared.config.properties.PostEnrichmentProperties;
+import com.backend.immilog.shared.domain.event.DomainEvents;
+import com.backend.immilog.shared.domain.model.InteractionData;
+import com.backend.immilog.shared.enums.ContentType;
+import com.backend.immilog.shared.infrastructure.event.EventResultStorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 인터랙션 모듈이 별도 프로세스로 배포된 경우를 위한 Redis Streams 요청/응답 전송
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "post.enrichment", name = "transport", havingValue = "event")
+public class EventInteractionDataTransport implements InteractionDataTransport {
+    private final EventResultStorageService eventResultStorageService;
+    private final PostEnrichmentProperties postEnrichmentProperties;
+
+    public EventInteractionDataTransport(
+            EventResultStorageService eventResultStorageService,
+            PostEnrichmentProperties postEnrichmentProperties
+    ) {
+        this.eventResultStorageService = eventResultStorageService;
+        this.postEnrichmentProperties = postEnrichmentProperties;
+    }
+
+    @Override
+    public List<InteractionData> fetchInteractions(
+            List<String> postIds,
+            ContentType contentType
+    ) {
+        String requestId = eventResultStorageService.generateRequestId("interaction");
+        log.debug("Requesting interaction data for {} posts with requestId: {}", postIds.size(), requestId);
+
+        eventResultStorageService.registerEventProcessing(requestId);
+        DomainEvents.raise(new PostEvent.InteractionDataRequested(requestId, postIds, contentType.name()));
+
+        return eventResultStorageService.waitForInteractionData(requestId, postEnrichmentProperties.timeout());
+    }
+
+    /**
+     * 사용자별 조회 이벤트가 없으므로 게시물 인터랙션 응답에서 해당 사용자의 것만 골라 사용
+     */
+    @Override
+    public List<InteractionData> fetchViewerInteractions(
+            String userId,
+            List<String> postIds,
+            ContentType contentType
+    ) {
+        return fetchInteractions(postIds, contentType).stream()
+                .filter(interaction -> userId.equals(interaction.userId()))
+                .toList();
+    }
+}
@@ -0,0 +1,35 @@
+package com.backend.immilog.post.application.enrichment;
+
+import com.backend.immilog.shared.domain.model.InteractionData;
+import com.backend.immilog.shared.enums.ContentType;
+
+import java.util.List;
+
+/**
+ * 게시물 목록의 인터랙션 데이터를 가져오는 전송 계층 추상화
+ * 같은 JVM에서는 직접 조회하고, 인터랙션 모듈이 분리 배포되면 이벤트 기반 요청/응답으로 교체할 수 있도록 설계
+ */
+public interface InteractionDataTransport {
+
+    /**
+     * 게시물 ID 목록에 대한 ACTIVE 상태의 인터랙션 데이터를 조회합니다.
+     * @param postIds 조회할 게시물 ID 목록
+     * @param contentType 컨텐츠 타입
+     */
+    List<InteractionData> fetchInteractions(
+            List<String> postIds,
+            ContentType contentType
+    );
+
+    /**
+     * 한 사용자가 게시물 ID 목록에 남긴 ACTIVE 상태의 인터랙션만 조회합니다.
+     * @param userId 조회한 사용자 ID
+     * @param postIds 조회할 게시물 ID 목록
+     * @param contentType 컨텐츠 타입
+     */
+    List<InteractionData> fetchViewerInteractions(
+            String userId,
+            List<String> postIds,
+            ContentType contentType
+    );
+}
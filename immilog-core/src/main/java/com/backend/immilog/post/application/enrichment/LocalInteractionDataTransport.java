@@ -0,0 +1,59 @@
+package com.backend.immilog.post.application.enrichment;
+
+import com.backend.immilog.interaction.application.services.InteractionUserQueryService;
+import com.backend.immilog.interaction.domain.model.InteractionStatus;
+import com.backend.immilog.interaction.domain.model.InteractionUser;
+import com.backend.immilog.shared.domain.model.InteractionData;
+import com.backend.immilog.shared.enums.ContentType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(prefix = "post.enrichment", name = "transport", havingValue = "local", matchIfMissing = true)
+public class LocalInteractionDataTransport implements InteractionDataTransport {
+    private final InteractionUserQueryService interactionUserQueryService;
+
+    public LocalInteractionDataTransport(InteractionUserQueryService interactionUserQueryService) {
+        this.interactionUserQueryService = interactionUserQueryService;
+    }
+
+    @Override
+    public List<InteractionData> fetchInteractions(
+            List<String> postIds,
+            ContentType contentType
+    ) {
+        return interactionUserQueryService.getInteractionUsersByPostIdListAndActive(
+                        postIds,
+                        contentType,
+                        InteractionStatus.ACTIVE
+                )
+                .stream()
+                .map(this::convertToInteractionData)
+                .toList();
+    }
+
+    @Override
+    public List<InteractionData> fetchViewerInteractions(
+            String userId,
+            List<String> postIds,
+            ContentType contentType
+    ) {
+        return interactionUserQueryService.getUserInteractions(userId, postIds, contentType)
+                .stream()
+                .map(this::convertToInteractionData)
+                .toList();
+    }
+
+    private InteractionData convertToInteractionData(InteractionUser interactionUser) {
+        return new InteractionData(
+                interactionUser.id(),
+                interactionUser.postId(),
+                interactionUser.userId(),
+                interactionUser.interactionStatus().name(),
+                interactionUser.interactionType().name(),
+                interactionUser.contentType().name()
+        );
+    }
+}
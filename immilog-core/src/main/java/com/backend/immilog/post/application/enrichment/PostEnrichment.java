@@ -0,0 +1,20 @@
+package com.backend.immilog.post.application.enrichment;
+
+import com.backend.immilog.post.domain.model.resource.ContentResource;
+import com.backend.immilog.shared.domain.model.InteractionData;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시물 페이지 조립에 필요한 부가 데이터 묶음 (인터랙션, 리소스, 댓글 수)
+ */
+public record PostEnrichment(
+        List<InteractionData> interactions,
+        List<ContentResource> resources,
+        Map<String, Long> commentCounts
+) {
+    public static PostEnrichment empty() {
+        return new PostEnrichment(List.of(), List.of(), Map.of());
+    }
+}
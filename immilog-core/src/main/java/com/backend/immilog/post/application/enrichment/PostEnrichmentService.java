@@ -0,0 +1,136 @@
+package com.backend.immilog.post.application.enrichment;
+
+import com.backend.immilog.comment.application.services.CommentQueryService;
+import com.backend.immilog.post.application.dto.InteractionView;
+import com.backend.immilog.post.application.services.PostResourceQueryService;
+import com.backend.immilog.post.domain.model.resource.ContentResource;
+import com.backend.immilog.shared.config.properties.PostEnrichmentProperties;
+import com.backend.immilog.shared.domain.model.InteractionData;
+import com.backend.immilog.shared.enums.ContentType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * 게시물 페이지에 필요한 인터랙션, 리소스, 댓글 수를 배치 조회로 한 번에 가져옵니다.
+ * 게시물 조회가 끝나 커넥션을 반납한 뒤 트랜잭션 밖에서 호출되면 병렬로 조회하되, 동시에 커넥션을 잡는 조회 수를 maxConcurrentQueries로 제한합니다.
+ * 호출자가 트랜잭션(커넥션)을 잡고 있으면 커넥션을 더 빌리지 않도록 같은 스레드에서 순서대로 조회합니다.
+ */
+@Slf4j
+@Service
+public class PostEnrichmentService {
+    private final InteractionDataTransport interactionDataTransport;
+    private final PostResourceQueryService postResourceQueryService;
+    private final CommentQueryService commentQueryService;
+    private final Executor postEnrichmentExecutor;
+    private final Semaphore queryPermits;
+
+    public PostEnrichmentService(
+            InteractionDataTransport interactionDataTransport,
+            PostResourceQueryService postResourceQueryService,
+            CommentQueryService commentQueryService,
+            @Qualifier("postEnrichmentExecutor") Executor postEnrichmentExecutor,
+            PostEnrichmentProperties postEnrichmentProperties
+    ) {
+        this.interactionDataTransport = interactionDataTransport;
+        this.postResourceQueryService = postResourceQueryService;
+        this.commentQueryService = commentQueryService;
+        this.postEnrichmentExecutor = postEnrichmentExecutor;
+        this.queryPermits = new Semaphore(postEnrichmentProperties.maxConcurrentQueries());
+    }
+
+    public PostEnrichment enrich(
+            List<String> postIds,
+            ContentType contentType
+    ) {
+        return enrich(postIds, contentType, InteractionView.FULL);
+    }
+
+    /**
+     * SUMMARY 응답은 사용자 목록을 쓰지 않으므로 게시물 인터랙션 행을 조회하지 않음
+     */
+    public PostEnrichment enrich(
+            List<String> postIds,
+            ContentType contentType,
+            InteractionView interactionView
+    ) {
+        if (postIds == null || postIds.isEmpty()) {
+            return PostEnrichment.empty();
+        }
+
+        Supplier<List<InteractionData>> interactions = () -> fetchInteractions(postIds, contentType, interactionView);
+        Supplier<List<ContentResource>> resources = () -> postResourceQueryService.getResourcesByPostIdList(postIds, contentType);
+        Supplier<Map<String, Long>> commentCounts = () -> commentQueryService.getCommentCountsByPostIds(postIds);
+
+        PostEnrichment enrichment;
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // 다른 스레드에서 조회하면 호출자 커넥션과 별도로 풀 커넥션을 더 잡으므로 호출자 스레드에서 조회
+            enrichment = new PostEnrichment(interactions.get(), resources.get(), commentCounts.get());
+        } else {
+            var interactionsFuture = supplyBounded(interactions);
+            var resourcesFuture = supplyBounded(resources);
+            var commentCountsFuture = supplyBounded(commentCounts);
+            enrichment = new PostEnrichment(
+                    await(interactionsFuture),
+                    await(resourcesFuture),
+                    await(commentCountsFuture)
+            );
+        }
+        log.debug("Enriched {} posts: {} interactions, {} resources",
+                postIds.size(), enrichment.interactions().size(), enrichment.resources().size());
+        return enrichment;
+    }
+
+    private List<InteractionData> fetchInteractions(
+            List<String> postIds,
+            ContentType contentType,
+            InteractionView interactionView
+    ) {
+        if (!interactionView.includesUsers()) {
+            return List.of();
+        }
+        try {
+            return interactionDataTransport.fetchInteractions(postIds, contentType);
+        } catch (RuntimeException e) {
+            // 인터랙션 조회 실패 시 빈 목록으로 대체 (기존 이벤트 방식과 동일한 동작)
+            log.error("Failed to fetch interaction data for {} posts", postIds.size(), e);
+            return List.of();
+        }
+    }
+
+    private <T> CompletableFuture<T> supplyBounded(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                queryPermits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for an enrichment query slot", e);
+            }
+            try {
+                return query.get();
+            } finally {
+                queryPermits.release();
+            }
+        }, postEnrichmentExecutor);
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+}
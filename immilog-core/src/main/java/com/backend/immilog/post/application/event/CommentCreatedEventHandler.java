@@ -1,79 +1,118 @@
 package com.backend.immilog.post.application.event;
 
 import com.backend.immilog.comment.domain.event.CommentCreatedEvent;
+import com.backend.immilog.post.application.feed.PostFeedViewService;
 import com.backend.immilog.post.application.services.PostCommandService;
-import com.backend.immilog.post.application.services.PostQueryService;
+import com.backend.immilog.post.application.services.PostPopularityService;
 import com.backend.immilog.post.domain.events.PostCompensationEvent;
 import com.backend.immilog.shared.config.properties.EventProperties;
-import com.backend.immilog.shared.domain.event.DomainEventHandler;
+import com.backend.immilog.shared.domain.event.BatchDomainEventHandler;
 import com.backend.immilog.shared.domain.event.DomainEvents;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
-public class CommentCreatedEventHandler implements DomainEventHandler<CommentCreatedEvent> {
+public class CommentCreatedEventHandler implements BatchDomainEventHandler<CommentCreatedEvent> {
 
-    private final PostQueryService postQueryService;
     private final PostCommandService postCommandService;
+    private final PostPopularityService postPopularityService;
     private final EventProperties eventProperties;
+    private final PostFeedViewService postFeedViewService;
 
     public CommentCreatedEventHandler(
-            PostQueryService postQueryService,
             PostCommandService postCommandService,
-            EventProperties eventProperties
+            PostPopularityService postPopularityService,
+            EventProperties eventProperties,
+            PostFeedViewService postFeedViewService
     ) {
-        this.postQueryService = postQueryService;
         this.postCommandService = postCommandService;
+        this.postPopularityService = postPopularityService;
         this.eventProperties = eventProperties;
+        this.postFeedViewService = postFeedViewService;
     }
 
     @Override
     public void handle(CommentCreatedEvent event) {
+        handleAll(List.of(event));
+    }
+
+    /**
+     * 여러 댓글 생성 이벤트를 게시물별 증가분으로 합쳐 한 번에 반영
+     */
+    @Override
+    public void handleAll(List<CommentCreatedEvent> events) {
         var transactionId = UUID.randomUUID().toString();
-        
+        List<CommentCreatedEvent> applicable = new ArrayList<>(events.size());
+
+        for (CommentCreatedEvent event : events) {
+            if (eventProperties.simulateFailure() && Math.random() < eventProperties.failureRate()) {
+                log.error(
+                        "Simulated failure for post: {} in transaction: {} - Publishing compensation event",
+                        event.getPostId(),
+                        transactionId
+                );
+                publishCompensation(event, transactionId);
+                continue;
+            }
+            applicable.add(event);
+        }
+        if (applicable.isEmpty()) {
+            return;
+        }
+
+        var deltas = applicable.stream()
+                .collect(Collectors.groupingBy(CommentCreatedEvent::getPostId, Collectors.counting()));
+
         try {
             log.debug(
-                    "Processing CommentCreatedEvent for post: {} in transaction: {}",
-                    event.getPostId(),
+                    "Processing {} CommentCreatedEvents for {} posts in transaction: {}",
+                    applicable.size(),
+                    deltas.size(),
                     transactionId
             );
 
-            if (eventProperties.simulateFailure() && Math.random() < eventProperties.failureRate()) {
-                throw new RuntimeException("Simulated failure for testing compensation events");
-            }
-                
-            var post = postQueryService.getPostById(event.getPostId());
-            var updatedPost = post.increaseCommentCount();
-            postCommandService.save(updatedPost);
+            postCommandService.applyCommentCountDeltas(deltas);
 
             log.debug(
-                    "Successfully increased comment count for post: {} in transaction: {}",
-                    event.getPostId(),
+                    "Successfully increased comment count for posts: {} in transaction: {}",
+                    deltas.keySet(),
                     transactionId
             );
-                
+
         } catch (Exception e) {
             log.error(
-                    "Failed to update comment count for post: {} in transaction: {} - Publishing compensation event",
-                    event.getPostId(),
+                    "Failed to update comment count for posts: {} in transaction: {} - Publishing compensation event",
+                    deltas.keySet(),
                     transactionId, e
             );
+            applicable.forEach(event -> publishCompensation(event, transactionId));
+            return;
+        }
+        postPopularityService.recordComments(deltas);
+        postFeedViewService.refreshQuietly(deltas.keySet());
+    }
 
-            // 보상 이벤트 발행이 활성화된 경우에만 실행
-            if (eventProperties.enableCompensation()) {
-                var compensationEvent = new PostCompensationEvent.CommentCountIncreaseCompensation(
-                        transactionId,
-                        event.getCommentId(),
-                        event.getPostId()
-                );
-                DomainEvents.raiseCompensationEvent(compensationEvent);
-                log.info("Published compensation event for transaction: {}", transactionId);
-            } else {
-                log.warn("Compensation disabled - compensation event not published for transaction: {}", transactionId);
-            }
+    private void publishCompensation(
+            CommentCreatedEvent event,
+            String transactionId
+    ) {
+        // 보상 이벤트 발행이 활성화된 경우에만 실행
+        if (eventProperties.enableCompensation()) {
+            var compensationEvent = new PostCompensationEvent.CommentCountIncreaseCompensation(
+                    transactionId,
+                    event.getCommentId(),
+                    event.getPostId()
+            );
+            DomainEvents.raiseCompensationEvent(compensationEvent);
+            log.info("Published compensation event for transaction: {}", transactionId);
+        } else {
+            log.warn("Compensation disabled - compensation event not published for transaction: {}", transactionId);
         }
     }
 
@@ -81,4 +120,4 @@ public class CommentCreatedEventHandler implements DomainEventHandler<CommentCre
     public Class<CommentCreatedEvent> getEventType() {
         return CommentCreatedEvent.class;
     }
-}
\ No newline at end of file
+}
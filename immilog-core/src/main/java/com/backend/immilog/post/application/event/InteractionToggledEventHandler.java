@@ -0,0 +1,71 @@
+package com.backend.immilog.post.application.event;
+
+import com.backend.immilog.interaction.domain.event.InteractionToggledEvent;
+import com.backend.immilog.interaction.domain.model.InteractionType;
+import com.backend.immilog.post.application.feed.PostFeedViewService;
+import com.backend.immilog.post.application.services.PostCacheService;
+import com.backend.immilog.post.application.services.PostPopularityService;
+import com.backend.immilog.shared.domain.event.BatchDomainEventHandler;
+import com.backend.immilog.shared.enums.ContentType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class InteractionToggledEventHandler implements BatchDomainEventHandler<InteractionToggledEvent> {
+
+    private final PostPopularityService postPopularityService;
+    private final PostCacheService postCacheService;
+    private final PostFeedViewService postFeedViewService;
+
+    public InteractionToggledEventHandler(
+            PostPopularityService postPopularityService,
+            PostCacheService postCacheService,
+            PostFeedViewService postFeedViewService
+    ) {
+        this.postPopularityService = postPopularityService;
+        this.postCacheService = postCacheService;
+        this.postFeedViewService = postFeedViewService;
+    }
+
+    @Override
+    public void handle(InteractionToggledEvent event) {
+        handleAll(List.of(event));
+    }
+
+    /**
+     * 게시물 좋아요 토글을 게시물별 증감분(+1/-1 합계)으로 합쳐 인기 점수에 반영
+     * 좋아요/북마크 사용자 목록이 바뀐 게시물은 상세 캐시에서 삭제
+     */
+    @Override
+    public void handleAll(List<InteractionToggledEvent> events) {
+        var postEvents = events.stream()
+                .filter(event -> ContentType.POST.name().equals(event.getContentType()))
+                .toList();
+        if (postEvents.isEmpty()) {
+            return;
+        }
+        postCacheService.evictPostDetails(postEvents.stream().map(InteractionToggledEvent::getPostId).collect(Collectors.toSet()));
+
+        var likeDeltas = postEvents.stream()
+                .filter(event -> InteractionType.LIKE.name().equals(event.getInteractionType()))
+                .collect(Collectors.groupingBy(
+                        InteractionToggledEvent::getPostId,
+                        Collectors.summingLong(event -> event.isActive() ? 1L : -1L)
+                ));
+        if (likeDeltas.isEmpty()) {
+            return;
+        }
+        log.debug("Recording like deltas for {} posts", likeDeltas.size());
+        postPopularityService.recordLikes(likeDeltas);
+        postFeedViewService.refreshQuietly(likeDeltas.keySet());
+    }
+
+    @Override
+    public Class<InteractionToggledEvent> getEventType() {
+        return InteractionToggledEvent.class;
+    }
+}
@@ -0,0 +1,44 @@
+package com.backend.immilog.post.application.event;
+
+import com.backend.immilog.post.application.feed.PostFeedViewService;
+import com.backend.immilog.post.domain.events.PostEvent;
+import com.backend.immilog.shared.domain.event.BatchDomainEventHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class PostChangedEventHandler implements BatchDomainEventHandler<PostEvent.PostChanged> {
+
+    private final PostFeedViewService postFeedViewService;
+
+    public PostChangedEventHandler(PostFeedViewService postFeedViewService) {
+        this.postFeedViewService = postFeedViewService;
+    }
+
+    @Override
+    public void handle(PostEvent.PostChanged event) {
+        handleAll(List.of(event));
+    }
+
+    /**
+     * 같은 게시물의 변경 이벤트는 한 번만 다시 계산
+     * 실패 시 예외를 그대로 던져 스트림 재전달로 재시도
+     */
+    @Override
+    public void handleAll(List<PostEvent.PostChanged> events) {
+        var postIds = events.stream()
+                .map(PostEvent.PostChanged::getPostId)
+                .collect(Collectors.toSet());
+        log.debug("Refreshing feed view for {} changed posts", postIds.size());
+        postFeedViewService.refresh(postIds);
+    }
+
+    @Override
+    public Class<PostEvent.PostChanged> getEventType() {
+        return PostEvent.PostChanged.class;
+    }
+}
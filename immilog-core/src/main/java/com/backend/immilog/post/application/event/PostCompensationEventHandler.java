@@ -1,49 +1,67 @@
 package com.backend.immilog.post.application.event;
 
+import com.backend.immilog.post.application.feed.PostFeedViewService;
 import com.backend.immilog.post.application.services.PostCommandService;
-import com.backend.immilog.post.application.services.PostQueryService;
 import com.backend.immilog.post.domain.events.PostCompensationEvent;
-import com.backend.immilog.shared.domain.event.DomainEventHandler;
+import com.backend.immilog.shared.domain.event.BatchDomainEventHandler;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 @Slf4j
 @Component
-public class PostCompensationEventHandler implements DomainEventHandler<PostCompensationEvent.CommentCountIncreaseCompensation> {
+public class PostCompensationEventHandler implements BatchDomainEventHandler<PostCompensationEvent.CommentCountIncreaseCompensation> {
 
-    private final PostQueryService postQueryService;
     private final PostCommandService postCommandService;
+    private final PostFeedViewService postFeedViewService;
 
     public PostCompensationEventHandler(
-            PostQueryService postQueryService,
-            PostCommandService postCommandService
+            PostCommandService postCommandService,
+            PostFeedViewService postFeedViewService
     ) {
-        this.postQueryService = postQueryService;
         this.postCommandService = postCommandService;
+        this.postFeedViewService = postFeedViewService;
     }
 
     @Override
     public void handle(PostCompensationEvent.CommentCountIncreaseCompensation event) {
-        log.warn("Processing compensation event for transaction: {} - Rolling back comment count increase for post: {}",
-                event.getTransactionId(), event.getPostId());
+        handleAll(List.of(event));
+    }
+
+    /**
+     * 보상 이벤트를 게시물별 감소분으로 합쳐 한 번에 반영
+     */
+    @Override
+    public void handleAll(List<PostCompensationEvent.CommentCountIncreaseCompensation> events) {
+        var transactionIds = events.stream()
+                .map(PostCompensationEvent.CommentCountIncreaseCompensation::getTransactionId)
+                .toList();
+        log.warn("Processing compensation events for transactions: {} - Rolling back comment count increase", transactionIds);
+
+        // 댓글 수 증가를 롤백 (댓글 수 감소)
+        var deltas = events.stream()
+                .collect(Collectors.groupingBy(
+                        PostCompensationEvent.CommentCountIncreaseCompensation::getPostId,
+                        Collectors.summingLong(event -> -1L)
+                ));
 
         try {
-            // 댓글 수 증가를 롤백 (댓글 수 감소)
-            var post = postQueryService.getPostById(event.getPostId());
-            var compensatedPost = post.decreaseCommentCount();
-            postCommandService.save(compensatedPost);
+            postCommandService.applyCommentCountDeltas(deltas);
+            postFeedViewService.refreshQuietly(deltas.keySet());
 
             log.info(
-                    "Successfully processed compensation event for transaction: {} - Comment count rolled back for post: {}",
-                    event.getTransactionId(),
-                    event.getPostId()
+                    "Successfully processed compensation events for transactions: {} - Comment count rolled back for posts: {}",
+                    transactionIds,
+                    deltas.keySet()
             );
 
         } catch (Exception e) {
             log.error(
-                    "Failed to process compensation event for transaction: {} - Could not rollback comment count for post: {}",
-                    event.getTransactionId(),
-                    event.getPostId(),
+                    "Failed to process compensation events for transactions: {} - Could not rollback comment count for posts: {}",
+                    transactionIds,
+                    deltas.keySet(),
                     e
             );
         }
@@ -53,4 +71,4 @@ public class PostCompensationEventHandler implements DomainEventHandler<PostComp
     public Class<PostCompensationEvent.CommentCountIncreaseCompensation> getEventType() {
         return PostCompensationEvent.CommentCountIncreaseCompensation.class;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,43 @@
+package com.backend.immilog.post.application.event;
+
+import com.backend.immilog.post.application.feed.PostFeedViewService;
+import com.backend.immilog.shared.domain.event.BatchDomainEventHandler;
+import com.backend.immilog.user.domain.event.UserProfileUpdatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class UserProfileUpdatedEventHandler implements BatchDomainEventHandler<UserProfileUpdatedEvent> {
+
+    private final PostFeedViewService postFeedViewService;
+
+    public UserProfileUpdatedEventHandler(PostFeedViewService postFeedViewService) {
+        this.postFeedViewService = postFeedViewService;
+    }
+
+    @Override
+    public void handle(UserProfileUpdatedEvent event) {
+        handleAll(List.of(event));
+    }
+
+    /**
+     * 작성자별로 한 번만 user 테이블 값으로 피드 투영의 닉네임/이미지를 갱신
+     */
+    @Override
+    public void handleAll(List<UserProfileUpdatedEvent> events) {
+        var userIds = events.stream()
+                .map(UserProfileUpdatedEvent::getUserId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        userIds.forEach(postFeedViewService::refreshAuthor);
+    }
+
+    @Override
+    public Class<UserProfileUpdatedEvent> getEventType() {
+        return UserProfileUpdatedEvent.class;
+    }
+}
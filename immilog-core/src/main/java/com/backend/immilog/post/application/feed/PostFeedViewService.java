@@ -0,0 +1,314 @@
+package com.backend.immilog.post.application.feed;
+
+import com.backend.immilog.post.application.dto.PostResult;
+import com.backend.immilog.post.domain.events.PostEvent;
+import com.backend.immilog.post.domain.model.post.Categories;
+import com.backend.immilog.post.domain.model.post.CursorSlice;
+import com.backend.immilog.post.domain.model.post.PostCursor;
+import com.backend.immilog.post.domain.model.post.PostFeedView;
+import com.backend.immilog.post.domain.model.post.PostFeedViewReport;
+import com.backend.immilog.post.domain.model.post.SortingMethods;
+import com.backend.immilog.post.domain.repositories.PostFeedViewRepository;
+import com.backend.immilog.shared.config.properties.PostFeedViewProperties;
+import com.backend.immilog.shared.domain.event.DomainEvents;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 피드 카드용 비정규화 투영(post_feed_view) 관리
+ * 1. 게시물/댓글/좋아요/프로필 이벤트를 받은 게시물만 원본에서 다시 계산해 upsert (같은 이벤트를 다시 받아도 결과가 같음)
+ * 2. 조회수는 버퍼 반영 주기마다 증가분만 더함
+ * 3. 기동 시 투영이 비어 있으면 전체 재구축하고, 그동안 피드는 기존 조인 쿼리로 조회
+ * 같은 게시물의 refresh가 겹치면 원본을 더 늦게 읽은 쪽만 반영 (PostFeedViewRepositoryImpl.saveAll)
+ * 이벤트 유실 등으로 남은 차이는 주기적인 정합성 검사(scheduledRepair)로 찾아 복구
+ */
+@Slf4j
+@Service
+public class PostFeedViewService {
+    private final PostFeedViewRepository postFeedViewRepository;
+    private final PostFeedViewProperties properties;
+
+    private volatile boolean ready;
+
+    public PostFeedViewService(
+            PostFeedViewRepository postFeedViewRepository,
+            PostFeedViewProperties properties
+    ) {
+        this.postFeedViewRepository = postFeedViewRepository;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (!properties.enabled()) {
+            return;
+        }
+        Thread.ofVirtual().name("post-feed-view-bootstrap").start(() -> {
+            try {
+                if (postFeedViewRepository.isEmpty()) {
+                    rebuild();
+                }
+                ready = true;
+            } catch (Exception e) {
+                log.error("[POST FEED VIEW] Bootstrap failed, feed stays on source tables", e);
+            }
+        });
+    }
+
+    /**
+     * 투영으로 피드를 읽을 수 있는지 (비활성화 또는 최초 재구축 전이면 false)
+     */
+    public boolean isReadable() {
+        return properties.enabled() && ready;
+    }
+
+    public Page<PostResult> getFeed(
+            String countryId,
+            SortingMethods sortingMethod,
+            String isPublic,
+            Categories category,
+            Pageable pageable
+    ) {
+        return postFeedViewRepository.findFeed(countryId, sortingMethod, isPublic, category, pageable)
+                .map(PostFeedViewService::toPostResult);
+    }
+
+    public CursorSlice<PostResult> getFeedAfter(
+            String countryId,
+            SortingMethods sortingMethod,
+            String isPublic,
+            Categories category,
+            PostCursor cursor,
+            int size,
+            boolean includeCount
+    ) {
+        return postFeedViewRepository.findFeedAfter(countryId, sortingMethod, isPublic, category, cursor, size, includeCount)
+                .map(PostFeedViewService::toPostResult);
+    }
+
+    /**
+     * 게시물 변경 이벤트를 커밋 이후 발행 (커밋 전에 소비되어 이전 값을 읽지 않도록)
+     */
+    public void publishPostChanged(String postId) {
+        if (!properties.enabled()) {
+            return;
+        }
+        Runnable raise = () -> DomainEvents.raise(new PostEvent.PostChanged(postId));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    raise.run();
+                }
+            });
+            return;
+        }
+        raise.run();
+    }
+
+    /**
+     * 주어진 게시물의 투영 행을 원본에서 다시 계산해 저장, 원본이 없어진 행은 삭제
+     */
+    public void refresh(Collection<String> postIds) {
+        if (!properties.enabled() || postIds.isEmpty()) {
+            return;
+        }
+        var views = postFeedViewRepository.loadFromSource(postIds, properties.tagLimit());
+        postFeedViewRepository.saveAll(views);
+        if (views.size() < postIds.size()) {
+            var found = views.stream().map(PostFeedView::postId).collect(Collectors.toSet());
+            var removed = postIds.stream().filter(postId -> !found.contains(postId)).toList();
+            postFeedViewRepository.deleteByPostIds(removed);
+        }
+    }
+
+    /**
+     * 댓글 수/좋아요 수처럼 본 작업 이후에 덧붙는 갱신, 실패해도 본 작업을 깨뜨리지 않음
+     */
+    public void refreshQuietly(Collection<String> postIds) {
+        try {
+            refresh(postIds);
+        } catch (Exception e) {
+            log.warn("[POST FEED VIEW] Failed to refresh {} posts, left for consistency check", postIds.size(), e);
+        }
+    }
+
+    public void refreshAuthor(String userId) {
+        if (!properties.enabled()) {
+            return;
+        }
+        int updated = postFeedViewRepository.refreshAuthor(userId);
+        log.debug("[POST FEED VIEW] Refreshed author {} on {} posts", userId, updated);
+    }
+
+    public void increaseViewCounts(Map<String, Long> viewCountDeltas) {
+        if (!properties.enabled()) {
+            return;
+        }
+        try {
+            postFeedViewRepository.increaseViewCounts(viewCountDeltas);
+        } catch (Exception e) {
+            log.warn("[POST FEED VIEW] Failed to apply view counts for {} posts", viewCountDeltas.size(), e);
+        }
+    }
+
+    /**
+     * 원본 post 전체를 post_id 키셋으로 읽어 투영을 다시 만들고, 원본이 없는 행을 삭제
+     * 기존 행을 지우지 않고 덮어쓰므로 재구축 중에도 피드 조회가 가능
+     */
+    public synchronized long rebuild() {
+        long started = System.currentTimeMillis();
+        long rebuilt = 0;
+        String lastPostId = null;
+        while (true) {
+            var postIds = postFeedViewRepository.findSourcePostIdsAfter(lastPostId, properties.batchSize());
+            if (postIds.isEmpty()) {
+                break;
+            }
+            postFeedViewRepository.saveAll(postFeedViewRepository.loadFromSource(postIds, properties.tagLimit()));
+            rebuilt += postIds.size();
+            lastPostId = postIds.getLast();
+        }
+        long orphaned = deleteOrphans();
+        log.info("[POST FEED VIEW] Rebuilt {} posts, removed {} orphaned rows in {}ms",
+                rebuilt, orphaned, System.currentTimeMillis() - started);
+        return rebuilt;
+    }
+
+    /**
+     * 원본에서 계산한 값과 투영 행을 게시물 묶음 단위로 비교
+     * repair가 true면 누락/불일치 행을 다시 쓰고 원본이 없는 행을 삭제
+     */
+    public synchronized PostFeedViewReport check(boolean repair) {
+        long checked = 0;
+        long missing = 0;
+        long stale = 0;
+        List<String> samples = new ArrayList<>();
+        String lastPostId = null;
+        while (true) {
+            var postIds = postFeedViewRepository.findSourcePostIdsAfter(lastPostId, properties.batchSize());
+            if (postIds.isEmpty()) {
+                break;
+            }
+            var expected = postFeedViewRepository.loadFromSource(postIds, properties.tagLimit());
+            Map<String, PostFeedView> actual = postFeedViewRepository.findByPostIds(postIds).stream()
+                    .collect(Collectors.toMap(PostFeedView::postId, Function.identity()));
+
+            List<PostFeedView> mismatched = new ArrayList<>();
+            for (PostFeedView view : expected) {
+                var current = actual.get(view.postId());
+                if (current == null) {
+                    missing++;
+                } else if (!current.hasSameContent(view)) {
+                    stale++;
+                } else {
+                    continue;
+                }
+                mismatched.add(view);
+                if (samples.size() < PostFeedViewReport.SAMPLE_SIZE) {
+                    samples.add(view.postId());
+                }
+            }
+            if (repair) {
+                postFeedViewRepository.saveAll(mismatched);
+            }
+            checked += postIds.size();
+            lastPostId = postIds.getLast();
+        }
+
+        long orphaned;
+        if (repair) {
+            orphaned = deleteOrphans();
+        } else {
+            var orphans = postFeedViewRepository.findOrphanedPostIds(PostFeedViewReport.SAMPLE_SIZE);
+            orphaned = orphans.size();
+            orphans.stream().limit(PostFeedViewReport.SAMPLE_SIZE - samples.size()).forEach(samples::add);
+        }
+
+        var report = new PostFeedViewReport(checked, missing, stale, orphaned, repair, List.copyOf(samples));
+        if (report.isConsistent()) {
+            log.info("[POST FEED VIEW] Consistency check passed for {} posts", checked);
+        } else {
+            log.warn("[POST FEED VIEW] Consistency check found {} missing, {} stale, {} orphaned rows (repair: {}), samples: {}",
+                    missing, stale, orphaned, repair, report.sampleIds());
+        }
+        return report;
+    }
+
+    /**
+     * 정해진 시각(기본 매일 04:30)에 정합성 검사 후 복구, post.feed-view.check-cron을 "-"로 두면 끔
+     * 수동 실행은 PostFeedViewEndpoint의 repair(차이 복구)와 rebuild(전체 재구축) 사용
+     */
+    @Scheduled(cron = "${post.feed-view.check-cron:0 30 4 * * *}")
+    public void scheduledRepair() {
+        if (!isReadable()) {
+            return;
+        }
+        try {
+            check(true);
+        } catch (Exception e) {
+            log.error("[POST FEED VIEW] Scheduled consistency check failed", e);
+        }
+    }
+
+    private long deleteOrphans() {
+        long deleted = 0;
+        Collection<String> seen = new HashSet<>();
+        while (true) {
+            var orphans = postFeedViewRepository.findOrphanedPostIds(properties.batchSize());
+            // 삭제가 반영되지 않는 경우 같은 ID를 계속 읽지 않도록 방어
+            if (orphans.isEmpty() || !seen.addAll(orphans)) {
+                return deleted;
+            }
+            postFeedViewRepository.deleteByPostIds(orphans);
+            deleted += orphans.size();
+        }
+    }
+
+    /**
+     * 피드 카드 응답: 태그는 앞쪽 일부, 첨부는 썸네일 한 장, 좋아요/북마크 사용자 목록은 포함하지 않음
+     */
+    private static PostResult toPostResult(PostFeedView view) {
+        return new PostResult(
+                view.postId(),
+                view.userId(),
+                view.imageUrl(),
+                view.nickname(),
+                view.commentCount(),
+                view.viewCount(),
+                view.likeCount(),
+                view.bookmarkCount(),
+                view.tags(),
+                view.thumbnailUrl() == null ? List.of() : List.of(view.thumbnailUrl()),
+                List.of(),
+                List.of(),
+                null,
+                null,
+                view.isPublic(),
+                view.countryId(),
+                view.region(),
+                view.category(),
+                view.status(),
+                view.createdAt() == null ? null : view.createdAt().toString(),
+                view.updatedAt() == null ? null : view.updatedAt().toString(),
+                view.title(),
+                view.content(),
+                null
+        );
+    }
+}
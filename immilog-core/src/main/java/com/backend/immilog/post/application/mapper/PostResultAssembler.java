@@ -1,18 +1,23 @@
 package com.backend.immilog.post.application.mapper;
 
 import com.backend.immilog.post.application.dto.PostResult;
+import com.backend.immilog.post.application.enrichment.PostEnrichment;
+import com.backend.immilog.post.domain.model.resource.ContentResource;
 import com.backend.immilog.shared.domain.model.InteractionData;
-import com.backend.immilog.shared.domain.model.Resource;
-import com.backend.immilog.shared.domain.model.ResourceType;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Component
 public class PostResultAssembler {
+    private static final String ACTIVE = "ACTIVE";
+    private static final String LIKE = "LIKE";
+    private static final String BOOKMARK = "BOOKMARK";
 
     public PostResult assembleKeywords(
             PostResult postResult,
@@ -31,10 +36,13 @@ public class PostResultAssembler {
                 postResult.commentCount(),
                 postResult.viewCount(),
                 postResult.likeCount(),
+                postResult.bookmarkCount(),
                 updatedTags,
                 new ArrayList<>(postResult.attachments()),
                 new ArrayList<>(postResult.likeUsers()),
                 new ArrayList<>(postResult.bookmarkUsers()),
+                postResult.likedByMe(),
+                postResult.bookmarkedByMe(),
                 postResult.isPublic(),
                 postResult.country(),
                 postResult.region(),
@@ -48,150 +56,92 @@ public class PostResultAssembler {
         );
     }
 
-    public PostResult assembleInteractionData(
-            PostResult postResult,
-            List<InteractionData> interactionData
+    /**
+     * 페이지의 게시물마다 인터랙션/리소스/댓글 수를 채운 결과를 한 번씩만 생성
+     * 인터랙션과 리소스는 게시물 ID별로 한 번 묶어 두고, 게시물 순서와 각 목록의 원래 순서를 유지
+     * 좋아요 수는 게시물 행의 카운터 값을 그대로 사용
+     */
+    public List<PostResult> assemble(
+            List<PostResult> postResults,
+            PostEnrichment enrichment
     ) {
-        if (interactionData == null || interactionData.isEmpty()) {
-            return postResult;
+        Map<String, PostParts> partsByPostId = new HashMap<>(capacity(postResults.size()));
+        for (PostResult postResult : postResults) {
+            partsByPostId.putIfAbsent(postResult.postId(), new PostParts());
         }
-        var newLikeUsers = new ArrayList<>(postResult.likeUsers());
-        var newBookmarkUsers = new ArrayList<>(postResult.bookmarkUsers());
-        newLikeUsers.addAll(interactionData.stream()
-                .filter(u -> "LIKE".equals(u.interactionType()) && "ACTIVE".equals(u.interactionStatus()))
-                .map(InteractionData::userId)
-                .toList());
-        newBookmarkUsers.addAll(interactionData.stream()
-                .filter(u -> "BOOKMARK".equals(u.interactionType()) && "ACTIVE".equals(u.interactionStatus()))
-                .map(InteractionData::userId)
-                .toList());
-        return new PostResult(
-                postResult.postId(),
-                postResult.userId(),
-                postResult.userProfileUrl(),
-                postResult.userNickname(),
-                postResult.commentCount(),
-                postResult.viewCount(),
-                postResult.likeCount(),
-                postResult.tags(),
-                postResult.attachments(),
-                newLikeUsers,
-                newBookmarkUsers,
-                postResult.isPublic(),
-                postResult.country(),
-                postResult.region(),
-                postResult.category(),
-                postResult.status(),
-                postResult.createdAt(),
-                postResult.updatedAt(),
-                postResult.title(),
-                postResult.content(),
-                postResult.keyword()
-        );
-    }
 
-    public PostResult assembleResources(
-            PostResult postResult,
-            List<Resource> resources
-    ) {
-        if (resources == null || resources.isEmpty()) {
-            return postResult;
+        for (InteractionData interaction : enrichment.interactions()) {
+            var parts = partsByPostId.get(interaction.postId());
+            if (parts == null || !ACTIVE.equals(interaction.interactionStatus())) {
+                continue;
+            }
+            if (LIKE.equals(interaction.interactionType())) {
+                parts.likeUsers.add(interaction.userId());
+            } else if (BOOKMARK.equals(interaction.interactionType())) {
+                parts.bookmarkUsers.add(interaction.userId());
+            }
         }
 
-        var updatedTags = new ArrayList<>(postResult.tags());
-        updatedTags.addAll(resources.stream()
-                .filter(r -> r.resourceType() == ResourceType.TAG)
-                .map(Resource::content)
-                .toList());
-
-        var updatedAttachments = new ArrayList<>(postResult.attachments());
-        updatedAttachments.addAll(resources.stream()
-                .filter(r -> r.resourceType() == ResourceType.ATTACHMENT)
-                .map(Resource::content)
-                .toList());
-        return new PostResult(
-                postResult.postId(),
-                postResult.userId(),
-                postResult.userProfileUrl(),
-                postResult.userNickname(),
-                postResult.commentCount(),
-                postResult.viewCount(),
-                postResult.likeCount(),
-                updatedTags,
-                updatedAttachments,
-                postResult.likeUsers(),
-                postResult.bookmarkUsers(),
-                postResult.isPublic(),
-                postResult.country(),
-                postResult.region(),
-                postResult.category(),
-                postResult.status(),
-                postResult.createdAt(),
-                postResult.updatedAt(),
-                postResult.title(),
-                postResult.content(),
-                postResult.keyword()
-        );
+        for (ContentResource resource : enrichment.resources()) {
+            var parts = partsByPostId.get(resource.postId());
+            if (parts == null || resource.resourceType() == null) {
+                continue;
+            }
+            switch (resource.resourceType()) {
+                case TAG -> parts.tags.add(resource.content());
+                case ATTACHMENT -> parts.attachments.add(resource.content());
+                default -> {
+                }
+            }
+        }
+
+        var commentCounts = enrichment.commentCounts();
+        List<PostResult> assembled = new ArrayList<>(postResults.size());
+        for (PostResult postResult : postResults) {
+            var parts = partsByPostId.get(postResult.postId());
+            assembled.add(PostResult.builder(postResult)
+                    .tags(merge(postResult.tags(), parts.tags))
+                    .attachments(merge(postResult.attachments(), parts.attachments))
+                    .likeUsers(merge(postResult.likeUsers(), parts.likeUsers))
+                    .bookmarkUsers(merge(postResult.bookmarkUsers(), parts.bookmarkUsers))
+                    .commentCount(commentCounts.getOrDefault(postResult.postId(), 0L))
+                    .build());
+        }
+        return assembled;
     }
 
-    public PostResult assembleLikeCount(
-            PostResult postResult,
-            long likeCount
+    /**
+     * 기존 목록이 비어 있으면(일반적인 경우) 복사 없이 새로 모은 목록을 그대로 사용
+     */
+    private static List<String> merge(
+            List<String> existing,
+            List<String> added
     ) {
-        return new PostResult(
-                postResult.postId(),
-                postResult.userId(),
-                postResult.userProfileUrl(),
-                postResult.userNickname(),
-                postResult.commentCount(),
-                postResult.viewCount(),
-                likeCount,
-                postResult.tags(),
-                postResult.attachments(),
-                postResult.likeUsers(),
-                postResult.bookmarkUsers(),
-                postResult.isPublic(),
-                postResult.country(),
-                postResult.region(),
-                postResult.category(),
-                postResult.status(),
-                postResult.createdAt(),
-                postResult.updatedAt(),
-                postResult.title(),
-                postResult.content(),
-                postResult.keyword()
-        );
+        if (existing == null || existing.isEmpty()) {
+            return added;
+        }
+        if (added.isEmpty()) {
+            return existing;
+        }
+        var merged = new ArrayList<String>(existing.size() + added.size());
+        merged.addAll(existing);
+        merged.addAll(added);
+        return merged;
     }
 
-    public PostResult assembleCommentCount(
-            PostResult postResult,
-            long commentCount
-    ) {
-        return new PostResult(
-                postResult.postId(),
-                postResult.userId(),
-                postResult.userProfileUrl(),
-                postResult.userNickname(),
-                commentCount,
-                postResult.viewCount(),
-                postResult.likeCount(),
-                postResult.tags(),
-                postResult.attachments(),
-                postResult.likeUsers(),
-                postResult.bookmarkUsers(),
-                postResult.isPublic(),
-                postResult.country(),
-                postResult.region(),
-                postResult.category(),
-                postResult.status(),
-                postResult.createdAt(),
-                postResult.updatedAt(),
-                postResult.title(),
-                postResult.content(),
-                postResult.keyword()
-        );
+    private static int capacity(int expectedSize) {
+        return (int) (expectedSize / 0.75f) + 1;
     }
 
+    /**
+     * 게시물 하나에 모이는 부가 데이터
+     */
+    private static final class PostParts {
+        private final List<String> tags = new ArrayList<>();
+        private final List<String> attachments = new ArrayList<>();
+        private final List<String> likeUsers = new ArrayList<>();
+        private final List<String> bookmarkUsers = new ArrayList<>();
+    }
 
     private static String extractKeyword(
             String text,
@@ -0,0 +1,47 @@
+package com.backend.immilog.post.application.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 검색용 문자 bi-gram 토크나이저
+ * 한글은 띄어쓰기 단위 토큰화가 잘 맞지 않으므로, 문자/숫자 구간마다 인접한 두 글자를 하나의 용어로 사용
+ * 두 글자(char)를 int 하나로 묶어 용어를 문자열 없이 다룸
+ */
+final class NgramTokenizer {
+
+    private NgramTokenizer() {
+    }
+
+    static int[] tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return new int[0];
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int[] terms = new int[Math.max(normalized.length() - 1, 0)];
+        int size = 0;
+        char previous = 0;
+        boolean hasPrevious = false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char current = normalized.charAt(i);
+            if (!Character.isLetterOrDigit(current)) {
+                hasPrevious = false;
+                continue;
+            }
+            if (hasPrevious) {
+                terms[size++] = bigram(previous, current);
+            }
+            previous = current;
+            hasPrevious = true;
+        }
+        return Arrays.copyOf(terms, size);
+    }
+
+    static int bigram(
+            char first,
+            char second
+    ) {
+        return (first << 16) | second;
+    }
+}
@@ -0,0 +1,369 @@
+package com.backend.immilog.post.application.search;
+
+import com.backend.immilog.shared.config.properties.PostSearchProperties.Ranking;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시물 제목/본문의 bi-gram 역색인
+ * 1. 게시물마다 내부 번호(ordinal)를 증가 순으로 부여하고, 용어별 포스팅은 (ordinal, tf)를 int 배열에 오름차순으로 보관
+ * 2. 수정은 기존 ordinal을 삭제 표시한 뒤 새 ordinal로 다시 추가, 삭제 표시가 쌓이면 포스팅에서 정리
+ * 3. 검색은 모든 용어를 포함한 게시물(AND)을 BM25 점수 또는 작성일 순으로 정렬
+ */
+public class PostSearchIndex {
+    private static final int TITLE_WEIGHT = 2;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int INITIAL_CAPACITY = 1_024;
+    private static final int MIN_COMPACTION_COUNT = 1_024;
+    private static final Comparator<Hit> HIT_ORDER = Comparator
+            .comparingDouble(Hit::rank)
+            .thenComparingInt(Hit::ordinal);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, Postings> postings = new HashMap<>();
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private String[] postIds = new String[INITIAL_CAPACITY];
+    private int[] lengths = new int[INITIAL_CAPACITY];
+    private long[] createdAt = new long[INITIAL_CAPACITY];
+    private int nextOrdinal;
+    private int liveCount;
+    private int deadCount;
+    private long totalLength;
+
+    public void index(
+            String postId,
+            String title,
+            String content,
+            LocalDateTime createdAt
+    ) {
+        int[] terms = weightedTerms(title, content);
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+            int ordinal = nextOrdinal++;
+            ensureCapacity(ordinal + 1);
+            postIds[ordinal] = postId;
+            lengths[ordinal] = terms.length;
+            this.createdAt[ordinal] = createdAt == null ? 0L : createdAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+            ordinals.put(postId, ordinal);
+            live.set(ordinal);
+            liveCount++;
+            totalLength += terms.length;
+
+            // 정렬된 용어 배열을 구간별로 세어 (용어, tf) 단위로 포스팅에 추가
+            for (int start = 0; start < terms.length; ) {
+                int end = start;
+                while (end < terms.length && terms[end] == terms[start]) {
+                    end++;
+                }
+                postings.computeIfAbsent(terms[start], term -> new Postings()).add(ordinal, end - start);
+                start = end;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(String postId) {
+        lock.writeLock().lock();
+        try {
+            return removeInternal(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static boolean isSearchable(String query) {
+        return NgramTokenizer.tokenize(query).length > 0;
+    }
+
+    public SearchHits search(
+            String query,
+            Ranking ranking,
+            int offset,
+            int limit
+    ) {
+        int topK = Math.max(offset, 0) + Math.max(limit, 0);
+        PriorityQueue<Hit> top = new PriorityQueue<>(Math.max(topK, 1), HIT_ORDER);
+
+        lock.readLock().lock();
+        try {
+            long totalCount = forEachMatch(query, (ordinal, score) -> {
+                if (topK == 0) {
+                    return;
+                }
+                var hit = new Hit(ordinal, ranking == Ranking.RECENCY ? createdAt[ordinal] : score);
+                if (top.size() < topK) {
+                    top.add(hit);
+                } else if (HIT_ORDER.compare(hit, top.peek()) > 0) {
+                    top.poll();
+                    top.add(hit);
+                }
+            });
+
+            List<Hit> ranked = new ArrayList<>(top);
+            ranked.sort(HIT_ORDER.reversed());
+            List<String> page = ranked.stream()
+                    .skip(Math.max(offset, 0))
+                    .map(hit -> postIds[hit.ordinal()])
+                    .toList();
+            return new SearchHits(page, totalCount);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * (작성일, post_id) 내림차순 키셋 검색으로 커서 다음 limit건을 반환 (afterCreatedAt이 null이면 첫 페이지)
+     * 작성일은 색인에 저장한 밀리초 단위로 비교
+     */
+    public SearchHits searchAfter(
+            String query,
+            LocalDateTime afterCreatedAt,
+            String afterPostId,
+            int limit
+    ) {
+        if (limit <= 0) {
+            return SearchHits.empty();
+        }
+        Long afterMillis = afterCreatedAt == null ? null : afterCreatedAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+
+        lock.readLock().lock();
+        try {
+            Comparator<Integer> keysetOrder = Comparator
+                    .<Integer>comparingLong(ordinal -> createdAt[ordinal])
+                    .thenComparing(ordinal -> postIds[ordinal]);
+            PriorityQueue<Integer> top = new PriorityQueue<>(limit, keysetOrder);
+            long totalCount = forEachMatch(query, (ordinal, score) -> {
+                if (afterMillis != null) {
+                    long created = createdAt[ordinal];
+                    if (created > afterMillis || (created == afterMillis && postIds[ordinal].compareTo(afterPostId) >= 0)) {
+                        return;
+                    }
+                }
+                if (top.size() < limit) {
+                    top.add(ordinal);
+                } else if (keysetOrder.compare(ordinal, top.peek()) > 0) {
+                    top.poll();
+                    top.add(ordinal);
+                }
+            });
+
+            List<Integer> ranked = new ArrayList<>(top);
+            ranked.sort(keysetOrder.reversed());
+            return new SearchHits(ranked.stream().map(ordinal -> postIds[ordinal]).toList(), totalCount);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 모든 용어를 포함한 살아 있는 게시물마다 (ordinal, BM25 점수)를 전달하고 일치 건수를 반환 (읽기 락 안에서 호출)
+     */
+    private long forEachMatch(
+            String query,
+            MatchVisitor visitor
+    ) {
+        int[] queryTerms = Arrays.stream(NgramTokenizer.tokenize(query)).distinct().toArray();
+        if (queryTerms.length == 0) {
+            return 0;
+        }
+        Postings[] lists = new Postings[queryTerms.length];
+        for (int i = 0; i < queryTerms.length; i++) {
+            lists[i] = postings.get(queryTerms[i]);
+            if (lists[i] == null) {
+                return 0;
+            }
+        }
+        // 가장 짧은 포스팅을 기준으로 나머지를 건너뛰며 교집합
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+
+        double[] idf = new double[lists.length];
+        for (int i = 0; i < lists.length; i++) {
+            double documentFrequency = Math.min(lists[i].size, liveCount);
+            idf[i] = Math.log(1 + (liveCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        }
+        double averageLength = liveCount == 0 ? 1 : (double) totalLength / liveCount;
+
+        int[] cursors = new int[lists.length];
+        long totalCount = 0;
+
+        Postings lead = lists[0];
+        candidates:
+        for (int i = 0; i < lead.size; i++) {
+            int ordinal = lead.docs[i];
+            if (!live.get(ordinal)) {
+                continue;
+            }
+            double score = bm25(lead.freqs[i], idf[0], lengths[ordinal], averageLength);
+            for (int j = 1; j < lists.length; j++) {
+                int position = lists[j].advance(cursors[j], ordinal);
+                cursors[j] = position;
+                if (position == lists[j].size) {
+                    break candidates;
+                }
+                if (lists[j].docs[position] != ordinal) {
+                    continue candidates;
+                }
+                score += bm25(lists[j].freqs[position], idf[j], lengths[ordinal], averageLength);
+            }
+
+            totalCount++;
+            visitor.accept(ordinal, score);
+        }
+        return totalCount;
+    }
+
+    private boolean removeInternal(String postId) {
+        Integer ordinal = ordinals.remove(postId);
+        if (ordinal == null) {
+            return false;
+        }
+        live.clear(ordinal);
+        postIds[ordinal] = null;
+        liveCount--;
+        deadCount++;
+        totalLength -= lengths[ordinal];
+        if (deadCount >= Math.max(MIN_COMPACTION_COUNT, liveCount / 2)) {
+            compact();
+        }
+        return true;
+    }
+
+    private void compact() {
+        var iterator = postings.values().iterator();
+        while (iterator.hasNext()) {
+            var list = iterator.next();
+            list.retain(live);
+            if (list.size == 0) {
+                iterator.remove();
+            }
+        }
+        deadCount = 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= postIds.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, postIds.length * 2);
+        postIds = Arrays.copyOf(postIds, newCapacity);
+        lengths = Arrays.copyOf(lengths, newCapacity);
+        createdAt = Arrays.copyOf(createdAt, newCapacity);
+    }
+
+    /**
+     * 제목 용어는 TITLE_WEIGHT 배로 반영한 뒤 정렬된 용어 배열로 반환
+     */
+    private static int[] weightedTerms(
+            String title,
+            String content
+    ) {
+        int[] titleTerms = NgramTokenizer.tokenize(title);
+        int[] contentTerms = NgramTokenizer.tokenize(content);
+        int[] terms = new int[titleTerms.length * TITLE_WEIGHT + contentTerms.length];
+        for (int i = 0; i < TITLE_WEIGHT; i++) {
+            System.arraycopy(titleTerms, 0, terms, titleTerms.length * i, titleTerms.length);
+        }
+        System.arraycopy(contentTerms, 0, terms, titleTerms.length * TITLE_WEIGHT, contentTerms.length);
+        Arrays.sort(terms);
+        return terms;
+    }
+
+    private static double bm25(
+            int termFrequency,
+            double idf,
+            int documentLength,
+            double averageLength
+    ) {
+        double normalization = K1 * (1 - B + B * documentLength / averageLength);
+        return idf * termFrequency * (K1 + 1) / (termFrequency + normalization);
+    }
+
+    @FunctionalInterface
+    private interface MatchVisitor {
+        void accept(int ordinal, double score);
+    }
+
+    private record Hit(
+            int ordinal,
+            double rank
+    ) {
+    }
+
+    /**
+     * 용어 하나의 포스팅 목록 (ordinal 오름차순)
+     */
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size;
+
+        private void add(
+                int ordinal,
+                int frequency
+        ) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = ordinal;
+            freqs[size] = frequency;
+            size++;
+        }
+
+        /**
+         * from 이후에서 target 이상인 첫 위치 (지수 탐색 후 이진 탐색), 없으면 size
+         */
+        private int advance(
+                int from,
+                int target
+        ) {
+            if (from >= size || docs[from] >= target) {
+                return from;
+            }
+            int low = from;
+            int bound = 1;
+            while (from + bound < size && docs[from + bound] < target) {
+                low = from + bound;
+                bound <<= 1;
+            }
+            int high = Math.min(from + bound, size - 1);
+            int found = Arrays.binarySearch(docs, low + 1, high + 1, target);
+            return found >= 0 ? found : -found - 1;
+        }
+
+        private void retain(BitSet live) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (live.get(docs[i])) {
+                    docs[kept] = docs[i];
+                    freqs[kept] = freqs[i];
+                    kept++;
+                }
+            }
+            size = kept;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.backend.immilog.post.application.search;
+
+import com.backend.immilog.post.domain.model.post.Post;
+import com.backend.immilog.post.domain.model.post.PostSearchDocument;
+import com.backend.immilog.post.domain.repositories.PostDomainRepository;
+import com.backend.immilog.shared.config.properties.PostSearchProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 게시물 키워드 검색을 인프로세스 역색인으로 처리
+ * 1. 기동 후 DB 전체를 post_id 키셋으로 읽어 색인을 만들고 교체 (재구축 중에는 DB 검색으로 대체)
+ * 2. 이 노드에서 생성/수정/삭제된 게시물은 트랜잭션 커밋 직후 색인에 반영
+ * 3. 다른 노드의 변경분은 updated_at 키셋으로 주기적으로 따라잡음
+ *    updated_at은 애플리케이션 시계로 기록되고 커밋 순서와도 다르므로, 매번 기준점보다 syncLag만큼 앞에서부터
+ *    다시 읽고 이미 반영한 (post_id, updated_at)은 건너뜀
+ */
+@Slf4j
+@Service
+public class PostSearchService {
+    private final PostDomainRepository postDomainRepository;
+    private final PostSearchProperties properties;
+    private final Timer searchTimer;
+
+    private volatile PostSearchIndex index = new PostSearchIndex();
+    private volatile boolean ready;
+    private LocalDateTime syncedUpdatedAt;
+    // 겹쳐 읽는 구간 안에서 이미 반영한 게시물별 updated_at (구간을 벗어나면 정리)
+    private final Map<String, LocalDateTime> syncedVersions = new HashMap<>();
+
+    public PostSearchService(
+            PostDomainRepository postDomainRepository,
+            PostSearchProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.postDomainRepository = postDomainRepository;
+        this.properties = properties;
+        this.searchTimer = Timer.builder("immilog.post.search.latency")
+                .description("In-process post search latency")
+                .register(meterRegistry);
+        Gauge.builder("immilog.post.search.documents", this, service -> service.index.size())
+                .description("Posts in the in-process search index")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (!properties.enabled()) {
+            return;
+        }
+        Thread.ofVirtual().name("post-search-rebuild").start(this::rebuild);
+    }
+
+    /**
+     * DB에서 색인을 새로 만들어 교체
+     * 재구축 시작 시각을 동기화 기준점으로 잡아, 재구축 중 발생한 변경은 다음 동기화에서 다시 반영
+     */
+    public synchronized void rebuild() {
+        long startedAt = System.nanoTime();
+        LocalDateTime rebuildStartedAt = LocalDateTime.now();
+        try {
+            var rebuilt = new PostSearchIndex();
+            String lastPostId = null;
+            List<PostSearchDocument> documents;
+            do {
+                documents = postDomainRepository.findSearchDocumentsAfter(lastPostId, properties.rebuildBatchSize());
+                documents.forEach(document -> apply(rebuilt, document));
+                if (!documents.isEmpty()) {
+                    lastPostId = documents.getLast().postId();
+                }
+            } while (documents.size() == properties.rebuildBatchSize());
+
+            index = rebuilt;
+            syncedUpdatedAt = rebuildStartedAt;
+            syncedVersions.clear();
+            ready = true;
+            log.info("Rebuilt post search index: {} posts in {}ms",
+                    rebuilt.size(), (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (Exception e) {
+            log.error("Failed to rebuild post search index", e);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${post.search.sync-interval:30s}",
+            fixedDelayString = "${post.search.sync-interval:30s}"
+    )
+    public synchronized void sync() {
+        if (!ready) {
+            return;
+        }
+        try {
+            int applied = 0;
+            LocalDateTime cursorUpdatedAt = syncedUpdatedAt.minus(properties.syncLag());
+            String cursorPostId = null;
+            LocalDateTime latestUpdatedAt = syncedUpdatedAt;
+            List<PostSearchDocument> documents;
+            do {
+                documents = postDomainRepository.findSearchDocumentsUpdatedSince(
+                        cursorUpdatedAt,
+                        cursorPostId,
+                        properties.rebuildBatchSize()
+                );
+                for (PostSearchDocument document : documents) {
+                    var previous = syncedVersions.put(document.postId(), document.updatedAt());
+                    if (!document.updatedAt().equals(previous)) {
+                        apply(index, document);
+                        applied++;
+                    }
+                    if (document.updatedAt().isAfter(latestUpdatedAt)) {
+                        latestUpdatedAt = document.updatedAt();
+                    }
+                    cursorUpdatedAt = document.updatedAt();
+                    cursorPostId = document.postId();
+                }
+            } while (documents.size() == properties.rebuildBatchSize());
+
+            syncedUpdatedAt = latestUpdatedAt;
+            var overlapStart = latestUpdatedAt.minus(properties.syncLag());
+            syncedVersions.values().removeIf(updatedAt -> updatedAt.isBefore(overlapStart));
+
+            if (applied > 0) {
+                log.debug("Synced {} changed posts into search index", applied);
+            }
+        } catch (Exception e) {
+            log.error("Failed to sync post search index", e);
+        }
+    }
+
+    /**
+     * 게시물 생성/수정/삭제를 커밋 이후 색인에 반영 (롤백된 변경은 반영하지 않음)
+     */
+    public void onPostChanged(Post post) {
+        if (!properties.enabled() || post == null || post.id() == null) {
+            return;
+        }
+        var document = PostSearchDocument.of(post);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(index, document);
+                }
+            });
+            return;
+        }
+        apply(index, document);
+    }
+
+    /**
+     * 색인으로 처리할 수 없는 경우(비활성화, 재구축 전, 두 글자 미만 검색어) 빈 값을 반환하며 호출 측은 DB 검색으로 대체
+     */
+    public Optional<SearchHits> search(
+            String keyword,
+            Pageable pageable
+    ) {
+        if (!properties.enabled() || !ready || !PostSearchIndex.isSearchable(keyword)) {
+            return Optional.empty();
+        }
+        return Optional.of(searchTimer.record(() -> index.search(
+                keyword,
+                properties.ranking(),
+                (int) pageable.getOffset(),
+                pageable.getPageSize()
+        )));
+    }
+
+    /**
+     * 키워드 커서 페이지를 (작성일, post_id) 키셋으로 색인에서 조회, 색인을 쓸 수 없으면 빈 값
+     */
+    public Optional<SearchHits> searchAfter(
+            String keyword,
+            LocalDateTime afterCreatedAt,
+            String afterPostId,
+            int limit
+    ) {
+        if (!properties.enabled() || !ready || !PostSearchIndex.isSearchable(keyword)) {
+            return Optional.empty();
+        }
+        return Optional.of(searchTimer.record(() -> index.searchAfter(keyword, afterCreatedAt, afterPostId, limit)));
+    }
+
+    private static void apply(
+            PostSearchIndex target,
+            PostSearchDocument document
+    ) {
+        if (document.isDeleted()) {
+            target.remove(document.postId());
+            return;
+        }
+        target.index(document.postId(), document.title(), document.content(), document.createdAt());
+    }
+}
@@ -0,0 +1,15 @@
+package com.backend.immilog.post.application.search;
+
+import java.util.List;
+
+/**
+ * 검색 결과 페이지의 게시물 ID(순위 순)와 전체 일치 건수
+ */
+public record SearchHits(
+        List<String> postIds,
+        long totalCount
+) {
+    public static SearchHits empty() {
+        return new SearchHits(List.of(), 0L);
+    }
+}
@@ -0,0 +1,122 @@
+package com.backend.immilog.post.application.services;
+
+import com.backend.immilog.post.application.dto.PopularPostSnapshot;
+import com.backend.immilog.post.application.dto.PostResult;
+import com.backend.immilog.post.domain.model.post.PopularityRanking;
+import com.backend.immilog.post.domain.repositories.PopularPostRepository;
+import com.backend.immilog.post.presentation.payload.PostListResponse;
+import com.backend.immilog.shared.config.properties.PopularityProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인기/최다 조회 게시물 응답을 노드 메모리에 직렬화된 바이트로 보관
+ * 1. 요청 시에는 역직렬화/직렬화 없이 보관된 바이트를 그대로 씀
+ * 2. 집계가 새 버전을 발행하면(pub/sub) 해당 목록을 다음 요청에서 한 번만 다시 만듦
+ * 3. 버전 알림을 놓친 경우를 대비해 snapshotMaxAge가 지나면 다시 만듦
+ */
+@Slf4j
+@Service
+public class PopularPostSnapshotService {
+    // 순위 2종 x (국가 수 + 전체), 존재하지 않는 국가 ID 요청으로 무한히 커지지 않도록 상한을 둠
+    private static final long MAX_SNAPSHOTS = 1_000L;
+    private static final long UNKNOWN_VERSION = -1L;
+
+    private final PostQueryService postQueryService;
+    private final PopularPostRepository popularPostRepository;
+    private final ObjectMapper objectMapper;
+    private final PopularityProperties properties;
+    private final Cache<String, PopularPostSnapshot> snapshots;
+    private final AtomicLong latestVersion = new AtomicLong();
+
+    public PopularPostSnapshotService(
+            PostQueryService postQueryService,
+            PopularPostRepository popularPostRepository,
+            ObjectMapper objectMapper,
+            PopularityProperties properties
+    ) {
+        this.postQueryService = postQueryService;
+        this.popularPostRepository = popularPostRepository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(MAX_SNAPSHOTS)
+                .build();
+    }
+
+    public PopularPostSnapshot getSnapshot(
+            PopularityRanking ranking,
+            String scope
+    ) {
+        var key = ranking.cacheKey(scope);
+        var snapshot = snapshots.getIfPresent(key);
+        if (snapshot != null && isCurrent(snapshot)) {
+            return snapshot;
+        }
+        // 같은 키의 동시 요청은 한 번만 다시 만들고 그 결과를 함께 사용
+        return snapshots.asMap().compute(key, (cacheKey, current) ->
+                current != null && isCurrent(current) ? current : build(cacheKey, current));
+    }
+
+    /**
+     * 집계가 모든 목록을 저장한 뒤 호출
+     */
+    public void publishNewVersion() {
+        try {
+            onVersionPublished(popularPostRepository.publishNewVersion());
+        } catch (Exception e) {
+            log.error("[POPULAR POST SNAPSHOT] Failed to publish new version", e);
+        }
+    }
+
+    /**
+     * 다른 노드(자신 포함)가 발행한 버전 수신
+     */
+    public void onVersionPublished(long version) {
+        latestVersion.accumulateAndGet(version, Math::max);
+    }
+
+    private boolean isCurrent(PopularPostSnapshot snapshot) {
+        return snapshot.version() != UNKNOWN_VERSION
+                && snapshot.version() >= latestVersion.get()
+                && System.currentTimeMillis() - snapshot.builtAt() < properties.snapshotMaxAge().toMillis();
+    }
+
+    /**
+     * 목록보다 버전을 먼저 읽어, 읽은 목록이 항상 해당 버전 이후의 것이 되도록 함
+     */
+    private PopularPostSnapshot build(
+            String key,
+            PopularPostSnapshot current
+    ) {
+        long version;
+        try {
+            version = popularPostRepository.getVersion();
+        } catch (Exception e) {
+            log.warn("[POPULAR POST SNAPSHOT] Failed to read version for {}", key, e);
+            if (current != null) {
+                return current;
+            }
+            version = UNKNOWN_VERSION;
+        }
+        onVersionPublished(version);
+        var posts = postQueryService.getPostsFromRedis(key).stream()
+                .map(PostResult::toInfraDTO)
+                .toList();
+        try {
+            return PopularPostSnapshot.of(
+                    objectMapper.writeValueAsBytes(PostListResponse.of(posts)),
+                    version,
+                    System.currentTimeMillis()
+            );
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize popular posts " + key, e);
+        }
+    }
+}
@@ -2,25 +2,51 @@ package com.backend.immilog.post.application.services;
 
 import com.backend.immilog.post.application.dto.PostResult;
 import com.backend.immilog.post.domain.model.post.Badge;
+import com.backend.immilog.post.domain.model.post.BadgeAssignment;
+import com.backend.immilog.post.domain.model.post.PostActivity;
+import com.backend.immilog.post.domain.repositories.PostDomainRepository;
+import com.backend.immilog.shared.config.properties.PopularityProperties;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
-
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 뱃지 배정
+ * 1. 목표 뱃지 집합을 만든 뒤 현재 뱃지 보유 게시물을 한 번에 조회해 차이만 계산
+ * 2. 차이는 뱃지별 UPDATE ... WHERE post_id IN (...)으로 반영하고, 커밋 이후 바뀐 게시물의 상세와 피드 페이지 캐시를 비움
+ * 우선순위는 WEEKLY_BEST > HOT > MOST_VIEWED 순이며, 주간 베스트 게시물은 매시간 배정에서 뱃지가 바뀌지 않음
+ */
 @Service
 @Slf4j
 public class PostBadgeService {
-    private final PostCommandService postCommandService;
-    private final PostQueryService postQueryService;
+    private static final Set<Badge> POPULAR_BADGES = EnumSet.of(Badge.HOT, Badge.MOST_VIEWED);
+    private static final Set<Badge> WEEKLY_BADGES = EnumSet.of(Badge.WEEKLY_BEST);
+    private static final Comparator<ScoredPost> SCORE_ORDER = Comparator
+            .comparingDouble(ScoredPost::score)
+            .thenComparing(ScoredPost::postId, Comparator.reverseOrder());
+
+    private final PostDomainRepository postDomainRepository;
+    private final PopularityProperties popularityProperties;
+    private final PostCacheService postCacheService;
 
     public PostBadgeService(
-            PostCommandService postCommandService,
-            PostQueryService postQueryService
+            PostDomainRepository postDomainRepository,
+            PopularityProperties popularityProperties,
+            PostCacheService postCacheService
     ) {
-        this.postCommandService = postCommandService;
-        this.postQueryService = postQueryService;
+        this.postDomainRepository = postDomainRepository;
+        this.popularityProperties = popularityProperties;
+        this.postCacheService = postCacheService;
     }
 
     @Transactional
@@ -32,104 +58,98 @@ public class PostBadgeService {
                 hotPosts.size(), mostViewedPosts.size());
 
         try {
-            // 기존 뱃지가 없는 HOT 게시물만 업데이트
-            var newHotPosts = filterPostsWithoutBadge(hotPosts);
-            updateBadgesForPosts(newHotPosts, Badge.HOT);
-
-            // 기존 뱃지가 없는 MOST_VIEWED 게시물만 업데이트
-            var newMostViewedPosts = filterPostsWithoutBadge(mostViewedPosts);
-            updateBadgesForPosts(newMostViewedPosts, Badge.MOST_VIEWED);
-
-            log.info("[BADGE UPDATE] Successfully updated {} new HOT badges and {} new MOST_VIEWED badges",
-                    newHotPosts.size(), newMostViewedPosts.size());
+            // HOT 배정을 먼저 넣어 두 목록에 모두 있는 게시물은 HOT을 유지
+            Map<String, Badge> targets = new HashMap<>();
+            hotPosts.forEach(post -> targets.putIfAbsent(post.postId(), Badge.HOT));
+            mostViewedPosts.forEach(post -> targets.putIfAbsent(post.postId(), Badge.MOST_VIEWED));
+
+            var assignment = apply(targets, POPULAR_BADGES, POPULAR_BADGES);
+            log.info("[BADGE UPDATE] Assigned {} HOT and {} MOST_VIEWED badges, cleared {}",
+                    assignment.assignedCount(Badge.HOT),
+                    assignment.assignedCount(Badge.MOST_VIEWED),
+                    assignment.clears().size());
         } catch (Exception e) {
             log.error("[BADGE UPDATE] Failed to update badges", e);
             throw e;
         }
     }
 
-    private List<PostResult> filterPostsWithoutBadge(List<PostResult> posts) {
-        return posts.stream()
-                .filter(postResult -> {
-                    var post = postQueryService.getPostByIdOptional(postResult.postId());
-                    if (post.isPresent()) {
-                        var currentBadge = post.get().badge();
-                        // 뱃지가 없거나 null인 경우만 필터링
-                        boolean hasNoBadge = currentBadge == null;
-                        if (!hasNoBadge) {
-                            log.debug("[BADGE UPDATE] Post {} already has badge {}, skipping",
-                                    postResult.postId(), currentBadge);
-                        }
-                        return hasNoBadge;
-                    }
-                    return false; // 게시물이 존재하지 않으면 제외
-                })
-                .toList();
-    }
+    @Transactional
+    public void updateWeeklyBestBadges() {
+        log.info("[BADGE UPDATE] Starting WEEKLY_BEST badge update");
 
-    private void clearExistingBadges() {
-        log.info("[BADGE UPDATE] Clearing existing HOT and MOST_VIEWED badges");
+        try {
+            // 주간 베스트 게시물 계산 (조회수 + 댓글수 + 좋아요수 종합 점수)
+            var to = LocalDateTime.now();
+            var from = to.minusWeeks(1);
 
-        // HOT 뱃지 제거
-        var hotPosts = postQueryService.findByBadge(Badge.HOT);
-        hotPosts.forEach(post -> {
-            var updatedPost = post.updateBadge(null);
-            postCommandService.save(updatedPost);
-        });
+            Map<String, Badge> targets = new HashMap<>();
+            getWeeklyBestPostIds(from, to).forEach(postId -> targets.put(postId, Badge.WEEKLY_BEST));
 
-        // MOST_VIEWED 뱃지 제거
-        var mostViewedPosts = postQueryService.findByBadge(Badge.MOST_VIEWED);
-        mostViewedPosts.forEach(post -> {
-            var updatedPost = post.updateBadge(null);
-            postCommandService.save(updatedPost);
-        });
+            // 주간 베스트는 다른 뱃지보다 우선하므로 HOT/MOST_VIEWED를 가진 게시물도 교체
+            var assignment = apply(targets, WEEKLY_BADGES, EnumSet.allOf(Badge.class));
+            log.info("[BADGE UPDATE] WEEKLY_BEST badge update completed: assigned {}, cleared {}",
+                    assignment.assignedCount(Badge.WEEKLY_BEST), assignment.clears().size());
+        } catch (Exception e) {
+            log.error("[BADGE UPDATE] Failed to update WEEKLY_BEST badges", e);
+        }
     }
 
-    private void updateBadgesForPosts(
-            List<PostResult> posts,
-            Badge badge
+    /**
+     * 기간 내 활동 집계를 한 행씩 받아 상위 weeklyBestSize개만 힙에 유지 (점수 내림차순)
+     */
+    List<String> getWeeklyBestPostIds(
+            LocalDateTime from,
+            LocalDateTime to
     ) {
-        log.info("[BADGE UPDATE] Updating {} posts with {} badge", posts.size(), badge);
-
-        posts.forEach(postResult -> {
-            try {
-                var post = postQueryService.getPostByIdOptional(postResult.postId());
-                if (post.isPresent()) {
-                    var updatedPost = post.get().updateBadge(badge);
-                    postCommandService.save(updatedPost);
-                    log.debug("[BADGE UPDATE] Updated post {} with badge {}", postResult.postId(), badge);
-                } else {
-                    log.warn("[BADGE UPDATE] Post not found: {}", postResult.postId());
-                }
-            } catch (Exception e) {
-                log.error("[BADGE UPDATE] Failed to update badge for post: {}", postResult.postId(), e);
+        int size = popularityProperties.weeklyBestSize();
+        if (size <= 0) {
+            return List.of();
+        }
+        PriorityQueue<ScoredPost> top = new PriorityQueue<>(size, SCORE_ORDER);
+        postDomainRepository.streamPostActivities(from, to, activity -> {
+            var scored = new ScoredPost(activity.postId(), score(activity));
+            if (scored.score() <= 0) {
+                return;
+            }
+            if (top.size() < size) {
+                top.add(scored);
+            } else if (SCORE_ORDER.compare(scored, top.peek()) > 0) {
+                top.poll();
+                top.add(scored);
             }
         });
-    }
 
-    @Transactional
-    public void updateWeeklyBestBadges() {
-        log.info("[BADGE UPDATE] Starting WEEKLY_BEST badge update");
+        List<ScoredPost> ranked = new ArrayList<>(top);
+        ranked.sort(SCORE_ORDER.reversed());
+        return ranked.stream().map(ScoredPost::postId).toList();
+    }
 
-        try {
-            // 기존 WEEKLY_BEST 뱃지 제거
-            var weeklyBestPosts = postQueryService.findByBadge(Badge.WEEKLY_BEST);
-            weeklyBestPosts.forEach(post -> {
-                var updatedPost = post.updateBadge(null);
-                postCommandService.save(updatedPost);
-            });
-
-            // 주간 베스트 게시물 계산 (조회수 + 댓글수 종합 점수)
-            var from = LocalDateTime.now().minusWeeks(1);
-            var to = LocalDateTime.now();
+    private BadgeAssignment apply(
+            Map<String, Badge> targets,
+            Set<Badge> managedBadges,
+            Set<Badge> replaceableBadges
+    ) {
+        var currentBadges = postDomainRepository.findBadges(managedBadges, targets.keySet());
+        var assignment = BadgeAssignment.diff(targets, currentBadges, managedBadges, replaceableBadges);
+        if (!assignment.isEmpty()) {
+            postDomainRepository.applyBadgeAssignment(assignment);
+            postCacheService.onBadgesChanged(assignment.affectedPostIds());
+        }
+        return assignment;
+    }
 
-            // TODO: 주간 베스트를 계산하는 로직 구현 필요
-            // var weeklyBestResults = getWeeklyBestPosts(from, to);
-            // updateBadgesForPosts(weeklyBestResults, Badge.WEEKLY_BEST);
+    private double score(PostActivity activity) {
+        return activity.score(
+                popularityProperties.viewWeight(),
+                popularityProperties.commentWeight(),
+                popularityProperties.likeWeight()
+        );
+    }
 
-            log.info("[BADGE UPDATE] WEEKLY_BEST badge update completed");
-        } catch (Exception e) {
-            log.error("[BADGE UPDATE] Failed to update WEEKLY_BEST badges", e);
-        }
+    private record ScoredPost(
+            String postId,
+            double score
+    ) {
     }
-}
\ No newline at end of file
+}
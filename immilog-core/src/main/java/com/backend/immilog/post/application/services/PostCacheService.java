@@ -0,0 +1,155 @@
+package com.backend.immilog.post.application.services;
+
+import com.backend.immilog.post.application.dto.CachedPostPage;
+import com.backend.immilog.post.application.dto.PostResult;
+import com.backend.immilog.post.domain.model.post.Categories;
+import com.backend.immilog.post.domain.model.post.SortingMethods;
+import com.backend.immilog.shared.config.properties.PostCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * 게시물 상세와 피드 앞쪽 페이지 캐시
+ * 1. 상세는 게시물 수정/삭제, 댓글 수 변경, 좋아요/북마크 토글 시 해당 게시물만 삭제
+ * 2. 피드 페이지는 게시물 생성/수정/삭제와 뱃지 배정 시 전체를 비우고, 댓글/좋아요 수 변화는 짧은 TTL 안에서 반영
+ */
+@Slf4j
+@Service
+public class PostCacheService {
+    public static final String POST_DETAIL_CACHE = "postDetail";
+    public static final String POST_FEED_CACHE = "postFeed";
+
+    private final CacheManager cacheManager;
+    private final PostCacheProperties properties;
+
+    public PostCacheService(
+            CacheManager cacheManager,
+            PostCacheProperties properties
+    ) {
+        this.cacheManager = cacheManager;
+        this.properties = properties;
+    }
+
+    public PostResult getPostDetail(
+            String postId,
+            Supplier<PostResult> loader
+    ) {
+        var cache = cache(POST_DETAIL_CACHE);
+        if (cache == null) {
+            return loader.get();
+        }
+        return cache.get(postId, loader::get);
+    }
+
+    /**
+     * (국가, 카테고리, 정렬, 공개 여부)별 앞쪽 feedPages개 페이지만 캐시
+     */
+    public Page<PostResult> getFeedPage(
+            String countryId,
+            SortingMethods sortingMethod,
+            String isPublic,
+            Categories category,
+            Pageable pageable,
+            Supplier<Page<PostResult>> loader
+    ) {
+        var cache = cache(POST_FEED_CACHE);
+        if (cache == null || pageable.getPageNumber() >= properties.feedPages()) {
+            return loader.get();
+        }
+        var key = String.join(":",
+                String.valueOf(countryId),
+                String.valueOf(category),
+                String.valueOf(sortingMethod),
+                String.valueOf(isPublic),
+                String.valueOf(pageable.getPageNumber())
+        );
+        var cached = cache.get(key, () -> CachedPostPage.from(loader.get()));
+        return cached.toPage(pageable);
+    }
+
+    /**
+     * 게시물 내용/공개 여부/삭제 상태가 바뀐 경우 (트랜잭션 안이면 커밋 이후)
+     */
+    public void onPostChanged(String postId) {
+        afterCommit(() -> {
+            evict(POST_DETAIL_CACHE, postId);
+            clear(POST_FEED_CACHE);
+        });
+    }
+
+    /**
+     * 뱃지 배정으로 뱃지가 바뀐 게시물 (배정은 매시간 한 번이므로 피드 페이지도 함께 비움)
+     */
+    public void onBadgesChanged(Collection<String> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> {
+            postIds.forEach(postId -> evict(POST_DETAIL_CACHE, postId));
+            clear(POST_FEED_CACHE);
+        });
+    }
+
+    /**
+     * 댓글 수, 좋아요/북마크처럼 상세에만 즉시 반영할 변경
+     */
+    public void evictPostDetails(Collection<String> postIds) {
+        afterCommit(() -> postIds.forEach(postId -> evict(POST_DETAIL_CACHE, postId)));
+    }
+
+    private void evict(
+            String cacheName,
+            String key
+    ) {
+        var cache = cache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        try {
+            cache.evict(key);
+        } catch (Exception e) {
+            log.warn("Failed to evict {} from {}", key, cacheName, e);
+        }
+    }
+
+    private void clear(String cacheName) {
+        var cache = cache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        try {
+            cache.clear();
+        } catch (Exception e) {
+            log.warn("Failed to clear {}", cacheName, e);
+        }
+    }
+
+    private Cache cache(String cacheName) {
+        if (!properties.enabled()) {
+            return null;
+        }
+        return cacheManager.getCache(cacheName);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+}
@@ -1,6 +1,9 @@
 package com.backend.immilog.post.application.services;
 
 import com.backend.immilog.post.application.dto.PostResult;
+import com.backend.immilog.post.application.feed.PostFeedViewService;
+import com.backend.immilog.post.application.search.PostSearchService;
+import com.backend.immilog.post.domain.model.post.PopularityRanking;
 import com.backend.immilog.post.domain.model.post.Post;
 import com.backend.immilog.post.domain.repositories.PopularPostRepository;
 import com.backend.immilog.post.domain.repositories.PostDomainRepository;
@@ -11,6 +14,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -18,20 +22,42 @@ public class PostCommandService {
     private final PostDomainRepository postDomainRepository;
     private final PopularPostRepository popularPostRepository;
     private final PostValidator postValidator;
+    private final PostSearchService postSearchService;
+    private final PostCacheService postCacheService;
+    private final PostFeedViewService postFeedViewService;
 
     public PostCommandService(
             PostDomainRepository postDomainRepository,
             PopularPostRepository popularPostRepository,
-            PostValidator postValidator
+            PostValidator postValidator,
+            PostSearchService postSearchService,
+            PostCacheService postCacheService,
+            PostFeedViewService postFeedViewService
     ) {
         this.postDomainRepository = postDomainRepository;
         this.popularPostRepository = popularPostRepository;
         this.postValidator = postValidator;
+        this.postSearchService = postSearchService;
+        this.postCacheService = postCacheService;
+        this.postFeedViewService = postFeedViewService;
     }
 
     @Transactional
     public Post save(Post post) {
-        return postDomainRepository.save(post);
+        var savedPost = postDomainRepository.save(post);
+        postSearchService.onPostChanged(savedPost);
+        postCacheService.onPostChanged(savedPost.id());
+        postFeedViewService.publishPostChanged(savedPost.id());
+        return savedPost;
+    }
+
+    /**
+     * 게시물별 댓글 수 증감분을 엔티티 로드 없이 원자적 UPDATE로 반영
+     */
+    @Transactional
+    public void applyCommentCountDeltas(Map<String, Long> commentCountDeltas) {
+        postDomainRepository.applyCommentCountDeltas(commentCountDeltas);
+        postCacheService.evictPostDetails(commentCountDeltas.keySet());
     }
 
     @Transactional
@@ -50,7 +76,11 @@ public class PostCommandService {
         post.updateTitle(title);
         post.updateContent(content);
 
-        return postDomainRepository.save(post);
+        var savedPost = postDomainRepository.save(post);
+        postSearchService.onPostChanged(savedPost);
+        postCacheService.onPostChanged(savedPost.id());
+        postFeedViewService.publishPostChanged(savedPost.id());
+        return savedPost;
     }
 
     @Transactional
@@ -67,7 +97,10 @@ public class PostCommandService {
 
         post.updateIsPublic(isPublic);
 
-        return postDomainRepository.save(post);
+        var savedPost = postDomainRepository.save(post);
+        postCacheService.onPostChanged(savedPost.id());
+        postFeedViewService.publishPostChanged(savedPost.id());
+        return savedPost;
     }
 
     @Transactional
@@ -81,31 +114,22 @@ public class PostCommandService {
         postValidator.validatePostAccess(post, userId);
 
         post.delete();
-        postDomainRepository.save(post);
+        var savedPost = postDomainRepository.save(post);
+        postSearchService.onPostChanged(savedPost);
+        postCacheService.onPostChanged(savedPost.id());
+        postFeedViewService.publishPostChanged(savedPost.id());
     }
 
-    @Transactional
-    public void saveMostViewedPosts(
+    public void savePopularPosts(
+            PopularityRanking ranking,
+            String scope,
             List<PostResult> posts,
-            Integer expiration
-    ) throws JsonProcessingException {
-        if (posts.isEmpty()) {
-            log.warn("[POPULAR POST AGGREGATION FAILED] Failed to save most viewed posts");
-            return;
-        }
-        popularPostRepository.saveMostViewedPosts(posts, expiration);
-    }
-
-    @Transactional
-    public void saveHotPosts(
-            List<PostResult> popularPosts,
             int expiration
     ) throws JsonProcessingException {
-        if (popularPosts.isEmpty()) {
-            log.warn("[POPULAR POST AGGREGATION FAILED] Failed to save hot posts");
+        if (posts.isEmpty()) {
+            log.warn("[POPULAR POST AGGREGATION FAILED] No {} posts for scope {}", ranking, scope);
             return;
         }
-        popularPostRepository.saveHotPosts(popularPosts, expiration);
+        popularPostRepository.savePopularPosts(ranking.cacheKey(scope), posts, expiration);
     }
-
 }
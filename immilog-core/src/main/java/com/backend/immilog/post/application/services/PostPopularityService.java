@@ -0,0 +1,179 @@
+package com.backend.immilog.post.application.services;
+
+import com.backend.immilog.post.domain.model.post.PopularityRanking;
+import com.backend.immilog.post.domain.repositories.PopularityRankingRepository;
+import com.backend.immilog.post.domain.repositories.PostDomainRepository;
+import com.backend.immilog.shared.config.properties.PopularityProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 조회/댓글/좋아요 발생 시점에 인기 순위 점수를 증분 갱신
+ * 점수는 forward decay 방식(가중치 x 2^((t - 기준시각) / 반감기))으로 누적하여 주기적인 재계산 없이 최근 활동이 우선되도록 함
+ * 기준시각은 반감기 GENERATION_HALF_LIVES 배마다 바뀌는 세대 단위로 두고, 다음 세대 키에도 미리 누적해 세대 전환 시 이력이 끊기지 않게 함
+ */
+@Slf4j
+@Service
+public class PostPopularityService {
+    static final int GENERATION_HALF_LIVES = 16;
+
+    private final PopularityRankingRepository popularityRankingRepository;
+    private final PostDomainRepository postDomainRepository;
+    private final PopularityProperties properties;
+    private final Cache<String, String> postCountryCache;
+
+    public PostPopularityService(
+            PopularityRankingRepository popularityRankingRepository,
+            PostDomainRepository postDomainRepository,
+            PopularityProperties properties
+    ) {
+        this.popularityRankingRepository = popularityRankingRepository;
+        this.postDomainRepository = postDomainRepository;
+        this.properties = properties;
+        // 게시물의 국가는 바뀌지 않으므로 한 번 조회한 값은 용량 한도 내에서 계속 사용
+        this.postCountryCache = Caffeine.newBuilder()
+                .maximumSize(properties.countryCacheSize())
+                .build();
+    }
+
+    public void recordViews(Map<String, Long> viewCountDeltas) {
+        record(viewCountDeltas, properties.viewWeight(), 1.0);
+    }
+
+    public void recordComments(Map<String, Long> commentCountDeltas) {
+        record(commentCountDeltas, properties.commentWeight(), 0.0);
+    }
+
+    public void recordLikes(Map<String, Long> likeCountDeltas) {
+        record(likeCountDeltas, properties.likeWeight(), 0.0);
+    }
+
+    /**
+     * 현재 세대의 상위 게시물 ID (점수 내림차순)
+     */
+    public List<String> getTopPostIds(
+            PopularityRanking ranking,
+            String scope,
+            int size
+    ) {
+        return popularityRankingRepository.findTopPostIds(ranking, scope, generation(ranking, System.currentTimeMillis()), size);
+    }
+
+    public Set<String> getScopes(PopularityRanking ranking) {
+        return popularityRankingRepository.findScopes(ranking);
+    }
+
+    /**
+     * 순위 집합이 무한히 커지지 않도록 범위별로 상위 maxEntries만 유지
+     */
+    public void trim() {
+        long now = System.currentTimeMillis();
+        for (PopularityRanking ranking : PopularityRanking.values()) {
+            long generation = generation(ranking, now);
+            for (String scope : scopesWithGlobal(ranking)) {
+                popularityRankingRepository.trim(ranking, scope, generation, properties.maxEntries());
+                popularityRankingRepository.trim(ranking, scope, generation + 1, properties.maxEntries());
+            }
+        }
+    }
+
+    /**
+     * 점수 갱신 실패가 조회수/댓글 반영 같은 본 작업을 깨뜨리지 않도록 예외를 기록만 함
+     */
+    private void record(
+            Map<String, Long> deltas,
+            double hotWeight,
+            double mostViewedWeight
+    ) {
+        if (deltas == null || deltas.isEmpty()) {
+            return;
+        }
+        try {
+            Map<String, String> countries = resolveCountries(new ArrayList<>(deltas.keySet()));
+            long now = System.currentTimeMillis();
+            increment(PopularityRanking.HOT, deltas, countries, hotWeight, now);
+            increment(PopularityRanking.MOST_VIEWED, deltas, countries, mostViewedWeight, now);
+        } catch (Exception e) {
+            log.error("[POPULARITY] Failed to record popularity for {} posts", deltas.size(), e);
+        }
+    }
+
+    private void increment(
+            PopularityRanking ranking,
+            Map<String, Long> deltas,
+            Map<String, String> countries,
+            double weight,
+            long now
+    ) {
+        if (weight == 0) {
+            return;
+        }
+        long halfLife = halfLife(ranking).toMillis();
+        long generation = generation(ranking, now);
+        Duration ttl = Duration.ofMillis(halfLife * GENERATION_HALF_LIVES * 2);
+
+        for (long target = generation; target <= generation + 1; target++) {
+            long epoch = target * halfLife * GENERATION_HALF_LIVES;
+            double decay = Math.pow(2, (double) (now - epoch) / halfLife);
+
+            Map<String, Map<String, Double>> incrementsByScope = new HashMap<>();
+            deltas.forEach((postId, delta) -> {
+                if (delta == 0) {
+                    return;
+                }
+                double increment = delta * weight * decay;
+                incrementsByScope.computeIfAbsent(PopularityRanking.GLOBAL_SCOPE, scope -> new HashMap<>()).put(postId, increment);
+                String countryId = countries.get(postId);
+                if (countryId != null) {
+                    incrementsByScope.computeIfAbsent(countryId, scope -> new HashMap<>()).put(postId, increment);
+                }
+            });
+            popularityRankingRepository.incrementScores(ranking, target, incrementsByScope, ttl);
+        }
+    }
+
+    private Map<String, String> resolveCountries(List<String> postIds) {
+        Map<String, String> countries = new HashMap<>(postCountryCache.getAllPresent(postIds));
+        List<String> missing = postIds.stream().filter(postId -> !countries.containsKey(postId)).toList();
+        if (!missing.isEmpty()) {
+            Map<String, String> loaded = postDomainRepository.findCountryIdsByPostIds(missing);
+            loaded.forEach((postId, countryId) -> {
+                if (countryId != null) {
+                    postCountryCache.put(postId, countryId);
+                    countries.put(postId, countryId);
+                }
+            });
+        }
+        return countries;
+    }
+
+    private Set<String> scopesWithGlobal(PopularityRanking ranking) {
+        var scopes = new HashSet<>(popularityRankingRepository.findScopes(ranking));
+        scopes.add(PopularityRanking.GLOBAL_SCOPE);
+        return scopes;
+    }
+
+    private long generation(
+            PopularityRanking ranking,
+            long now
+    ) {
+        return now / (halfLife(ranking).toMillis() * GENERATION_HALF_LIVES);
+    }
+
+    private Duration halfLife(PopularityRanking ranking) {
+        return switch (ranking) {
+            case HOT -> properties.hotHalfLife();
+            case MOST_VIEWED -> properties.mostViewedHalfLife();
+        };
+    }
+}
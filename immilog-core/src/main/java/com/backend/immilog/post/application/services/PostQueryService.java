@@ -1,25 +1,23 @@
 package com.backend.immilog.post.application.services;
 
+import com.backend.immilog.post.application.dto.InteractionView;
 import com.backend.immilog.post.application.dto.PostResult;
+import com.backend.immilog.post.application.enrichment.PostEnrichmentService;
+import com.backend.immilog.post.application.feed.PostFeedViewService;
 import com.backend.immilog.post.application.mapper.PostResultAssembler;
-import com.backend.immilog.post.domain.events.PostEvent;
+import com.backend.immilog.post.application.search.PostSearchService;
 import com.backend.immilog.post.domain.model.post.Badge;
 import com.backend.immilog.post.domain.model.post.Categories;
+import com.backend.immilog.post.domain.model.post.CursorSlice;
 import com.backend.immilog.post.domain.model.post.Post;
+import com.backend.immilog.post.domain.model.post.PostCursor;
 import com.backend.immilog.post.domain.model.post.SortingMethods;
 import com.backend.immilog.post.domain.repositories.PostDomainRepository;
 import com.backend.immilog.post.exception.PostErrorCode;
 import com.backend.immilog.post.exception.PostException;
 import com.backend.immilog.shared.aop.annotation.PerformanceMonitor;
-import com.backend.immilog.shared.domain.event.DomainEvents;
-import com.backend.immilog.shared.domain.model.InteractionData;
-import com.backend.immilog.shared.domain.model.Resource;
 import com.backend.immilog.shared.enums.ContentType;
 import com.backend.immilog.shared.infrastructure.DataRepository;
-import com.backend.immilog.shared.infrastructure.event.EventResultStorageService;
-import com.backend.immilog.interaction.application.services.InteractionUserQueryService;
-import com.backend.immilog.interaction.domain.model.InteractionStatus;
-import com.backend.immilog.comment.application.services.CommentQueryService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -30,12 +28,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 @Slf4j
 @Service
@@ -43,30 +42,27 @@ public class PostQueryService {
     private final ObjectMapper objectMapper;
     private final PostDomainRepository postDomainRepository;
     private final DataRepository redisDataRepository;
-    private final PostResourceQueryService postResourceQueryService;
     private final PostResultAssembler postResultAssembler;
-    private final EventResultStorageService eventResultStorageService;
-    private final InteractionUserQueryService interactionUserQueryService;
-    private final CommentQueryService commentQueryService;
+    private final PostEnrichmentService postEnrichmentService;
+    private final PostSearchService postSearchService;
+    private final PostFeedViewService postFeedViewService;
 
     public PostQueryService(
             ObjectMapper objectMapper,
             PostDomainRepository postDomainRepository,
             DataRepository redisDataRepository,
-            PostResourceQueryService postResourceQueryService,
             PostResultAssembler postResultAssembler,
-            EventResultStorageService eventResultStorageService,
-            InteractionUserQueryService interactionUserQueryService,
-            CommentQueryService commentQueryService
+            PostEnrichmentService postEnrichmentService,
+            PostSearchService postSearchService,
+            PostFeedViewService postFeedViewService
     ) {
         this.objectMapper = objectMapper;
         this.postDomainRepository = postDomainRepository;
         this.redisDataRepository = redisDataRepository;
-        this.postResourceQueryService = postResourceQueryService;
         this.postResultAssembler = postResultAssembler;
-        this.eventResultStorageService = eventResultStorageService;
-        this.interactionUserQueryService = interactionUserQueryService;
-        this.commentQueryService = commentQueryService;
+        this.postEnrichmentService = postEnrichmentService;
+        this.postSearchService = postSearchService;
+        this.postFeedViewService = postFeedViewService;
     }
 
     @Transactional(readOnly = true)
@@ -80,7 +76,6 @@ public class PostQueryService {
     }
 
     @PerformanceMonitor
-    @Transactional(readOnly = true)
     public Page<PostResult> getPosts(
             String countryId,
             SortingMethods sortingMethod,
@@ -97,15 +92,38 @@ public class PostQueryService {
         );
         var postIdList = posts.stream().map(Post::id).toList();
         var postResults = posts.map(this::convertToPostResult);
-        return this.assemblePostResult(postIdList, postResults);
+        // 첫 페이지 캐시에 그대로 저장되므로 항상 FULL로 조립
+        return this.assemblePostResult(postIdList, postResults, InteractionView.FULL);
+    }
+
+    /**
+     * 피드 투영으로 SUMMARY 피드를 읽을 수 있는지
+     */
+    public boolean isFeedViewReadable() {
+        return postFeedViewService.isReadable();
     }
 
+    /**
+     * 투영 행은 대표 이미지 1개, 최대 tagLimit개 태그만 담고 사용자 목록이 비어 있으므로 SUMMARY 응답에만 사용
+     */
+    @PerformanceMonitor
     @Transactional(readOnly = true)
+    public Page<PostResult> getPostSummaries(
+            String countryId,
+            SortingMethods sortingMethod,
+            String isPublic,
+            Categories category,
+            Pageable pageable
+    ) {
+        return postFeedViewService.getFeed(countryId, sortingMethod, isPublic, category, pageable);
+    }
+
     public Page<PostResult> getPostsByKeyword(
             String keyword,
-            Pageable pageable
+            Pageable pageable,
+            InteractionView interactionView
     ) {
-        var posts = postDomainRepository.findPostsByKeyword(keyword, pageable);
+        var posts = this.searchPosts(keyword, pageable);
         var postIdList = posts.stream().map(Post::id).toList();
         var postResults = posts.map(this::convertToPostResult);
         var updatedPostResultsPage = new PageImpl<>(
@@ -115,27 +133,74 @@ public class PostQueryService {
                 pageable,
                 postResults.getTotalElements()
         );
-        return this.assemblePostResult(postIdList, updatedPostResultsPage);
+        return this.assemblePostResult(postIdList, updatedPostResultsPage, interactionView);
+    }
+
+    @PerformanceMonitor
+    public CursorSlice<PostResult> getPostsAfter(
+            String countryId,
+            SortingMethods sortingMethod,
+            String isPublic,
+            Categories category,
+            PostCursor cursor,
+            int size,
+            boolean includeCount,
+            InteractionView interactionView
+    ) {
+        // 투영 행은 FULL 응답을 채우지 못하므로 SUMMARY 요청만 투영에서 읽음
+        if (!interactionView.includesUsers() && postFeedViewService.isReadable()) {
+            return postFeedViewService.getFeedAfter(countryId, sortingMethod, isPublic, category, cursor, size, includeCount);
+        }
+        var posts = postDomainRepository.findPostsAfter(
+                countryId,
+                sortingMethod,
+                isPublic,
+                category,
+                cursor,
+                size,
+                includeCount
+        );
+        return this.assembleSlice(posts, postResult -> postResult, interactionView);
+    }
+
+    public CursorSlice<PostResult> getPostsByKeywordAfter(
+            String keyword,
+            PostCursor cursor,
+            int size,
+            InteractionView interactionView
+    ) {
+        var posts = this.searchPostsAfter(keyword, cursor, size);
+        return this.assembleSlice(posts, postResult -> postResultAssembler.assembleKeywords(postResult, keyword), interactionView);
+    }
+
+    public CursorSlice<PostResult> getPostsByUserIdAfter(
+            String userId,
+            PostCursor cursor,
+            int size,
+            InteractionView interactionView
+    ) {
+        var posts = postDomainRepository.findPostsByUserIdAfter(userId, cursor, size);
+        return this.assembleSlice(posts, postResult -> postResult, interactionView);
     }
 
-    @Transactional(readOnly = true)
     public PostResult getPostDetail(String postId) {
         var post = postDomainRepository.findById(postId).orElseThrow(() -> new PostException(PostErrorCode.POST_NOT_FOUND));
         var posts = new PageImpl<>(List.of(post));
         var postResult = posts.map(this::convertToPostResult);
-        return this.assemblePostResult(List.of(postId), postResult).getContent().getFirst();
+        return this.assemblePostResult(List.of(postId), postResult, InteractionView.FULL).getContent().getFirst();
     }
 
-    @Transactional(readOnly = true)
     public Page<PostResult> getPostsByUserId(
             String userId,
-            Pageable pageable
+            Pageable pageable,
+            InteractionView interactionView
     ) {
         var posts = postDomainRepository.findPostsByUserId(userId, pageable);
         var postResults = posts.map(this::convertToPostResult);
         return this.assemblePostResult(
                 posts.stream().map(Post::id).toList(),
-                postResults
+                postResults,
+                interactionView
         );
     }
 
@@ -155,86 +220,97 @@ public class PostQueryService {
         return List.of();
     }
 
-    public List<PostResult> getPostsByPostIdList(List<String> postIdList) {
+    public List<PostResult> getPostsByPostIdList(
+            List<String> postIdList,
+            InteractionView interactionView
+    ) {
         var postResults = postDomainRepository.findPostsByIdList(postIdList)
                 .stream()
                 .map(this::convertToPostResult)
                 .toList();
-        return this.assemblePostResult(postIdList, new PageImpl<>(postResults)).toList();
+        return this.assemblePostResult(postIdList, new PageImpl<>(postResults), interactionView).toList();
     }
 
-    private Page<PostResult> assemblePostResult(
-            List<String> resultIdList,
-            Page<PostResult> postResults
+    /**
+     * 검색 색인에서 순위대로 ID를 얻어 한 번의 IN 조회로 읽고, 색인을 쓸 수 없으면 DB LIKE 검색으로 대체
+     */
+    private Page<Post> searchPosts(
+            String keyword,
+            Pageable pageable
     ) {
-        var orderMap = IntStream.range(0, resultIdList.size())
-                .boxed()
-                .collect(Collectors.toMap(resultIdList::get, i -> i, (existing, replacement) -> existing));
-
-        // 이벤트를 통해 인터랙션 데이터 요청 (CompletableFuture로 동기화)
-        String requestId = eventResultStorageService.generateRequestId("interaction");
-        log.debug("Requesting interaction data for {} posts with requestId: {}", resultIdList.size(), requestId);
-        
-        // Future 등록
-        eventResultStorageService.registerEventProcessing(requestId);
-        
-        // 이벤트 발행
-        DomainEvents.raise(new PostEvent.InteractionDataRequested(requestId, resultIdList, ContentType.POST.name()));
-
-        // 이벤트 처리 완료 대기 (최대 2초)
-        var interactionUsers = eventResultStorageService.waitForInteractionData(requestId, java.time.Duration.ofSeconds(2));
-        log.debug("Retrieved {} interaction data items via event", interactionUsers.size());
-        
-        // 실시간 댓글 개수 조회
-        var commentCounts = commentQueryService.getCommentCountsByPostIds(resultIdList);
-        log.debug("Retrieved comment counts for {} posts", commentCounts.size());
-        
-        var postResources = postResourceQueryService.getResourcesByPostIdList(resultIdList, ContentType.POST);
+        var hits = postSearchService.search(keyword, pageable);
+        if (hits.isEmpty()) {
+            return postDomainRepository.findPostsByKeyword(keyword, pageable);
+        }
+        var postIds = hits.get().postIds();
+        var postsById = postDomainRepository.findPostsByIdList(postIds).stream()
+                .collect(Collectors.toMap(Post::id, post -> post, (existing, replacement) -> existing));
+        var posts = postIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(posts, pageable, hits.get().totalCount());
+    }
 
-        return postResults.map(postResult -> {
-            var resources = postResources.stream()
-                    .filter(postResource -> postResource.postId().equals(postResult.postId()))
-                    .map(pr -> new Resource(
-                            pr.id(),
-                            pr.postId(),
-                            pr.contentType(),
-                            com.backend.immilog.shared.domain.model.ResourceType.valueOf(pr.resourceType().name()),
-                            pr.content()
-                    ))
-                    .sorted(Comparator.comparingInt(pr -> orderMap.getOrDefault(pr.entityId(), Integer.MAX_VALUE)))
-                    .toList();
+    /**
+     * 검색 색인에서 (작성일, post_id) 키셋 순서로 size + 1건의 ID를 얻어 한 번의 IN 조회로 읽고, 색인을 쓸 수 없으면 DB LIKE 검색으로 대체
+     */
+    private CursorSlice<Post> searchPostsAfter(
+            String keyword,
+            PostCursor cursor,
+            int size
+    ) {
+        if (cursor != null) {
+            cursor.validateSortingMethod(SortingMethods.CREATED_DATE);
+        }
+        var hits = postSearchService.searchAfter(
+                keyword,
+                cursor == null ? null : (LocalDateTime) cursor.sortKey(),
+                cursor == null ? null : cursor.postId(),
+                size + 1
+        );
+        if (hits.isEmpty()) {
+            return postDomainRepository.findPostsByKeywordAfter(keyword, cursor, size);
+        }
+        var postIds = hits.get().postIds();
+        boolean hasNext = postIds.size() > size;
+        var pageIds = hasNext ? postIds.subList(0, size) : postIds;
+        var postsById = postDomainRepository.findPostsByIdList(pageIds).stream()
+                .collect(Collectors.toMap(Post::id, post -> post, (existing, replacement) -> existing));
+        var posts = pageIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        PostCursor nextCursor = hasNext && !posts.isEmpty()
+                ? new PostCursor(SortingMethods.CREATED_DATE, posts.getLast().createdAt().toString(), posts.getLast().id())
+                : null;
+        return new CursorSlice<>(posts, nextCursor, null);
+    }
 
-            var interactionDataList = interactionUsers.stream()
-                    .filter(interactionData -> interactionData.postId().equals(postResult.postId()))
-                    .sorted(Comparator.comparingInt(id -> orderMap.getOrDefault(id.postId(), Integer.MAX_VALUE)))
-                    .toList();
+    private CursorSlice<PostResult> assembleSlice(
+            CursorSlice<Post> posts,
+            UnaryOperator<PostResult> decorator,
+            InteractionView interactionView
+    ) {
+        var postIdList = posts.content().stream().map(Post::id).toList();
+        var postResults = posts.content().stream()
+                .map(this::convertToPostResult)
+                .map(decorator)
+                .toList();
+        var assembled = this.assemblePostResult(postIdList, new PageImpl<>(postResults), interactionView).getContent();
+        return new CursorSlice<>(assembled, posts.nextCursor(), posts.totalCount());
+    }
 
-            var postResultWithNewInteractionUsers = postResultAssembler.assembleInteractionData(
-                    postResult,
-                    interactionDataList
-            );
-            var postResultWithNewResources = postResultAssembler.assembleResources(
-                    postResultWithNewInteractionUsers,
-                    resources
-            );
-            // 좋아요 수 실시간 계산 (ACTIVE 상태의 LIKE만 카운트)
-            long likeCount = interactionDataList.stream()
-                    .filter(interaction -> "LIKE".equals(interaction.interactionType()) &&
-                            "ACTIVE".equals(interaction.interactionStatus())).count();
-            
-            // 댓글 수 실시간 적용
-            long commentCount = commentCounts.getOrDefault(postResult.postId(), 0L);
-            
-            var postResultWithLikeCount = postResultAssembler.assembleLikeCount(
-                    postResultWithNewResources,
-                    likeCount
-            );
-            
-            return postResultAssembler.assembleCommentCount(
-                    postResultWithLikeCount,
-                    commentCount
-            );
-        });
+    private Page<PostResult> assemblePostResult(
+            List<String> resultIdList,
+            Page<PostResult> postResults,
+            InteractionView interactionView
+    ) {
+        // 인터랙션, 리소스, 댓글 수를 병렬 배치 조회한 뒤 게시물별로 한 번씩 조립
+        // 트랜잭션 안에서 부르면 세 조회가 호출자 커넥션에서 순서대로 실행되므로, 이 메서드를 부르는 조회는 @Transactional을 붙이지 않음
+        var enrichment = postEnrichmentService.enrich(resultIdList, ContentType.POST, interactionView);
+        var assembled = postResultAssembler.assemble(postResults.getContent(), enrichment);
+        return new PageImpl<>(assembled, postResults.getPageable(), postResults.getTotalElements());
     }
 
     private PostResult convertToPostResult(Post post) {
@@ -245,11 +321,14 @@ public class PostQueryService {
                 post.nickname(),
                 post.commentCount(),
                 post.viewCount(),
-                0L, // likeCount는 실시간 계산으로 변경됨
+                Objects.requireNonNullElse(post.likeCount(), 0L),
+                Objects.requireNonNullElse(post.bookmarkCount(), 0L),
                 new ArrayList<>(),
                 new ArrayList<>(),
                 new ArrayList<>(),
                 new ArrayList<>(),
+                null,
+                null,
                 post.isPublic(),
                 post.countryId(),
                 post.region(),
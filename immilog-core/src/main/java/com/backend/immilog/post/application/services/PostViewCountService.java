@@ -0,0 +1,132 @@
+package com.backend.immilog.post.application.services;
+
+import com.backend.immilog.post.application.feed.PostFeedViewService;
+import com.backend.immilog.post.domain.repositories.PostDomainRepository;
+import com.backend.immilog.post.exception.PostErrorCode;
+import com.backend.immilog.post.exception.PostException;
+import com.backend.immilog.shared.config.properties.PostViewCountProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조회수 write-behind 버퍼
+ * 요청 시에는 게시물별 증가분만 메모리에 누적하고, 주기적으로 배치 UPDATE로 반영
+ * 비정상 종료 시 유실 범위는 마지막 반영 이후 한 주기분으로 제한됨
+ * 없는 게시물은 요청 시 404로 거부하고(확인된 ID는 캐시), 버퍼는 maxPendingPosts개 게시물까지만 담아 DB 장애 중에도 메모리가 계속 늘지 않음
+ */
+@Slf4j
+@Service
+public class PostViewCountService {
+    private final PostDomainRepository postDomainRepository;
+    private final PostPopularityService postPopularityService;
+    private final PostFeedViewService postFeedViewService;
+    // merge는 해시 버킷 단위로만 잠기므로 서로 다른 게시물 간 경합 없음
+    private final ConcurrentHashMap<String, Long> pendingViewCounts = new ConcurrentHashMap<>();
+    private final Cache<String, Boolean> knownPostIds;
+    private final int maxPendingPosts;
+    private final Counter bufferFullDrops;
+    private final Counter flushFailureDrops;
+
+    public PostViewCountService(
+            PostDomainRepository postDomainRepository,
+            PostPopularityService postPopularityService,
+            PostFeedViewService postFeedViewService,
+            PostViewCountProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.postDomainRepository = postDomainRepository;
+        this.postPopularityService = postPopularityService;
+        this.postFeedViewService = postFeedViewService;
+        this.maxPendingPosts = properties.maxPendingPosts();
+        this.knownPostIds = Caffeine.newBuilder()
+                .maximumSize(properties.knownPostCacheSize())
+                .expireAfterWrite(properties.knownPostCacheTtl())
+                .build();
+        Gauge.builder("immilog.post.views.pending", pendingViewCounts, Map::size)
+                .description("Posts with buffered view increments")
+                .register(meterRegistry);
+        this.bufferFullDrops = droppedCounter(meterRegistry, "buffer_full");
+        this.flushFailureDrops = droppedCounter(meterRegistry, "flush_failed");
+    }
+
+    public void increaseViewCount(String postId) {
+        if (knownPostIds.getIfPresent(postId) == null) {
+            if (!postDomainRepository.existsById(postId)) {
+                throw new PostException(PostErrorCode.POST_NOT_FOUND);
+            }
+            knownPostIds.put(postId, Boolean.TRUE);
+        }
+        if (!pendingViewCounts.containsKey(postId) && pendingViewCounts.size() >= maxPendingPosts) {
+            bufferFullDrops.increment();
+            return;
+        }
+        pendingViewCounts.merge(postId, 1L, Long::sum);
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval:5s}")
+    public synchronized void flush() {
+        if (pendingViewCounts.isEmpty()) {
+            return;
+        }
+        // 키 단위 remove로 꺼내므로 반영 중 들어온 조회수는 다음 주기로 넘어감
+        Map<String, Long> deltas = new HashMap<>();
+        for (String postId : pendingViewCounts.keySet()) {
+            Long delta = pendingViewCounts.remove(postId);
+            if (delta != null) {
+                deltas.put(postId, delta);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            postDomainRepository.increaseViewCounts(deltas);
+            log.debug("Flushed view counts for {} posts", deltas.size());
+        } catch (Exception e) {
+            log.error("Failed to flush view counts for {} posts, re-buffering", deltas.size(), e);
+            rebuffer(deltas);
+            return;
+        }
+        postPopularityService.recordViews(deltas);
+        postFeedViewService.increaseViewCounts(deltas);
+    }
+
+    /**
+     * 실패한 증가분을 되돌리되, 버퍼가 가득 차 담지 못한 게시물의 증가분은 버리고 기록
+     */
+    private void rebuffer(Map<String, Long> deltas) {
+        deltas.forEach((postId, delta) -> {
+            if (!pendingViewCounts.containsKey(postId) && pendingViewCounts.size() >= maxPendingPosts) {
+                flushFailureDrops.increment(delta);
+                return;
+            }
+            pendingViewCounts.merge(postId, delta, Long::sum);
+        });
+    }
+
+    private static Counter droppedCounter(
+            MeterRegistry meterRegistry,
+            String reason
+    ) {
+        return Counter.builder("immilog.post.views.dropped")
+                .description("View increments dropped because the buffer was full")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    int pendingPostCount() {
+        return pendingViewCounts.size();
+    }
+}
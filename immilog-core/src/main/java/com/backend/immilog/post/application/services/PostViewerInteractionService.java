@@ -0,0 +1,104 @@
+package com.backend.immilog.post.application.services;
+
+import com.backend.immilog.post.application.dto.PostResult;
+import com.backend.immilog.post.application.enrichment.InteractionDataTransport;
+import com.backend.immilog.post.domain.model.post.CursorSlice;
+import com.backend.immilog.shared.domain.model.InteractionData;
+import com.backend.immilog.shared.enums.ContentType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * SUMMARY 응답용: 좋아요/북마크 사용자 목록 대신 조회한 사용자의 likedByMe/bookmarkedByMe 여부를 채움
+ * 페이지의 게시물 ID로 조회한 사용자의 인터랙션만 한 번 조회 (user_id, post_id 유니크 키 사용)
+ * 캐시된 결과에도 그대로 적용할 수 있도록 조회와 분리
+ */
+@Slf4j
+@Service
+public class PostViewerInteractionService {
+    private static final String LIKE = "LIKE";
+    private static final String BOOKMARK = "BOOKMARK";
+
+    private final InteractionDataTransport interactionDataTransport;
+
+    public PostViewerInteractionService(InteractionDataTransport interactionDataTransport) {
+        this.interactionDataTransport = interactionDataTransport;
+    }
+
+    public Page<PostResult> apply(
+            Page<PostResult> postResults,
+            String viewerId
+    ) {
+        return new PageImpl<>(apply(postResults.getContent(), viewerId), postResults.getPageable(), postResults.getTotalElements());
+    }
+
+    public CursorSlice<PostResult> apply(
+            CursorSlice<PostResult> postResults,
+            String viewerId
+    ) {
+        return new CursorSlice<>(apply(postResults.content(), viewerId), postResults.nextCursor(), postResults.totalCount());
+    }
+
+    public PostResult apply(
+            PostResult postResult,
+            String viewerId
+    ) {
+        return apply(List.of(postResult), viewerId).getFirst();
+    }
+
+    public List<PostResult> apply(
+            List<PostResult> postResults,
+            String viewerId
+    ) {
+        if (postResults.isEmpty()) {
+            return postResults;
+        }
+        Set<String> liked = new HashSet<>();
+        Set<String> bookmarked = new HashSet<>();
+        for (InteractionData interaction : fetchViewerInteractions(postResults, viewerId)) {
+            if (LIKE.equals(interaction.interactionType())) {
+                liked.add(interaction.postId());
+            } else if (BOOKMARK.equals(interaction.interactionType())) {
+                bookmarked.add(interaction.postId());
+            }
+        }
+
+        List<PostResult> applied = new ArrayList<>(postResults.size());
+        for (PostResult postResult : postResults) {
+            applied.add(PostResult.builder(postResult)
+                    .likeUsers(null)
+                    .bookmarkUsers(null)
+                    .likedByMe(liked.contains(postResult.postId()))
+                    .bookmarkedByMe(bookmarked.contains(postResult.postId()))
+                    .build());
+        }
+        return applied;
+    }
+
+    private List<InteractionData> fetchViewerInteractions(
+            List<PostResult> postResults,
+            String viewerId
+    ) {
+        if (viewerId == null || viewerId.isBlank()) {
+            return List.of();
+        }
+        var postIds = postResults.stream()
+                .map(PostResult::postId)
+                .collect(LinkedHashSet<String>::new, Set::add, Set::addAll);
+        try {
+            return interactionDataTransport.fetchViewerInteractions(viewerId, List.copyOf(postIds), ContentType.POST);
+        } catch (Exception e) {
+            // 게시물 인터랙션 조회 실패와 동일하게 빈 목록으로 대체
+            log.error("Failed to fetch viewer interactions for {} posts", postIds.size(), e);
+            return List.of();
+        }
+    }
+}
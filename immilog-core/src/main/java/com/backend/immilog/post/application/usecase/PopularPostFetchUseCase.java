@@ -1,12 +1,23 @@
 package com.backend.immilog.post.application.usecase;
 
+import com.backend.immilog.post.application.dto.PostResult;
 import com.backend.immilog.post.application.services.PostBadgeService;
+import com.backend.immilog.post.application.services.PopularPostSnapshotService;
 import com.backend.immilog.post.application.services.PostCommandService;
+import com.backend.immilog.post.application.services.PostPopularityService;
+import com.backend.immilog.post.domain.model.post.PopularityRanking;
 import com.backend.immilog.post.domain.repositories.PopularPostRepository;
+import com.backend.immilog.shared.config.properties.PopularityProperties;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.backend.immilog.post.domain.model.post.PopularityRanking.GLOBAL_SCOPE;
 
 public interface PopularPostFetchUseCase {
     void aggregatePopularPosts();
@@ -14,53 +25,105 @@ public interface PopularPostFetchUseCase {
     @Slf4j
     @Service
     class PopularPostFetcher implements PopularPostFetchUseCase {
+        private static final int EXPIRATION_MINUTES = 60;
+
         private final PostCommandService postCommandService;
         private final PopularPostRepository popularPostRepository;
         private final PostBadgeService postBadgeService;
+        private final PostPopularityService postPopularityService;
+        private final PopularityProperties popularityProperties;
+        private final PopularPostSnapshotService popularPostSnapshotService;
 
         public PopularPostFetcher(
                 PostCommandService postCommandService,
                 PopularPostRepository popularPostRepository,
-                PostBadgeService postBadgeService
+                PostBadgeService postBadgeService,
+                PostPopularityService postPopularityService,
+                PopularityProperties popularityProperties,
+                PopularPostSnapshotService popularPostSnapshotService
         ) {
             this.postCommandService = postCommandService;
             this.popularPostRepository = popularPostRepository;
             this.postBadgeService = postBadgeService;
+            this.postPopularityService = postPopularityService;
+            this.popularityProperties = popularityProperties;
+            this.popularPostSnapshotService = popularPostSnapshotService;
         }
 
+        /**
+         * 증분 갱신된 순위 집합에서 범위(전체/국가)별 상위 게시물을 읽어 조회용 목록으로 저장
+         * DB는 상위 게시물의 PK 조회에만 사용
+         */
         public void aggregatePopularPosts() {
             try {
-                var to = LocalDateTime.now();
-                var from = to.minusDays(30); // 최근 30일로 확장
-                
-                var mostViewedPosts = popularPostRepository.getMostViewedPosts(from, to);
-                var hotPosts = popularPostRepository.getHotPosts(from, to);
-                
-                log.info("[POPULAR POST AGGREGATION] Found {} most viewed posts and {} hot posts", 
-                        mostViewedPosts.size(), hotPosts.size());
+                seedIfEmpty();
 
-                int expiration = 60 * 60; // 1시간
-                
-                if (mostViewedPosts.isEmpty() && hotPosts.isEmpty()) {
-                    log.warn("[POPULAR POST AGGREGATION FAILED] Popular posts are empty");
-                    return;
-                }
-                
-                // Redis 캐시 저장
-                if (!mostViewedPosts.isEmpty()) {
-                    postCommandService.saveMostViewedPosts(mostViewedPosts, expiration);
-                }
-                if (!hotPosts.isEmpty()) {
-                    postCommandService.saveHotPosts(hotPosts, expiration);
+                List<PostResult> hotPosts = List.of();
+                List<PostResult> mostViewedPosts = List.of();
+                for (PopularityRanking ranking : PopularityRanking.values()) {
+                    var scopes = new HashSet<>(postPopularityService.getScopes(ranking));
+                    scopes.add(GLOBAL_SCOPE);
+                    for (String scope : scopes) {
+                        var posts = topPosts(ranking, scope);
+                        if (GLOBAL_SCOPE.equals(scope)) {
+                            if (ranking == PopularityRanking.HOT) {
+                                hotPosts = posts;
+                            } else {
+                                mostViewedPosts = posts;
+                            }
+                        }
+                        postCommandService.savePopularPosts(ranking, scope, posts, EXPIRATION_MINUTES);
+                    }
                 }
-                
+                // 모든 목록을 저장한 뒤 버전을 올려 각 노드의 직렬화된 목록을 교체
+                popularPostSnapshotService.publishNewVersion();
+
+                log.info("[POPULAR POST AGGREGATION] Found {} most viewed posts and {} hot posts",
+                        mostViewedPosts.size(), hotPosts.size());
+
                 // 뱃지 업데이트
                 postBadgeService.updatePostBadges(hotPosts, mostViewedPosts);
-                
+                postPopularityService.trim();
             } catch (Exception e) {
                 log.error("[POPULAR POST AGGREGATION FAILED] Failed to save popular posts", e);
             }
         }
+
+        private List<PostResult> topPosts(
+                PopularityRanking ranking,
+                String scope
+        ) {
+            // 삭제된 게시물이 섞여 있을 수 있으므로 여유 있게 읽은 뒤 잘라냄
+            var postIds = postPopularityService.getTopPostIds(ranking, scope, popularityProperties.topSize() * 2);
+            return popularPostRepository.getPostsInOrder(postIds).stream()
+                    .limit(popularityProperties.topSize())
+                    .toList();
+        }
+
+        /**
+         * 순위 집합이 비어 있으면(최초 배포, 장기간 활동 없음) 최근 30일 상위 게시물의 누적 조회수/댓글 수로 한 번 채움
+         */
+        private void seedIfEmpty() {
+            if (!postPopularityService.getTopPostIds(PopularityRanking.HOT, GLOBAL_SCOPE, 1).isEmpty()) {
+                return;
+            }
+            var to = LocalDateTime.now();
+            var from = to.minusDays(30);
+            var seeds = new ArrayList<PostResult>();
+            seeds.addAll(popularPostRepository.getMostViewedPosts(from, to));
+            seeds.addAll(popularPostRepository.getHotPosts(from, to));
+            if (seeds.isEmpty()) {
+                return;
+            }
+            postPopularityService.recordViews(seeds.stream()
+                    .collect(Collectors.toMap(PostResult::postId, post -> nonNull(post.viewCount()), Long::max)));
+            postPopularityService.recordComments(seeds.stream()
+                    .collect(Collectors.toMap(PostResult::postId, post -> nonNull(post.commentCount()), Long::max)));
+            log.info("[POPULAR POST AGGREGATION] Seeded popularity rankings with {} posts", seeds.size());
+        }
+
+        private static long nonNull(Long value) {
+            return value == null ? 0L : value;
+        }
     }
 }
-
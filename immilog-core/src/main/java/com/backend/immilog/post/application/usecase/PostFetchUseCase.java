@@ -1,10 +1,18 @@
 package com.backend.immilog.post.application.usecase;
 
+import com.backend.immilog.post.application.dto.InteractionView;
+import com.backend.immilog.post.application.dto.PopularPostSnapshot;
 import com.backend.immilog.post.application.dto.PostResult;
 import com.backend.immilog.post.application.mapper.PostResultAssembler;
+import com.backend.immilog.post.application.services.PopularPostSnapshotService;
+import com.backend.immilog.post.application.services.PostCacheService;
 import com.backend.immilog.post.application.services.PostQueryService;
+import com.backend.immilog.post.application.services.PostViewerInteractionService;
 import com.backend.immilog.post.domain.events.PostEvent;
 import com.backend.immilog.post.domain.model.post.Categories;
+import com.backend.immilog.post.domain.model.post.CursorSlice;
+import com.backend.immilog.post.domain.model.post.PopularityRanking;
+import com.backend.immilog.post.domain.model.post.PostCursor;
 import com.backend.immilog.post.domain.model.post.SortingMethods;
 import com.backend.immilog.shared.domain.event.DomainEvents;
 import com.backend.immilog.shared.enums.ContentType;
@@ -26,48 +34,92 @@ public interface PostFetchUseCase {
             SortingMethods sortingMethod,
             String isPublic,
             Categories category,
-            Integer page
+            Integer page,
+            InteractionView interactionView,
+            String viewerId
     );
 
-    PostResult getPostDetail(String postId);
+    CursorSlice<PostResult> getPostsByCursor(
+            String countryId,
+            SortingMethods sortingMethod,
+            String isPublic,
+            Categories category,
+            String cursor,
+            boolean includeCount,
+            InteractionView interactionView,
+            String viewerId
+    );
+
+    PostResult getPostDetail(
+            String postId,
+            InteractionView interactionView,
+            String viewerId
+    );
 
     List<PostResult> getBookmarkedPosts(
             String userId,
-            ContentType contentType
+            ContentType contentType,
+            InteractionView interactionView
     );
 
     Page<PostResult> searchKeyword(
             String keyword,
-            Integer page
+            Integer page,
+            InteractionView interactionView,
+            String viewerId
+    );
+
+    CursorSlice<PostResult> searchKeywordByCursor(
+            String keyword,
+            String cursor,
+            InteractionView interactionView,
+            String viewerId
     );
 
     Page<PostResult> getUserPosts(
             String userId,
-            Integer page
+            Integer page,
+            InteractionView interactionView
+    );
+
+    CursorSlice<PostResult> getUserPostsByCursor(
+            String userId,
+            String cursor,
+            InteractionView interactionView
     );
 
-    List<PostResult> getMostViewedPosts();
+    PopularPostSnapshot getMostViewedPosts(String countryId);
 
-    List<PostResult> getHotPosts();
+    PopularPostSnapshot getHotPosts(String countryId);
 
     @Slf4j
     @Service
     class PostFetcher implements PostFetchUseCase {
+        private static final int PAGE_SIZE = 10;
         private final PostQueryService postQueryService;
         private final PostResultAssembler postResultAssembler;
         private final EventResultStorageService eventResultStorageService;
         private final InteractionUserQueryService interactionUserQueryService;
+        private final PostCacheService postCacheService;
+        private final PopularPostSnapshotService popularPostSnapshotService;
+        private final PostViewerInteractionService postViewerInteractionService;
 
         public PostFetcher(
                 PostQueryService postQueryService,
                 PostResultAssembler postResultAssembler,
                 EventResultStorageService eventResultStorageService,
-                InteractionUserQueryService interactionUserQueryService
+                InteractionUserQueryService interactionUserQueryService,
+                PostCacheService postCacheService,
+                PopularPostSnapshotService popularPostSnapshotService,
+                PostViewerInteractionService postViewerInteractionService
         ) {
             this.postQueryService = postQueryService;
             this.postResultAssembler = postResultAssembler;
             this.eventResultStorageService = eventResultStorageService;
             this.interactionUserQueryService = interactionUserQueryService;
+            this.postCacheService = postCacheService;
+            this.popularPostSnapshotService = popularPostSnapshotService;
+            this.postViewerInteractionService = postViewerInteractionService;
         }
 
         public Page<PostResult> getPosts(
@@ -75,19 +127,64 @@ public interface PostFetchUseCase {
                 SortingMethods sortingMethod,
                 String isPublic,
                 Categories category,
-                Integer page
+                Integer page,
+                InteractionView interactionView,
+                String viewerId
         ) {
             final var pageable = PageRequest.of(Objects.requireNonNullElse(page, 0), 10);
-            return postQueryService.getPosts(countryId, sortingMethod, isPublic, category, pageable);
+            if (!interactionView.includesUsers() && postQueryService.isFeedViewReadable()) {
+                // SUMMARY는 투영을 바로 읽고, 캐시에는 원본에서 조립한 FULL 결과만 저장
+                var summaries = postQueryService.getPostSummaries(countryId, sortingMethod, isPublic, category, pageable);
+                return postViewerInteractionService.apply(summaries, viewerId);
+            }
+            // 캐시에는 조회자와 무관한 결과만 저장하고, 조회자 여부는 캐시 이후에 채움
+            var posts = postCacheService.getFeedPage(
+                    countryId,
+                    sortingMethod,
+                    isPublic,
+                    category,
+                    pageable,
+                    () -> postQueryService.getPosts(countryId, sortingMethod, isPublic, category, pageable)
+            );
+            return interactionView.includesUsers() ? posts : postViewerInteractionService.apply(posts, viewerId);
+        }
+
+        public CursorSlice<PostResult> getPostsByCursor(
+                String countryId,
+                SortingMethods sortingMethod,
+                String isPublic,
+                Categories category,
+                String cursor,
+                boolean includeCount,
+                InteractionView interactionView,
+                String viewerId
+        ) {
+            var posts = postQueryService.getPostsAfter(
+                    countryId,
+                    Objects.requireNonNullElse(sortingMethod, SortingMethods.CREATED_DATE),
+                    isPublic,
+                    Objects.requireNonNullElse(category, Categories.ALL),
+                    PostCursor.decode(cursor),
+                    PAGE_SIZE,
+                    includeCount,
+                    interactionView
+            );
+            return interactionView.includesUsers() ? posts : postViewerInteractionService.apply(posts, viewerId);
         }
 
-        public PostResult getPostDetail(String postId) {
-            return postQueryService.getPostDetail(postId);
+        public PostResult getPostDetail(
+                String postId,
+                InteractionView interactionView,
+                String viewerId
+        ) {
+            var post = postCacheService.getPostDetail(postId, () -> postQueryService.getPostDetail(postId));
+            return interactionView.includesUsers() ? post : postViewerInteractionService.apply(post, viewerId);
         }
 
         public List<PostResult> getBookmarkedPosts(
                 String userId,
-                ContentType contentType
+                ContentType contentType,
+                InteractionView interactionView
         ) {
             // 이벤트를 통해 북마크된 게시물 ID 목록 요청 (CompletableFuture로 동기화)
             String requestId = eventResultStorageService.generateRequestId("bookmark");
@@ -103,37 +200,66 @@ public interface PostFetchUseCase {
             final var postIdList = eventResultStorageService.waitForBookmarkData(requestId, java.time.Duration.ofSeconds(2));
             log.debug("Retrieved {} bookmarked post IDs via event for user: {}", postIdList.size(), userId);
             
-            return postQueryService.getPostsByPostIdList(postIdList);
+            var posts = postQueryService.getPostsByPostIdList(postIdList, interactionView);
+            return interactionView.includesUsers() ? posts : postViewerInteractionService.apply(posts, userId);
         }
 
 
         public Page<PostResult> searchKeyword(
                 String keyword,
-                Integer page
+                Integer page,
+                InteractionView interactionView,
+                String viewerId
         ) {
             final var pageable = PageRequest.of(page, 10);
-            final var posts = postQueryService.getPostsByKeyword(keyword, pageable);
-            return new PageImpl<>(
+            final var posts = postQueryService.getPostsByKeyword(keyword, pageable, interactionView);
+            var keywordPosts = new PageImpl<>(
                     posts.getContent().stream().map(post -> postResultAssembler.assembleKeywords(post, keyword)).toList(),
                     pageable,
                     posts.getTotalElements()
             );
+            return interactionView.includesUsers() ? keywordPosts : postViewerInteractionService.apply(keywordPosts, viewerId);
+        }
+
+        public CursorSlice<PostResult> searchKeywordByCursor(
+                String keyword,
+                String cursor,
+                InteractionView interactionView,
+                String viewerId
+        ) {
+            var posts = postQueryService.getPostsByKeywordAfter(keyword, PostCursor.decode(cursor), PAGE_SIZE, interactionView);
+            return interactionView.includesUsers() ? posts : postViewerInteractionService.apply(posts, viewerId);
         }
 
         public Page<PostResult> getUserPosts(
                 String userId,
-                Integer page
+                Integer page,
+                InteractionView interactionView
         ) {
             final var pageable = PageRequest.of(Objects.requireNonNullElse(page, 0), 10);
-            return postQueryService.getPostsByUserId(userId, pageable);
+            var posts = postQueryService.getPostsByUserId(userId, pageable, interactionView);
+            return interactionView.includesUsers() ? posts : postViewerInteractionService.apply(posts, userId);
+        }
+
+        public CursorSlice<PostResult> getUserPostsByCursor(
+                String userId,
+                String cursor,
+                InteractionView interactionView
+        ) {
+            var posts = postQueryService.getPostsByUserIdAfter(userId, PostCursor.decode(cursor), PAGE_SIZE, interactionView);
+            return interactionView.includesUsers() ? posts : postViewerInteractionService.apply(posts, userId);
+        }
+
+        public PopularPostSnapshot getMostViewedPosts(String countryId) {
+            return popularPostSnapshotService.getSnapshot(PopularityRanking.MOST_VIEWED, toScope(countryId));
         }
 
-        public List<PostResult> getMostViewedPosts() {
-            return postQueryService.getPostsFromRedis("most_viewed_posts");
+        public PopularPostSnapshot getHotPosts(String countryId) {
+            return popularPostSnapshotService.getSnapshot(PopularityRanking.HOT, toScope(countryId));
         }
 
-        public List<PostResult> getHotPosts() {
-            return postQueryService.getPostsFromRedis("hot_posts");
+        private static String toScope(String countryId) {
+            return countryId == null || countryId.isBlank() ? PopularityRanking.GLOBAL_SCOPE : countryId;
         }
 
     }
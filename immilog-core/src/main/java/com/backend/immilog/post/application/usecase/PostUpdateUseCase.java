@@ -3,15 +3,13 @@ package com.backend.immilog.post.application.usecase;
 import com.backend.immilog.post.application.dto.PostUpdateCommand;
 import com.backend.immilog.post.application.services.BulkCommandService;
 import com.backend.immilog.post.application.services.PostCommandService;
-import com.backend.immilog.post.application.services.PostQueryService;
 import com.backend.immilog.post.application.services.PostResourceCommandService;
+import com.backend.immilog.post.application.services.PostViewCountService;
 import com.backend.immilog.post.domain.model.resource.ResourceType;
 import com.backend.immilog.post.exception.PostErrorCode;
 import com.backend.immilog.post.exception.PostException;
-import com.backend.immilog.shared.aop.annotation.DistributedLock;
 import com.backend.immilog.shared.enums.ContentType;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,21 +29,21 @@ public interface PostUpdateUseCase {
     @Slf4j
     @Service
     class PostUpdater implements PostUpdateUseCase {
-        private final PostQueryService postQueryService;
         private final PostCommandService postCommandService;
         private final PostResourceCommandService postResourceCommandService;
         private final BulkCommandService bulkCommandService;
+        private final PostViewCountService postViewCountService;
 
         public PostUpdater(
-                PostQueryService postQueryService,
                 PostCommandService postCommandService,
                 PostResourceCommandService postResourceCommandService,
-                BulkCommandService bulkCommandService
+                BulkCommandService bulkCommandService,
+                PostViewCountService postViewCountService
         ) {
-            this.postQueryService = postQueryService;
             this.postCommandService = postCommandService;
             this.postResourceCommandService = postResourceCommandService;
             this.bulkCommandService = bulkCommandService;
+            this.postViewCountService = postViewCountService;
         }
 
         @Transactional
@@ -81,12 +79,9 @@ public interface PostUpdateUseCase {
             );
         }
 
-        @Async
-        @DistributedLock(key = "'viewPost:'", identifier = "#p0.toString()", expireTime = 5)
         public void increaseViewCount(String postId) {
-            var post = postQueryService.getPostById(postId);
-            var updatedPost = post.increaseViewCount();
-            postCommandService.save(updatedPost);
+            // 메모리 버퍼에 누적 후 주기적으로 일괄 반영 (존재 확인은 처음 본 게시물만 DB 조회)
+            postViewCountService.increaseViewCount(postId);
         }
 
         private void updateResource(
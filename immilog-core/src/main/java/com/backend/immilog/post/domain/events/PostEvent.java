@@ -86,4 +86,30 @@ public abstract class PostEvent implements DomainEvent {
             return contentType;
         }
     }
+
+    /**
+     * 게시물 내용/공개 여부/리소스/삭제 상태 변경 (커밋 이후 발행)
+     */
+    public static class PostChanged extends PostEvent {
+        private String postId;
+        private LocalDateTime occurredAt;
+
+        public PostChanged() {
+            this.occurredAt = LocalDateTime.now();
+        }
+
+        public PostChanged(String postId) {
+            this.postId = postId;
+            this.occurredAt = LocalDateTime.now();
+        }
+
+        @Override
+        public LocalDateTime occurredAt() {
+            return occurredAt;
+        }
+
+        public String getPostId() {
+            return postId;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.backend.immilog.post.domain.model.post;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 목표 뱃지 배정과 현재 뱃지 상태의 차이
+ * 1. assignments: 새로 붙이거나 바꿀 뱃지별 게시물 ID
+ * 2. clears: 관리 대상 뱃지를 가지고 있지만 목표에서 빠져 뱃지를 떼어낼 게시물 ID
+ * 관리 대상(managedBadges)이 아닌 뱃지는 떼지 않으며, 교체 가능(replaceableBadges)하지 않은 뱃지를 가진 게시물에는 새 뱃지를 붙이지 않음
+ */
+public record BadgeAssignment(
+        Map<Badge, List<String>> assignments,
+        List<String> clears,
+        Set<Badge> managedBadges,
+        Set<Badge> replaceableBadges
+) {
+    /**
+     * @param targets       게시물 ID별 목표 뱃지
+     * @param currentBadges 목표 게시물과 현재 관리 대상 뱃지를 가진 게시물의 현재 뱃지 (뱃지가 없으면 null 값, 존재하지 않는 게시물은 키 없음)
+     */
+    public static BadgeAssignment diff(
+            Map<String, Badge> targets,
+            Map<String, Badge> currentBadges,
+            Set<Badge> managedBadges,
+            Set<Badge> replaceableBadges
+    ) {
+        Map<Badge, List<String>> assignments = new EnumMap<>(Badge.class);
+        targets.forEach((postId, badge) -> {
+            if (!currentBadges.containsKey(postId)) {
+                return;
+            }
+            Badge current = currentBadges.get(postId);
+            if (current == badge || (current != null && !replaceableBadges.contains(current))) {
+                return;
+            }
+            assignments.computeIfAbsent(badge, key -> new ArrayList<>()).add(postId);
+        });
+
+        List<String> clears = new ArrayList<>();
+        currentBadges.forEach((postId, current) -> {
+            if (current != null && managedBadges.contains(current) && !targets.containsKey(postId)) {
+                clears.add(postId);
+            }
+        });
+        assignments.values().forEach(postIds -> postIds.sort(null));
+        clears.sort(null);
+        return new BadgeAssignment(assignments, clears, managedBadges, replaceableBadges);
+    }
+
+    public boolean isEmpty() {
+        return assignments.isEmpty() && clears.isEmpty();
+    }
+
+    public int assignedCount(Badge badge) {
+        return assignments.getOrDefault(badge, List.of()).size();
+    }
+
+    /**
+     * 뱃지가 붙거나 떨어질 수 있는 게시물 ID (캐시 무효화 대상)
+     */
+    public Set<String> affectedPostIds() {
+        Set<String> postIds = new TreeSet<>(clears);
+        assignments.values().forEach(postIds::addAll);
+        return postIds;
+    }
+}
@@ -0,0 +1,23 @@
+package com.backend.immilog.post.domain.model.post;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 조회 결과
+ * totalCount는 요청한 경우에만 채워짐 (미요청 시 null)
+ */
+public record CursorSlice<T>(
+        List<T> content,
+        PostCursor nextCursor,
+        Long totalCount
+) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public <R> CursorSlice<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream().<R>map(mapper).toList();
+        return new CursorSlice<>(mapped, nextCursor, totalCount);
+    }
+}
@@ -0,0 +1,25 @@
+package com.backend.immilog.post.domain.model.post;
+
+/**
+ * 감쇠 점수로 유지하는 인기 게시물 순위
+ * cacheKey는 조회용 JSON 목록이 저장되는 Redis 키 (국가별 목록은 cacheKey:국가ID)
+ */
+public enum PopularityRanking {
+    HOT("hot_posts"),
+    MOST_VIEWED("most_viewed_posts");
+
+    public static final String GLOBAL_SCOPE = "ALL";
+
+    private final String cacheKey;
+
+    PopularityRanking(String cacheKey) {
+        this.cacheKey = cacheKey;
+    }
+
+    public String cacheKey(String scope) {
+        if (scope == null || GLOBAL_SCOPE.equals(scope)) {
+            return cacheKey;
+        }
+        return cacheKey + ":" + scope;
+    }
+}
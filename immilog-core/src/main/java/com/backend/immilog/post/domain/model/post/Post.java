@@ -14,6 +14,8 @@ public class Post {
     private String isPublic;
     private Badge badge;
     private Long commentCount;
+    private final Long likeCount;
+    private final Long bookmarkCount;
     private final LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -25,6 +27,8 @@ public class Post {
             String isPublic,
             Badge badge,
             Long commentCount,
+            Long likeCount,
+            Long bookmarkCount,
             LocalDateTime createdAt,
             LocalDateTime updatedAt
     ) {
@@ -35,6 +39,8 @@ public class Post {
         this.isPublic = isPublic;
         this.badge = badge;
         this.commentCount = commentCount;
+        this.likeCount = likeCount;
+        this.bookmarkCount = bookmarkCount;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
@@ -60,6 +66,8 @@ public class Post {
                 isPublic,
                 null,
                 0L,
+                0L,
+                0L,
                 LocalDateTime.now(),
                 LocalDateTime.now()
         );
@@ -210,6 +218,10 @@ public class Post {
 
     public Long commentCount() {return commentCount;}
 
+    public Long likeCount() {return likeCount;}
+
+    public Long bookmarkCount() {return bookmarkCount;}
+
     public LocalDateTime createdAt() {return createdAt;}
 
     public LocalDateTime updatedAt() {return updatedAt;}
@@ -0,0 +1,19 @@
+package com.backend.immilog.post.domain.model.post;
+
+/**
+ * 집계 기간 동안의 게시물 활동량
+ */
+public record PostActivity(
+        String postId,
+        long viewCount,
+        long commentCount,
+        long likeCount
+) {
+    public double score(
+            double viewWeight,
+            double commentWeight,
+            double likeWeight
+    ) {
+        return viewCount * viewWeight + commentCount * commentWeight + likeCount * likeWeight;
+    }
+}
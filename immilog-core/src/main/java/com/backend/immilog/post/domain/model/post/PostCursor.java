@@ -0,0 +1,63 @@
+package com.backend.immilog.post.domain.model.post;
+
+import com.backend.immilog.post.exception.PostErrorCode;
+import com.backend.immilog.post.exception.PostException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서 (정렬 컬럼 값, post_id)
+ * 클라이언트에는 Base64 URL 인코딩된 불투명 문자열로 전달
+ */
+public record PostCursor(
+        SortingMethods sortingMethod,
+        String sortValue,
+        String postId
+) {
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        var raw = sortingMethod.name() + DELIMITER + sortValue + DELIMITER + postId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 빈 값은 첫 페이지 요청으로 보고 null 반환
+     */
+    public static PostCursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            var parts = raw.split("\\|", 3);
+            if (parts.length != 3 || parts[2].isBlank()) {
+                throw new PostException(PostErrorCode.INVALID_CURSOR);
+            }
+            var cursor = new PostCursor(SortingMethods.valueOf(parts[0]), parts[1], parts[2]);
+            cursor.sortKey();
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new PostException(PostErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * SQL 바인딩용 정렬 컬럼 값
+     */
+    public Object sortKey() {
+        return switch (sortingMethod) {
+            case CREATED_DATE -> LocalDateTime.parse(sortValue);
+            case VIEW_COUNT, LIKE_COUNT, COMMENT_COUNT -> Long.parseLong(sortValue);
+        };
+    }
+
+    public void validateSortingMethod(SortingMethods requested) {
+        if (this.sortingMethod != requested) {
+            throw new PostException(PostErrorCode.INVALID_CURSOR);
+        }
+    }
+}
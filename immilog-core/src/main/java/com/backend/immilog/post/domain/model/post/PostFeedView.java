@@ -0,0 +1,54 @@
+package com.backend.immilog.post.domain.model.post;
+
+import com.backend.immilog.shared.enums.ContentStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 피드 카드 한 장에 필요한 값을 모두 담은 비정규화 투영 (post_feed_view 한 행)
+ * 작성자 닉네임/이미지, 조회/댓글/좋아요/북마크 수, 앞쪽 태그, 대표 첨부(썸네일)를 게시물과 함께 보관
+ * sourceReadAt은 원본을 읽은 DB 시각으로, 늦게 도착한 이전 계산 결과가 최신 행을 덮어쓰지 않도록 upsert 조건에 사용
+ */
+public record PostFeedView(
+        String postId,
+        String userId,
+        String nickname,
+        String imageUrl,
+        String title,
+        String content,
+        long viewCount,
+        long commentCount,
+        long likeCount,
+        long bookmarkCount,
+        List<String> tags,
+        String thumbnailUrl,
+        String isPublic,
+        String countryId,
+        String region,
+        Categories category,
+        ContentStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        LocalDateTime sourceReadAt
+) {
+    public PostFeedView {
+        tags = tags == null ? List.of() : List.copyOf(tags);
+    }
+
+    /**
+     * 원본을 읽은 시각을 제외한 피드 카드 값이 같은지 (정합성 검사용)
+     */
+    public boolean hasSameContent(PostFeedView other) {
+        return other != null && equals(other.withSourceReadAt(sourceReadAt));
+    }
+
+    private PostFeedView withSourceReadAt(LocalDateTime sourceReadAt) {
+        return new PostFeedView(
+                postId, userId, nickname, imageUrl, title, content,
+                viewCount, commentCount, likeCount, bookmarkCount, tags, thumbnailUrl,
+                isPublic, countryId, region, category, status, createdAt, updatedAt,
+                sourceReadAt
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package com.backend.immilog.post.domain.model.post;
+
+import java.util.List;
+
+/**
+ * post_feed_view 정합성 검사 결과
+ * missing: 투영에 없는 게시물, stale: 원본과 값이 다른 행, orphaned: 원본 게시물이 없는 행
+ * sampleIds는 불일치 게시물 ID 일부 (최대 SAMPLE_SIZE개)
+ */
+public record PostFeedViewReport(
+        long checked,
+        long missing,
+        long stale,
+        long orphaned,
+        boolean repaired,
+        List<String> sampleIds
+) {
+    public static final int SAMPLE_SIZE = 20;
+
+    public boolean isConsistent() {
+        return missing == 0 && stale == 0 && orphaned == 0;
+    }
+}
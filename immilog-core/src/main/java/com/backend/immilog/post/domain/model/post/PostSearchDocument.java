@@ -0,0 +1,32 @@
+package com.backend.immilog.post.domain.model.post;
+
+import com.backend.immilog.shared.enums.ContentStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인에 필요한 게시물 필드만 담은 투영
+ */
+public record PostSearchDocument(
+        String postId,
+        String title,
+        String content,
+        ContentStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    public static PostSearchDocument of(Post post) {
+        return new PostSearchDocument(
+                post.id(),
+                post.title(),
+                post.content(),
+                post.status(),
+                post.createdAt(),
+                post.updatedAt()
+        );
+    }
+
+    public boolean isDeleted() {
+        return status == ContentStatus.DELETED;
+    }
+}
@@ -7,16 +7,26 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 public interface PopularPostRepository {
-    void saveMostViewedPosts(
+    void savePopularPosts(
+            String key,
             List<PostResult> posts,
-            Integer expiration
-    ) throws JsonProcessingException;
-
-    void saveHotPosts(
-            List<PostResult> popularPosts,
             int expiration
     ) throws JsonProcessingException;
 
+    /**
+     * 인기 게시물 목록 버전 (한 번도 발행되지 않았으면 0)
+     */
+    long getVersion();
+
+    /**
+     * 버전을 올리고 모든 노드에 새 버전을 알림 (목록을 모두 저장한 뒤 호출)
+     */
+    long publishNewVersion();
+
+    /**
+     * 주어진 ID 순서대로 삭제되지 않은 게시물을 조회
+     */
+    List<PostResult> getPostsInOrder(List<String> postIds);
 
     List<PostResult> getMostViewedPosts(
             LocalDateTime from,
@@ -0,0 +1,36 @@
+package com.backend.immilog.post.domain.repositories;
+
+import com.backend.immilog.post.domain.model.post.PopularityRanking;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface PopularityRankingRepository {
+    /**
+     * @param incrementsByScope 범위(ALL 또는 국가ID)별 게시물 점수 증가분
+     */
+    void incrementScores(
+            PopularityRanking ranking,
+            long generation,
+            Map<String, Map<String, Double>> incrementsByScope,
+            Duration ttl
+    );
+
+    List<String> findTopPostIds(
+            PopularityRanking ranking,
+            String scope,
+            long generation,
+            int size
+    );
+
+    Set<String> findScopes(PopularityRanking ranking);
+
+    void trim(
+            PopularityRanking ranking,
+            String scope,
+            long generation,
+            int maxEntries
+    );
+}
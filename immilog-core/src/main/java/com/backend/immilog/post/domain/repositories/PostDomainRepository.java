@@ -1,19 +1,31 @@
 package com.backend.immilog.post.domain.repositories;
 
 import com.backend.immilog.post.domain.model.post.Badge;
+import com.backend.immilog.post.domain.model.post.BadgeAssignment;
 import com.backend.immilog.post.domain.model.post.Categories;
+import com.backend.immilog.post.domain.model.post.CursorSlice;
 import com.backend.immilog.post.domain.model.post.Post;
+import com.backend.immilog.post.domain.model.post.PostActivity;
+import com.backend.immilog.post.domain.model.post.PostCursor;
+import com.backend.immilog.post.domain.model.post.PostSearchDocument;
 import com.backend.immilog.post.domain.model.post.SortingMethods;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface PostDomainRepository {
 
     Optional<Post> findById(String id);
 
+    boolean existsById(String id);
+
     Post save(Post post);
 
     Page<Post> findPosts(
@@ -34,7 +46,59 @@ public interface PostDomainRepository {
             Pageable pageable
     );
 
+    CursorSlice<Post> findPostsAfter(
+            String countryId,
+            SortingMethods sortingMethod,
+            String isPublic,
+            Categories category,
+            PostCursor cursor,
+            int size,
+            boolean includeCount
+    );
+
+    CursorSlice<Post> findPostsByKeywordAfter(
+            String keyword,
+            PostCursor cursor,
+            int size
+    );
+
+    CursorSlice<Post> findPostsByUserIdAfter(
+            String userId,
+            PostCursor cursor,
+            int size
+    );
+
     List<Post> findPostsByIdList(List<String> postIdList);
 
     List<Post> findByBadge(Badge badge);
-}
\ No newline at end of file
+
+    void increaseViewCounts(Map<String, Long> viewCountDeltas);
+
+    void applyCommentCountDeltas(Map<String, Long> commentCountDeltas);
+
+    List<PostSearchDocument> findSearchDocumentsAfter(
+            String lastPostId,
+            int size
+    );
+
+    List<PostSearchDocument> findSearchDocumentsUpdatedSince(
+            LocalDateTime updatedSince,
+            String lastPostId,
+            int size
+    );
+
+    Map<String, String> findCountryIdsByPostIds(List<String> postIdList);
+
+    Map<String, Badge> findBadges(
+            Set<Badge> holderBadges,
+            Collection<String> postIds
+    );
+
+    int applyBadgeAssignment(BadgeAssignment assignment);
+
+    void streamPostActivities(
+            LocalDateTime from,
+            LocalDateTime to,
+            Consumer<PostActivity> consumer
+    );
+}
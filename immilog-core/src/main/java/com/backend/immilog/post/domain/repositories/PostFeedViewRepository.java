@@ -0,0 +1,68 @@
+package com.backend.immilog.post.domain.repositories;
+
+import com.backend.immilog.post.domain.model.post.Categories;
+import com.backend.immilog.post.domain.model.post.CursorSlice;
+import com.backend.immilog.post.domain.model.post.PostCursor;
+import com.backend.immilog.post.domain.model.post.PostFeedView;
+import com.backend.immilog.post.domain.model.post.SortingMethods;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface PostFeedViewRepository {
+
+    Page<PostFeedView> findFeed(
+            String countryId,
+            SortingMethods sortingMethod,
+            String isPublic,
+            Categories category,
+            Pageable pageable
+    );
+
+    CursorSlice<PostFeedView> findFeedAfter(
+            String countryId,
+            SortingMethods sortingMethod,
+            String isPublic,
+            Categories category,
+            PostCursor cursor,
+            int size,
+            boolean includeCount
+    );
+
+    /**
+     * 원본 테이블(post, user, interaction_user, content_resource)에서 투영 행을 계산 (저장하지 않음)
+     * 원본 게시물이 없는 ID는 결과에서 빠짐
+     */
+    List<PostFeedView> loadFromSource(
+            Collection<String> postIds,
+            int tagLimit
+    );
+
+    List<PostFeedView> findByPostIds(Collection<String> postIds);
+
+    void saveAll(List<PostFeedView> views);
+
+    void deleteByPostIds(Collection<String> postIds);
+
+    /**
+     * 작성자 닉네임/프로필 이미지를 user 테이블 값으로 갱신
+     */
+    int refreshAuthor(String userId);
+
+    void increaseViewCounts(Map<String, Long> viewCountDeltas);
+
+    /**
+     * 원본 post 테이블의 ID를 post_id 순서로 조회 (재구축/검사용 키셋)
+     */
+    List<String> findSourcePostIdsAfter(
+            String lastPostId,
+            int size
+    );
+
+    List<String> findOrphanedPostIds(int size);
+
+    boolean isEmpty();
+}
@@ -1,14 +1,24 @@
 package com.backend.immilog.post.domain.repositories;
 
 import com.backend.immilog.post.domain.model.post.Badge;
+import com.backend.immilog.post.domain.model.post.BadgeAssignment;
 import com.backend.immilog.post.domain.model.post.Categories;
+import com.backend.immilog.post.domain.model.post.CursorSlice;
 import com.backend.immilog.post.domain.model.post.Post;
+import com.backend.immilog.post.domain.model.post.PostActivity;
+import com.backend.immilog.post.domain.model.post.PostCursor;
+import com.backend.immilog.post.domain.model.post.PostSearchDocument;
 import com.backend.immilog.post.domain.model.post.SortingMethods;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface PostRepository {
 
@@ -20,6 +30,16 @@ public interface PostRepository {
             Pageable pageable
     );
 
+    CursorSlice<Post> getPostsAfter(
+            String countryId,
+            SortingMethods sortingMethod,
+            String isPublic,
+            Categories category,
+            PostCursor cursor,
+            int size,
+            boolean includeCount
+    );
+
     Post getPostDetail(String postId);
 
     Page<Post> getPostsByKeyword(
@@ -32,6 +52,18 @@ public interface PostRepository {
             Pageable pageable
     );
 
+    CursorSlice<Post> getPostsByKeywordAfter(
+            String keyword,
+            PostCursor cursor,
+            int size
+    );
+
+    CursorSlice<Post> getPostsByUserIdAfter(
+            String userId,
+            PostCursor cursor,
+            int size
+    );
+
     Post getById(String postId);
 
     Post save(Post postEntity);
@@ -39,6 +71,38 @@ public interface PostRepository {
     List<Post> getPostsByPostIdList(List<String> postIdList);
     
     Optional<Post> findById(String postId);
+
+    boolean existsById(String postId);
     
     List<Post> findByBadge(Badge badge);
-}
\ No newline at end of file
+
+    void increaseViewCounts(Map<String, Long> viewCountDeltas);
+
+    void applyCommentCountDeltas(Map<String, Long> commentCountDeltas);
+
+    List<PostSearchDocument> getSearchDocumentsAfter(
+            String lastPostId,
+            int size
+    );
+
+    List<PostSearchDocument> getSearchDocumentsUpdatedSince(
+            LocalDateTime updatedSince,
+            String lastPostId,
+            int size
+    );
+
+    Map<String, String> getCountryIdsByPostIds(List<String> postIdList);
+
+    Map<String, Badge> getBadges(
+            Set<Badge> holderBadges,
+            Collection<String> postIds
+    );
+
+    int applyBadgeAssignment(BadgeAssignment assignment);
+
+    void streamPostActivities(
+            LocalDateTime from,
+            LocalDateTime to,
+            Consumer<PostActivity> consumer
+    );
+}
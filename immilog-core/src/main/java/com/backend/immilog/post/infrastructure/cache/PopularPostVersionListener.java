@@ -0,0 +1,43 @@
+package com.backend.immilog.post.infrastructure.cache;
+
+import com.backend.immilog.post.application.services.PopularPostSnapshotService;
+import com.backend.immilog.shared.config.properties.PopularityProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 집계 노드가 발행한 인기 게시물 목록 버전을 받아 이 노드의 스냅샷을 만료시킴
+ */
+@Slf4j
+@Component
+public class PopularPostVersionListener implements MessageListener {
+    private final PopularPostSnapshotService popularPostSnapshotService;
+
+    public PopularPostVersionListener(
+            PopularPostSnapshotService popularPostSnapshotService,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            PopularityProperties popularityProperties
+    ) {
+        this.popularPostSnapshotService = popularPostSnapshotService;
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(popularityProperties.versionChannel()));
+    }
+
+    @Override
+    public void onMessage(
+            Message message,
+            byte[] pattern
+    ) {
+        var body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            popularPostSnapshotService.onVersionPublished(Long.parseLong(body.trim()));
+        } catch (NumberFormatException e) {
+            log.warn("[POPULAR POST SNAPSHOT] Ignored malformed version message: {}", body);
+        }
+    }
+}
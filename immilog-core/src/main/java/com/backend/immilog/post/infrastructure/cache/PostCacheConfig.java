@@ -0,0 +1,53 @@
+package com.backend.immilog.post.infrastructure.cache;
+
+import com.backend.immilog.post.application.dto.CachedPostPage;
+import com.backend.immilog.post.application.dto.PostResult;
+import com.backend.immilog.post.application.services.PostCacheService;
+import com.backend.immilog.shared.config.properties.PostCacheProperties;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Duration;
+
+/**
+ * 게시물 캐시의 TTL과 타입별 직렬화 설정 (타입 정보를 값에 싣지 않음)
+ */
+@Configuration
+public class PostCacheConfig {
+
+    @Bean
+    public RedisCacheManagerBuilderCustomizer postCacheManagerCustomizer(PostCacheProperties properties) {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+        return builder -> builder
+                .withCacheConfiguration(
+                        PostCacheService.POST_DETAIL_CACHE,
+                        cacheConfiguration(properties.detailTtl(), new Jackson2JsonRedisSerializer<>(objectMapper, PostResult.class))
+                )
+                .withCacheConfiguration(
+                        PostCacheService.POST_FEED_CACHE,
+                        cacheConfiguration(properties.feedTtl(), new Jackson2JsonRedisSerializer<>(objectMapper, CachedPostPage.class))
+                );
+    }
+
+    private static RedisCacheConfiguration cacheConfiguration(
+            Duration ttl,
+            Jackson2JsonRedisSerializer<?> valueSerializer
+    ) {
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(ttl)
+                .disableCachingNullValues()
+                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer));
+    }
+}
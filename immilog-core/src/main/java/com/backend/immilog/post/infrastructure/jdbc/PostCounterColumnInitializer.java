@@ -0,0 +1,59 @@
+package com.backend.immilog.post.infrastructure.jdbc;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 기존 post 테이블의 카운터 컬럼을 NOT NULL DEFAULT 0으로 전환
+ * 스키마 자동 갱신은 컬럼의 NULL 허용 여부를 바꾸지 않으므로, 기동 시 NULL 허용으로 남은 컬럼만 NULL을 0으로 채운 뒤 변경
+ * 이미 전환된 스키마에서는 information_schema 조회 한 번으로 끝남
+ */
+@Slf4j
+@Component
+public class PostCounterColumnInitializer {
+    private static final List<String> COUNTER_COLUMNS = List.of("view_count", "comment_count", "like_count", "bookmark_count");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostCounterColumnInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        Thread.ofVirtual().name("post-counter-columns").start(() -> {
+            try {
+                migrateNullableCounters();
+            } catch (Exception e) {
+                log.error("[POST COUNTERS] Failed to convert counter columns to NOT NULL", e);
+            }
+        });
+    }
+
+    public void migrateNullableCounters() {
+        List<String> nullableColumns = jdbcTemplate.queryForList(
+                """
+                        SELECT column_name
+                        FROM information_schema.columns
+                        WHERE table_schema = DATABASE()
+                          AND table_name = 'post'
+                          AND is_nullable = 'YES'
+                          AND column_name IN ('view_count', 'comment_count', 'like_count', 'bookmark_count')
+                        """,
+                String.class
+        );
+        for (String column : COUNTER_COLUMNS) {
+            if (!nullableColumns.contains(column)) {
+                continue;
+            }
+            int filled = jdbcTemplate.update(String.format("UPDATE post SET %1$s = 0 WHERE %1$s IS NULL", column));
+            jdbcTemplate.execute(String.format("ALTER TABLE post MODIFY %s BIGINT NOT NULL DEFAULT 0", column));
+            log.info("[POST COUNTERS] Converted post.{} to NOT NULL DEFAULT 0 ({} NULL rows filled)", column, filled);
+        }
+    }
+}
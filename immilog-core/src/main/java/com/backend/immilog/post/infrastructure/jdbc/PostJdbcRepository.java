@@ -1,8 +1,13 @@
 package com.backend.immilog.post.infrastructure.jdbc;
 
 import com.backend.immilog.post.domain.model.post.Badge;
+import com.backend.immilog.post.domain.model.post.BadgeAssignment;
 import com.backend.immilog.post.domain.model.post.Categories;
+import com.backend.immilog.post.domain.model.post.CursorSlice;
 import com.backend.immilog.post.domain.model.post.Post;
+import com.backend.immilog.post.domain.model.post.PostActivity;
+import com.backend.immilog.post.domain.model.post.PostCursor;
+import com.backend.immilog.post.domain.model.post.PostSearchDocument;
 import com.backend.immilog.post.domain.model.post.SortingMethods;
 import com.backend.immilog.post.infrastructure.jpa.entity.post.PostEntity;
 import com.backend.immilog.post.infrastructure.jpa.entity.post.PostInfoValue;
@@ -11,23 +16,39 @@ import com.backend.immilog.shared.enums.ContentStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @Repository
 public class PostJdbcRepository {
+    private static final int BATCH_SIZE = 500;
+
     private final JdbcClient jdbcClient;
+    private final JdbcTemplate jdbcTemplate;
 
-    public PostJdbcRepository(JdbcClient jdbcClient) {
+    public PostJdbcRepository(
+            JdbcClient jdbcClient,
+            JdbcTemplate jdbcTemplate
+    ) {
         this.jdbcClient = jdbcClient;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     public Page<Post> getPosts(
@@ -39,19 +60,7 @@ public class PostJdbcRepository {
     ) {
         List<String> conditions = new ArrayList<>();
         List<Object> params = new ArrayList<>();
-
-        conditions.add("p.is_public = ?");
-        params.add(isPublic);
-
-        if (category != Categories.ALL) {
-            conditions.add("p.category = ?");
-            params.add(category.name());
-        }
-
-        if (countryId != null && !countryId.equals("ALL")) {
-            conditions.add("p.country_id = ?");
-            params.add(countryId);
-        }
+        addFeedConditions(countryId, isPublic, category, conditions, params);
 
         String whereClause = conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions);
         String orderByClause = getOrderByClause(sortingMethod);
@@ -73,17 +82,7 @@ public class PostJdbcRepository {
                 .query(POST_ENTITY_ROW_MAPPER)
                 .list();
 
-        String countSql = String.format("""
-                SELECT COUNT(*)
-                FROM post p
-                LEFT JOIN user u ON p.user_id = u.user_id
-                %s
-                """, whereClause);
-
-        int count = jdbcClient.sql(countSql)
-                .params(params.subList(0, params.size() - 2).toArray())
-                .query(Integer.class)
-                .single();
+        int count = countPosts(whereClause, params.subList(0, params.size() - 2));
 
         List<Post> posts = postEntities.stream().map(PostEntity::toDomain).toList();
 
@@ -110,15 +109,7 @@ public class PostJdbcRepository {
                 .query(POST_ENTITY_ROW_MAPPER)
                 .list();
 
-        int count = jdbcClient.sql("""
-                        SELECT COUNT(*)
-                        FROM post p
-                        LEFT JOIN user u ON p.user_id = u.user_id
-                        WHERE p.user_id = ?
-                        """)
-                .param(userId)
-                .query(Integer.class)
-                .single();
+        int count = countPosts("WHERE p.user_id = ?", List.of(userId));
 
         List<Post> posts = postEntities.stream().map(PostEntity::toDomain).toList();
 
@@ -145,24 +136,53 @@ public class PostJdbcRepository {
                 .query(POST_ENTITY_ROW_MAPPER)
                 .list();
 
-        String countSql = """
-                SELECT COUNT(*)
-                FROM post p
-                LEFT JOIN user u ON p.user_id = u.user_id
-                WHERE p.content LIKE ? OR p.title LIKE ?
-                """;
-
-        int count = jdbcClient.sql(countSql)
-                .param("%" + keyword + "%")
-                .param("%" + keyword + "%")
-                .query(Integer.class)
-                .single();
+        int count = countPosts(
+                "WHERE p.content LIKE ? OR p.title LIKE ?",
+                List.of("%" + keyword + "%", "%" + keyword + "%")
+        );
 
         List<Post> posts = postEntities.stream().map(PostEntity::toDomain).toList();
 
         return new PageImpl<>(posts, pageable, count);
     }
 
+    public CursorSlice<Post> getPostsAfter(
+            String countryId,
+            SortingMethods sortingMethod,
+            String isPublic,
+            Categories category,
+            PostCursor cursor,
+            int size,
+            boolean includeCount
+    ) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+        addFeedConditions(countryId, isPublic, category, conditions, params);
+
+        Long totalCount = includeCount ? (long) countPosts(toWhereClause(conditions), params) : null;
+        return querySlice(conditions, params, sortingMethod, cursor, size, totalCount);
+    }
+
+    public CursorSlice<Post> getPostsByUserIdAfter(
+            String userId,
+            PostCursor cursor,
+            int size
+    ) {
+        List<String> conditions = new ArrayList<>(List.of("p.user_id = ?"));
+        List<Object> params = new ArrayList<>(List.of(userId));
+        return querySlice(conditions, params, SortingMethods.CREATED_DATE, cursor, size, null);
+    }
+
+    public CursorSlice<Post> getPostsByKeywordAfter(
+            String keyword,
+            PostCursor cursor,
+            int size
+    ) {
+        List<String> conditions = new ArrayList<>(List.of("(p.content LIKE ? OR p.title LIKE ?)"));
+        List<Object> params = new ArrayList<>(List.of("%" + keyword + "%", "%" + keyword + "%"));
+        return querySlice(conditions, params, SortingMethods.CREATED_DATE, cursor, size, null);
+    }
+
     public Optional<Post> getSinglePost(String postId) {
         String sql = """
                 SELECT p.*, u.nickname, u.image_url
@@ -222,6 +242,369 @@ public class PostJdbcRepository {
         return postEntities.stream().map(PostEntity::toDomain).toList();
     }
 
+    /**
+     * 게시물 ID별 국가 ID (PK IN 조회)
+     */
+    public Map<String, String> getCountryIdsByPostIds(List<String> postIdList) {
+        if (postIdList.isEmpty()) {
+            return Map.of();
+        }
+
+        String inClause = String.join(",", postIdList.stream().map(id -> "?").toList());
+        String sql = String.format("""
+                SELECT p.post_id, p.country_id
+                FROM post p
+                WHERE p.post_id IN (%s)
+                """, inClause);
+
+        Map<String, String> countryIds = new HashMap<>();
+        jdbcClient.sql(sql)
+                .params(postIdList.toArray())
+                .query(rs -> {
+                    countryIds.put(rs.getString("post_id"), rs.getString("country_id"));
+                });
+        return countryIds;
+    }
+
+    /**
+     * 검색 색인 재구축용: 삭제되지 않은 게시물을 post_id 키셋으로 순회
+     */
+    public List<PostSearchDocument> getSearchDocumentsAfter(
+            String lastPostId,
+            int size
+    ) {
+        String sql = """
+                SELECT p.post_id, p.title, p.content, p.status, p.created_at, p.updated_at
+                FROM post p
+                WHERE p.status <> 'DELETED' AND p.post_id > ?
+                ORDER BY p.post_id
+                LIMIT ?
+                """;
+
+        return jdbcClient.sql(sql)
+                .param(lastPostId == null ? "" : lastPostId)
+                .param(size)
+                .query(SEARCH_DOCUMENT_ROW_MAPPER)
+                .list();
+    }
+
+    /**
+     * 검색 색인 동기화용: (updated_at, post_id) 키셋 이후에 변경된 게시물 (삭제 포함)
+     */
+    public List<PostSearchDocument> getSearchDocumentsUpdatedSince(
+            LocalDateTime updatedSince,
+            String lastPostId,
+            int size
+    ) {
+        String sql = """
+                SELECT p.post_id, p.title, p.content, p.status, p.created_at, p.updated_at
+                FROM post p
+                WHERE p.updated_at > ? OR (p.updated_at = ? AND p.post_id > ?)
+                ORDER BY p.updated_at, p.post_id
+                LIMIT ?
+                """;
+
+        return jdbcClient.sql(sql)
+                .param(updatedSince)
+                .param(updatedSince)
+                .param(lastPostId == null ? "" : lastPostId)
+                .param(size)
+                .query(SEARCH_DOCUMENT_ROW_MAPPER)
+                .list();
+    }
+
+    /**
+     * 뱃지 차이 계산용: 주어진 뱃지를 가진 게시물과 대상 게시물(삭제 제외)의 현재 뱃지를 한 번에 조회
+     * 뱃지가 없는 대상 게시물은 null 값으로 담김
+     */
+    public Map<String, Badge> getBadges(
+            Set<Badge> holderBadges,
+            Collection<String> postIds
+    ) {
+        List<Object> params = new ArrayList<>();
+        List<String> conditions = new ArrayList<>();
+        if (!holderBadges.isEmpty()) {
+            conditions.add("p.badge IN (" + placeholders(holderBadges.size()) + ")");
+            holderBadges.forEach(badge -> params.add(badge.name()));
+        }
+        if (!postIds.isEmpty()) {
+            conditions.add("(p.post_id IN (" + placeholders(postIds.size()) + ") AND p.status <> 'DELETED')");
+            params.addAll(postIds);
+        }
+        if (conditions.isEmpty()) {
+            return Map.of();
+        }
+
+        String sql = """
+                SELECT p.post_id, p.badge
+                FROM post p
+                WHERE %s
+                """.formatted(String.join(" OR ", conditions));
+
+        Map<String, Badge> badges = new HashMap<>();
+        jdbcClient.sql(sql)
+                .params(params)
+                .query(rs -> {
+                    badges.put(rs.getString("post_id"), getEnum(rs, "badge", Badge.class));
+                });
+        return badges;
+    }
+
+    /**
+     * 뱃지 차이를 뱃지별 집합 UPDATE로 반영
+     * 조회 이후 다른 작업이 바꾼 뱃지를 덮어쓰지 않도록 현재 뱃지 조건을 함께 검사
+     */
+    @Transactional
+    public int applyBadgeAssignment(BadgeAssignment assignment) {
+        int updated = 0;
+        List<String> managed = assignment.managedBadges().stream().map(Badge::name).toList();
+        for (List<String> chunk : chunks(assignment.clears())) {
+            String sql = """
+                    UPDATE post SET badge = NULL
+                    WHERE post_id IN (%s) AND badge IN (%s)
+                    """.formatted(placeholders(chunk.size()), placeholders(managed.size()));
+            updated += jdbcClient.sql(sql)
+                    .params(concat(chunk, managed))
+                    .update();
+        }
+
+        List<String> replaceable = assignment.replaceableBadges().stream().map(Badge::name).toList();
+        for (Map.Entry<Badge, List<String>> entry : assignment.assignments().entrySet()) {
+            for (List<String> chunk : chunks(entry.getValue())) {
+                String replaceableCondition = replaceable.isEmpty()
+                        ? ""
+                        : " OR badge IN (" + placeholders(replaceable.size()) + ")";
+                String sql = """
+                        UPDATE post SET badge = ?
+                        WHERE post_id IN (%s) AND (badge IS NULL%s)
+                        """.formatted(placeholders(chunk.size()), replaceableCondition);
+                List<Object> params = new ArrayList<>();
+                params.add(entry.getKey().name());
+                params.addAll(chunk);
+                params.addAll(replaceable);
+                updated += jdbcClient.sql(sql)
+                        .params(params)
+                        .update();
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * 기간 내 작성된 게시물의 조회수, 기간 내 댓글 수와 좋아요 수를 DB에서 집계해 한 행씩 전달
+     * 게시물 엔티티를 읽지 않고 집계 결과만 스트리밍
+     */
+    public void streamPostActivities(
+            LocalDateTime from,
+            LocalDateTime to,
+            Consumer<PostActivity> consumer
+    ) {
+        String sql = """
+                SELECT p.post_id,
+                       COALESCE(p.view_count, 0) AS view_count,
+                       COALESCE(c.comment_count, 0) AS comment_count,
+                       COALESCE(l.like_count, 0) AS like_count
+                FROM post p
+                LEFT JOIN (
+                    SELECT post_id, COUNT(*) AS comment_count
+                    FROM comment
+                    WHERE created_at >= ? AND created_at < ? AND status <> 'DELETED'
+                    GROUP BY post_id
+                ) c ON c.post_id = p.post_id
+                LEFT JOIN (
+                    SELECT post_id, COUNT(*) AS like_count
+                    FROM interaction_user
+                    WHERE created_at >= ? AND created_at < ?
+                      AND post_type = 'POST' AND interaction_type = 'LIKE' AND interaction_status = 'ACTIVE'
+                    GROUP BY post_id
+                ) l ON l.post_id = p.post_id
+                WHERE p.created_at >= ? AND p.created_at < ? AND p.status <> 'DELETED'
+                """;
+
+        jdbcClient.sql(sql)
+                .params(from, to, from, to, from, to)
+                .query(rs -> {
+                    consumer.accept(new PostActivity(
+                            rs.getString("post_id"),
+                            rs.getLong("view_count"),
+                            rs.getLong("comment_count"),
+                            rs.getLong("like_count")
+                    ));
+                });
+    }
+
+    /**
+     * 게시물별 조회수 증가분을 한 번의 배치 UPDATE로 반영
+     */
+    @Transactional
+    public void increaseViewCounts(Map<String, Long> viewCountDeltas) {
+        applyDeltas(
+                "UPDATE post SET view_count = COALESCE(view_count, 0) + ? WHERE post_id = ?",
+                viewCountDeltas
+        );
+    }
+
+    /**
+     * 게시물별 댓글 수 증감분을 원자적으로 반영 (삭제된 게시물 제외, 0 미만으로 내려가지 않음)
+     */
+    @Transactional
+    public void applyCommentCountDeltas(Map<String, Long> commentCountDeltas) {
+        applyDeltas(
+                """
+                        UPDATE post
+                        SET comment_count = GREATEST(COALESCE(comment_count, 0) + ?, 0)
+                        WHERE post_id = ? AND status <> 'DELETED'
+                        """,
+                commentCountDeltas
+        );
+    }
+
+    /**
+     * post_id 순으로 정렬해 여러 노드가 동시에 반영해도 행 락 획득 순서가 같도록 함
+     */
+    private void applyDeltas(
+            String sql,
+            Map<String, Long> deltasByPostId
+    ) {
+        List<Map.Entry<String, Long>> deltas = deltasByPostId.entrySet().stream()
+                .filter(delta -> delta.getValue() != 0)
+                .sorted(Map.Entry.comparingByKey())
+                .toList();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(
+                sql,
+                deltas,
+                BATCH_SIZE,
+                (ps, delta) -> {
+                    ps.setLong(1, delta.getValue());
+                    ps.setString(2, delta.getKey());
+                }
+        );
+    }
+
+    private void addFeedConditions(
+            String countryId,
+            String isPublic,
+            Categories category,
+            List<String> conditions,
+            List<Object> params
+    ) {
+        conditions.add("p.is_public = ?");
+        params.add(isPublic);
+
+        if (category != Categories.ALL) {
+            conditions.add("p.category = ?");
+            params.add(category.name());
+        }
+
+        if (countryId != null && !countryId.equals("ALL")) {
+            conditions.add("p.country_id = ?");
+            params.add(countryId);
+        }
+    }
+
+    /**
+     * (정렬 키, post_id) 키셋으로 다음 페이지 조회
+     * size + 1건을 읽어 다음 페이지 존재 여부를 판단하고, OFFSET 스캔 없이 커서 위치부터 읽음
+     * 카운터 컬럼은 NOT NULL DEFAULT 0이므로 원본 컬럼을 그대로 비교해 (country_id, is_public, 정렬 키, post_id) 인덱스를 탐
+     */
+    private CursorSlice<Post> querySlice(
+            List<String> conditions,
+            List<Object> params,
+            SortingMethods sortingMethod,
+            PostCursor cursor,
+            int size,
+            Long totalCount
+    ) {
+        String column = getSortColumn(sortingMethod);
+        List<String> sliceConditions = new ArrayList<>(conditions);
+        List<Object> sliceParams = new ArrayList<>(params);
+
+        if (cursor != null) {
+            cursor.validateSortingMethod(sortingMethod);
+            Object sortKey = cursor.sortKey();
+            sliceConditions.add("(" + column + " < ? OR (" + column + " = ? AND p.post_id < ?))");
+            sliceParams.add(sortKey);
+            sliceParams.add(sortKey);
+            sliceParams.add(cursor.postId());
+        }
+
+        String sql = String.format("""
+                SELECT p.*, u.nickname, u.image_url, %s AS sort_key
+                FROM post p
+                LEFT JOIN user u ON p.user_id = u.user_id
+                %s
+                ORDER BY %s DESC, p.post_id DESC
+                LIMIT ?
+                """, column, toWhereClause(sliceConditions), column);
+        sliceParams.add(size + 1);
+
+        List<CursorRow> rows = jdbcClient.sql(sql)
+                .params(sliceParams.toArray())
+                .query(CURSOR_ROW_MAPPER)
+                .list();
+
+        boolean hasNext = rows.size() > size;
+        List<CursorRow> pageRows = hasNext ? rows.subList(0, size) : rows;
+        List<Post> posts = pageRows.stream().map(row -> row.entity().toDomain()).toList();
+        PostCursor nextCursor = hasNext
+                ? new PostCursor(sortingMethod, pageRows.getLast().sortValue(), posts.getLast().id())
+                : null;
+
+        return new CursorSlice<>(posts, nextCursor, totalCount);
+    }
+
+    private int countPosts(
+            String whereClause,
+            List<Object> params
+    ) {
+        // 조회 조건이 모두 post 컬럼이므로 user 조인 없이 카운트
+        String countSql = String.format("""
+                SELECT COUNT(*)
+                FROM post p
+                %s
+                """, whereClause);
+
+        return jdbcClient.sql(countSql)
+                .params(params.toArray())
+                .query(Integer.class)
+                .single();
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+
+    private static List<List<String>> chunks(List<String> values) {
+        List<List<String>> chunks = new ArrayList<>();
+        for (int start = 0; start < values.size(); start += BATCH_SIZE) {
+            chunks.add(values.subList(start, Math.min(start + BATCH_SIZE, values.size())));
+        }
+        return chunks;
+    }
+
+    private static List<Object> concat(
+            List<String> first,
+            List<String> second
+    ) {
+        List<Object> values = new ArrayList<>(first);
+        values.addAll(second);
+        return values;
+    }
+
+    private static String toWhereClause(List<String> conditions) {
+        return conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions);
+    }
+
+    private record CursorRow(
+            PostEntity entity,
+            String sortValue
+    ) {
+    }
+
     private static final RowMapper<PostEntity> POST_ENTITY_ROW_MAPPER = (rs, rowNum) -> {
         String id = rs.getString("post_id");
 
@@ -248,11 +631,37 @@ public class PostJdbcRepository {
                 rs.getString("is_public"),
                 getEnum(rs, "badge", Badge.class),
                 getNullableLong(rs, "comment_count"),
+                getNullableLong(rs, "like_count"),
+                getNullableLong(rs, "bookmark_count"),
                 getNullableTimestamp(rs, "created_at"),
                 getNullableTimestamp(rs, "updated_at")
         );
     };
 
+    private static final RowMapper<PostSearchDocument> SEARCH_DOCUMENT_ROW_MAPPER = (rs, rowNum) -> new PostSearchDocument(
+            rs.getString("post_id"),
+            rs.getString("title"),
+            rs.getString("content"),
+            getEnum(rs, "status", ContentStatus.class),
+            getNullableTimestamp(rs, "created_at"),
+            getNullableTimestamp(rs, "updated_at")
+    );
+
+    private static final RowMapper<CursorRow> CURSOR_ROW_MAPPER = (rs, rowNum) -> new CursorRow(
+            POST_ENTITY_ROW_MAPPER.mapRow(rs, rowNum),
+            toSortValue(rs.getObject("sort_key"))
+    );
+
+    private static String toSortValue(Object sortKey) {
+        // 카운터 컬럼과 created_at 모두 NOT NULL
+        return switch (sortKey) {
+            case Timestamp timestamp -> timestamp.toLocalDateTime().toString();
+            case LocalDateTime localDateTime -> localDateTime.toString();
+            case Number number -> String.valueOf(number.longValue());
+            default -> sortKey.toString();
+        };
+    }
+
     private static Long getNullableLong(
             ResultSet rs,
             String columnName
@@ -287,12 +696,15 @@ public class PostJdbcRepository {
     }
 
     private String getOrderByClause(SortingMethods sortingMethod) {
-        String column = switch (sortingMethod) {
+        return "ORDER BY " + getSortColumn(sortingMethod) + " DESC ";
+    }
+
+    private static String getSortColumn(SortingMethods sortingMethod) {
+        return switch (sortingMethod) {
             case CREATED_DATE -> "p.created_at";
             case COMMENT_COUNT -> "p.comment_count";
             case LIKE_COUNT -> "p.like_count";
             case VIEW_COUNT -> "p.view_count";
         };
-        return "ORDER BY " + column + " DESC ";
     }
 }
@@ -0,0 +1,93 @@
+package com.backend.immilog.post.infrastructure.jpa.entity.feed;
+
+import com.backend.immilog.post.domain.model.post.Categories;
+import com.backend.immilog.shared.enums.ContentStatus;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * post_feed_view 테이블 정의 (스키마 생성용)
+ * 읽기/쓰기는 PostFeedViewRepositoryImpl의 JDBC 쿼리로만 수행
+ */
+@Entity
+@Table(
+        name = "post_feed_view",
+        indexes = {
+                // 피드 키셋 페이지네이션 (국가 지정 / 전체)
+                @Index(name = "idx_feed_view_country_created", columnList = "country_id, is_public, created_at, post_id"),
+                @Index(name = "idx_feed_view_created", columnList = "is_public, created_at, post_id"),
+                @Index(name = "idx_feed_view_category_created", columnList = "category, is_public, created_at, post_id"),
+                // 작성자 프로필 변경 반영
+                @Index(name = "idx_feed_view_user", columnList = "user_id")
+        }
+)
+public class PostFeedViewEntity {
+
+    @Id
+    @Column(name = "post_id")
+    private String postId;
+
+    @Column(name = "user_id")
+    private String userId;
+
+    @Column(name = "nickname")
+    private String nickname;
+
+    @Column(name = "image_url")
+    private String imageUrl;
+
+    @Column(name = "title")
+    private String title;
+
+    @Column(name = "content")
+    private String content;
+
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;
+
+    @Column(name = "comment_count", nullable = false)
+    private long commentCount;
+
+    @Column(name = "like_count", nullable = false)
+    private long likeCount;
+
+    @Column(name = "bookmark_count", nullable = false)
+    private long bookmarkCount;
+
+    // 앞쪽 태그 JSON 배열
+    @Column(name = "tags", length = 1024)
+    private String tags;
+
+    @Column(name = "thumbnail_url", length = 1024)
+    private String thumbnailUrl;
+
+    @Column(name = "is_public")
+    private String isPublic;
+
+    @Column(name = "country_id")
+    private String countryId;
+
+    @Column(name = "region")
+    private String region;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category")
+    private Categories category;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private ContentStatus status;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // 이 행을 계산할 때 원본을 읽은 DB 시각 (upsert 순서 보호)
+    @Column(name = "source_read_at", columnDefinition = "datetime(6)")
+    private LocalDateTime sourceReadAt;
+
+    protected PostFeedViewEntity() {}
+}
@@ -7,11 +7,24 @@ import org.hibernate.annotations.DynamicInsert;
 import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 @DynamicUpdate
 @DynamicInsert
 @Entity
-@Table(name = "post")
+@Table(
+        name = "post",
+        indexes = {
+                // 국가별 피드 키셋 페이지네이션 (created_at, post_id)
+                @Index(name = "idx_post_feed_created", columnList = "country_id, is_public, created_at, post_id"),
+                @Index(name = "idx_post_feed_views", columnList = "country_id, is_public, view_count, post_id"),
+                @Index(name = "idx_post_feed_likes", columnList = "country_id, is_public, like_count, post_id"),
+                @Index(name = "idx_post_feed_comments", columnList = "country_id, is_public, comment_count, post_id"),
+                @Index(name = "idx_post_user_created", columnList = "user_id, created_at, post_id"),
+                // 검색 색인 변경분 동기화 (updated_at, post_id)
+                @Index(name = "idx_post_updated", columnList = "updated_at, post_id")
+        }
+)
 public class PostEntity {
 
     @Id
@@ -35,9 +48,17 @@ public class PostEntity {
     @Column(name = "badge")
     private Badge badge;
 
-    @Column(name = "comment_count")
+    // 키셋 정렬 키로 인덱스를 타도록 카운터 컬럼은 NULL 없이 0부터 시작
+    @Column(name = "comment_count", nullable = false, columnDefinition = "bigint default 0")
     private Long commentCount;
 
+    // 인터랙션 토글이 SQL로 직접 증감하므로 엔티티 저장 시에는 쓰지 않음
+    @Column(name = "like_count", nullable = false, insertable = false, updatable = false, columnDefinition = "bigint default 0")
+    private Long likeCount;
+
+    @Column(name = "bookmark_count", nullable = false, insertable = false, updatable = false, columnDefinition = "bigint default 0")
+    private Long bookmarkCount;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -61,6 +82,8 @@ public class PostEntity {
             String isPublic,
             Badge badge,
             Long commentCount,
+            Long likeCount,
+            Long bookmarkCount,
             LocalDateTime createdAt,
             LocalDateTime updatedAt
     ) {
@@ -83,7 +106,9 @@ public class PostEntity {
         this.category = category;
         this.isPublic = isPublic;
         this.badge = badge;
-        this.commentCount = commentCount;
+        this.commentCount = Objects.requireNonNullElse(commentCount, 0L);
+        this.likeCount = likeCount;
+        this.bookmarkCount = bookmarkCount;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
@@ -97,6 +122,8 @@ public class PostEntity {
                 post.isPublic(),
                 post.badge(),
                 post.commentCount(),
+                post.likeCount(),
+                post.bookmarkCount(),
                 post.createdAt(),
                 post.updatedAt()
         );
@@ -111,6 +138,8 @@ public class PostEntity {
                 this.isPublic,
                 this.badge,
                 this.commentCount,
+                this.likeCount,
+                this.bookmarkCount,
                 this.createdAt,
                 this.updatedAt
         );
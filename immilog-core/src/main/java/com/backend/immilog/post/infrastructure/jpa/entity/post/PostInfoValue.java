@@ -7,6 +7,8 @@ import jakarta.persistence.Embeddable;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 
+import java.util.Objects;
+
 @Embeddable
 public class PostInfoValue {
     @Column(name = "title")
@@ -15,7 +17,7 @@ public class PostInfoValue {
     @Column(name = "content")
     private String content;
 
-    @Column(name = "view_count")
+    @Column(name = "view_count", nullable = false, columnDefinition = "bigint default 0")
     private Long viewCount;
 
     @Column(name = "region")
@@ -40,7 +42,7 @@ public class PostInfoValue {
     ) {
         this.title = title;
         this.content = content;
-        this.viewCount = viewCount;
+        this.viewCount = Objects.requireNonNullElse(viewCount, 0L);
         this.region = region;
         this.status = status;
         this.countryId = countryId;
@@ -5,48 +5,80 @@ import com.backend.immilog.post.domain.model.post.Post;
 import com.backend.immilog.post.domain.model.post.SortingMethods;
 import com.backend.immilog.post.domain.repositories.PopularPostRepository;
 import com.backend.immilog.post.infrastructure.jdbc.PostJdbcRepository;
+import com.backend.immilog.shared.config.properties.PopularityProperties;
+import com.backend.immilog.shared.enums.ContentStatus;
 import com.backend.immilog.shared.infrastructure.DataRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Repository
 public class PopularPostRepositoryImpl implements PopularPostRepository {
+    private static final String VERSION_KEY = "popular_posts:version";
+
     private final PostJdbcRepository postJdbcRepository;
     private final DataRepository redisDataRepository;
     private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final PopularityProperties popularityProperties;
 
     public PopularPostRepositoryImpl(
             PostJdbcRepository postJdbcRepository,
             DataRepository redisDataRepository,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            RedisTemplate<String, String> stringRedisTemplate,
+            PopularityProperties popularityProperties
     ) {
         this.postJdbcRepository = postJdbcRepository;
         this.redisDataRepository = redisDataRepository;
         this.objectMapper = objectMapper;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.popularityProperties = popularityProperties;
     }
 
     @Override
-    public void saveMostViewedPosts(
+    public void savePopularPosts(
+            String key,
             List<PostResult> posts,
-            Integer expiration
+            int expiration
     ) throws JsonProcessingException {
         var json = objectMapper.writeValueAsString(posts);
-        var MOST_VIEWED_POSTS_KEY = "most_viewed_posts";
-        redisDataRepository.save(MOST_VIEWED_POSTS_KEY, json, expiration);
+        redisDataRepository.save(key, json, expiration);
     }
 
     @Override
-    public void saveHotPosts(
-            List<PostResult> popularPosts,
-            int expiration
-    ) throws JsonProcessingException {
-        var json = objectMapper.writeValueAsString(popularPosts);
-        var HOT_POSTS_KEY = "hot_posts";
-        redisDataRepository.save(HOT_POSTS_KEY, json, expiration);
+    public long getVersion() {
+        var version = stringRedisTemplate.opsForValue().get(VERSION_KEY);
+        return version == null ? 0L : Long.parseLong(version);
+    }
+
+    @Override
+    public long publishNewVersion() {
+        var version = stringRedisTemplate.opsForValue().increment(VERSION_KEY);
+        long published = version == null ? 0L : version;
+        stringRedisTemplate.convertAndSend(popularityProperties.versionChannel(), String.valueOf(published));
+        return published;
+    }
+
+    @Override
+    public List<PostResult> getPostsInOrder(List<String> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        var postsById = postJdbcRepository.getPostsByPostIdList(postIds).stream()
+                .filter(post -> post.status() != ContentStatus.DELETED)
+                .collect(Collectors.toMap(Post::id, post -> post, (existing, replacement) -> existing));
+        return postIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .map(this::convertToPostResult)
+                .toList();
     }
 
     @Override
@@ -75,7 +107,10 @@ public class PopularPostRepositoryImpl implements PopularPostRepository {
                 post.nickname(),
                 post.commentCount(),
                 post.viewCount(),
-                0L,
+                Objects.requireNonNullElse(post.likeCount(), 0L),
+                Objects.requireNonNullElse(post.bookmarkCount(), 0L),
+                null,
+                null,
                 null,
                 null,
                 null,
@@ -1,16 +1,26 @@
 package com.backend.immilog.post.infrastructure.repositories;
 
 import com.backend.immilog.post.domain.model.post.Badge;
+import com.backend.immilog.post.domain.model.post.BadgeAssignment;
 import com.backend.immilog.post.domain.model.post.Categories;
+import com.backend.immilog.post.domain.model.post.CursorSlice;
 import com.backend.immilog.post.domain.model.post.Post;
+import com.backend.immilog.post.domain.model.post.PostActivity;
+import com.backend.immilog.post.domain.model.post.PostCursor;
+import com.backend.immilog.post.domain.model.post.PostSearchDocument;
 import com.backend.immilog.post.domain.model.post.SortingMethods;
 import com.backend.immilog.post.domain.repositories.PostDomainRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @Repository
 public class PostDomainRepositoryImpl implements PostDomainRepository {
@@ -31,6 +41,11 @@ public class PostDomainRepositoryImpl implements PostDomainRepository {
         }
     }
 
+    @Override
+    public boolean existsById(String id) {
+        return postRepositoryImpl.existsById(id);
+    }
+
     @Override
     public Post save(Post post) {
         return postRepositoryImpl.save(post);
@@ -69,6 +84,45 @@ public class PostDomainRepositoryImpl implements PostDomainRepository {
         return postRepositoryImpl.getPostsByUserId(userId, pageable);
     }
 
+    @Override
+    public CursorSlice<Post> findPostsAfter(
+            String countryId,
+            SortingMethods sortingMethod,
+            String isPublic,
+            Categories category,
+            PostCursor cursor,
+            int size,
+            boolean includeCount
+    ) {
+        return postRepositoryImpl.getPostsAfter(
+                countryId,
+                sortingMethod,
+                isPublic,
+                category,
+                cursor,
+                size,
+                includeCount
+        );
+    }
+
+    @Override
+    public CursorSlice<Post> findPostsByKeywordAfter(
+            String keyword,
+            PostCursor cursor,
+            int size
+    ) {
+        return postRepositoryImpl.getPostsByKeywordAfter(keyword, cursor, size);
+    }
+
+    @Override
+    public CursorSlice<Post> findPostsByUserIdAfter(
+            String userId,
+            PostCursor cursor,
+            int size
+    ) {
+        return postRepositoryImpl.getPostsByUserIdAfter(userId, cursor, size);
+    }
+
     @Override
     public List<Post> findPostsByIdList(List<String> postIdList) {
         return postRepositoryImpl.getPostsByPostIdList(postIdList);
@@ -78,4 +132,58 @@ public class PostDomainRepositoryImpl implements PostDomainRepository {
     public List<Post> findByBadge(Badge badge) {
         return postRepositoryImpl.findByBadge(badge);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void increaseViewCounts(Map<String, Long> viewCountDeltas) {
+        postRepositoryImpl.increaseViewCounts(viewCountDeltas);
+    }
+
+    @Override
+    public void applyCommentCountDeltas(Map<String, Long> commentCountDeltas) {
+        postRepositoryImpl.applyCommentCountDeltas(commentCountDeltas);
+    }
+
+    @Override
+    public List<PostSearchDocument> findSearchDocumentsAfter(
+            String lastPostId,
+            int size
+    ) {
+        return postRepositoryImpl.getSearchDocumentsAfter(lastPostId, size);
+    }
+
+    @Override
+    public List<PostSearchDocument> findSearchDocumentsUpdatedSince(
+            LocalDateTime updatedSince,
+            String lastPostId,
+            int size
+    ) {
+        return postRepositoryImpl.getSearchDocumentsUpdatedSince(updatedSince, lastPostId, size);
+    }
+
+    @Override
+    public Map<String, String> findCountryIdsByPostIds(List<String> postIdList) {
+        return postRepositoryImpl.getCountryIdsByPostIds(postIdList);
+    }
+
+    @Override
+    public Map<String, Badge> findBadges(
+            Set<Badge> holderBadges,
+            Collection<String> postIds
+    ) {
+        return postRepositoryImpl.getBadges(holderBadges, postIds);
+    }
+
+    @Override
+    public int applyBadgeAssignment(BadgeAssignment assignment) {
+        return postRepositoryImpl.applyBadgeAssignment(assignment);
+    }
+
+    @Override
+    public void streamPostActivities(
+            LocalDateTime from,
+            LocalDateTime to,
+            Consumer<PostActivity> consumer
+    ) {
+        postRepositoryImpl.streamPostActivities(from, to, consumer);
+    }
+}
@@ -0,0 +1,530 @@
+package com.backend.immilog.post.infrastructure.repositories;
+
+import com.backend.immilog.post.domain.model.post.Categories;
+import com.backend.immilog.post.domain.model.post.CursorSlice;
+import com.backend.immilog.post.domain.model.post.PostCursor;
+import com.backend.immilog.post.domain.model.post.PostFeedView;
+import com.backend.immilog.post.domain.model.post.SortingMethods;
+import com.backend.immilog.post.domain.repositories.PostFeedViewRepository;
+import com.backend.immilog.shared.enums.ContentStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * post_feed_view 투영 저장소
+ * 피드 조회는 투영 테이블 하나만 인덱스 범위로 읽고, 투영 행 계산은 원본 테이블을 게시물 묶음 단위로 두 번(게시물+작성자, 리소스) 조회해 만듦
+ * 좋아요/북마크 수는 post 테이블의 카운터 컬럼을 그대로 사용
+ */
+@Slf4j
+@Repository
+public class PostFeedViewRepositoryImpl implements PostFeedViewRepository {
+    private static final int BATCH_SIZE = 500;
+    private static final TypeReference<List<String>> TAGS_TYPE = new TypeReference<>() {};
+    private static final List<String> UPSERT_COLUMNS = List.of(
+            "user_id", "nickname", "image_url", "title", "content",
+            "view_count", "comment_count", "like_count", "bookmark_count", "tags", "thumbnail_url",
+            "is_public", "country_id", "region", "category", "status", "created_at", "updated_at"
+    );
+
+    private final JdbcClient jdbcClient;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public PostFeedViewRepositoryImpl(
+            JdbcClient jdbcClient,
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper
+    ) {
+        this.jdbcClient = jdbcClient;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Page<PostFeedView> findFeed(
+            String countryId,
+            SortingMethods sortingMethod,
+            String isPublic,
+            Categories category,
+            Pageable pageable
+    ) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+        addFeedConditions(countryId, isPublic, category, conditions, params);
+        String column = getSortColumn(sortingMethod);
+
+        String sql = String.format("""
+                SELECT v.*
+                FROM post_feed_view v
+                %s
+                ORDER BY %s DESC, v.post_id DESC
+                LIMIT ? OFFSET ?
+                """, toWhereClause(conditions), column);
+        List<Object> pageParams = new ArrayList<>(params);
+        pageParams.add(pageable.getPageSize());
+        pageParams.add(pageable.getOffset());
+
+        List<PostFeedView> views = jdbcClient.sql(sql)
+                .params(pageParams.toArray())
+                .query(feedViewRowMapper())
+                .list();
+
+        return new PageImpl<>(views, pageable, count(conditions, params));
+    }
+
+    @Override
+    public CursorSlice<PostFeedView> findFeedAfter(
+            String countryId,
+            SortingMethods sortingMethod,
+            String isPublic,
+            Categories category,
+            PostCursor cursor,
+            int size,
+            boolean includeCount
+    ) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+        addFeedConditions(countryId, isPublic, category, conditions, params);
+        Long totalCount = includeCount ? count(conditions, params) : null;
+
+        String column = getSortColumn(sortingMethod);
+        if (cursor != null) {
+            cursor.validateSortingMethod(sortingMethod);
+            Object sortKey = cursor.sortKey();
+            conditions.add("(" + column + " < ? OR (" + column + " = ? AND v.post_id < ?))");
+            params.add(sortKey);
+            params.add(sortKey);
+            params.add(cursor.postId());
+        }
+
+        String sql = String.format("""
+                SELECT v.*
+                FROM post_feed_view v
+                %s
+                ORDER BY %s DESC, v.post_id DESC
+                LIMIT ?
+                """, toWhereClause(conditions), column);
+        params.add(size + 1);
+
+        List<PostFeedView> rows = jdbcClient.sql(sql)
+                .params(params.toArray())
+                .query(feedViewRowMapper())
+                .list();
+
+        boolean hasNext = rows.size() > size;
+        List<PostFeedView> views = hasNext ? rows.subList(0, size) : rows;
+        PostCursor nextCursor = hasNext
+                ? new PostCursor(sortingMethod, sortValue(views.getLast(), sortingMethod), views.getLast().postId())
+                : null;
+        return new CursorSlice<>(views, nextCursor, totalCount);
+    }
+
+    @Override
+    public List<PostFeedView> loadFromSource(
+            Collection<String> postIds,
+            int tagLimit
+    ) {
+        List<PostFeedView> views = new ArrayList<>(postIds.size());
+        for (List<String> chunk : chunks(List.copyOf(postIds))) {
+            // 첫 조회 직전 시각을 기준으로 삼아, 이 행이 그 시각 이전에 커밋된 변경을 모두 반영했음을 보장
+            LocalDateTime sourceReadAt = jdbcClient.sql("SELECT NOW(6)")
+                    .query(LocalDateTime.class)
+                    .single();
+            Map<String, Resources> resources = getResources(chunk, tagLimit);
+            String sql = """
+                    SELECT p.*, u.nickname, u.image_url
+                    FROM post p
+                    LEFT JOIN user u ON p.user_id = u.user_id
+                    WHERE p.post_id IN (%s)
+                    ORDER BY p.post_id
+                    """.formatted(placeholders(chunk.size()));
+
+            jdbcClient.sql(sql)
+                    .params(chunk.toArray())
+                    .query(rs -> {
+                        String postId = rs.getString("post_id");
+                        Resources postResources = resources.getOrDefault(postId, Resources.EMPTY);
+                        views.add(new PostFeedView(
+                                postId,
+                                rs.getString("user_id"),
+                                rs.getString("nickname"),
+                                rs.getString("image_url"),
+                                rs.getString("title"),
+                                rs.getString("content"),
+                                rs.getLong("view_count"),
+                                rs.getLong("comment_count"),
+                                rs.getLong("like_count"),
+                                rs.getLong("bookmark_count"),
+                                postResources.tags(),
+                                postResources.thumbnailUrl(),
+                                rs.getString("is_public"),
+                                rs.getString("country_id"),
+                                rs.getString("region"),
+                                getEnum(rs, "category", Categories.class),
+                                getEnum(rs, "status", ContentStatus.class),
+                                getNullableTimestamp(rs, "created_at"),
+                                getNullableTimestamp(rs, "updated_at"),
+                                sourceReadAt
+                        ));
+                    });
+        }
+        return views;
+    }
+
+    @Override
+    public List<PostFeedView> findByPostIds(Collection<String> postIds) {
+        List<PostFeedView> views = new ArrayList<>(postIds.size());
+        for (List<String> chunk : chunks(List.copyOf(postIds))) {
+            views.addAll(jdbcClient.sql("""
+                            SELECT v.*
+                            FROM post_feed_view v
+                            WHERE v.post_id IN (%s)
+                            """.formatted(placeholders(chunk.size())))
+                    .params(chunk.toArray())
+                    .query(feedViewRowMapper())
+                    .list());
+        }
+        return views;
+    }
+
+    /**
+     * post_id 기준 upsert를 배치로 실행
+     * 원본을 더 늦게 읽은 값만 반영해, 동시에 진행된 refresh 중 이전 시점을 읽은 쪽이 늦게 써도 최신 행을 덮어쓰지 않음
+     * (MySQL은 SET 절을 왼쪽부터 적용하므로 비교 기준인 source_read_at은 마지막에 갱신)
+     */
+    @Override
+    public void saveAll(List<PostFeedView> views) {
+        if (views.isEmpty()) {
+            return;
+        }
+        String sql = """
+                INSERT INTO post_feed_view (
+                    post_id, user_id, nickname, image_url, title, content,
+                    view_count, comment_count, like_count, bookmark_count, tags, thumbnail_url,
+                    is_public, country_id, region, category, status, created_at, updated_at, source_read_at
+                ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                ON DUPLICATE KEY UPDATE
+                %s
+                """.formatted(guardedAssignments());
+
+        jdbcTemplate.batchUpdate(
+                sql,
+                views,
+                BATCH_SIZE,
+                (ps, view) -> {
+                    ps.setString(1, view.postId());
+                    ps.setString(2, view.userId());
+                    ps.setString(3, view.nickname());
+                    ps.setString(4, view.imageUrl());
+                    ps.setString(5, view.title());
+                    ps.setString(6, view.content());
+                    ps.setLong(7, view.viewCount());
+                    ps.setLong(8, view.commentCount());
+                    ps.setLong(9, view.likeCount());
+                    ps.setLong(10, view.bookmarkCount());
+                    ps.setString(11, writeTags(view.tags()));
+                    ps.setString(12, view.thumbnailUrl());
+                    ps.setString(13, view.isPublic());
+                    ps.setString(14, view.countryId());
+                    ps.setString(15, view.region());
+                    ps.setString(16, view.category() == null ? null : view.category().name());
+                    ps.setString(17, view.status() == null ? null : view.status().name());
+                    ps.setTimestamp(18, view.createdAt() == null ? null : Timestamp.valueOf(view.createdAt()));
+                    ps.setTimestamp(19, view.updatedAt() == null ? null : Timestamp.valueOf(view.updatedAt()));
+                    ps.setTimestamp(20, view.sourceReadAt() == null ? null : Timestamp.valueOf(view.sourceReadAt()));
+                }
+        );
+    }
+
+    private static String guardedAssignments() {
+        String fresher = "source_read_at IS NULL OR VALUES(source_read_at) >= source_read_at";
+        return Stream.concat(UPSERT_COLUMNS.stream(), Stream.of("source_read_at"))
+                .map(column -> "    %1$s = IF(%2$s, VALUES(%1$s), %1$s)".formatted(column, fresher))
+                .collect(Collectors.joining(",\n"));
+    }
+
+    @Override
+    public void deleteByPostIds(Collection<String> postIds) {
+        for (List<String> chunk : chunks(List.copyOf(postIds))) {
+            jdbcClient.sql("DELETE FROM post_feed_view WHERE post_id IN (%s)".formatted(placeholders(chunk.size())))
+                    .params(chunk.toArray())
+                    .update();
+        }
+    }
+
+    @Override
+    public int refreshAuthor(String userId) {
+        return jdbcClient.sql("""
+                        UPDATE post_feed_view v
+                        JOIN user u ON u.user_id = v.user_id
+                        SET v.nickname = u.nickname,
+                            v.image_url = u.image_url
+                        WHERE v.user_id = ?
+                        """)
+                .param(userId)
+                .update();
+    }
+
+    @Override
+    public void increaseViewCounts(Map<String, Long> viewCountDeltas) {
+        var deltas = viewCountDeltas.entrySet().stream()
+                .filter(delta -> delta.getValue() != 0)
+                .sorted(Map.Entry.comparingByKey())
+                .toList();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "UPDATE post_feed_view SET view_count = view_count + ? WHERE post_id = ?",
+                deltas,
+                BATCH_SIZE,
+                (ps, delta) -> {
+                    ps.setLong(1, delta.getValue());
+                    ps.setString(2, delta.getKey());
+                }
+        );
+    }
+
+    @Override
+    public List<String> findSourcePostIdsAfter(
+            String lastPostId,
+            int size
+    ) {
+        return jdbcClient.sql("""
+                        SELECT p.post_id
+                        FROM post p
+                        WHERE p.post_id > ?
+                        ORDER BY p.post_id
+                        LIMIT ?
+                        """)
+                .params(lastPostId == null ? "" : lastPostId, size)
+                .query(String.class)
+                .list();
+    }
+
+    @Override
+    public List<String> findOrphanedPostIds(int size) {
+        return jdbcClient.sql("""
+                        SELECT v.post_id
+                        FROM post_feed_view v
+                        LEFT JOIN post p ON p.post_id = v.post_id
+                        WHERE p.post_id IS NULL
+                        LIMIT ?
+                        """)
+                .param(size)
+                .query(String.class)
+                .list();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return jdbcClient.sql("SELECT post_id FROM post_feed_view LIMIT 1")
+                .query(String.class)
+                .optional()
+                .isEmpty();
+    }
+
+    /**
+     * 게시물별 앞쪽 tagLimit개 태그와 첫 첨부(썸네일), 순서는 content_resource_id 기준으로 고정
+     */
+    private Map<String, Resources> getResources(
+            List<String> postIds,
+            int tagLimit
+    ) {
+        Map<String, Resources> resources = new HashMap<>();
+        jdbcClient.sql("""
+                        SELECT content_id, resource_type, content
+                        FROM content_resource
+                        WHERE content_id IN (%s)
+                          AND content_type = 'POST' AND resource_type IN ('TAG', 'ATTACHMENT')
+                        ORDER BY content_id, content_resource_id
+                        """.formatted(placeholders(postIds.size())))
+                .params(postIds.toArray())
+                .query(rs -> {
+                    var postResources = resources.computeIfAbsent(rs.getString("content_id"), postId -> new Resources());
+                    var content = rs.getString("content");
+                    if ("TAG".equals(rs.getString("resource_type"))) {
+                        if (postResources.tags.size() < tagLimit) {
+                            postResources.tags.add(content);
+                        }
+                    } else if (postResources.thumbnailUrl == null) {
+                        postResources.thumbnailUrl = content;
+                    }
+                });
+        return resources;
+    }
+
+    private long count(
+            List<String> conditions,
+            List<Object> params
+    ) {
+        return jdbcClient.sql("SELECT COUNT(*) FROM post_feed_view v " + toWhereClause(conditions))
+                .params(params.toArray())
+                .query(Long.class)
+                .single();
+    }
+
+    private RowMapper<PostFeedView> feedViewRowMapper() {
+        return (rs, rowNum) -> new PostFeedView(
+                rs.getString("post_id"),
+                rs.getString("user_id"),
+                rs.getString("nickname"),
+                rs.getString("image_url"),
+                rs.getString("title"),
+                rs.getString("content"),
+                rs.getLong("view_count"),
+                rs.getLong("comment_count"),
+                rs.getLong("like_count"),
+                rs.getLong("bookmark_count"),
+                readTags(rs.getString("tags")),
+                rs.getString("thumbnail_url"),
+                rs.getString("is_public"),
+                rs.getString("country_id"),
+                rs.getString("region"),
+                getEnum(rs, "category", Categories.class),
+                getEnum(rs, "status", ContentStatus.class),
+                getNullableTimestamp(rs, "created_at"),
+                getNullableTimestamp(rs, "updated_at"),
+                getNullableTimestamp(rs, "source_read_at")
+        );
+    }
+
+    private String writeTags(List<String> tags) {
+        try {
+            return objectMapper.writeValueAsString(tags);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize feed tags", e);
+        }
+    }
+
+    private List<String> readTags(String json) {
+        if (json == null || json.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readValue(json, TAGS_TYPE);
+        } catch (JsonProcessingException e) {
+            log.warn("Invalid feed tags: {}", json);
+            return List.of();
+        }
+    }
+
+    private static void addFeedConditions(
+            String countryId,
+            String isPublic,
+            Categories category,
+            List<String> conditions,
+            List<Object> params
+    ) {
+        conditions.add("v.is_public = ?");
+        params.add(isPublic);
+
+        if (category != Categories.ALL) {
+            conditions.add("v.category = ?");
+            params.add(category.name());
+        }
+
+        if (countryId != null && !countryId.equals("ALL")) {
+            conditions.add("v.country_id = ?");
+            params.add(countryId);
+        }
+    }
+
+    private static String getSortColumn(SortingMethods sortingMethod) {
+        return switch (sortingMethod) {
+            case CREATED_DATE -> "v.created_at";
+            case COMMENT_COUNT -> "v.comment_count";
+            case LIKE_COUNT -> "v.like_count";
+            case VIEW_COUNT -> "v.view_count";
+        };
+    }
+
+    private static String sortValue(
+            PostFeedView view,
+            SortingMethods sortingMethod
+    ) {
+        return switch (sortingMethod) {
+            case CREATED_DATE -> view.createdAt().toString();
+            case COMMENT_COUNT -> String.valueOf(view.commentCount());
+            case LIKE_COUNT -> String.valueOf(view.likeCount());
+            case VIEW_COUNT -> String.valueOf(view.viewCount());
+        };
+    }
+
+    private static String toWhereClause(List<String> conditions) {
+        return conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions);
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+
+    private static List<List<String>> chunks(List<String> values) {
+        List<List<String>> chunks = new ArrayList<>();
+        for (int start = 0; start < values.size(); start += BATCH_SIZE) {
+            chunks.add(values.subList(start, Math.min(start + BATCH_SIZE, values.size())));
+        }
+        return chunks;
+    }
+
+    private static <T extends Enum<T>> T getEnum(
+            ResultSet rs,
+            String columnName,
+            Class<T> enumClass
+    ) throws SQLException {
+        String value = rs.getString(columnName);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(enumClass, value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static LocalDateTime getNullableTimestamp(
+            ResultSet rs,
+            String columnName
+    ) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(columnName);
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    private static final class Resources {
+        private static final Resources EMPTY = new Resources();
+
+        private final List<String> tags = new ArrayList<>();
+        private String thumbnailUrl;
+
+        private List<String> tags() {
+            return tags;
+        }
+
+        private String thumbnailUrl() {
+            return thumbnailUrl;
+        }
+    }
+}
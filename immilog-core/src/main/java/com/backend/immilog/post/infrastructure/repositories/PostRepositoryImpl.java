@@ -1,8 +1,13 @@
 package com.backend.immilog.post.infrastructure.repositories;
 
 import com.backend.immilog.post.domain.model.post.Badge;
+import com.backend.immilog.post.domain.model.post.BadgeAssignment;
 import com.backend.immilog.post.domain.model.post.Categories;
+import com.backend.immilog.post.domain.model.post.CursorSlice;
 import com.backend.immilog.post.domain.model.post.Post;
+import com.backend.immilog.post.domain.model.post.PostActivity;
+import com.backend.immilog.post.domain.model.post.PostCursor;
+import com.backend.immilog.post.domain.model.post.PostSearchDocument;
 import com.backend.immilog.post.domain.model.post.SortingMethods;
 import com.backend.immilog.post.domain.repositories.PostRepository;
 import com.backend.immilog.post.exception.PostErrorCode;
@@ -14,8 +19,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import static com.backend.immilog.post.exception.PostErrorCode.POST_NOT_FOUND;
 
@@ -49,6 +59,26 @@ public class PostRepositoryImpl implements PostRepository {
         );
     }
 
+    @Override
+    public CursorSlice<Post> getPostsAfter(
+            String countryId,
+            SortingMethods sortingMethod,
+            String isPublic,
+            Categories category,
+            PostCursor cursor,
+            int size,
+            boolean includeCount
+    ) {
+        return postJdbcRepository.getPostsAfter(
+                countryId,
+                sortingMethod,
+                isPublic,
+                category,
+                cursor,
+                size,
+                includeCount
+        );
+    }
 
     @Override
     public Post getPostDetail(String postId) {
@@ -73,6 +103,24 @@ public class PostRepositoryImpl implements PostRepository {
         return postJdbcRepository.getPostsByUserId(userId, pageable);
     }
 
+    @Override
+    public CursorSlice<Post> getPostsByKeywordAfter(
+            String keyword,
+            PostCursor cursor,
+            int size
+    ) {
+        return postJdbcRepository.getPostsByKeywordAfter(keyword, cursor, size);
+    }
+
+    @Override
+    public CursorSlice<Post> getPostsByUserIdAfter(
+            String userId,
+            PostCursor cursor,
+            int size
+    ) {
+        return postJdbcRepository.getPostsByUserIdAfter(userId, cursor, size);
+    }
+
     @Override
     public Post getById(String postId) {
         return postJpaRepository
@@ -97,10 +145,69 @@ public class PostRepositoryImpl implements PostRepository {
                 .map(PostEntity::toDomain);
     }
     
+    @Override
+    public boolean existsById(String postId) {
+        return postJpaRepository.existsById(postId);
+    }
+
     @Override
     public List<Post> findByBadge(Badge badge) {
         return postJpaRepository.findByBadge(badge).stream()
                 .map(PostEntity::toDomain)
                 .toList();
     }
+
+    @Override
+    public void increaseViewCounts(Map<String, Long> viewCountDeltas) {
+        postJdbcRepository.increaseViewCounts(viewCountDeltas);
+    }
+
+    @Override
+    public void applyCommentCountDeltas(Map<String, Long> commentCountDeltas) {
+        postJdbcRepository.applyCommentCountDeltas(commentCountDeltas);
+    }
+
+    @Override
+    public List<PostSearchDocument> getSearchDocumentsAfter(
+            String lastPostId,
+            int size
+    ) {
+        return postJdbcRepository.getSearchDocumentsAfter(lastPostId, size);
+    }
+
+    @Override
+    public List<PostSearchDocument> getSearchDocumentsUpdatedSince(
+            LocalDateTime updatedSince,
+            String lastPostId,
+            int size
+    ) {
+        return postJdbcRepository.getSearchDocumentsUpdatedSince(updatedSince, lastPostId, size);
+    }
+
+    @Override
+    public Map<String, String> getCountryIdsByPostIds(List<String> postIdList) {
+        return postJdbcRepository.getCountryIdsByPostIds(postIdList);
+    }
+
+    @Override
+    public Map<String, Badge> getBadges(
+            Set<Badge> holderBadges,
+            Collection<String> postIds
+    ) {
+        return postJdbcRepository.getBadges(holderBadges, postIds);
+    }
+
+    @Override
+    public int applyBadgeAssignment(BadgeAssignment assignment) {
+        return postJdbcRepository.applyBadgeAssignment(assignment);
+    }
+
+    @Override
+    public void streamPostActivities(
+            LocalDateTime from,
+            LocalDateTime to,
+            Consumer<PostActivity> consumer
+    ) {
+        postJdbcRepository.streamPostActivities(from, to, consumer);
+    }
 }
@@ -0,0 +1,100 @@
+package com.backend.immilog.post.infrastructure.repositories;
+
+import com.backend.immilog.post.domain.model.post.PopularityRanking;
+import com.backend.immilog.post.domain.repositories.PopularityRankingRepository;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 순위별/범위별/세대별 Sorted Set
+ * popular:{ranking}:{scope}:{generation} → (postId, 감쇠 점수)
+ * popular:{ranking}:scopes → 점수가 기록된 범위 목록
+ */
+@Repository
+public class RedisPopularityRankingRepository implements PopularityRankingRepository {
+    private static final String KEY_PREFIX = "popular:";
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+
+    public RedisPopularityRankingRepository(RedisTemplate<String, String> stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    @Override
+    public void incrementScores(
+            PopularityRanking ranking,
+            long generation,
+            Map<String, Map<String, Double>> incrementsByScope,
+            Duration ttl
+    ) {
+        if (incrementsByScope.isEmpty()) {
+            return;
+        }
+        // 범위 수 x 게시물 수 만큼의 ZINCRBY를 한 번의 파이프라인으로 전송
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                var redis = (RedisOperations<String, String>) operations;
+                String[] scopes = incrementsByScope.keySet().toArray(String[]::new);
+                redis.opsForSet().add(scopesKey(ranking), scopes);
+                incrementsByScope.forEach((scope, increments) -> {
+                    String key = rankingKey(ranking, scope, generation);
+                    increments.forEach((postId, increment) -> redis.opsForZSet().incrementScore(key, postId, increment));
+                    redis.expire(key, ttl);
+                });
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public List<String> findTopPostIds(
+            PopularityRanking ranking,
+            String scope,
+            long generation,
+            int size
+    ) {
+        Set<String> postIds = stringRedisTemplate.opsForZSet()
+                .reverseRange(rankingKey(ranking, scope, generation), 0, size - 1);
+        return postIds == null ? List.of() : List.copyOf(postIds);
+    }
+
+    @Override
+    public Set<String> findScopes(PopularityRanking ranking) {
+        Set<String> scopes = stringRedisTemplate.opsForSet().members(scopesKey(ranking));
+        return scopes == null ? Set.of() : scopes;
+    }
+
+    @Override
+    public void trim(
+            PopularityRanking ranking,
+            String scope,
+            long generation,
+            int maxEntries
+    ) {
+        // 점수 낮은 쪽부터 maxEntries를 넘는 만큼 제거
+        stringRedisTemplate.opsForZSet().removeRange(rankingKey(ranking, scope, generation), 0, -(maxEntries + 1L));
+    }
+
+    private static String rankingKey(
+            PopularityRanking ranking,
+            String scope,
+            long generation
+    ) {
+        return KEY_PREFIX + ranking.name().toLowerCase(Locale.ROOT) + ":" + scope + ":" + generation;
+    }
+
+    private static String scopesKey(PopularityRanking ranking) {
+        return KEY_PREFIX + ranking.name().toLowerCase(Locale.ROOT) + ":scopes";
+    }
+}
@@ -1,6 +1,8 @@
 package com.backend.immilog.post.presentation.controller;
 
 import com.backend.immilog.comment.application.services.CommentQueryService;
+import com.backend.immilog.post.application.dto.InteractionView;
+import com.backend.immilog.post.application.dto.PopularPostSnapshot;
 import com.backend.immilog.post.application.dto.PostResult;
 import com.backend.immilog.post.application.usecase.PostDeleteUseCase;
 import com.backend.immilog.post.application.usecase.PostFetchUseCase;
@@ -13,13 +15,20 @@ import com.backend.immilog.shared.annotation.CurrentUser;
 import com.backend.immilog.shared.enums.ContentType;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.HttpStatus.NOT_MODIFIED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 
 @Tag(name = "Post API", description = "게시물 관련 API")
@@ -89,29 +98,52 @@ public class PostController {
     @GetMapping
     @Operation(summary = "게시물 목록 조회", description = "게시물 목록을 조회합니다.")
     public ResponseEntity<PostPageResponse> getPosts(
+            @CurrentUser String userId,
             @Parameter(description = "국가") @RequestParam(value = "country", required = false) String countryId,
             @Parameter(description = "정렬 방식") @RequestParam(value = "sort", required = false) SortingMethods sort,
             @Parameter(description = "공개 여부") @RequestParam(value = "isPublic", required = false) String isPublic,
             @Parameter(description = "카테고리") @RequestParam(value = "category", required = false) Categories category,
             @Parameter(description = "검색어") @RequestParam(value = "keyword", required = false) String keyword,
-            @Parameter(description = "페이지") @RequestParam(value = "page", defaultValue = "0") Integer page
+            @Parameter(description = "페이지") @RequestParam(value = "page", defaultValue = "0") Integer page,
+            @Parameter(description = "인터랙션 표현 방식 (FULL: 좋아요/북마크 사용자 목록, SUMMARY: 수와 likedByMe/bookmarkedByMe)") @RequestParam(value = "interactions", defaultValue = "FULL") InteractionView interactions
     ) {
         Page<PostResult> posts;
         if (keyword != null) {
-            posts = postFetchUseCase.searchKeyword(keyword, page);
+            posts = postFetchUseCase.searchKeyword(keyword, page, interactions, userId);
         } else {
-            posts = postFetchUseCase.getPosts(countryId, sort, isPublic, category, page);
+            posts = postFetchUseCase.getPosts(countryId, sort, isPublic, category, page, interactions, userId);
         }
         var pagedPosts = posts.map(PostResult::toInfraDTO);
         return ResponseEntity.ok(PostPageResponse.of(pagedPosts));
     }
 
+    @GetMapping(params = "cursor")
+    @Operation(summary = "게시물 목록 커서 조회", description = "cursor 파라미터가 있으면 키셋 커서로 게시물 목록을 조회합니다. 빈 값이면 첫 페이지입니다.")
+    public ResponseEntity<PostCursorPageResponse> getPostsByCursor(
+            @CurrentUser String userId,
+            @Parameter(description = "국가") @RequestParam(value = "country", required = false) String countryId,
+            @Parameter(description = "정렬 방식") @RequestParam(value = "sort", required = false) SortingMethods sort,
+            @Parameter(description = "공개 여부") @RequestParam(value = "isPublic", required = false) String isPublic,
+            @Parameter(description = "카테고리") @RequestParam(value = "category", required = false) Categories category,
+            @Parameter(description = "검색어") @RequestParam(value = "keyword", required = false) String keyword,
+            @Parameter(description = "페이지 커서 (빈 값이면 첫 페이지)") @RequestParam(value = "cursor") String cursor,
+            @Parameter(description = "전체 개수 포함 여부") @RequestParam(value = "includeCount", defaultValue = "false") boolean includeCount,
+            @Parameter(description = "인터랙션 표현 방식 (FULL: 좋아요/북마크 사용자 목록, SUMMARY: 수와 likedByMe/bookmarkedByMe)") @RequestParam(value = "interactions", defaultValue = "FULL") InteractionView interactions
+    ) {
+        var slice = keyword != null
+                ? postFetchUseCase.searchKeywordByCursor(keyword, cursor, interactions, userId)
+                : postFetchUseCase.getPostsByCursor(countryId, sort, isPublic, category, cursor, includeCount, interactions, userId);
+        return ResponseEntity.ok(PostCursorPageResponse.of(slice.map(PostResult::toInfraDTO)));
+    }
+
     @GetMapping("/{postId}")
     @Operation(summary = "게시물 상세 조회", description = "게시물 상세 정보를 조회합니다.")
     public ResponseEntity<PostDetailResponse> getPost(
-            @Parameter(description = "게시물 고유번호") @PathVariable("postId") String postId
+            @Parameter(description = "게시물 고유번호") @PathVariable("postId") String postId,
+            @CurrentUser String userId,
+            @Parameter(description = "인터랙션 표현 방식 (FULL: 좋아요/북마크 사용자 목록, SUMMARY: 수와 likedByMe/bookmarkedByMe)") @RequestParam(value = "interactions", defaultValue = "FULL") InteractionView interactions
     ) {
-        var post = postFetchUseCase.getPostDetail(postId);
+        var post = postFetchUseCase.getPostDetail(postId, interactions, userId);
         var comments = commentQueryService.getHierarchicalCommentsByPostId(postId);
         return ResponseEntity.ok(PostDetailResponse.successWithHierarchicalComments(post, comments));
     }
@@ -120,37 +152,74 @@ public class PostController {
     @Operation(summary = "북마크한 게시물 조회", description = "인증된 사용자의 북마크한 게시물을 조회합니다.")
     public ResponseEntity<PostListResponse> getBookmarkedPosts(
             @CurrentUser String userId,
-            @Parameter(description = "포스팅 타입") @RequestParam(value = "contentType", defaultValue = "POST") ContentType contentType
+            @Parameter(description = "포스팅 타입") @RequestParam(value = "contentType", defaultValue = "POST") ContentType contentType,
+            @Parameter(description = "인터랙션 표현 방식 (FULL: 좋아요/북마크 사용자 목록, SUMMARY: 수와 likedByMe/bookmarkedByMe)") @RequestParam(value = "interactions", defaultValue = "FULL") InteractionView interactions
     ) {
-        var postResults = postFetchUseCase.getBookmarkedPosts(userId, contentType);
+        var postResults = postFetchUseCase.getBookmarkedPosts(userId, contentType, interactions);
         var postList = postResults.stream().map(PostResult::toInfraDTO).toList();
         return ResponseEntity.ok(PostListResponse.of(postList));
     }
 
-    @GetMapping("/hot")
-    @Operation(summary = "인기 게시물 조회", description = "인기 게시물을 조회합니다.")
-    public ResponseEntity<PostListResponse> getHotPosts() {
-        var postResults = postFetchUseCase.getHotPosts();
-        var postList = postResults.stream().map(PostResult::toInfraDTO).toList();
-        return ResponseEntity.ok(PostListResponse.of(postList));
+    @GetMapping(value = "/hot", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "인기 게시물 조회", description = "인기 게시물을 조회합니다. If-None-Match가 현재 ETag와 같으면 304를 반환합니다.")
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = PostListResponse.class)))
+    public ResponseEntity<byte[]> getHotPosts(
+            @Parameter(description = "국가 ID (없으면 전체)") @RequestParam(value = "countryId", required = false) String countryId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return snapshotResponse(postFetchUseCase.getHotPosts(countryId), ifNoneMatch);
     }
 
-    @GetMapping("/most-viewed")
-    @Operation(summary = "가장 많이 조회된 게시물 조회", description = "가장 많이 조회된 게시물을 조회합니다.")
-    public ResponseEntity<PostListResponse> getMostViewedPosts() {
-        var postResults = postFetchUseCase.getMostViewedPosts();
-        var postList = postResults.stream().map(PostResult::toInfraDTO).toList();
-        return ResponseEntity.ok(PostListResponse.of(postList));
+    @GetMapping(value = "/most-viewed", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "가장 많이 조회된 게시물 조회", description = "가장 많이 조회된 게시물을 조회합니다. If-None-Match가 현재 ETag와 같으면 304를 반환합니다.")
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = PostListResponse.class)))
+    public ResponseEntity<byte[]> getMostViewedPosts(
+            @Parameter(description = "국가 ID (없으면 전체)") @RequestParam(value = "countryId", required = false) String countryId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return snapshotResponse(postFetchUseCase.getMostViewedPosts(countryId), ifNoneMatch);
     }
 
     @GetMapping("/my")
     @Operation(summary = "사용자 게시물 목록 조회", description = "특정 사용자의 게시물 목록을 조회합니다.")
     public ResponseEntity<PostPageResponse> getUserPosts(
             @CurrentUser String userId,
-            @Parameter(description = "페이지") @RequestParam(value = "page", defaultValue = "0") Integer page
+            @Parameter(description = "페이지") @RequestParam(value = "page", defaultValue = "0") Integer page,
+            @Parameter(description = "인터랙션 표현 방식 (FULL: 좋아요/북마크 사용자 목록, SUMMARY: 수와 likedByMe/bookmarkedByMe)") @RequestParam(value = "interactions", defaultValue = "FULL") InteractionView interactions
     ) {
-        var postResults = postFetchUseCase.getUserPosts(userId, page);
+        var postResults = postFetchUseCase.getUserPosts(userId, page, interactions);
         var pagedPosts = postResults.map(PostResult::toInfraDTO);
         return ResponseEntity.ok(PostPageResponse.of(pagedPosts));
     }
+
+    @GetMapping(value = "/my", params = "cursor")
+    @Operation(summary = "사용자 게시물 목록 커서 조회", description = "cursor 파라미터가 있으면 키셋 커서로 사용자의 게시물 목록을 조회합니다. 빈 값이면 첫 페이지입니다.")
+    public ResponseEntity<PostCursorPageResponse> getUserPostsByCursor(
+            @CurrentUser String userId,
+            @Parameter(description = "페이지 커서 (빈 값이면 첫 페이지)") @RequestParam(value = "cursor") String cursor,
+            @Parameter(description = "인터랙션 표현 방식 (FULL: 좋아요/북마크 사용자 목록, SUMMARY: 수와 likedByMe/bookmarkedByMe)") @RequestParam(value = "interactions", defaultValue = "FULL") InteractionView interactions
+    ) {
+        var slice = postFetchUseCase.getUserPostsByCursor(userId, cursor, interactions);
+        return ResponseEntity.ok(PostCursorPageResponse.of(slice.map(PostResult::toInfraDTO)));
+    }
+
+    /**
+     * 미리 직렬화된 본문을 그대로 쓰고, 클라이언트가 같은 ETag를 가지고 있으면 본문 없이 304 반환
+     */
+    private static ResponseEntity<byte[]> snapshotResponse(
+            PopularPostSnapshot snapshot,
+            String ifNoneMatch
+    ) {
+        if (snapshot.matches(ifNoneMatch)) {
+            return ResponseEntity.status(NOT_MODIFIED)
+                    .eTag(snapshot.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.body());
+    }
 }
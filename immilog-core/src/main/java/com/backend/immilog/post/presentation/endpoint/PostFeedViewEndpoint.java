@@ -0,0 +1,41 @@
+package com.backend.immilog.post.presentation.endpoint;
+
+import com.backend.immilog.post.application.feed.PostFeedViewService;
+import com.backend.immilog.post.domain.model.post.PostFeedViewReport;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 피드 투영 운영용 관리 엔드포인트
+ * GET /actuator/postfeedview : 정합성 검사 (복구하지 않음)
+ * POST /actuator/postfeedview/rebuild : 전체 재구축
+ * POST /actuator/postfeedview/repair : 정합성 검사 후 차이 복구
+ */
+@Component
+@Endpoint(id = "postfeedview")
+public class PostFeedViewEndpoint {
+    private final PostFeedViewService postFeedViewService;
+
+    public PostFeedViewEndpoint(PostFeedViewService postFeedViewService) {
+        this.postFeedViewService = postFeedViewService;
+    }
+
+    @ReadOperation
+    public PostFeedViewReport check() {
+        return postFeedViewService.check(false);
+    }
+
+    @WriteOperation
+    public Map<String, Object> run(@Selector String command) {
+        return switch (command) {
+            case "rebuild" -> Map.of("command", command, "rebuilt", postFeedViewService.rebuild());
+            case "repair" -> Map.of("command", command, "report", postFeedViewService.check(true));
+            default -> throw new IllegalArgumentException("Unknown command: " + command);
+        };
+    }
+}
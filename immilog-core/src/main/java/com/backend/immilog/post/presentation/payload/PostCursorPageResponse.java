@@ -0,0 +1,27 @@
+package com.backend.immilog.post.presentation.payload;
+
+import com.backend.immilog.post.domain.model.post.CursorSlice;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+
+public record PostCursorPageResponse(
+        @Schema(description = "상태 코드", example = "200") Integer status,
+        @Schema(description = "메시지", example = "success") String message,
+        @Schema(description = "게시글 리스트") List<PostInformation> data,
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)") String nextCursor,
+        @Schema(description = "다음 페이지 존재 여부") boolean hasNext,
+        @Schema(description = "전체 게시글 수 (includeCount=true일 때만 제공)") Long totalCount
+) {
+    public static PostCursorPageResponse of(CursorSlice<PostInformation> data) {
+        return new PostCursorPageResponse(
+                HttpStatus.OK.value(),
+                "success",
+                data.content(),
+                data.hasNext() ? data.nextCursor().encode() : null,
+                data.hasNext(),
+                data.totalCount()
+        );
+    }
+}
@@ -2,6 +2,7 @@ package com.backend.immilog.post.presentation.payload;
 
 import com.backend.immilog.post.domain.model.post.Categories;
 import com.backend.immilog.shared.enums.ContentStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.util.List;
@@ -14,10 +15,17 @@ public record PostInformation(
         @Schema(description = "댓글 수", example = "10") Long commentCount,
         @Schema(description = "조회 수", example = "100") Long viewCount,
         @Schema(description = "좋아요 수", example = "50") Long likeCount,
-        @Schema(description = "북마크 수", example = "20") List<String> tags,
+        @Schema(description = "북마크 수", example = "20") Long bookmarkCount,
+        @Schema(description = "태그 리스트", example = "[\"visa\"]") List<String> tags,
         @Schema(description = "첨부파일 URL 리스트", example = "[\"https://example.com/file1.jpg\"]") List<String> attachments,
-        @Schema(description = "좋아요 사용자 ID 리스트", example = "[\"user1\", \"user2\"]") List<String> likeUsers,
-        @Schema(description = "북마크 사용자 ID 리스트", example = "[\"user1\", \"user2\"]") List<String> bookmarkUsers,
+        @Schema(description = "좋아요 사용자 ID 리스트 (interactions=FULL)", example = "[\"user1\", \"user2\"]")
+        @JsonInclude(JsonInclude.Include.NON_NULL) List<String> likeUsers,
+        @Schema(description = "북마크 사용자 ID 리스트 (interactions=FULL)", example = "[\"user1\", \"user2\"]")
+        @JsonInclude(JsonInclude.Include.NON_NULL) List<String> bookmarkUsers,
+        @Schema(description = "조회한 사용자의 좋아요 여부 (interactions=SUMMARY)", example = "true")
+        @JsonInclude(JsonInclude.Include.NON_NULL) Boolean likedByMe,
+        @Schema(description = "조회한 사용자의 북마크 여부 (interactions=SUMMARY)", example = "false")
+        @JsonInclude(JsonInclude.Include.NON_NULL) Boolean bookmarkedByMe,
         @Schema(description = "공개 여부", example = "true") String isPublic,
         @Schema(description = "국가", example = "Korea") String country,
         @Schema(description = "지역", example = "Seoul") String region,
@@ -1,21 +1,29 @@
 package com.backend.immilog.shared.config.database;
 
+import com.backend.immilog.shared.config.properties.PostCacheProperties;
 import com.backend.immilog.shared.config.properties.RedisProperties;
+import com.backend.immilog.shared.infrastructure.cache.TwoLevelCacheManager;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -49,8 +57,19 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * Redis 캐시 앞에 로컬 캐시를 둔 2단 CacheManager
+     * 캐시 쓰기가 서로 막지 않도록 락 없는 writer를 쓰고, 캐시 비우기는 KEYS 대신 SCAN으로 처리
+     * 캐시별 TTL/직렬화 설정은 각 모듈의 RedisCacheManagerBuilderCustomizer로 추가
+     */
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public TwoLevelCacheManager cacheManager(
+            RedisConnectionFactory redisConnectionFactory,
+            ObjectProvider<RedisCacheManagerBuilderCustomizer> cacheManagerCustomizers,
+            PostCacheProperties postCacheProperties,
+            RedisTemplate<String, String> stringRedisTemplate,
+            MeterRegistry meterRegistry
+    ) {
         RedisCacheConfiguration cacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofHours(3))
                 .serializeKeysWith(
@@ -62,10 +81,26 @@ public class RedisConfig {
                                 .fromSerializer(new GenericJackson2JsonRedisSerializer())
                 );
 
-        return RedisCacheManager
-                .builder(RedisCacheWriter.lockingRedisCacheWriter(redisConnectionFactory))
-                .cacheDefaults(cacheConfiguration)
-                .build();
+        var builder = RedisCacheManager
+                .builder(RedisCacheWriter.nonLockingRedisCacheWriter(redisConnectionFactory, BatchStrategies.scan(1_000)))
+                .cacheDefaults(cacheConfiguration);
+        cacheManagerCustomizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+        RedisCacheManager redisCacheManager = builder.build();
+        redisCacheManager.afterPropertiesSet();
+
+        return new TwoLevelCacheManager(redisCacheManager, postCacheProperties, stringRedisTemplate, meterRegistry);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            TwoLevelCacheManager cacheManager,
+            PostCacheProperties postCacheProperties
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(postCacheProperties.invalidationChannel()));
+        return container;
     }
 
     @Bean
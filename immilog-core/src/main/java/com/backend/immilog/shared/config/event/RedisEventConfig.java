@@ -1,8 +1,13 @@
 package com.backend.immilog.shared.config.event;
 
+import com.backend.immilog.shared.config.properties.EventStreamProperties;
+import com.backend.immilog.shared.infrastructure.event.RedisStreamsBatchConsumer;
+import com.backend.immilog.shared.infrastructure.event.RedisStreamsPendingReclaimer;
 import com.backend.immilog.shared.infrastructure.event.RedisStreamsPushEventListener;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -12,12 +17,11 @@ import org.springframework.data.redis.connection.stream.StreamOffset;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.stream.StreamListener;
 import org.springframework.data.redis.stream.StreamMessageListenerContainer;
-import org.springframework.data.redis.stream.Subscription;
 
 import jakarta.annotation.PostConstruct;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
-import java.time.Duration;
+import java.util.Map;
 
 @Slf4j
 @Configuration
@@ -26,6 +30,7 @@ public class RedisEventConfig {
     // Redis Streams 설정
     public static final String DOMAIN_EVENT_STREAM = "domain-events-stream";
     public static final String COMPENSATION_EVENT_STREAM = "compensation-events-stream";
+    public static final String DEAD_LETTER_EVENT_STREAM = "dead-letter-events-stream";
     
     // Consumer Group 이름들
     public static final String DOMAIN_EVENT_GROUP = "domain-event-handlers";
@@ -36,13 +41,16 @@ public class RedisEventConfig {
     
     private final RedisTemplate<String, Object> eventRedisTemplate;
     private final RedisStreamsPushEventListener eventListener;
+    private final EventStreamProperties eventStreamProperties;
 
     public RedisEventConfig(
             RedisTemplate<String, Object> eventRedisTemplate,
-            RedisStreamsPushEventListener eventListener
+            RedisStreamsPushEventListener eventListener,
+            EventStreamProperties eventStreamProperties
     ) {
         this.eventRedisTemplate = eventRedisTemplate;
         this.eventListener = eventListener;
+        this.eventStreamProperties = eventStreamProperties;
     }
 
     @PostConstruct
@@ -52,7 +60,32 @@ public class RedisEventConfig {
         createStreamAndGroup(COMPENSATION_EVENT_STREAM, COMPENSATION_EVENT_GROUP);
     }
 
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(prefix = "event.stream", name = "consumer-mode", havingValue = "batch", matchIfMissing = true)
+    public RedisStreamsBatchConsumer redisStreamsBatchConsumer() {
+        return new RedisStreamsBatchConsumer(
+                eventRedisTemplate,
+                eventListener,
+                eventStreamProperties,
+                generateConsumerName(),
+                streamGroups()
+        );
+    }
+
+    @Bean
+    public RedisStreamsPendingReclaimer redisStreamsPendingReclaimer(MeterRegistry meterRegistry) {
+        return new RedisStreamsPendingReclaimer(
+                eventRedisTemplate,
+                eventListener,
+                eventStreamProperties,
+                generateConsumerName(),
+                streamGroups(),
+                meterRegistry
+        );
+    }
+
     @Bean
+    @ConditionalOnProperty(prefix = "event.stream", name = "consumer-mode", havingValue = "push")
     @SuppressWarnings({"unchecked", "rawtypes"})
     public StreamMessageListenerContainer streamMessageListenerContainer(
             RedisConnectionFactory connectionFactory) {
@@ -61,8 +94,8 @@ public class RedisEventConfig {
         StreamMessageListenerContainer.StreamMessageListenerContainerOptions options = 
             StreamMessageListenerContainer.StreamMessageListenerContainerOptions
                 .builder()
-                .batchSize(10)
-                .pollTimeout(Duration.ofSeconds(1))
+                .batchSize(eventStreamProperties.batchSize())
+                .pollTimeout(eventStreamProperties.pollTimeout())
                 .build();
 
         StreamMessageListenerContainer container = 
@@ -73,19 +106,22 @@ public class RedisEventConfig {
 
         // 도메인 이벤트 스트림 구독 - Raw StreamListener 사용
         StreamListener rawListener = (StreamListener) eventListener;
-        
-        Subscription domainSubscription = container.receive(
-            Consumer.from(DOMAIN_EVENT_GROUP, consumerName),
-            StreamOffset.create(DOMAIN_EVENT_STREAM, ReadOffset.lastConsumed()),
-            rawListener
-        );
 
-        // 보상 이벤트 스트림 구독
-        Subscription compensationSubscription = container.receive(
-            Consumer.from(COMPENSATION_EVENT_GROUP, consumerName),
-            StreamOffset.create(COMPENSATION_EVENT_STREAM, ReadOffset.lastConsumed()),
-            rawListener
-        );
+        // 구독 수만큼 스트림을 병렬로 소비
+        for (int i = 0; i < eventStreamProperties.concurrency(); i++) {
+            container.receive(
+                Consumer.from(DOMAIN_EVENT_GROUP, consumerName),
+                StreamOffset.create(DOMAIN_EVENT_STREAM, ReadOffset.lastConsumed()),
+                rawListener
+            );
+
+            // 보상 이벤트 스트림 구독
+            container.receive(
+                Consumer.from(COMPENSATION_EVENT_GROUP, consumerName),
+                StreamOffset.create(COMPENSATION_EVENT_STREAM, ReadOffset.lastConsumed()),
+                rawListener
+            );
+        }
 
         log.info("Configured Redis Streams Push listeners with consumer: {}", consumerName);
         
@@ -95,15 +131,29 @@ public class RedisEventConfig {
         return container;
     }
 
+    /**
+     * 재시작해도 같은 이름을 쓰도록 호스트 기반으로 생성 (event.stream.consumer-name으로 지정 가능)
+     * 이름이 바뀌면 이전 consumer의 pending 레코드가 남으므로 타임스탬프 등을 붙이지 않음
+     */
     private String generateConsumerName() {
+        if (eventStreamProperties.consumerName() != null && !eventStreamProperties.consumerName().isBlank()) {
+            return eventStreamProperties.consumerName();
+        }
         try {
             String hostname = InetAddress.getLocalHost().getHostName();
-            return applicationName + "-" + hostname + "-" + System.currentTimeMillis();
+            return applicationName + "-" + hostname;
         } catch (UnknownHostException e) {
-            return applicationName + "-" + System.currentTimeMillis();
+            return applicationName + "-default";
         }
     }
 
+    private static Map<String, String> streamGroups() {
+        return Map.of(
+                DOMAIN_EVENT_STREAM, DOMAIN_EVENT_GROUP,
+                COMPENSATION_EVENT_STREAM, COMPENSATION_EVENT_GROUP
+        );
+    }
+
     private void createStreamAndGroup(String streamName, String groupName) {
         try {
             // Consumer Group 생성 (스트림이 없으면 자동 생성)
@@ -2,11 +2,13 @@ package com.backend.immilog.shared.config.integration;
 
 import com.backend.immilog.shared.exception.AsyncUncaughtExceptionHandlerCustom;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 @Configuration
@@ -22,4 +24,9 @@ public class AsyncConfig implements AsyncConfigurer {
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return new AsyncUncaughtExceptionHandlerCustom();
     }
+
+    @Bean(name = "postEnrichmentExecutor", destroyMethod = "close")
+    public ExecutorService postEnrichmentExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.backend.immilog.shared.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "event.stream")
+public record EventStreamProperties(
+        ConsumerMode consumerMode,
+        Integer batchSize,
+        Integer concurrency,
+        Duration pollTimeout,
+        String consumerName,
+        Duration reclaimInterval,
+        Duration reclaimMinIdle,
+        Duration reclaimMaxBackoff,
+        Integer reclaimBatchSize,
+        Integer maxDeliveries,
+        Long maxLength,
+        Duration consumerIdleTimeout
+) {
+    public EventStreamProperties {
+        if (consumerMode == null) {
+            consumerMode = ConsumerMode.BATCH;
+        }
+        if (batchSize == null) {
+            batchSize = 100;
+        }
+        if (concurrency == null) {
+            concurrency = 2;
+        }
+        if (pollTimeout == null) {
+            pollTimeout = Duration.ofSeconds(1);
+        }
+        if (reclaimInterval == null) {
+            reclaimInterval = Duration.ofSeconds(30);
+        }
+        if (reclaimMinIdle == null) {
+            reclaimMinIdle = Duration.ofMinutes(1);
+        }
+        if (reclaimMaxBackoff == null) {
+            reclaimMaxBackoff = Duration.ofMinutes(15);
+        }
+        if (reclaimBatchSize == null) {
+            reclaimBatchSize = 100;
+        }
+        if (maxDeliveries == null) {
+            maxDeliveries = 5;
+        }
+        if (maxLength == null) {
+            maxLength = 100_000L;
+        }
+        if (consumerIdleTimeout == null) {
+            consumerIdleTimeout = Duration.ofHours(1);
+        }
+    }
+
+    /**
+     * PUSH: StreamMessageListenerContainer가 레코드를 한 건씩 전달
+     * BATCH: 폴링 단위로 역직렬화/디스패치 후 한 번에 ACK
+     */
+    public enum ConsumerMode {
+        PUSH,
+        BATCH
+    }
+}
@@ -10,7 +10,12 @@ public record JwtProperties(
         String issuer,
         String secretKey,
         Duration accessTokenExpiration,
-        Duration refreshTokenExpiration
+        Duration refreshTokenExpiration,
+        AuthenticationMode authenticationMode,
+        Duration userStatusCacheTtl,
+        Long userStatusCacheSize,
+        Duration verifiedTokenCacheTtl,
+        Long verifiedTokenCacheSize
 ) {
 
     @ConstructorBinding
@@ -21,6 +26,30 @@ public record JwtProperties(
         if (refreshTokenExpiration == null) {
             refreshTokenExpiration = Duration.ofDays(180);
         }
+        if (authenticationMode == null) {
+            authenticationMode = AuthenticationMode.CLAIMS;
+        }
+        if (userStatusCacheTtl == null) {
+            userStatusCacheTtl = Duration.ofSeconds(30);
+        }
+        if (userStatusCacheSize == null) {
+            userStatusCacheSize = 10_000L;
+        }
+        if (verifiedTokenCacheTtl == null) {
+            verifiedTokenCacheTtl = Duration.ofMinutes(10);
+        }
+        if (verifiedTokenCacheSize == null) {
+            verifiedTokenCacheSize = 50_000L;
+        }
+    }
+
+    /**
+     * CLAIMS: 검증된 토큰 클레임으로 인증 객체 생성 (사용자 상태만 로컬 캐시로 확인)
+     * DATABASE: 요청마다 UserDetailsService로 사용자 조회
+     */
+    public enum AuthenticationMode {
+        CLAIMS,
+        DATABASE
     }
 
     public long getAccessTokenExpirationMs() {
@@ -0,0 +1,56 @@
+package com.backend.immilog.shared.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "post.popularity")
+public record PopularityProperties(
+        Duration hotHalfLife,
+        Duration mostViewedHalfLife,
+        Double viewWeight,
+        Double commentWeight,
+        Double likeWeight,
+        Integer topSize,
+        Integer weeklyBestSize,
+        Integer maxEntries,
+        Long countryCacheSize,
+        Duration snapshotMaxAge,
+        String versionChannel
+) {
+    public PopularityProperties {
+        if (hotHalfLife == null) {
+            hotHalfLife = Duration.ofHours(12);
+        }
+        if (mostViewedHalfLife == null) {
+            mostViewedHalfLife = Duration.ofDays(3);
+        }
+        if (viewWeight == null) {
+            viewWeight = 0.2;
+        }
+        if (commentWeight == null) {
+            commentWeight = 3.0;
+        }
+        if (likeWeight == null) {
+            likeWeight = 2.0;
+        }
+        if (topSize == null) {
+            topSize = 10;
+        }
+        if (weeklyBestSize == null) {
+            weeklyBestSize = 10;
+        }
+        if (maxEntries == null) {
+            maxEntries = 10_000;
+        }
+        if (countryCacheSize == null) {
+            countryCacheSize = 100_000L;
+        }
+        if (snapshotMaxAge == null) {
+            snapshotMaxAge = Duration.ofMinutes(5);
+        }
+        if (versionChannel == null) {
+            versionChannel = "popular-posts-version";
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.backend.immilog.shared.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "post.cache")
+public record PostCacheProperties(
+        Boolean enabled,
+        Long localMaximumSize,
+        Duration localTtl,
+        Duration detailTtl,
+        Duration feedTtl,
+        Integer feedPages,
+        String invalidationChannel
+) {
+    public PostCacheProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (localMaximumSize == null) {
+            localMaximumSize = 10_000L;
+        }
+        if (localTtl == null) {
+            localTtl = Duration.ofSeconds(30);
+        }
+        if (detailTtl == null) {
+            detailTtl = Duration.ofMinutes(5);
+        }
+        if (feedTtl == null) {
+            feedTtl = Duration.ofMinutes(1);
+        }
+        if (feedPages == null) {
+            feedPages = 3;
+        }
+        if (invalidationChannel == null) {
+            invalidationChannel = "cache-invalidation";
+        }
+    }
+}
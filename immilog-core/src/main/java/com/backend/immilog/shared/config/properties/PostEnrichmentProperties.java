@@ -0,0 +1,24 @@
+package com.backend.immilog.shared.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "post.enrichment")
+public record PostEnrichmentProperties(
+        String transport,
+        Duration timeout,
+        Integer maxConcurrentQueries    // 트랜잭션 밖에서 동시에 커넥션을 잡는 조회 수 (커넥션 풀 크기보다 작게)
+) {
+    public PostEnrichmentProperties {
+        if (transport == null) {
+            transport = "local";
+        }
+        if (timeout == null) {
+            timeout = Duration.ofSeconds(2);
+        }
+        if (maxConcurrentQueries == null || maxConcurrentQueries < 1) {
+            maxConcurrentQueries = 4;
+        }
+    }
+}
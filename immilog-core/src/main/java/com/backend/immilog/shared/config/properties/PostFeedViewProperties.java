@@ -0,0 +1,22 @@
+package com.backend.immilog.shared.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "post.feed-view")
+public record PostFeedViewProperties(
+        Boolean enabled,
+        Integer batchSize,
+        Integer tagLimit
+) {
+    public PostFeedViewProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (batchSize == null) {
+            batchSize = 500;
+        }
+        if (tagLimit == null) {
+            tagLimit = 3;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.backend.immilog.shared.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "post.search")
+public record PostSearchProperties(
+        Boolean enabled,
+        Ranking ranking,
+        Integer rebuildBatchSize,
+        Duration syncInterval,
+        Duration syncLag    // 동기화 때 기준점보다 이만큼 앞에서부터 다시 읽음 (늦게 커밋되거나 시계가 어긋난 행 보정)
+) {
+    public PostSearchProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (ranking == null) {
+            ranking = Ranking.BM25;
+        }
+        if (rebuildBatchSize == null) {
+            rebuildBatchSize = 1_000;
+        }
+        if (syncInterval == null) {
+            syncInterval = Duration.ofSeconds(30);
+        }
+        if (syncLag == null) {
+            syncLag = Duration.ofMinutes(2);
+        }
+    }
+
+    public enum Ranking {
+        BM25,
+        RECENCY
+    }
+}
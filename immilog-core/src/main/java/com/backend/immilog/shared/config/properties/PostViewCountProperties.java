@@ -0,0 +1,28 @@
+package com.backend.immilog.shared.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "post.view-count")
+public record PostViewCountProperties(
+        Duration flushInterval,
+        Integer maxPendingPosts,        // 버퍼에 담을 수 있는 게시물 수 (초과분은 버리고 dropped 카운터에 기록)
+        Long knownPostCacheSize,        // 존재 확인을 마친 게시물 ID 캐시 크기
+        Duration knownPostCacheTtl
+) {
+    public PostViewCountProperties {
+        if (flushInterval == null) {
+            flushInterval = Duration.ofSeconds(5);
+        }
+        if (maxPendingPosts == null || maxPendingPosts < 1) {
+            maxPendingPosts = 100_000;
+        }
+        if (knownPostCacheSize == null) {
+            knownPostCacheSize = 100_000L;
+        }
+        if (knownPostCacheTtl == null) {
+            knownPostCacheTtl = Duration.ofMinutes(10);
+        }
+    }
+}
@@ -9,7 +9,14 @@ import org.springframework.context.annotation.Configuration;
         WebProperties.class,
         RedisProperties.class,
         GeocodeProperties.class,
-        EventProperties.class
+        EventProperties.class,
+        PostEnrichmentProperties.class,
+        EventStreamProperties.class,
+        PostSearchProperties.class,
+        PopularityProperties.class,
+        PostCacheProperties.class,
+        PostFeedViewProperties.class,
+        PostViewCountProperties.class
 })
 public class PropertiesConfig {
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.backend.immilog.shared.config.security;
 
 import com.backend.immilog.shared.security.jtw.JwtFilter;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
@@ -37,6 +38,8 @@ public class SecurityConfig {
                         )))
                 .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
                 .authorizeHttpRequests(auth -> auth
+                        // 재구축/복구/재계산을 실행하는 운영용 엔드포인트는 아래 전체 허용보다 먼저 관리자로 제한
+                        .requestMatchers(EndpointRequest.to("postfeedview", "interactioncounters")).hasRole("ADMIN")
                         .requestMatchers(
                                 "/**",
                                 "/swagger-ui/index.html",
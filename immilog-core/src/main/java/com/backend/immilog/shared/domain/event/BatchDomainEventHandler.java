@@ -0,0 +1,11 @@
+package com.backend.immilog.shared.domain.event;
+
+import java.util.List;
+
+/**
+ * 한 번의 폴링으로 읽은 같은 타입의 이벤트를 묶어서 처리하는 핸들러
+ * 배치 소비 모드에서는 handle 대신 handleAll이 호출됨
+ */
+public interface BatchDomainEventHandler<T extends DomainEvent> extends DomainEventHandler<T> {
+    void handleAll(List<T> events);
+}
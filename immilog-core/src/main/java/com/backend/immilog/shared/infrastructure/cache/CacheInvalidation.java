@@ -0,0 +1,50 @@
+package com.backend.immilog.shared.infrastructure.cache;
+
+/**
+ * 노드 간 로컬 캐시 무효화 메시지 (key가 null이면 캐시 전체 비우기)
+ */
+public record CacheInvalidation(
+        String nodeId,
+        String cacheName,
+        String key
+) {
+    private static final String SEPARATOR = "\n";
+    private static final String CLEAR = "*";
+
+    public static CacheInvalidation evict(
+            String nodeId,
+            String cacheName,
+            String key
+    ) {
+        return new CacheInvalidation(nodeId, cacheName, key);
+    }
+
+    public static CacheInvalidation clear(
+            String nodeId,
+            String cacheName
+    ) {
+        return new CacheInvalidation(nodeId, cacheName, null);
+    }
+
+    public boolean isClear() {
+        return key == null;
+    }
+
+    public String encode() {
+        return nodeId + SEPARATOR + cacheName + SEPARATOR + (key == null ? CLEAR : key);
+    }
+
+    /**
+     * 형식이 맞지 않으면 null
+     */
+    public static CacheInvalidation decode(String message) {
+        if (message == null) {
+            return null;
+        }
+        String[] parts = message.split(SEPARATOR, 3);
+        if (parts.length != 3) {
+            return null;
+        }
+        return new CacheInvalidation(parts[0], parts[1], CLEAR.equals(parts[2]) ? null : parts[2]);
+    }
+}
@@ -0,0 +1,165 @@
+package com.backend.immilog.shared.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+/**
+ * 로컬(Caffeine) + 원격(Redis) 2단 캐시
+ * 1. 조회는 로컬 → 원격 → 로더 순이며, 같은 키의 동시 로드는 로컬 캐시에서 한 번만 실행
+ * 2. 원격 캐시의 get(key, loader)는 캐시 단위로 동기화되므로 사용하지 않고 조회/저장을 나눠 호출
+ * 3. 삭제는 원격과 로컬을 함께 지운 뒤 다른 노드에 로컬 삭제를 알림
+ * 원격 캐시 조회/저장 실패는 캐시 미스로 보고 원본 조회로 대체
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> local;
+    private final Cache remote;
+    private final Consumer<CacheInvalidation> invalidationPublisher;
+    private final String nodeId;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+
+    public TwoLevelCache(
+            String name,
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> local,
+            Cache remote,
+            String nodeId,
+            Consumer<CacheInvalidation> invalidationPublisher,
+            MeterRegistry meterRegistry
+    ) {
+        super(false);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.nodeId = nodeId;
+        this.invalidationPublisher = invalidationPublisher;
+        this.remoteHits = Counter.builder("immilog.cache.remote.gets")
+                .tag("cache", name)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.remoteMisses = Counter.builder("immilog.cache.remote.gets")
+                .tag("cache", name)
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = local.getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+        value = lookupRemote(key);
+        if (value != null) {
+            local.put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(
+            Object key,
+            Callable<T> valueLoader
+    ) {
+        return (T) local.get(key, missingKey -> {
+            Object cached = lookupRemote(missingKey);
+            if (cached != null) {
+                return cached;
+            }
+            try {
+                T loaded = valueLoader.call();
+                if (loaded != null) {
+                    putRemote(missingKey, loaded);
+                }
+                return loaded;
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new ValueRetrievalException(missingKey, valueLoader, e);
+            }
+        });
+    }
+
+    @Override
+    public void put(
+            Object key,
+            Object value
+    ) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        putRemote(key, value);
+        local.put(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(key);
+        invalidationPublisher.accept(CacheInvalidation.evict(nodeId, name, key.toString()));
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        invalidationPublisher.accept(CacheInvalidation.clear(nodeId, name));
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 반영 (원격 캐시는 보낸 노드가 이미 지움)
+     */
+    void invalidateLocal(CacheInvalidation invalidation) {
+        if (invalidation.isClear()) {
+            local.invalidateAll();
+            return;
+        }
+        local.invalidate(invalidation.key());
+    }
+
+    private Object lookupRemote(Object key) {
+        ValueWrapper wrapper;
+        try {
+            wrapper = remote.get(key);
+        } catch (RuntimeException e) {
+            log.warn("Failed to read {} from remote cache {}", key, name, e);
+            wrapper = null;
+        }
+        if (wrapper == null || wrapper.get() == null) {
+            remoteMisses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        return wrapper.get();
+    }
+
+    private void putRemote(
+            Object key,
+            Object value
+    ) {
+        try {
+            remote.put(key, value);
+        } catch (RuntimeException e) {
+            log.warn("Failed to write {} to remote cache {}", key, name, e);
+        }
+    }
+}
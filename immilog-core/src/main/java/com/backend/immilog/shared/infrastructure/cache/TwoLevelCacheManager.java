@@ -0,0 +1,107 @@
+package com.backend.immilog.shared.infrastructure.cache;
+
+import com.backend.immilog.shared.config.properties.PostCacheProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 원격 CacheManager(Redis)의 캐시마다 로컬 캐시를 앞에 두는 CacheManager
+ * 로컬 캐시의 조회/적중/퇴출 지표는 cache.* 이름으로 Micrometer에 등록
+ * 삭제 시 Redis pub/sub으로 무효화 메시지를 보내고, 다른 노드에서 받은 메시지로 로컬 캐시를 지움
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+    private final CacheManager remoteCacheManager;
+    private final PostCacheProperties properties;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(
+            CacheManager remoteCacheManager,
+            PostCacheProperties properties,
+            RedisTemplate<String, String> redisTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        var cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        var remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> createCache(cacheName, remote));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Set.copyOf(caches.keySet());
+    }
+
+    @Override
+    public void onMessage(
+            Message message,
+            byte[] pattern
+    ) {
+        var invalidation = CacheInvalidation.decode(new String(message.getBody(), StandardCharsets.UTF_8));
+        if (invalidation == null || nodeId.equals(invalidation.nodeId())) {
+            return;
+        }
+        var cache = caches.get(invalidation.cacheName());
+        if (cache != null) {
+            cache.invalidateLocal(invalidation);
+        }
+    }
+
+    String nodeId() {
+        return nodeId;
+    }
+
+    private TwoLevelCache createCache(
+            String name,
+            Cache remote
+    ) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> local = Caffeine.newBuilder()
+                .maximumSize(properties.localMaximumSize())
+                .expireAfterWrite(properties.localTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name);
+        return new TwoLevelCache(name, local, remote, nodeId, this::publish, meterRegistry);
+    }
+
+    /**
+     * 무효화 메시지 전송 실패는 로컬 TTL 안에서 수렴하므로 기록만 함
+     */
+    private void publish(CacheInvalidation invalidation) {
+        try {
+            redisTemplate.convertAndSend(properties.invalidationChannel(), invalidation.encode());
+        } catch (Exception e) {
+            log.warn("Failed to publish cache invalidation for {}", invalidation.cacheName(), e);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.backend.immilog.shared.infrastructure.event;
+
+import com.backend.immilog.shared.config.properties.EventStreamProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배치 소비 모드의 폴러
+ * 스트림마다 concurrency 개의 가상 스레드가 XREADGROUP(COUNT batchSize, BLOCK pollTimeout)을 반복하고,
+ * 읽은 레코드 묶음을 그대로 RedisStreamsPushEventListener.onBatch로 넘김
+ */
+@Slf4j
+public class RedisStreamsBatchConsumer {
+    private static final long ERROR_BACKOFF_MILLIS = 1_000L;
+
+    private final RedisTemplate<String, Object> eventRedisTemplate;
+    private final RedisStreamsPushEventListener eventListener;
+    private final EventStreamProperties properties;
+    private final String consumerName;
+    private final Map<String, String> streamGroups;
+
+    private ExecutorService pollers;
+    private volatile boolean running;
+
+    public RedisStreamsBatchConsumer(
+            RedisTemplate<String, Object> eventRedisTemplate,
+            RedisStreamsPushEventListener eventListener,
+            EventStreamProperties properties,
+            String consumerName,
+            Map<String, String> streamGroups
+    ) {
+        this.eventRedisTemplate = eventRedisTemplate;
+        this.eventListener = eventListener;
+        this.properties = properties;
+        this.consumerName = consumerName;
+        this.streamGroups = streamGroups;
+    }
+
+    public void start() {
+        running = true;
+        pollers = Executors.newVirtualThreadPerTaskExecutor();
+        streamGroups.forEach((stream, group) -> {
+            for (int i = 0; i < properties.concurrency(); i++) {
+                pollers.submit(() -> poll(stream, group));
+            }
+        });
+        log.info("Started Redis Streams batch consumer: {} (batchSize={}, concurrency={})",
+                consumerName, properties.batchSize(), properties.concurrency());
+    }
+
+    public void stop() {
+        running = false;
+        if (pollers == null) {
+            return;
+        }
+        pollers.shutdown();
+        try {
+            if (!pollers.awaitTermination(properties.pollTimeout().toMillis() * 2, TimeUnit.MILLISECONDS)) {
+                pollers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            pollers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        log.info("Stopped Redis Streams batch consumer: {}", consumerName);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void poll(
+            String stream,
+            String group
+    ) {
+        StreamOperations<String, String, String> streamOperations = eventRedisTemplate.opsForStream();
+        var consumer = Consumer.from(group, consumerName);
+        var readOptions = StreamReadOptions.empty()
+                .count(properties.batchSize())
+                .block(properties.pollTimeout());
+        var offset = StreamOffset.create(stream, ReadOffset.lastConsumed());
+
+        while (running) {
+            try {
+                List<MapRecord<String, String, String>> records = streamOperations.read(consumer, readOptions, offset);
+                if (records != null && !records.isEmpty()) {
+                    eventListener.onBatch(stream, records);
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                log.error("Failed to poll stream: {} with consumer: {}", stream, consumerName, e);
+                try {
+                    Thread.sleep(ERROR_BACKOFF_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
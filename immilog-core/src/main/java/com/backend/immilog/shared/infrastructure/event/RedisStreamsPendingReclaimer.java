@@ -0,0 +1,211 @@
+package com.backend.immilog.shared.infrastructure.event;
+
+import com.backend.immilog.shared.config.event.RedisEventConfig;
+import com.backend.immilog.shared.config.properties.EventStreamProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 처리되지 않고 PEL에 남은 레코드 회수
+ * 1. 유휴 시간이 재시도 백오프(minIdle * 2^(전달횟수-1), 최대 maxBackoff)를 넘은 레코드를 XCLAIM
+ * 2. 전달 횟수가 maxDeliveries를 넘으면 데드레터 스트림으로 옮기고 ACK, 아니면 리스너로 재처리
+ * 3. 스트림을 MAXLEN(근사)으로 잘라내고, pending이 없는 오래된 consumer는 그룹에서 제거
+ */
+@Slf4j
+public class RedisStreamsPendingReclaimer {
+    private final RedisTemplate<String, Object> eventRedisTemplate;
+    private final RedisStreamsPushEventListener eventListener;
+    private final EventStreamProperties properties;
+    private final String consumerName;
+    private final Map<String, String> streamGroups;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public RedisStreamsPendingReclaimer(
+            RedisTemplate<String, Object> eventRedisTemplate,
+            RedisStreamsPushEventListener eventListener,
+            EventStreamProperties properties,
+            String consumerName,
+            Map<String, String> streamGroups,
+            MeterRegistry meterRegistry
+    ) {
+        this.eventRedisTemplate = eventRedisTemplate;
+        this.eventListener = eventListener;
+        this.properties = properties;
+        this.consumerName = consumerName;
+        this.streamGroups = streamGroups;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(
+            initialDelayString = "${event.stream.reclaim-interval:30s}",
+            fixedDelayString = "${event.stream.reclaim-interval:30s}"
+    )
+    public void reclaim() {
+        StreamOperations<String, String, String> streamOperations = eventRedisTemplate.opsForStream();
+        streamGroups.forEach((stream, group) -> {
+            try {
+                reclaimPending(streamOperations, stream, group);
+                streamOperations.trim(stream, properties.maxLength(), true);
+                removeIdleConsumers(streamOperations, stream, group);
+            } catch (Exception e) {
+                log.error("Failed to reclaim pending messages: stream={}, group={}", stream, group, e);
+            }
+        });
+        try {
+            streamOperations.trim(RedisEventConfig.DEAD_LETTER_EVENT_STREAM, properties.maxLength(), true);
+        } catch (Exception e) {
+            log.error("Failed to trim dead letter stream", e);
+        }
+    }
+
+    /**
+     * XPENDING을 reclaimBatchSize씩, 마지막으로 본 ID 다음부터 이어서 읽어 PEL 끝까지 훑음
+     * 앞쪽 레코드가 아직 백오프 중이어도 뒤쪽의 회수 대상 레코드를 놓치지 않음
+     */
+    private void reclaimPending(
+            StreamOperations<String, String, String> streamOperations,
+            String stream,
+            String group
+    ) {
+        Range<String> range = Range.unbounded();
+        while (true) {
+            var pending = streamOperations.pending(stream, group, range, properties.reclaimBatchSize());
+            if (pending == null || pending.isEmpty()) {
+                return;
+            }
+            reclaimPage(streamOperations, stream, group, pending);
+            if (pending.size() < properties.reclaimBatchSize()) {
+                return;
+            }
+            range = Range.rightUnbounded(Range.Bound.inclusive(nextId(pending.get(pending.size() - 1).getId())));
+        }
+    }
+
+    private void reclaimPage(
+            StreamOperations<String, String, String> streamOperations,
+            String stream,
+            String group,
+            PendingMessages pending
+    ) {
+        Map<String, Long> deliveryCounts = new HashMap<>();
+        List<RecordId> due = new ArrayList<>();
+        for (PendingMessage message : pending) {
+            if (message.getElapsedTimeSinceLastDelivery().compareTo(backoff(message.getTotalDeliveryCount())) >= 0) {
+                due.add(message.getId());
+                deliveryCounts.put(message.getIdAsString(), message.getTotalDeliveryCount());
+            }
+        }
+        if (due.isEmpty()) {
+            return;
+        }
+
+        // XCLAIM이 min-idle을 다시 확인하므로 여러 노드가 동시에 실행해도 한 노드만 가져감
+        List<MapRecord<String, String, String>> claimed = streamOperations.claim(
+                stream,
+                group,
+                consumerName,
+                properties.reclaimMinIdle(),
+                due.toArray(RecordId[]::new)
+        );
+        if (claimed == null || claimed.isEmpty()) {
+            return;
+        }
+
+        List<MapRecord<String, String, String>> retries = new ArrayList<>(claimed.size());
+        for (MapRecord<String, String, String> record : claimed) {
+            long deliveries = deliveryCounts.getOrDefault(record.getId().getValue(), 0L) + 1;
+            if (deliveries > properties.maxDeliveries()) {
+                deadLetter(streamOperations, stream, group, record, deliveries);
+            } else {
+                retries.add(record);
+            }
+        }
+        if (!retries.isEmpty()) {
+            log.info("Reclaimed {} pending messages from stream: {}", retries.size(), stream);
+            counter("immilog.events.reclaimed", stream).increment(retries.size());
+            eventListener.onBatch(stream, retries);
+        }
+    }
+
+    private void deadLetter(
+            StreamOperations<String, String, String> streamOperations,
+            String stream,
+            String group,
+            MapRecord<String, String, String> record,
+            long deliveries
+    ) {
+        Map<String, String> fields = new HashMap<>(record.getValue());
+        fields.put("originalStream", stream);
+        fields.put("originalId", record.getId().getValue());
+        fields.put("deliveryCount", String.valueOf(deliveries));
+        fields.put("deadLetteredAt", LocalDateTime.now().toString());
+
+        streamOperations.add(RedisEventConfig.DEAD_LETTER_EVENT_STREAM, fields);
+        streamOperations.acknowledge(stream, group, record.getId());
+        counter("immilog.events.dead.lettered", stream).increment();
+
+        log.warn("Moved message to dead letter stream: stream={}, recordId={}, deliveries={}",
+                stream, record.getId(), deliveries);
+    }
+
+    private void removeIdleConsumers(
+            StreamOperations<String, String, String> streamOperations,
+            String stream,
+            String group
+    ) {
+        var consumers = streamOperations.consumers(stream, group);
+        if (consumers == null) {
+            return;
+        }
+        consumers.stream()
+                .filter(consumer -> !consumer.consumerName().equals(consumerName))
+                .filter(consumer -> consumer.pendingCount() == 0)
+                .filter(consumer -> consumer.idleTime().compareTo(properties.consumerIdleTimeout()) > 0)
+                .forEach(consumer -> {
+                    streamOperations.deleteConsumer(stream, Consumer.from(group, consumer.consumerName()));
+                    log.info("Removed idle consumer: stream={}, consumer={}", stream, consumer.consumerName());
+                });
+    }
+
+    /**
+     * 스트림 ID(ms-seq) 바로 다음 ID (Redis 6.2 미만은 XPENDING의 배타 범위를 지원하지 않으므로 시퀀스를 1 올림)
+     */
+    static String nextId(RecordId id) {
+        return id.getTimestamp() + "-" + (id.getSequence() + 1);
+    }
+
+    Duration backoff(long deliveryCount) {
+        int exponent = (int) Math.min(Math.max(deliveryCount - 1, 0), 20);
+        Duration backoff = properties.reclaimMinIdle().multipliedBy(1L << exponent);
+        return backoff.compareTo(properties.reclaimMaxBackoff()) > 0 ? properties.reclaimMaxBackoff() : backoff;
+    }
+
+    private Counter counter(
+            String name,
+            String stream
+    ) {
+        return counters.computeIfAbsent(
+                name + ":" + stream,
+                key -> Counter.builder(name).tag("stream", stream).register(meterRegistry)
+        );
+    }
+}
@@ -1,18 +1,26 @@
 package com.backend.immilog.shared.infrastructure.event;
 
 import com.backend.immilog.shared.config.event.RedisEventConfig;
+import com.backend.immilog.shared.domain.event.BatchDomainEventHandler;
 import com.backend.immilog.shared.domain.event.DomainEvent;
 import com.backend.immilog.shared.domain.event.DomainEventHandler;
 import com.backend.immilog.shared.infrastructure.event.dto.RedisEventMessage;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationContext;
 import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.stream.StreamListener;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -23,135 +31,216 @@ public class RedisStreamsPushEventListener implements StreamListener<String, Map
     private final ObjectMapper objectMapper;
     private final ApplicationContext applicationContext;
     private final RedisTemplate<String, Object> eventRedisTemplate;
+    private final MeterRegistry meterRegistry;
     private final Map<Class<? extends DomainEvent>, DomainEventHandler<? extends DomainEvent>> handlerCache = new ConcurrentHashMap<>();
+    private final Map<String, Class<?>> eventClassCache = new ConcurrentHashMap<>();
+    private final Map<String, Timer> handlerTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> eventCounters = new ConcurrentHashMap<>();
+    private final DistributionSummary batchSizeSummary;
 
     public RedisStreamsPushEventListener(
             @Qualifier("eventObjectMapper") ObjectMapper objectMapper,
             ApplicationContext applicationContext,
-            RedisTemplate<String, Object> eventRedisTemplate
+            RedisTemplate<String, Object> eventRedisTemplate,
+            MeterRegistry meterRegistry
     ) {
         this.objectMapper = objectMapper;
         this.applicationContext = applicationContext;
         this.eventRedisTemplate = eventRedisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.batchSizeSummary = DistributionSummary.builder("immilog.events.batch.size")
+                .description("Number of stream records handled per poll")
+                .register(meterRegistry);
         initializeHandlers();
     }
 
     @Override
     public void onMessage(MapRecord<String, String, String> record) {
-        try {
-            String streamName = record.getStream();
-            String consumerGroup = determineConsumerGroup(streamName);
-            
-            log.debug("Received message from stream: {}, recordId: {}", streamName, record.getId());
-
-            // 이벤트 처리
-            processEventMessage(record);
-            
-            // 메시지 처리 완료 후 ACK (자동 ACK가 비활성화된 경우)
-            acknowledgeMessage(record, consumerGroup);
-            
-        } catch (Exception e) {
-            log.error("Failed to process stream message: streamName={}, recordId={}", 
-                    record.getStream(), record.getId(), e);
-            // 예외 발생 시 ACK하지 않으므로 재처리됨
-        }
+        onBatch(record.getStream(), List.of(record));
     }
 
-    private void processEventMessage(MapRecord<String, String, String> record) {
-        try {
-            Map<String, String> fields = record.getValue();
-            String eventJson = fields.get("event");
-            String messageId = fields.get("messageId");
-            
-            if (eventJson == null) {
-                log.warn("No event field found in stream record: {}", record.getId());
-                return;
+    /**
+     * 한 번의 폴링으로 읽은 레코드를 일괄 처리
+     * 1. 전체 역직렬화
+     * 2. 같은 핸들러가 연속되는 구간을 묶어 디스패치 (순서 유지, BatchDomainEventHandler는 handleAll로 전달)
+     * 3. 성공한 레코드만 XACK 한 번으로 확인 (실패한 레코드는 PEL에 남아 재처리 대상)
+     */
+    public void onBatch(
+            String streamName,
+            List<MapRecord<String, String, String>> records
+    ) {
+        if (records.isEmpty()) {
+            return;
+        }
+        String consumerGroup = determineConsumerGroup(streamName);
+        boolean isCompensation = RedisEventConfig.COMPENSATION_EVENT_STREAM.equals(streamName);
+        batchSizeSummary.record(records.size());
+
+        List<RecordId> acknowledged = new ArrayList<>(records.size());
+        List<DecodedRecord> run = new ArrayList<>();
+        DomainEventHandler<DomainEvent> runHandler = null;
+        int failed = 0;
+
+        for (MapRecord<String, String, String> record : records) {
+            DomainEvent event;
+            try {
+                event = decodeEvent(record);
+            } catch (Exception e) {
+                log.error("Failed to decode stream record: streamName={}, recordId={}", streamName, record.getId(), e);
+                failed++;
+                continue;
             }
 
-            log.debug("Processing event JSON: {}", eventJson);
-            log.debug("Event JSON type: {}", eventJson.getClass().getName());
-            log.debug("Event JSON length: {}", eventJson.length());
-            log.debug("First 100 chars: {}", eventJson.length() > 100 ? eventJson.substring(0, 100) + "..." : eventJson);
-            
-            // JSON 문자열이 이스케이프된 상태인지 확인
-            if (eventJson.startsWith("\"") && eventJson.endsWith("\"")) {
-                log.warn("Event JSON appears to be double-encoded (starts and ends with quotes)");
-                // 이스케이프된 JSON 문자열을 언이스케이프
-                try {
-                    eventJson = objectMapper.readValue(eventJson, String.class);
-                    log.debug("Unescaped JSON: {}", eventJson);
-                } catch (Exception e) {
-                    log.error("Failed to unescape JSON", e);
-                }
+            DomainEventHandler<DomainEvent> handler = event == null ? null : findHandler(event);
+            if (handler == null) {
+                // 처리할 대상이 없는 레코드는 바로 확인
+                acknowledged.add(record.getId());
+                continue;
             }
-            
-            RedisEventMessage eventMessage = objectMapper.readValue(eventJson, RedisEventMessage.class);
-            
-            // 이벤트 타입에 따른 처리
-            boolean isCompensation = record.getStream().equals(RedisEventConfig.COMPENSATION_EVENT_STREAM);
-            
-            processEventMessage(eventMessage, isCompensation);
-            
-        } catch (Exception e) {
-            log.error("Failed to process event message from record: {}", record.getId(), e);
-            throw new RuntimeException("Event processing failed", e);
+            if (handler != runHandler && !run.isEmpty()) {
+                failed += dispatch(runHandler, run, acknowledged, isCompensation);
+                run = new ArrayList<>();
+            }
+            runHandler = handler;
+            run.add(new DecodedRecord(record.getId(), event));
+        }
+        if (!run.isEmpty()) {
+            failed += dispatch(runHandler, run, acknowledged, isCompensation);
+        }
+
+        acknowledgeMessages(streamName, consumerGroup, acknowledged);
+        eventCounter(streamName, "success").increment(records.size() - failed);
+        if (failed > 0) {
+            eventCounter(streamName, "failure").increment(failed);
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private void processEventMessage(RedisEventMessage eventMessage, boolean isCompensation) {
-        try {
-            // 이벤트 타입으로 클래스 로드
-            Class<?> eventClass = Class.forName(eventMessage.eventType());
+    /**
+     * @return 실패한 레코드 수
+     */
+    private int dispatch(
+            DomainEventHandler<DomainEvent> handler,
+            List<DecodedRecord> run,
+            List<RecordId> acknowledged,
+            boolean isCompensation
+    ) {
+        Timer timer = handlerTimer(handler);
 
-            if (!DomainEvent.class.isAssignableFrom(eventClass)) {
-                log.warn("Event class {} is not a DomainEvent", eventClass.getName());
-                return;
+        if (handler instanceof BatchDomainEventHandler<DomainEvent> batchHandler) {
+            try {
+                timer.record(() -> batchHandler.handleAll(run.stream().map(DecodedRecord::event).toList()));
+                run.forEach(decoded -> acknowledged.add(decoded.recordId()));
+                return 0;
+            } catch (Exception e) {
+                log.error("Failed to process {} {} events in batch handler {}",
+                        run.size(),
+                        isCompensation ? "compensation" : "domain",
+                        handler.getClass().getSimpleName(), e);
+                return run.size();
             }
+        }
 
-            // JSON에서 이벤트 객체로 역직렬화
-            DomainEvent event = (DomainEvent) objectMapper.readValue(eventMessage.payload(), eventClass);
+        int failed = 0;
+        for (DecodedRecord decoded : run) {
+            try {
+                timer.record(() -> handler.handle(decoded.event()));
+                acknowledged.add(decoded.recordId());
+            } catch (Exception e) {
+                log.error("Failed to process {} event: {} with recordId: {}",
+                        isCompensation ? "compensation" : "domain",
+                        decoded.event().getClass().getSimpleName(),
+                        decoded.recordId(), e);
+                failed++;
+            }
+        }
+        return failed;
+    }
 
-            // 캐시된 핸들러 조회
-            DomainEventHandler<DomainEvent> handler = 
-                (DomainEventHandler<DomainEvent>) handlerCache.get(event.getClass());
+    private DomainEvent decodeEvent(MapRecord<String, String, String> record) throws Exception {
+        String eventJson = record.getValue().get("event");
+        if (eventJson == null) {
+            log.warn("No event field found in stream record: {}", record.getId());
+            return null;
+        }
 
-            if (handler != null) {
-                log.debug("Processing {} event: {} with messageId: {}",
-                        isCompensation ? "compensation" : "domain",
-                        event.getClass().getSimpleName(),
-                        eventMessage.messageId());
+        // JSON 문자열이 이스케이프된 상태면 언이스케이프
+        if (eventJson.startsWith("\"") && eventJson.endsWith("\"")) {
+            eventJson = objectMapper.readValue(eventJson, String.class);
+        }
 
-                handler.handle(event);
+        RedisEventMessage eventMessage = objectMapper.readValue(eventJson, RedisEventMessage.class);
+        Class<?> eventClass = resolveEventClass(eventMessage.eventType());
 
-                log.debug("Successfully processed {} event: {} with messageId: {}",
-                        isCompensation ? "compensation" : "domain",
-                        event.getClass().getSimpleName(),
-                        eventMessage.messageId());
-            } else {
-                log.debug("No handler found for event type: {}", event.getClass().getName());
-            }
+        if (!DomainEvent.class.isAssignableFrom(eventClass)) {
+            log.warn("Event class {} is not a DomainEvent", eventClass.getName());
+            return null;
+        }
 
-        } catch (Exception e) {
-            log.error("Failed to process event message: {} with messageId: {}", 
-                    eventMessage.eventType(), eventMessage.messageId(), e);
-            throw new RuntimeException("Event processing failed", e);
+        log.debug("Decoded event: {} with messageId: {}", eventClass.getSimpleName(), eventMessage.messageId());
+        return (DomainEvent) objectMapper.readValue(eventMessage.payload(), eventClass);
+    }
+
+    private Class<?> resolveEventClass(String eventType) throws ClassNotFoundException {
+        Class<?> eventClass = eventClassCache.get(eventType);
+        if (eventClass == null) {
+            eventClass = Class.forName(eventType);
+            eventClassCache.put(eventType, eventClass);
+        }
+        return eventClass;
+    }
+
+    @SuppressWarnings("unchecked")
+    private DomainEventHandler<DomainEvent> findHandler(DomainEvent event) {
+        var handler = (DomainEventHandler<DomainEvent>) handlerCache.get(event.getClass());
+        if (handler == null) {
+            log.debug("No handler found for event type: {}", event.getClass().getName());
         }
+        return handler;
     }
 
-    private void acknowledgeMessage(MapRecord<String, String, String> record, String consumerGroup) {
+    private void acknowledgeMessages(
+            String streamName,
+            String consumerGroup,
+            List<RecordId> recordIds
+    ) {
+        if (recordIds.isEmpty()) {
+            return;
+        }
         try {
-            String streamName = record.getStream();
-            eventRedisTemplate.opsForStream().acknowledge(streamName, consumerGroup, record.getId());
-            
-            log.debug("Acknowledged message: stream={}, group={}, recordId={}", 
-                    streamName, consumerGroup, record.getId());
+            // XACK는 여러 ID를 한 번에 받으므로 배치당 한 번의 왕복으로 확인
+            eventRedisTemplate.opsForStream().acknowledge(streamName, consumerGroup, recordIds.toArray(RecordId[]::new));
+
+            log.debug("Acknowledged {} messages: stream={}, group={}", recordIds.size(), streamName, consumerGroup);
         } catch (Exception e) {
-            log.error("Failed to acknowledge message: stream={}, group={}, recordId={}", 
-                    record.getStream(), consumerGroup, record.getId(), e);
+            log.error("Failed to acknowledge {} messages: stream={}, group={}",
+                    recordIds.size(), streamName, consumerGroup, e);
         }
     }
 
+    private Timer handlerTimer(DomainEventHandler<?> handler) {
+        return handlerTimers.computeIfAbsent(
+                handler.getClass().getSimpleName(),
+                name -> Timer.builder("immilog.events.handler.latency")
+                        .description("Domain event handler latency")
+                        .tag("handler", name)
+                        .register(meterRegistry)
+        );
+    }
+
+    private Counter eventCounter(
+            String streamName,
+            String outcome
+    ) {
+        return eventCounters.computeIfAbsent(
+                streamName + ":" + outcome,
+                key -> Counter.builder("immilog.events.processed")
+                        .description("Stream records processed by the event listener")
+                        .tag("stream", streamName)
+                        .tag("outcome", outcome)
+                        .register(meterRegistry)
+        );
+    }
+
     private String determineConsumerGroup(String streamName) {
         if (RedisEventConfig.DOMAIN_EVENT_STREAM.equals(streamName)) {
             return RedisEventConfig.DOMAIN_EVENT_GROUP;
@@ -169,7 +258,7 @@ public class RedisStreamsPushEventListener implements StreamListener<String, Map
         for (DomainEventHandler handler : handlers.values()) {
             Class<? extends DomainEvent> eventType = handler.getEventType();
             handlerCache.put(eventType, handler);
-            
+
             log.debug("Registered event handler: {} for event type: {}",
                     handler.getClass().getSimpleName(),
                     eventType.getName());
@@ -177,4 +266,10 @@ public class RedisStreamsPushEventListener implements StreamListener<String, Map
 
         log.info("Initialized {} domain event handlers for Redis Streams Push", handlerCache.size());
     }
-}
\ No newline at end of file
+
+    private record DecodedRecord(
+            RecordId recordId,
+            DomainEvent event
+    ) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.backend.immilog.shared.security.jtw;
 
+import com.backend.immilog.shared.exception.CustomException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -63,6 +64,9 @@ public class JwtFilter extends OncePerRequestFilter {
                 }
             }
             chain.doFilter(request, response);
+        } catch (CustomException e) {
+            // 차단된 사용자 등 원인이 분명한 거부는 에러 코드의 상태(403 등)를 그대로 응답
+            response.sendError(e.getErrorCode().getStatus().value(), e.getMessage());
         } catch (Exception e) {
             e.printStackTrace();
             response.sendError(HttpServletResponse.SC_UNAUTHORIZED, e.getMessage());
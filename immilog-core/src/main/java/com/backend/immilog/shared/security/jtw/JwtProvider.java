@@ -3,11 +3,22 @@ package com.backend.immilog.shared.security.jtw;
 import com.backend.immilog.shared.config.properties.JwtProperties;
 import com.backend.immilog.shared.security.token.TokenProvider;
 import com.backend.immilog.user.domain.enums.UserRole;
+import com.backend.immilog.user.domain.enums.UserStatus;
+import com.backend.immilog.user.exception.UserErrorCode;
+import com.backend.immilog.user.exception.UserException;
 import com.backend.immilog.user.infrastructure.security.UserDetailsServiceImpl;
+import com.backend.immilog.user.infrastructure.security.UserStatusCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,7 +28,12 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
 
@@ -28,12 +44,26 @@ public class JwtProvider implements TokenProvider {
 
     private final JwtProperties jwtProperties;
     private final UserDetailsServiceImpl userDetailsService;
+    private final UserStatusCache userStatusCache;
+    private final MeterRegistry meterRegistry;
 
     private SecretKey secretKey;
+    private JwtParser jwtParser;
+    // 토큰 해시 -> 서명 검증된 Claims (토큰 만료 시점까지만 보관)
+    private Cache<String, Claims> verifiedClaimsCache;
 
     @PostConstruct
     public void init() {
         secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtProperties.secretKey()));
+        jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        verifiedClaimsCache = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.verifiedTokenCacheSize())
+                .expireAfter(new ClaimsExpiry(jwtProperties.verifiedTokenCacheTtl()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedClaimsCache, "jwtVerifiedClaims");
     }
 
     @Override
@@ -74,10 +104,7 @@ public class JwtProvider implements TokenProvider {
     @Override
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
+            parseClaims(token);
             return true;
         } catch (JwtException ex) {
             log.debug("Invalid JWT token: {}", ex.getMessage());
@@ -89,43 +116,34 @@ public class JwtProvider implements TokenProvider {
     public String getIdFromToken(String token) {
         token = removeBearer(token);
 
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        return parseClaims(token).getSubject();
     }
 
     @Override
     public String getEmailFromToken(String token) {
         token = removeBearer(token);
 
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("email", String.class);
+        return parseClaims(token).get("email", String.class);
     }
 
     @Override
     public Authentication getAuthentication(String token) {
         token = removeBearer(token);
 
-        var claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        var claims = parseClaims(token);
 
         var userId = claims.getSubject();
 
         var userRole = UserRole.valueOf(claims.get("userRole", String.class));
 
-        var userDetails = userDetailsService.loadUserByUsername(claims.get("email", String.class)); // 이메일로 UserDetails를 로드
-
-        List<GrantedAuthority> authorities = new ArrayList<>(userDetails.getAuthorities());
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        if (jwtProperties.authenticationMode() == JwtProperties.AuthenticationMode.DATABASE) {
+            var userDetails = userDetailsService.loadUserByUsername(claims.get("email", String.class)); // 이메일로 UserDetails를 로드
+            authorities.addAll(userDetails.getAuthorities());
+        } else if (userStatusCache.getStatus(userId) == UserStatus.BLOCKED) {
+            // 서명 검증된 클레임을 신뢰하고, 차단 여부만 캐시로 확인
+            throw new UserException(UserErrorCode.BLOCKED_USER);
+        }
         authorities.addAll(userRole.getAuthorities());
 
         return new UsernamePasswordAuthenticationToken(userId, null, authorities);
@@ -135,20 +153,75 @@ public class JwtProvider implements TokenProvider {
     public UserRole getUserRoleFromToken(String authorizationHeader) {
         String token = removeBearer(authorizationHeader);
 
-        String userRoleString = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("userRole", String.class);
+        String userRoleString = parseClaims(token).get("userRole", String.class);
 
         return UserRole.valueOf(userRoleString);
     }
 
+    private Claims parseClaims(String token) {
+        if (token == null || token.isBlank()) {
+            return jwtParser.parseSignedClaims(token).getPayload();
+        }
+        // 같은 토큰은 노드당 한 번만 서명 검증
+        return verifiedClaimsCache.get(
+                hashToken(token),
+                key -> jwtParser.parseSignedClaims(token).getPayload()
+        );
+    }
+
+    private static String hashToken(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
     private String removeBearer(String token) {
         if (token != null && token.startsWith("Bearer ")) {
             return token.substring(7);
         }
         return token;
     }
-}
\ No newline at end of file
+
+    /**
+     * 캐시 항목을 토큰 만료 시각(최대 maxTtl)까지만 유지
+     */
+    private record ClaimsExpiry(Duration maxTtl) implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(
+                String key,
+                Claims claims,
+                long currentTime
+        ) {
+            long maxNanos = maxTtl.toNanos();
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return maxNanos;
+            }
+            long remainingNanos = Duration.ofMillis(expiration.getTime() - System.currentTimeMillis()).toNanos();
+            return Math.max(0, Math.min(maxNanos, remainingNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(
+                String key,
+                Claims claims,
+                long currentTime,
+                long currentDuration
+        ) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(
+                String key,
+                Claims claims,
+                long currentTime,
+                long currentDuration
+        ) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,18 +1,22 @@
 package com.backend.immilog.user.application.usecase;
 
 // import com.backend.immilog.image.application.usecase.UploadImageUseCase;
+import com.backend.immilog.shared.domain.event.DomainEvents;
 import com.backend.immilog.user.application.command.UserInfoUpdateCommand;
 import com.backend.immilog.user.application.command.UserPasswordChangeCommand;
 import com.backend.immilog.user.application.result.LocationResult;
 import com.backend.immilog.user.application.services.command.UserCommandService;
 import com.backend.immilog.user.application.services.query.UserQueryService;
 import com.backend.immilog.user.domain.enums.UserStatus;
+import com.backend.immilog.user.domain.event.UserProfileUpdatedEvent;
 import com.backend.immilog.user.domain.model.Location;
 import com.backend.immilog.user.domain.model.Profile;
 import com.backend.immilog.user.domain.service.UserPasswordPolicy;
+import com.backend.immilog.user.infrastructure.security.UserStatusCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
@@ -41,17 +45,20 @@ public interface UpdateProfileUseCase {
         private final UserCommandService userCommandService;
         // private final UploadImageUseCase uploadImageUseCase;
         private final UserPasswordPolicy userPasswordPolicy;
+        private final UserStatusCache userStatusCache;
 
         public UserUpdater(
                 UserQueryService userQueryService,
                 UserCommandService userCommandService,
                 // UploadImageUseCase uploadImageUseCase,
-                UserPasswordPolicy userPasswordPolicy
+                UserPasswordPolicy userPasswordPolicy,
+                UserStatusCache userStatusCache
         ) {
             this.userQueryService = userQueryService;
             this.userCommandService = userCommandService;
             // this.uploadImageUseCase = uploadImageUseCase;
             this.userPasswordPolicy = userPasswordPolicy;
+            this.userStatusCache = userStatusCache;
         }
 
         @Override
@@ -62,6 +69,7 @@ public interface UpdateProfileUseCase {
         ) {
             var user = userQueryService.getUserById(userId);
             var previousProfileImage = user.getImageUrl();
+            var previousNickname = user.getNickname();
             var region = getRegion(futureRegion);
             var newProfile = Profile.of(
                     userInfoUpdateCommand.nickName(),
@@ -75,6 +83,12 @@ public interface UpdateProfileUseCase {
                     .changeStatus(userInfoUpdateCommand.status());
 
             userCommandService.save(updatedUser);
+            userStatusCache.invalidate(userId);
+            // 게시물 피드 투영의 작성자 정보 갱신
+            if (!Objects.equals(previousNickname, updatedUser.getNickname())
+                    || !Objects.equals(previousProfileImage, updatedUser.getImageUrl())) {
+                DomainEvents.raise(new UserProfileUpdatedEvent(userId));
+            }
             // uploadImageUseCase.deleteImage(previousProfileImage, userInfoUpdateCommand.profileImage());
         }
 
@@ -102,6 +116,7 @@ public interface UpdateProfileUseCase {
             userQueryService.getUserById(adminUserId).validateAdminRole();
             var targetUser = userQueryService.getUserById(targetUserId).changeStatus(requestedStatus);
             userCommandService.save(targetUser);
+            userStatusCache.invalidate(targetUserId);
         }
 
         private String getRegion(CompletableFuture<LocationResult> country) {
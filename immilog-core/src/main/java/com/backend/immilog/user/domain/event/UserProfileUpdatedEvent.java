@@ -0,0 +1,28 @@
+package com.backend.immilog.user.domain.event;
+
+import com.backend.immilog.shared.domain.event.DomainEvent;
+
+import java.time.LocalDateTime;
+
+public class UserProfileUpdatedEvent implements DomainEvent {
+    private String userId;
+    private LocalDateTime occurredAt;
+
+    public UserProfileUpdatedEvent() {
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    public UserProfileUpdatedEvent(String userId) {
+        this.userId = userId;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    @Override
+    public LocalDateTime occurredAt() {
+        return occurredAt;
+    }
+}
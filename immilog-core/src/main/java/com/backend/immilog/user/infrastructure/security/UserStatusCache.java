@@ -0,0 +1,94 @@
+package com.backend.immilog.user.infrastructure.security;
+
+import com.backend.immilog.shared.config.properties.JwtProperties;
+import com.backend.immilog.shared.config.properties.PostCacheProperties;
+import com.backend.immilog.shared.infrastructure.cache.CacheInvalidation;
+import com.backend.immilog.user.application.services.query.UserQueryService;
+import com.backend.immilog.user.domain.enums.UserStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * 인증 시 사용자 상태 확인용 로컬 캐시 (크기 제한 + TTL)
+ * 상태 변경 시 커밋 이후 이 노드의 캐시를 지우고, 로컬 캐시 무효화 채널(TwoLevelCacheManager와 같은 채널)로 다른 노드에 알림
+ * 메시지 전송이 실패한 노드는 TTL(jwt.user-status-cache-ttl, 기본 30초) 안에 반영됨
+ */
+@Slf4j
+@Component
+public class UserStatusCache {
+    static final String CACHE_NAME = "userStatus";
+
+    private final UserQueryService userQueryService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String invalidationChannel;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Cache<String, UserStatus> cache;
+
+    public UserStatusCache(
+            UserQueryService userQueryService,
+            JwtProperties jwtProperties,
+            RedisTemplate<String, String> stringRedisTemplate,
+            PostCacheProperties postCacheProperties
+    ) {
+        this.userQueryService = userQueryService;
+        this.redisTemplate = stringRedisTemplate;
+        this.invalidationChannel = postCacheProperties.invalidationChannel();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.userStatusCacheSize())
+                .expireAfterWrite(jwtProperties.userStatusCacheTtl())
+                .build();
+    }
+
+    public UserStatus getStatus(String userId) {
+        return cache.get(userId, id -> userQueryService.getUserById(id).getUserStatus());
+    }
+
+    /**
+     * 커밋 전에 지우면 다른 요청이 이전 상태를 다시 캐시할 수 있으므로 트랜잭션 안이면 커밋 이후 실행
+     */
+    public void invalidate(String userId) {
+        Runnable invalidate = () -> {
+            cache.invalidate(userId);
+            publish(CacheInvalidation.evict(nodeId, CACHE_NAME, userId));
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate.run();
+                }
+            });
+            return;
+        }
+        invalidate.run();
+    }
+
+    /**
+     * 다른 노드가 보낸 무효화 메시지 반영 (다른 캐시 이름이거나 이 노드가 보낸 메시지는 무시)
+     */
+    public void onInvalidation(CacheInvalidation invalidation) {
+        if (invalidation == null || !CACHE_NAME.equals(invalidation.cacheName()) || nodeId.equals(invalidation.nodeId())) {
+            return;
+        }
+        if (invalidation.isClear()) {
+            cache.invalidateAll();
+            return;
+        }
+        cache.invalidate(invalidation.key());
+    }
+
+    private void publish(CacheInvalidation invalidation) {
+        try {
+            redisTemplate.convertAndSend(invalidationChannel, invalidation.encode());
+        } catch (Exception e) {
+            log.warn("Failed to publish user status invalidation for {}", invalidation.key(), e);
+        }
+    }
+}
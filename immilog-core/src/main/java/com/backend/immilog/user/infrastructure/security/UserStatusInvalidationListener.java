@@ -0,0 +1,36 @@
+package com.backend.immilog.user.infrastructure.security;
+
+import com.backend.immilog.shared.config.properties.PostCacheProperties;
+import com.backend.immilog.shared.infrastructure.cache.CacheInvalidation;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 노드에서 변경된 사용자 상태를 로컬 캐시 무효화 채널로 받아 이 노드의 UserStatusCache에서 지움
+ */
+@Component
+public class UserStatusInvalidationListener implements MessageListener {
+    private final UserStatusCache userStatusCache;
+
+    public UserStatusInvalidationListener(
+            UserStatusCache userStatusCache,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            PostCacheProperties postCacheProperties
+    ) {
+        this.userStatusCache = userStatusCache;
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(postCacheProperties.invalidationChannel()));
+    }
+
+    @Override
+    public void onMessage(
+            Message message,
+            byte[] pattern
+    ) {
+        userStatusCache.onInvalidation(CacheInvalidation.decode(new String(message.getBody(), StandardCharsets.UTF_8)));
+    }
+}
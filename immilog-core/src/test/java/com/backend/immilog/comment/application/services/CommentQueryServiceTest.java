@@ -3,13 +3,20 @@ package com.backend.immilog.comment.application.services;
 import com.backend.immilog.comment.application.dto.CommentResult;
 import com.backend.immilog.comment.domain.model.ReferenceType;
 import com.backend.immilog.comment.domain.repositories.CommentRepository;
+import com.backend.immilog.comment.presentation.payload.CommentResponse;
+import com.backend.immilog.interaction.domain.model.InteractionStatus;
+import com.backend.immilog.interaction.domain.model.InteractionType;
+import com.backend.immilog.interaction.domain.model.InteractionUser;
 import com.backend.immilog.interaction.domain.repositories.InteractionUserRepository;
 import com.backend.immilog.shared.enums.ContentStatus;
+import com.backend.immilog.shared.enums.ContentType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -226,6 +233,151 @@ class CommentQueryServiceTest {
         verify(mockCommentRepository).findCommentsByPostId(postId);
     }
 
+    @Test
+    @DisplayName("게시물 목록별 댓글 수 조회 - 단일 그룹 쿼리 사용")
+    void getCommentCountsByPostIdsWithSingleGroupedQuery() {
+        //given
+        List<String> postIds = List.of("post1", "post2", "post1");
+        when(mockCommentRepository.countCommentsByPostIds(List.of("post1", "post2")))
+                .thenReturn(Map.of("post1", 5L));
+
+        //when
+        Map<String, Long> result = commentQueryService.getCommentCountsByPostIds(postIds);
+
+        //then
+        assertThat(result).containsEntry("post1", 5L).containsEntry("post2", 0L).hasSize(2);
+        verify(mockCommentRepository, times(1)).countCommentsByPostIds(List.of("post1", "post2"));
+        verify(mockCommentRepository, never()).findCommentsByPostId(anyString());
+    }
+
+    @Test
+    @DisplayName("단일 게시물 댓글 수 조회 - 댓글 없음")
+    void getCommentCountByPostIdWithoutComments() {
+        //given
+        when(mockCommentRepository.countCommentsByPostIds(List.of("postId"))).thenReturn(Map.of());
+
+        //when
+        long result = commentQueryService.getCommentCountByPostId("postId");
+
+        //then
+        assertThat(result).isZero();
+    }
+
+    @Test
+    @DisplayName("계층형 댓글 조회 - 인터랙션은 한 번의 배치 쿼리로 조회")
+    void getHierarchicalCommentsWithBatchedInteractions() {
+        //given
+        String postId = "postId";
+        List<CommentResult> comments = List.of(
+                createTestCommentResult("root1"),
+                createTestCommentResult("reply1", "root1"),
+                createTestCommentResult("reply2", "reply1"),
+                createTestCommentResult("root2")
+        );
+        List<String> commentIds = List.of("root1", "reply1", "reply2", "root2");
+        when(mockCommentRepository.findCommentsByPostId(postId)).thenReturn(comments);
+        when(interactionUserRepository.findByPostIdListAndContentTypeAndInteractionStatus(
+                commentIds, ContentType.COMMENT, InteractionStatus.ACTIVE))
+                .thenReturn(List.of(
+                        createInteraction("root1", "user1", InteractionType.LIKE),
+                        createInteraction("root1", "user2", InteractionType.LIKE),
+                        createInteraction("reply2", "user3", InteractionType.BOOKMARK)
+                ));
+
+        //when
+        List<CommentResponse.CommentInformation> result = commentQueryService.getHierarchicalCommentsByPostId(postId);
+
+        //then
+        assertThat(result).extracting(CommentResponse.CommentInformation::commentId).containsExactly("root1", "root2");
+        var root1 = result.get(0);
+        assertThat(root1.likeCount()).isEqualTo(2);
+        assertThat(root1.likeUsers()).containsExactly("user1", "user2");
+        assertThat(root1.replies()).extracting(CommentResponse.CommentInformation::commentId).containsExactly("reply1");
+        var reply2 = root1.replies().get(0).replies().get(0);
+        assertThat(reply2.commentId()).isEqualTo("reply2");
+        assertThat(reply2.bookmarkUsers()).containsExactly("user3");
+        assertThat(reply2.likeCount()).isZero();
+        verify(interactionUserRepository, times(1))
+                .findByPostIdListAndContentTypeAndInteractionStatus(commentIds, ContentType.COMMENT, InteractionStatus.ACTIVE);
+        verify(interactionUserRepository, never()).countByCommentIdAndInteractionTypeAndInteractionStatus(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("계층형 댓글 조회 - 깊은 대댓글 체인도 스택 오버플로 없이 조립")
+    void getHierarchicalCommentsWithDeepReplyChain() {
+        //given
+        String postId = "postId";
+        int depth = 20_000;
+        List<CommentResult> comments = new ArrayList<>();
+        comments.add(createTestCommentResult("c0"));
+        for (int i = 1; i < depth; i++) {
+            comments.add(createTestCommentResult("c" + i, "c" + (i - 1)));
+        }
+        when(mockCommentRepository.findCommentsByPostId(postId)).thenReturn(comments);
+        when(interactionUserRepository.findByPostIdListAndContentTypeAndInteractionStatus(any(), any(), any()))
+                .thenReturn(List.of());
+
+        //when
+        List<CommentResponse.CommentInformation> result = commentQueryService.getHierarchicalCommentsByPostId(postId);
+
+        //then
+        assertThat(result).hasSize(1);
+        var current = result.get(0);
+        int levels = 1;
+        while (!current.replies().isEmpty()) {
+            current = current.replies().get(0);
+            levels++;
+        }
+        assertThat(levels).isEqualTo(depth);
+        assertThat(current.commentId()).isEqualTo("c" + (depth - 1));
+    }
+
+    @Test
+    @DisplayName("계층형 댓글 조회 - 댓글이 없으면 인터랙션 조회하지 않음")
+    void getHierarchicalCommentsWithoutComments() {
+        //given
+        when(mockCommentRepository.findCommentsByPostId("postId")).thenReturn(List.of());
+
+        //when
+        List<CommentResponse.CommentInformation> result = commentQueryService.getHierarchicalCommentsByPostId("postId");
+
+        //then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(interactionUserRepository);
+    }
+
+    private InteractionUser createInteraction(String commentId, String userId, InteractionType interactionType) {
+        return new InteractionUser(
+                null,
+                userId,
+                commentId,
+                ContentType.COMMENT,
+                interactionType,
+                InteractionStatus.ACTIVE,
+                java.time.LocalDateTime.now()
+        );
+    }
+
+    private CommentResult createTestCommentResult(String commentId, String parentId) {
+        return new CommentResult(
+                commentId,
+                "userId",
+                "nickname",
+                "http://example.com/profile.jpg",
+                null,
+                "region",
+                "댓글 내용",
+                "postId",
+                parentId,
+                ReferenceType.COMMENT,
+                0,
+                0,
+                ContentStatus.NORMAL,
+                java.time.LocalDateTime.now(),
+                null
+        );
+    }
+
     private CommentResult createTestCommentResult(String commentId) {
         return new CommentResult(
                 commentId,
@@ -11,8 +11,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 class InteractionUserCommandServiceTest {
@@ -34,7 +37,7 @@ class InteractionUserCommandServiceTest {
         InteractionUser interaction = createTestInteraction();
         InteractionUser savedInteraction = createTestInteractionWithId();
 
-        when(mockInteractionUserRepository.save(interaction)).thenReturn(savedInteraction);
+        when(mockInteractionUserRepository.toggle(interaction)).thenReturn(savedInteraction);
 
         //when
         InteractionUser result = interactionUserCommandService.toggleInteraction(interaction);
@@ -42,7 +45,7 @@ class InteractionUserCommandServiceTest {
         //then
         assertThat(result).isEqualTo(savedInteraction);
         assertThat(result.id()).isNotNull();
-        verify(mockInteractionUserRepository).save(interaction);
+        verify(mockInteractionUserRepository).toggle(interaction);
     }
 
     @Test
@@ -52,7 +55,7 @@ class InteractionUserCommandServiceTest {
         InteractionUser likeInteraction = createTestLikeInteraction();
         InteractionUser savedInteraction = createSavedLikeInteraction();
 
-        when(mockInteractionUserRepository.save(likeInteraction)).thenReturn(savedInteraction);
+        when(mockInteractionUserRepository.toggle(likeInteraction)).thenReturn(savedInteraction);
 
         //when
         InteractionUser result = interactionUserCommandService.toggleInteraction(likeInteraction);
@@ -60,7 +63,7 @@ class InteractionUserCommandServiceTest {
         //then
         assertThat(result.interactionType()).isEqualTo(InteractionType.LIKE);
         assertThat(result.id()).isNotNull();
-        verify(mockInteractionUserRepository).save(likeInteraction);
+        verify(mockInteractionUserRepository).toggle(likeInteraction);
     }
 
     @Test
@@ -70,7 +73,7 @@ class InteractionUserCommandServiceTest {
         InteractionUser bookmarkInteraction = createTestBookmarkInteraction();
         InteractionUser savedInteraction = createSavedBookmarkInteraction();
 
-        when(mockInteractionUserRepository.save(bookmarkInteraction)).thenReturn(savedInteraction);
+        when(mockInteractionUserRepository.toggle(bookmarkInteraction)).thenReturn(savedInteraction);
 
         //when
         InteractionUser result = interactionUserCommandService.toggleInteraction(bookmarkInteraction);
@@ -78,7 +81,7 @@ class InteractionUserCommandServiceTest {
         //then
         assertThat(result.interactionType()).isEqualTo(InteractionType.BOOKMARK);
         assertThat(result.id()).isNotNull();
-        verify(mockInteractionUserRepository).save(bookmarkInteraction);
+        verify(mockInteractionUserRepository).toggle(bookmarkInteraction);
     }
 
     @Test
@@ -88,7 +91,7 @@ class InteractionUserCommandServiceTest {
         InteractionUser jobBoardInteraction = createTestJobBoardInteraction();
         InteractionUser savedInteraction = createSavedJobBoardInteraction();
 
-        when(mockInteractionUserRepository.save(jobBoardInteraction)).thenReturn(savedInteraction);
+        when(mockInteractionUserRepository.toggle(jobBoardInteraction)).thenReturn(savedInteraction);
 
         //when
         InteractionUser result = interactionUserCommandService.toggleInteraction(jobBoardInteraction);
@@ -96,7 +99,46 @@ class InteractionUserCommandServiceTest {
         //then
         assertThat(result.contentType()).isEqualTo(ContentType.JOB_BOARD);
         assertThat(result.id()).isNotNull();
-        verify(mockInteractionUserRepository).save(jobBoardInteraction);
+        verify(mockInteractionUserRepository).toggle(jobBoardInteraction);
+    }
+
+    @Test
+    @DisplayName("활성화된 토글은 같은 트랜잭션에서 카운터를 1 올린다")
+    void toggleOnIncreasesCounter() {
+        //given
+        InteractionUser interaction = createTestInteraction();
+        when(mockInteractionUserRepository.toggle(interaction)).thenReturn(createTestInteractionWithId());
+
+        //when
+        interactionUserCommandService.toggleInteraction(interaction);
+
+        //then
+        verify(mockInteractionUserRepository).increaseCount(ContentType.POST, "postId", InteractionType.LIKE, 1L);
+    }
+
+    @Test
+    @DisplayName("비활성화된 토글은 카운터를 1 내린다")
+    void toggleOffDecreasesCounter() {
+        //given
+        InteractionUser interaction = createTestInteraction();
+        InteractionUser toggledOff = new InteractionUser(
+                "interactionId",
+                "userId",
+                "postId",
+                ContentType.POST,
+                InteractionType.LIKE,
+                InteractionStatus.INACTIVE,
+                LocalDateTime.now()
+        );
+        when(mockInteractionUserRepository.toggle(interaction)).thenReturn(toggledOff);
+
+        //when
+        InteractionUser result = interactionUserCommandService.toggleInteraction(interaction);
+
+        //then
+        assertThat(result.interactionStatus()).isEqualTo(InteractionStatus.INACTIVE);
+        verify(mockInteractionUserRepository).increaseCount(ContentType.POST, "postId", InteractionType.LIKE, -1L);
+        verify(mockInteractionUserRepository, never()).save(any());
     }
 
     @Test
@@ -112,6 +154,43 @@ class InteractionUserCommandServiceTest {
         verify(mockInteractionUserRepository).deleteById(interactionId);
     }
 
+    @Test
+    @DisplayName("ACTIVE 인터랙션을 삭제하면 같은 트랜잭션에서 카운터를 1 내린다")
+    void deleteActiveInteractionDecreasesCounter() {
+        //given
+        when(mockInteractionUserRepository.deleteById("interactionId")).thenReturn(Optional.of(createTestInteractionWithId()));
+
+        //when
+        interactionUserCommandService.deleteInteraction("interactionId");
+
+        //then
+        verify(mockInteractionUserRepository).increaseCount(ContentType.POST, "postId", InteractionType.LIKE, -1L);
+    }
+
+    @Test
+    @DisplayName("INACTIVE 인터랙션이나 이미 없는 인터랙션을 삭제하면 카운터를 바꾸지 않는다")
+    void deleteInactiveOrMissingInteractionKeepsCounter() {
+        //given
+        var inactive = new InteractionUser(
+                "inactiveId",
+                "userId",
+                "postId",
+                ContentType.POST,
+                InteractionType.BOOKMARK,
+                InteractionStatus.INACTIVE,
+                LocalDateTime.now()
+        );
+        when(mockInteractionUserRepository.deleteById("inactiveId")).thenReturn(Optional.of(inactive));
+        when(mockInteractionUserRepository.deleteById("missingId")).thenReturn(Optional.empty());
+
+        //when
+        interactionUserCommandService.deleteInteraction("inactiveId");
+        interactionUserCommandService.deleteInteraction("missingId");
+
+        //then
+        verify(mockInteractionUserRepository, never()).increaseCount(any(), any(), any(), anyLong());
+    }
+
     @Test
     @DisplayName("null ID로 인터랙션 삭제")
     void deleteInteractionWithNullId() {
@@ -147,16 +226,16 @@ class InteractionUserCommandServiceTest {
         InteractionUser savedInteraction1 = createTestInteractionWithId();
         InteractionUser savedInteraction2 = createSavedLikeInteraction();
 
-        when(mockInteractionUserRepository.save(interaction1)).thenReturn(savedInteraction1);
-        when(mockInteractionUserRepository.save(interaction2)).thenReturn(savedInteraction2);
+        when(mockInteractionUserRepository.toggle(interaction1)).thenReturn(savedInteraction1);
+        when(mockInteractionUserRepository.toggle(interaction2)).thenReturn(savedInteraction2);
 
         //when
         InteractionUser result1 = interactionUserCommandService.toggleInteraction(interaction1);
         InteractionUser result2 = interactionUserCommandService.toggleInteraction(interaction2);
 
         //then
-        verify(mockInteractionUserRepository).save(interaction1);
-        verify(mockInteractionUserRepository).save(interaction2);
+        verify(mockInteractionUserRepository).toggle(interaction1);
+        verify(mockInteractionUserRepository).toggle(interaction2);
     }
 
     @Test
@@ -186,7 +265,7 @@ class InteractionUserCommandServiceTest {
         InteractionUser savedInteraction = createTestInteractionWithId();
         String interactionIdToDelete = "deleteInteractionId";
 
-        when(mockInteractionUserRepository.save(interactionToCreate)).thenReturn(savedInteraction);
+        when(mockInteractionUserRepository.toggle(interactionToCreate)).thenReturn(savedInteraction);
 
         //when
         InteractionUser createResult = interactionUserCommandService.toggleInteraction(interactionToCreate);
@@ -194,7 +273,7 @@ class InteractionUserCommandServiceTest {
 
         //then
         assertThat(createResult).isEqualTo(savedInteraction);
-        verify(mockInteractionUserRepository).save(interactionToCreate);
+        verify(mockInteractionUserRepository).toggle(interactionToCreate);
         verify(mockInteractionUserRepository).deleteById(interactionIdToDelete);
     }
 
@@ -207,8 +286,8 @@ class InteractionUserCommandServiceTest {
         InteractionUser savedPostInteraction = createTestInteractionWithId();
         InteractionUser savedJobBoardInteraction = createSavedJobBoardInteraction();
 
-        when(mockInteractionUserRepository.save(postInteraction)).thenReturn(savedPostInteraction);
-        when(mockInteractionUserRepository.save(jobBoardInteraction)).thenReturn(savedJobBoardInteraction);
+        when(mockInteractionUserRepository.toggle(postInteraction)).thenReturn(savedPostInteraction);
+        when(mockInteractionUserRepository.toggle(jobBoardInteraction)).thenReturn(savedJobBoardInteraction);
 
         //when
         InteractionUser postResult = interactionUserCommandService.toggleInteraction(postInteraction);
@@ -217,8 +296,8 @@ class InteractionUserCommandServiceTest {
         //then
         assertThat(postResult.contentType()).isEqualTo(ContentType.POST);
         assertThat(jobBoardResult.contentType()).isEqualTo(ContentType.JOB_BOARD);
-        verify(mockInteractionUserRepository).save(postInteraction);
-        verify(mockInteractionUserRepository).save(jobBoardInteraction);
+        verify(mockInteractionUserRepository).toggle(postInteraction);
+        verify(mockInteractionUserRepository).toggle(jobBoardInteraction);
     }
 
     @Test
@@ -230,8 +309,8 @@ class InteractionUserCommandServiceTest {
         InteractionUser savedLikeInteraction = createSavedLikeInteraction();
         InteractionUser savedBookmarkInteraction = createSavedBookmarkInteraction();
 
-        when(mockInteractionUserRepository.save(likeInteraction)).thenReturn(savedLikeInteraction);
-        when(mockInteractionUserRepository.save(bookmarkInteraction)).thenReturn(savedBookmarkInteraction);
+        when(mockInteractionUserRepository.toggle(likeInteraction)).thenReturn(savedLikeInteraction);
+        when(mockInteractionUserRepository.toggle(bookmarkInteraction)).thenReturn(savedBookmarkInteraction);
 
         //when
         InteractionUser likeResult = interactionUserCommandService.toggleInteraction(likeInteraction);
@@ -240,8 +319,8 @@ class InteractionUserCommandServiceTest {
         //then
         assertThat(likeResult.interactionType()).isEqualTo(InteractionType.LIKE);
         assertThat(bookmarkResult.interactionType()).isEqualTo(InteractionType.BOOKMARK);
-        verify(mockInteractionUserRepository).save(likeInteraction);
-        verify(mockInteractionUserRepository).save(bookmarkInteraction);
+        verify(mockInteractionUserRepository).toggle(likeInteraction);
+        verify(mockInteractionUserRepository).toggle(bookmarkInteraction);
     }
 
     private InteractionUser createTestInteraction() {
@@ -0,0 +1,201 @@
+package com.backend.immilog.post.application.enrichment;
+
+import com.backend.immilog.comment.application.services.CommentQueryService;
+import com.backend.immilog.post.application.dto.InteractionView;
+import com.backend.immilog.post.application.services.PostResourceQueryService;
+import com.backend.immilog.post.domain.model.resource.ContentResource;
+import com.backend.immilog.post.domain.model.resource.ResourceType;
+import com.backend.immilog.shared.config.properties.PostEnrichmentProperties;
+import com.backend.immilog.shared.domain.model.InteractionData;
+import com.backend.immilog.shared.enums.ContentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PostEnrichmentServiceTest {
+
+    private final InteractionDataTransport interactionDataTransport = mock(InteractionDataTransport.class);
+    private final PostResourceQueryService postResourceQueryService = mock(PostResourceQueryService.class);
+    private final CommentQueryService commentQueryService = mock(CommentQueryService.class);
+
+    private PostEnrichmentService postEnrichmentService;
+
+    @BeforeEach
+    void setUp() {
+        postEnrichmentService = new PostEnrichmentService(
+                interactionDataTransport,
+                postResourceQueryService,
+                commentQueryService,
+                Runnable::run,
+                new PostEnrichmentProperties(null, null, null)
+        );
+    }
+
+    @Test
+    @DisplayName("게시물 부가 데이터 조회 - 정상 케이스")
+    void enrichSuccessfully() {
+        //given
+        List<String> postIds = List.of("post1", "post2");
+        var interactions = List.of(new InteractionData("i1", "post1", "user1", "ACTIVE", "LIKE", "POST"));
+        var resources = List.of(new ContentResource("r1", "post1", ContentType.POST, ResourceType.TAG, "tag"));
+        var commentCounts = Map.of("post1", 3L, "post2", 0L);
+
+        when(interactionDataTransport.fetchInteractions(postIds, ContentType.POST)).thenReturn(interactions);
+        when(postResourceQueryService.getResourcesByPostIdList(postIds, ContentType.POST)).thenReturn(resources);
+        when(commentQueryService.getCommentCountsByPostIds(postIds)).thenReturn(commentCounts);
+
+        //when
+        PostEnrichment result = postEnrichmentService.enrich(postIds, ContentType.POST);
+
+        //then
+        assertThat(result.interactions()).isEqualTo(interactions);
+        assertThat(result.resources()).isEqualTo(resources);
+        assertThat(result.commentCounts()).isEqualTo(commentCounts);
+    }
+
+    @Test
+    @DisplayName("SUMMARY 조회 - 게시물 인터랙션 행을 조회하지 않음")
+    void enrichSummaryWithoutInteractions() {
+        //given
+        List<String> postIds = List.of("post1");
+        when(postResourceQueryService.getResourcesByPostIdList(postIds, ContentType.POST)).thenReturn(List.of());
+        when(commentQueryService.getCommentCountsByPostIds(postIds)).thenReturn(Map.of());
+
+        //when
+        PostEnrichment result = postEnrichmentService.enrich(postIds, ContentType.POST, InteractionView.SUMMARY);
+
+        //then
+        assertThat(result.interactions()).isEmpty();
+        verifyNoInteractions(interactionDataTransport);
+    }
+
+    @Test
+    @DisplayName("빈 게시물 ID 목록 - 조회하지 않음")
+    void enrichWithEmptyPostIds() {
+        //when
+        PostEnrichment result = postEnrichmentService.enrich(List.of(), ContentType.POST);
+
+        //then
+        assertThat(result.interactions()).isEmpty();
+        assertThat(result.resources()).isEmpty();
+        assertThat(result.commentCounts()).isEmpty();
+        verifyNoInteractions(interactionDataTransport, postResourceQueryService, commentQueryService);
+    }
+
+    @Test
+    @DisplayName("인터랙션 조회 실패 - 빈 목록으로 대체")
+    void enrichWhenInteractionFetchFails() {
+        //given
+        List<String> postIds = List.of("post1");
+        when(interactionDataTransport.fetchInteractions(any(), any())).thenThrow(new RuntimeException("timeout"));
+        when(postResourceQueryService.getResourcesByPostIdList(postIds, ContentType.POST)).thenReturn(List.of());
+        when(commentQueryService.getCommentCountsByPostIds(postIds)).thenReturn(Map.of("post1", 1L));
+
+        //when
+        PostEnrichment result = postEnrichmentService.enrich(postIds, ContentType.POST);
+
+        //then
+        assertThat(result.interactions()).isEmpty();
+        assertThat(result.commentCounts()).containsEntry("post1", 1L);
+    }
+
+    @Test
+    @DisplayName("리소스 조회 실패 - 원본 예외 전파")
+    void enrichWhenResourceFetchFails() {
+        //given
+        List<String> postIds = List.of("post1");
+        when(interactionDataTransport.fetchInteractions(postIds, ContentType.POST)).thenReturn(List.of());
+        when(postResourceQueryService.getResourcesByPostIdList(postIds, ContentType.POST))
+                .thenThrow(new IllegalStateException("db error"));
+
+        //when & then
+        assertThatThrownBy(() -> postEnrichmentService.enrich(postIds, ContentType.POST))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("db error");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 호출자 스레드에서 조회해 호출자 커넥션을 그대로 사용")
+    void enrichOnCallerThreadInsideTransaction() {
+        //given
+        List<String> postIds = List.of("post1");
+        var executor = mock(Executor.class);
+        var service = new PostEnrichmentService(
+                interactionDataTransport,
+                postResourceQueryService,
+                commentQueryService,
+                executor,
+                new PostEnrichmentProperties(null, null, null)
+        );
+        when(interactionDataTransport.fetchInteractions(postIds, ContentType.POST)).thenReturn(List.of());
+        when(postResourceQueryService.getResourcesByPostIdList(postIds, ContentType.POST)).thenReturn(List.of());
+        when(commentQueryService.getCommentCountsByPostIds(postIds)).thenReturn(Map.of("post1", 2L));
+
+        //when
+        PostEnrichment result;
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            result = service.enrich(postIds, ContentType.POST);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        //then
+        assertThat(result.commentCounts()).containsEntry("post1", 2L);
+        verifyNoInteractions(executor);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖 병렬 조회는 동시에 커넥션을 잡는 조회 수를 제한")
+    void enrichBoundsConcurrentQueriesOutsideTransaction() throws Exception {
+        //given
+        List<String> postIds = List.of("post1");
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        when(interactionDataTransport.fetchInteractions(postIds, ContentType.POST))
+                .thenAnswer(invocation -> track(running, maxRunning, List.of()));
+        when(postResourceQueryService.getResourcesByPostIdList(postIds, ContentType.POST))
+                .thenAnswer(invocation -> track(running, maxRunning, List.of()));
+        when(commentQueryService.getCommentCountsByPostIds(postIds))
+                .thenAnswer(invocation -> track(running, maxRunning, Map.of()));
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var service = new PostEnrichmentService(
+                    interactionDataTransport,
+                    postResourceQueryService,
+                    commentQueryService,
+                    executor,
+                    new PostEnrichmentProperties(null, null, 2)
+            );
+
+            //when
+            service.enrich(postIds, ContentType.POST);
+        }
+
+        //then
+        assertThat(maxRunning.get()).isEqualTo(2);
+    }
+
+    private static <T> T track(
+            AtomicInteger running,
+            AtomicInteger maxRunning,
+            T result
+    ) throws InterruptedException {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        Thread.sleep(50);
+        running.decrementAndGet();
+        return result;
+    }
+}
@@ -1,9 +1,9 @@
 package com.backend.immilog.post.application.event;
 
 import com.backend.immilog.comment.domain.event.CommentCreatedEvent;
+import com.backend.immilog.post.application.feed.PostFeedViewService;
 import com.backend.immilog.post.application.services.PostCommandService;
-import com.backend.immilog.post.application.services.PostQueryService;
-import com.backend.immilog.post.domain.model.post.Post;
+import com.backend.immilog.post.application.services.PostPopularityService;
 import com.backend.immilog.shared.config.properties.EventProperties;
 import com.backend.immilog.shared.domain.event.DomainEvents;
 import com.backend.immilog.shared.infrastructure.event.RedisEventPublisher;
@@ -16,22 +16,24 @@ import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationContext;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("CommentCreatedEventHandler 테스트")
 class CommentCreatedEventHandlerTest {
 
-    @Mock private PostQueryService postQueryService;
-
     @Mock private PostCommandService postCommandService;
 
-    @Mock private EventProperties eventProperties;
+    @Mock private PostPopularityService postPopularityService;
 
-    @Mock private Post mockPost;
+    @Mock private EventProperties eventProperties;
 
-    @Mock private Post updatedPost;
+    @Mock private PostFeedViewService postFeedViewService;
 
     @Mock private ApplicationContext applicationContext;
 
@@ -41,7 +43,7 @@ class CommentCreatedEventHandlerTest {
 
     @BeforeEach
     void setUp() {
-        eventHandler = new CommentCreatedEventHandler(postQueryService, postCommandService, eventProperties);
+        eventHandler = new CommentCreatedEventHandler(postCommandService, postPopularityService, eventProperties, postFeedViewService);
     }
 
     @Test
@@ -51,16 +53,14 @@ class CommentCreatedEventHandlerTest {
         CommentCreatedEvent event = new CommentCreatedEvent("comment1", "post1", "user1");
 
         when(eventProperties.simulateFailure()).thenReturn(false);
-        when(postQueryService.getPostById("post1")).thenReturn(mockPost);
-        when(mockPost.increaseCommentCount()).thenReturn(updatedPost);
 
         // when
         eventHandler.handle(event);
 
         // then
-        verify(postQueryService).getPostById("post1");
-        verify(mockPost).increaseCommentCount();
-        verify(postCommandService).save(updatedPost);
+        verify(postCommandService).applyCommentCountDeltas(Map.of("post1", 1L));
+        verify(postPopularityService).recordComments(Map.of("post1", 1L));
+        verify(postCommandService, never()).save(any());
         verify(eventProperties, never()).enableCompensation();
     }
 
@@ -72,16 +72,16 @@ class CommentCreatedEventHandlerTest {
 
         when(eventProperties.simulateFailure()).thenReturn(false);
         when(eventProperties.enableCompensation()).thenReturn(true);
-        when(postQueryService.getPostById("post1")).thenThrow(new RuntimeException("Database error"));
+        doThrow(new RuntimeException("Database error")).when(postCommandService).applyCommentCountDeltas(anyMap());
 
         try (MockedStatic<DomainEvents> domainEventsMock = mockStatic(DomainEvents.class)) {
             // when
             eventHandler.handle(event);
 
             // then
-            verify(postQueryService).getPostById("post1");
-            verify(postCommandService, never()).save(any());
+            verify(postCommandService).applyCommentCountDeltas(Map.of("post1", 1L));
             verify(eventProperties).enableCompensation();
+            verify(postPopularityService, never()).recordComments(anyMap());
 
             domainEventsMock.verify(() -> DomainEvents.raiseCompensationEvent(any()), times(1));
         }
@@ -102,7 +102,7 @@ class CommentCreatedEventHandlerTest {
             eventHandler.handle(event);
 
             // then
-            verify(postQueryService, never()).getPostById(any());
+            verify(postCommandService, never()).applyCommentCountDeltas(anyMap());
             verify(eventProperties).enableCompensation();
 
             domainEventsMock.verify(() -> DomainEvents.raiseCompensationEvent(any()), times(1));
@@ -117,7 +117,7 @@ class CommentCreatedEventHandlerTest {
 
         when(eventProperties.simulateFailure()).thenReturn(false);
         when(eventProperties.enableCompensation()).thenReturn(false);
-        when(postQueryService.getPostById("post1")).thenThrow(new RuntimeException("Database error"));
+        doThrow(new RuntimeException("Database error")).when(postCommandService).applyCommentCountDeltas(anyMap());
 
         try (MockedStatic<DomainEvents> domainEventsMock = mockStatic(DomainEvents.class)) {
             // when
@@ -138,15 +138,53 @@ class CommentCreatedEventHandlerTest {
         CommentCreatedEvent event = new CommentCreatedEvent("comment1", "post1", "user1");
 
         when(eventProperties.simulateFailure()).thenReturn(false);
-        when(postQueryService.getPostById("post1")).thenReturn(mockPost);
-        when(mockPost.increaseCommentCount()).thenReturn(updatedPost);
 
         // when
         eventHandler.handle(event);
 
         // then
-        verify(postQueryService).getPostById("post1");
-        verify(mockPost).increaseCommentCount();
-        verify(postCommandService).save(updatedPost);
+        verify(postCommandService).applyCommentCountDeltas(Map.of("post1", 1L));
+    }
+
+    @Test
+    @DisplayName("여러 댓글 생성 이벤트는 게시물별 증가분으로 합쳐 한 번에 반영")
+    void handleAll_CoalescesDeltasPerPost() {
+        // given
+        var events = List.of(
+                new CommentCreatedEvent("comment1", "post1", "user1"),
+                new CommentCreatedEvent("comment2", "post1", "user2"),
+                new CommentCreatedEvent("comment3", "post1", "user3"),
+                new CommentCreatedEvent("comment4", "post2", "user1")
+        );
+
+        when(eventProperties.simulateFailure()).thenReturn(false);
+
+        // when
+        eventHandler.handleAll(events);
+
+        // then
+        verify(postCommandService, times(1)).applyCommentCountDeltas(Map.of("post1", 3L, "post2", 1L));
+    }
+
+    @Test
+    @DisplayName("일괄 반영 실패 시 이벤트마다 보상 이벤트 발행")
+    void handleAll_FailurePublishesCompensationPerEvent() {
+        // given
+        var events = List.of(
+                new CommentCreatedEvent("comment1", "post1", "user1"),
+                new CommentCreatedEvent("comment2", "post2", "user2")
+        );
+
+        when(eventProperties.simulateFailure()).thenReturn(false);
+        when(eventProperties.enableCompensation()).thenReturn(true);
+        doThrow(new RuntimeException("Database error")).when(postCommandService).applyCommentCountDeltas(anyMap());
+
+        try (MockedStatic<DomainEvents> domainEventsMock = mockStatic(DomainEvents.class)) {
+            // when
+            eventHandler.handleAll(events);
+
+            // then
+            domainEventsMock.verify(() -> DomainEvents.raiseCompensationEvent(any()), times(2));
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,62 @@
+package com.backend.immilog.post.application.event;
+
+import com.backend.immilog.interaction.domain.event.InteractionToggledEvent;
+import com.backend.immilog.post.application.feed.PostFeedViewService;
+import com.backend.immilog.post.application.services.PostCacheService;
+import com.backend.immilog.post.application.services.PostPopularityService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.Mockito.*;
+
+@DisplayName("InteractionToggledEventHandler 테스트")
+class InteractionToggledEventHandlerTest {
+    private final PostPopularityService postPopularityService = mock(PostPopularityService.class);
+    private final PostCacheService postCacheService = mock(PostCacheService.class);
+    private final PostFeedViewService postFeedViewService = mock(PostFeedViewService.class);
+    private final InteractionToggledEventHandler eventHandler = new InteractionToggledEventHandler(
+            postPopularityService,
+            postCacheService,
+            postFeedViewService
+    );
+
+    @Test
+    @DisplayName("게시물 좋아요 토글은 게시물별 증감분으로 합쳐 반영된다")
+    void likeTogglesAreCoalesced() {
+        //given
+        var events = List.of(
+                new InteractionToggledEvent("post1", "user1", "POST", "LIKE", true),
+                new InteractionToggledEvent("post1", "user2", "POST", "LIKE", true),
+                new InteractionToggledEvent("post1", "user3", "POST", "LIKE", false),
+                new InteractionToggledEvent("post2", "user1", "POST", "LIKE", true)
+        );
+
+        //when
+        eventHandler.handleAll(events);
+
+        //then
+        verify(postPopularityService).recordLikes(Map.of("post1", 1L, "post2", 1L));
+        verify(postCacheService).evictPostDetails(Set.of("post1", "post2"));
+    }
+
+    @Test
+    @DisplayName("북마크 토글은 상세 캐시만 지우고, 게시물 외 콘텐츠의 토글은 무시된다")
+    void nonLikeTogglesAreIgnored() {
+        //given
+        var events = List.of(
+                new InteractionToggledEvent("post1", "user1", "POST", "BOOKMARK", true),
+                new InteractionToggledEvent("job1", "user1", "JOB_BOARD", "LIKE", true)
+        );
+
+        //when
+        eventHandler.handleAll(events);
+
+        //then
+        verifyNoInteractions(postPopularityService);
+        verify(postCacheService).evictPostDetails(Set.of("post1"));
+    }
+}
@@ -1,9 +1,8 @@
 package com.backend.immilog.post.application.event;
 
+import com.backend.immilog.post.application.feed.PostFeedViewService;
 import com.backend.immilog.post.application.services.PostCommandService;
-import com.backend.immilog.post.application.services.PostQueryService;
 import com.backend.immilog.post.domain.events.PostCompensationEvent;
-import com.backend.immilog.post.domain.model.post.Post;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,30 +10,27 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import static org.mockito.ArgumentMatchers.any;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("PostCompensationEventHandler 테스트")
 class PostCompensationEventHandlerTest {
 
-    @Mock
-    private PostQueryService postQueryService;
-
     @Mock
     private PostCommandService postCommandService;
 
     @Mock
-    private Post mockPost;
-
-    @Mock
-    private Post compensatedPost;
+    private PostFeedViewService postFeedViewService;
 
     private PostCompensationEventHandler compensationHandler;
 
     @BeforeEach
     void setUp() {
-        compensationHandler = new PostCompensationEventHandler(postQueryService, postCommandService);
+        compensationHandler = new PostCompensationEventHandler(postCommandService, postFeedViewService);
     }
 
     @Test
@@ -47,16 +43,11 @@ class PostCompensationEventHandlerTest {
 
         var event = new PostCompensationEvent.CommentCountIncreaseCompensation(transactionId, originalEventId, postId);
 
-        when(postQueryService.getPostById(postId)).thenReturn(mockPost);
-        when(mockPost.decreaseCommentCount()).thenReturn(compensatedPost);
-
         // when
         compensationHandler.handle(event);
 
         // then
-        verify(postQueryService).getPostById(postId);
-        verify(mockPost).decreaseCommentCount();
-        verify(postCommandService).save(compensatedPost);
+        verify(postCommandService).applyCommentCountDeltas(Map.of(postId, -1L));
     }
 
     @Test
@@ -70,14 +61,13 @@ class PostCompensationEventHandlerTest {
         PostCompensationEvent.CommentCountIncreaseCompensation event =
                 new PostCompensationEvent.CommentCountIncreaseCompensation(transactionId, originalEventId, postId);
 
-        when(postQueryService.getPostById(postId)).thenThrow(new RuntimeException("Database connection failed"));
+        doThrow(new RuntimeException("Database connection failed"))
+                .when(postCommandService).applyCommentCountDeltas(anyMap());
 
+        // when & then (예외가 전파되지 않음)
         compensationHandler.handle(event);
 
-        // then
-        verify(postQueryService).getPostById(postId);
-        verify(mockPost, never()).decreaseCommentCount();
-        verify(postCommandService, never()).save(any());
+        verify(postCommandService).applyCommentCountDeltas(Map.of(postId, -1L));
     }
 
     @Test
@@ -91,44 +81,19 @@ class PostCompensationEventHandlerTest {
     }
 
     @Test
-    @DisplayName("게시글을 찾을 수 없는 경우 보상 처리")
-    void handleCommentCountIncreaseCompensation_PostNotFound() {
-        // given
-        String transactionId = "tx-123";
-        String originalEventId = "comment-456";
-        String postId = "non-existent-post";
-
-        var event = new PostCompensationEvent.CommentCountIncreaseCompensation(transactionId, originalEventId, postId);
-
-        when(postQueryService.getPostById(postId)).thenThrow(new IllegalArgumentException("Post not found"));
-
-        // when
-        compensationHandler.handle(event);
-
-        // then
-        verify(postQueryService).getPostById(postId);
-        verify(postCommandService, never()).save(any());
-    }
-
-    @Test
-    @DisplayName("댓글 수 감소 실패 시 보상 처리")
-    void handleCommentCountIncreaseCompensation_DecreaseCommentCountFails() {
+    @DisplayName("여러 보상 이벤트는 게시물별 감소분으로 합쳐 한 번에 반영")
+    void handleAll_CoalescesDeltasPerPost() {
         // given
-        String transactionId = "tx-123";
-        String originalEventId = "comment-456";
-        String postId = "post-789";
-
-        var event = new PostCompensationEvent.CommentCountIncreaseCompensation(transactionId, originalEventId, postId);
-
-        when(postQueryService.getPostById(postId)).thenReturn(mockPost);
-        when(mockPost.decreaseCommentCount()).thenThrow(new IllegalStateException("Comment count cannot be negative"));
+        var events = List.of(
+                new PostCompensationEvent.CommentCountIncreaseCompensation("tx-1", "comment-1", "post-1"),
+                new PostCompensationEvent.CommentCountIncreaseCompensation("tx-2", "comment-2", "post-1"),
+                new PostCompensationEvent.CommentCountIncreaseCompensation("tx-3", "comment-3", "post-2")
+        );
 
         // when
-        compensationHandler.handle(event);
+        compensationHandler.handleAll(events);
 
         // then
-        verify(postQueryService).getPostById(postId);
-        verify(mockPost).decreaseCommentCount();
-        verify(postCommandService, never()).save(any());
+        verify(postCommandService, times(1)).applyCommentCountDeltas(Map.of("post-1", -2L, "post-2", -1L));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,133 @@
+package com.backend.immilog.post.application.feed;
+
+import com.backend.immilog.post.domain.model.post.Categories;
+import com.backend.immilog.post.domain.model.post.PostFeedView;
+import com.backend.immilog.post.domain.repositories.PostFeedViewRepository;
+import com.backend.immilog.shared.config.properties.PostFeedViewProperties;
+import com.backend.immilog.shared.enums.ContentStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+class PostFeedViewServiceTest {
+    private final PostFeedViewRepository postFeedViewRepository = mock(PostFeedViewRepository.class);
+    private final PostFeedViewService postFeedViewService = new PostFeedViewService(
+            postFeedViewRepository,
+            new PostFeedViewProperties(true, 2, 3)
+    );
+
+    @Test
+    @DisplayName("원본에서 사라진 게시물은 투영에서 삭제한다")
+    void refreshDeletesPostsMissingFromSource() {
+        //given
+        when(postFeedViewRepository.loadFromSource(anyCollection(), eq(3))).thenReturn(List.of(view("p1", 1L)));
+
+        //when
+        postFeedViewService.refresh(Set.of("p1", "p2"));
+
+        //then
+        verify(postFeedViewRepository).saveAll(List.of(view("p1", 1L)));
+        verify(postFeedViewRepository).deleteByPostIds(List.of("p2"));
+    }
+
+    @Test
+    @DisplayName("전체 재구축은 post_id 키셋으로 묶음 단위로 진행한다")
+    void rebuildPagesByKeyset() {
+        //given
+        when(postFeedViewRepository.findSourcePostIdsAfter(isNull(), eq(2))).thenReturn(List.of("p1", "p2"));
+        when(postFeedViewRepository.findSourcePostIdsAfter("p2", 2)).thenReturn(List.of("p3"));
+        when(postFeedViewRepository.findSourcePostIdsAfter("p3", 2)).thenReturn(List.of());
+        when(postFeedViewRepository.loadFromSource(anyCollection(), anyInt())).thenReturn(List.of());
+        when(postFeedViewRepository.findOrphanedPostIds(2)).thenReturn(List.of());
+
+        //when
+        long rebuilt = postFeedViewService.rebuild();
+
+        //then
+        assertThat(rebuilt).isEqualTo(3);
+        verify(postFeedViewRepository, times(2)).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("정합성 검사는 누락/불일치/고아 행을 세고 repair 시 복구한다")
+    void checkCountsAndRepairsDifferences() {
+        //given
+        when(postFeedViewRepository.findSourcePostIdsAfter(isNull(), eq(2))).thenReturn(List.of("p1", "p2"));
+        when(postFeedViewRepository.findSourcePostIdsAfter("p2", 2)).thenReturn(List.of());
+        when(postFeedViewRepository.loadFromSource(List.of("p1", "p2"), 3)).thenReturn(List.of(view("p1", 5L), view("p2", 1L)));
+        when(postFeedViewRepository.findByPostIds(List.of("p1", "p2"))).thenReturn(List.of(view("p1", 4L)));
+        when(postFeedViewRepository.findOrphanedPostIds(2)).thenReturn(List.of("p9")).thenReturn(List.of());
+
+        //when
+        var report = postFeedViewService.check(true);
+
+        //then
+        assertThat(report.checked()).isEqualTo(2);
+        assertThat(report.missing()).isEqualTo(1);
+        assertThat(report.stale()).isEqualTo(1);
+        assertThat(report.orphaned()).isEqualTo(1);
+        assertThat(report.sampleIds()).containsExactly("p1", "p2");
+        verify(postFeedViewRepository).saveAll(List.of(view("p1", 5L), view("p2", 1L)));
+        verify(postFeedViewRepository).deleteByPostIds(List.of("p9"));
+    }
+
+    @Test
+    @DisplayName("정합성 검사는 원본을 읽은 시각만 다른 행을 불일치로 보지 않는다")
+    void checkIgnoresSourceReadTime() {
+        //given
+        var stored = view("p1", 5L, LocalDateTime.of(2024, 1, 1, 0, 0));
+        var recomputed = view("p1", 5L, LocalDateTime.of(2024, 1, 2, 0, 0));
+        when(postFeedViewRepository.findSourcePostIdsAfter(isNull(), eq(2))).thenReturn(List.of("p1"));
+        when(postFeedViewRepository.findSourcePostIdsAfter("p1", 2)).thenReturn(List.of());
+        when(postFeedViewRepository.loadFromSource(List.of("p1"), 3)).thenReturn(List.of(recomputed));
+        when(postFeedViewRepository.findByPostIds(List.of("p1"))).thenReturn(List.of(stored));
+        when(postFeedViewRepository.findOrphanedPostIds(anyInt())).thenReturn(List.of());
+
+        //when
+        var report = postFeedViewService.check(false);
+
+        //then
+        assertThat(report.isConsistent()).isTrue();
+        assertThat(report.stale()).isZero();
+    }
+
+    @Test
+    @DisplayName("최초 재구축 전에는 예약된 정합성 검사를 건너뛴다")
+    void scheduledRepairSkipsBeforeBootstrap() {
+        //when
+        postFeedViewService.scheduledRepair();
+
+        //then
+        verifyNoInteractions(postFeedViewRepository);
+    }
+
+    @Test
+    @DisplayName("최초 재구축 전에는 투영으로 피드를 읽지 않는다")
+    void notReadableBeforeBootstrap() {
+        assertThat(postFeedViewService.isReadable()).isFalse();
+    }
+
+    private static PostFeedView view(String postId, long commentCount) {
+        return view(postId, commentCount, null);
+    }
+
+    private static PostFeedView view(String postId, long commentCount, LocalDateTime sourceReadAt) {
+        return new PostFeedView(
+                postId, "u1", "nick", "img", "title", "content",
+                10L, commentCount, 0L, 0L, List.of("tag"), null, "Y", "KR", "Seoul",
+                Categories.COMMUNICATION, ContentStatus.NORMAL,
+                LocalDateTime.of(2024, 1, 1, 0, 0), null, sourceReadAt
+        );
+    }
+}
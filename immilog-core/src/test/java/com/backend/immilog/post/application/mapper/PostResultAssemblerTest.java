@@ -0,0 +1,104 @@
+package com.backend.immilog.post.application.mapper;
+
+import com.backend.immilog.post.application.dto.PostResult;
+import com.backend.immilog.post.application.enrichment.PostEnrichment;
+import com.backend.immilog.post.domain.model.post.Categories;
+import com.backend.immilog.post.domain.model.resource.ContentResource;
+import com.backend.immilog.post.domain.model.resource.ResourceType;
+import com.backend.immilog.shared.domain.model.InteractionData;
+import com.backend.immilog.shared.enums.ContentStatus;
+import com.backend.immilog.shared.enums.ContentType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostResultAssemblerTest {
+    private final PostResultAssembler postResultAssembler = new PostResultAssembler();
+
+    @Test
+    @DisplayName("게시물별 인터랙션/리소스/댓글 수를 원래 순서대로 채워 한 번에 조립하고 좋아요 수는 카운터 값을 유지한다")
+    void assembleGroupsByPost() {
+        //given
+        var posts = List.of(PostResult.builder(postResult("post1")).likeCount(9L).build(), postResult("post2"));
+        var enrichment = new PostEnrichment(
+                List.of(
+                        interaction("post2", "user1", "LIKE", "ACTIVE"),
+                        interaction("post1", "user2", "LIKE", "ACTIVE"),
+                        interaction("post1", "user3", "LIKE", "INACTIVE"),
+                        interaction("post1", "user4", "BOOKMARK", "ACTIVE"),
+                        interaction("post1", "user5", "LIKE", "ACTIVE"),
+                        interaction("other", "user6", "LIKE", "ACTIVE")
+                ),
+                List.of(
+                        resource("post1", ResourceType.TAG, "tag1"),
+                        resource("post2", ResourceType.ATTACHMENT, "file1"),
+                        resource("post1", ResourceType.TAG, "tag2"),
+                        resource("post1", ResourceType.DELETED, "gone")
+                ),
+                Map.of("post1", 7L)
+        );
+
+        //when
+        var result = postResultAssembler.assemble(posts, enrichment);
+
+        //then
+        assertThat(result).extracting(PostResult::postId).containsExactly("post1", "post2");
+        var first = result.get(0);
+        assertThat(first.likeUsers()).containsExactly("user2", "user5");
+        assertThat(first.bookmarkUsers()).containsExactly("user4");
+        assertThat(first.likeCount()).isEqualTo(9L);
+        assertThat(first.tags()).containsExactly("tag1", "tag2");
+        assertThat(first.attachments()).isEmpty();
+        assertThat(first.commentCount()).isEqualTo(7L);
+        var second = result.get(1);
+        assertThat(second.likeUsers()).containsExactly("user1");
+        assertThat(second.attachments()).containsExactly("file1");
+        assertThat(second.commentCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 채워진 태그 뒤에 리소스 태그를 이어 붙인다")
+    void assembleKeepsExistingValues() {
+        //given
+        var base = PostResult.builder(postResult("post1")).tags(List.of("keyword")).build();
+        var enrichment = new PostEnrichment(List.of(), List.of(resource("post1", ResourceType.TAG, "tag1")), Map.of());
+
+        //when
+        var result = postResultAssembler.assemble(List.of(base), enrichment);
+
+        //then
+        assertThat(result.getFirst().tags()).containsExactly("keyword", "tag1");
+        assertThat(result.getFirst().title()).isEqualTo("title post1");
+    }
+
+    private static PostResult postResult(String postId) {
+        return new PostResult(
+                postId, "writer", null, "nickname", 0L, 3L, 0L, 0L,
+                new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), null, null,
+                "Y", "KR", "Seoul", Categories.COMMUNICATION, ContentStatus.NORMAL,
+                "2024-01-01T00:00", "2024-01-01T00:00", "title " + postId, "content", null
+        );
+    }
+
+    private static InteractionData interaction(
+            String postId,
+            String userId,
+            String type,
+            String status
+    ) {
+        return new InteractionData(postId + userId, postId, userId, status, type, "POST");
+    }
+
+    private static ContentResource resource(
+            String postId,
+            ResourceType type,
+            String content
+    ) {
+        return new ContentResource(null, postId, ContentType.POST, type, content);
+    }
+}
@@ -0,0 +1,42 @@
+package com.backend.immilog.post.application.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NgramTokenizer 테스트")
+class NgramTokenizerTest {
+
+    @Test
+    @DisplayName("한글 문장은 공백과 문장부호를 경계로 인접한 두 글자씩 나뉜다")
+    void tokenizeHangulIntoBigrams() {
+        //when
+        int[] terms = NgramTokenizer.tokenize("비자 신청!");
+
+        //then
+        assertThat(terms).containsExactly(
+                NgramTokenizer.bigram('비', '자'),
+                NgramTokenizer.bigram('신', '청')
+        );
+    }
+
+    @Test
+    @DisplayName("영문은 소문자로, 전각 문자는 반각으로 정규화된다")
+    void normalizeBeforeTokenize() {
+        //when
+        int[] upper = NgramTokenizer.tokenize("ＶＩＳＡ");
+        int[] lower = NgramTokenizer.tokenize("visa");
+
+        //then
+        assertThat(upper).containsExactly(lower);
+    }
+
+    @Test
+    @DisplayName("두 글자 미만의 입력은 용어를 만들지 않는다")
+    void singleCharacterHasNoTerms() {
+        assertThat(NgramTokenizer.tokenize("비")).isEmpty();
+        assertThat(NgramTokenizer.tokenize(" ")).isEmpty();
+        assertThat(NgramTokenizer.tokenize(null)).isEmpty();
+    }
+}
@@ -0,0 +1,138 @@
+package com.backend.immilog.post.application.search;
+
+import com.backend.immilog.shared.config.properties.PostSearchProperties.Ranking;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PostSearchIndex 테스트")
+class PostSearchIndexTest {
+    private final LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    @DisplayName("검색어의 모든 bi-gram을 포함한 게시물만 찾는다")
+    void searchMatchesAllTerms() {
+        //given
+        var index = new PostSearchIndex();
+        index.index("post1", "워킹홀리데이 비자 후기", "호주 워홀 비자 신청 과정", now);
+        index.index("post2", "비행기 예약", "자리 선택 팁", now);
+        index.index("post3", "학생 비자", "캐나다 학생 비자 연장", now);
+
+        //when
+        var hits = index.search("비자", Ranking.BM25, 0, 10);
+
+        //then
+        assertThat(hits.totalCount()).isEqualTo(2);
+        assertThat(hits.postIds()).containsExactlyInAnyOrder("post1", "post3");
+    }
+
+    @Test
+    @DisplayName("BM25 순위는 검색어가 자주, 제목에 나온 게시물을 앞에 둔다")
+    void bm25RanksByRelevance() {
+        //given
+        var index = new PostSearchIndex();
+        index.index("weak", "일상 이야기", "오늘 은행에 다녀왔고 비자 얘기는 잠깐 나왔다 그 외에는 장보기", now);
+        index.index("strong", "비자 연장 방법", "비자 연장 서류와 비자 수수료 정리", now);
+
+        //when
+        var hits = index.search("비자", Ranking.BM25, 0, 10);
+
+        //then
+        assertThat(hits.postIds()).containsExactly("strong", "weak");
+    }
+
+    @Test
+    @DisplayName("최신순 순위는 작성일 내림차순이며 offset/limit으로 페이지를 자른다")
+    void recencyRankingWithPaging() {
+        //given
+        var index = new PostSearchIndex();
+        for (int i = 0; i < 5; i++) {
+            index.index("post" + i, "비자 " + i, "내용", now.plusDays(i));
+        }
+
+        //when
+        var hits = index.search("비자", Ranking.RECENCY, 1, 2);
+
+        //then
+        assertThat(hits.totalCount()).isEqualTo(5);
+        assertThat(hits.postIds()).containsExactly("post3", "post2");
+    }
+
+    @Test
+    @DisplayName("키셋 검색은 작성일, post_id 내림차순으로 커서 다음 게시물만 이어서 읽어 누락/중복이 없다")
+    void searchAfterPagesByKeyset() {
+        //given
+        var index = new PostSearchIndex();
+        for (int i = 1; i <= 4; i++) {
+            index.index("post" + i, "비자 " + i, "내용", now);
+        }
+        index.index("post5", "비자 5", "내용", now.plusMinutes(1));
+        index.index("other", "항공권", "내용", now.plusMinutes(2));
+
+        //when
+        var first = index.searchAfter("비자", null, null, 2);
+        var second = index.searchAfter("비자", now, "post3", 2);
+        var last = index.searchAfter("비자", now, "post1", 2);
+
+        //then
+        assertThat(first.postIds()).containsExactly("post5", "post4");
+        assertThat(first.totalCount()).isEqualTo(5);
+        assertThat(second.postIds()).containsExactly("post2", "post1");
+        assertThat(last.postIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수정된 게시물은 새 내용으로만 검색되고, 삭제된 게시물은 검색되지 않는다")
+    void updateAndRemove() {
+        //given
+        var index = new PostSearchIndex();
+        index.index("post1", "비자 질문", "내용", now);
+        index.index("post2", "비자 후기", "내용", now);
+
+        //when
+        index.index("post1", "항공권 질문", "내용", now);
+        index.remove("post2");
+
+        //then
+        assertThat(index.search("비자", Ranking.BM25, 0, 10).totalCount()).isZero();
+        assertThat(index.search("항공", Ranking.BM25, 0, 10).postIds()).containsExactly("post1");
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제가 많이 쌓여 포스팅을 정리한 뒤에도 남은 게시물은 그대로 검색된다")
+    void searchAfterCompaction() {
+        //given
+        var index = new PostSearchIndex();
+        for (int i = 0; i < 3_000; i++) {
+            index.index("post" + i, "비자 질문 " + i, "내용", now);
+        }
+
+        //when
+        for (int i = 0; i < 2_990; i++) {
+            index.remove("post" + i);
+        }
+
+        //then
+        var hits = index.search("비자 질문", Ranking.BM25, 0, 20);
+        assertThat(hits.totalCount()).isEqualTo(10);
+        assertThat(hits.postIds()).hasSize(10).allMatch(id -> Integer.parseInt(id.substring(4)) >= 2_990);
+    }
+
+    @Test
+    @DisplayName("색인에 없는 용어가 하나라도 있으면 결과가 없다")
+    void unknownTermHasNoHits() {
+        //given
+        var index = new PostSearchIndex();
+        index.index("post1", "비자 질문", "내용", now);
+
+        //when
+        var hits = index.search("비자 영주권", Ranking.BM25, 0, 10);
+
+        //then
+        assertThat(hits).isEqualTo(SearchHits.empty());
+    }
+}
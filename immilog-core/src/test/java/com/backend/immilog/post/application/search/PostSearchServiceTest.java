@@ -0,0 +1,141 @@
+package com.backend.immilog.post.application.search;
+
+import com.backend.immilog.post.domain.model.post.PostSearchDocument;
+import com.backend.immilog.post.domain.repositories.PostDomainRepository;
+import com.backend.immilog.shared.config.properties.PostSearchProperties;
+import com.backend.immilog.shared.enums.ContentStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PostSearchService 테스트")
+class PostSearchServiceTest {
+    private final PostDomainRepository postDomainRepository = mock(PostDomainRepository.class);
+    private final PostSearchProperties properties = new PostSearchProperties(true, null, 2, null, null);
+    private final PostSearchService postSearchService = new PostSearchService(
+            postDomainRepository,
+            properties,
+            new SimpleMeterRegistry()
+    );
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @Test
+    @DisplayName("색인 재구축 전에는 빈 값을 반환해 DB 검색으로 대체된다")
+    void searchBeforeRebuildFallsBack() {
+        //when
+        var hits = postSearchService.search("비자", PageRequest.of(0, 10));
+
+        //then
+        assertThat(hits).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재구축은 post_id 키셋으로 모든 게시물을 읽어 색인한다")
+    void rebuildReadsAllPages() {
+        //given
+        when(postDomainRepository.findSearchDocumentsAfter(isNull(), eq(2)))
+                .thenReturn(List.of(document("post1", "비자 질문", ContentStatus.NORMAL), document("post2", "비자 후기", ContentStatus.NORMAL)));
+        when(postDomainRepository.findSearchDocumentsAfter(eq("post2"), eq(2)))
+                .thenReturn(List.of(document("post3", "항공권", ContentStatus.NORMAL)));
+
+        //when
+        postSearchService.rebuild();
+        var hits = postSearchService.search("비자", PageRequest.of(0, 10));
+
+        //then
+        assertThat(hits).isPresent();
+        assertThat(hits.get().postIds()).containsExactlyInAnyOrder("post1", "post2");
+        verify(postDomainRepository, times(2)).findSearchDocumentsAfter(any(), eq(2));
+    }
+
+    @Test
+    @DisplayName("동기화는 다른 노드에서 수정/삭제된 게시물을 색인에 반영한다")
+    void syncAppliesRemoteChanges() {
+        //given
+        when(postDomainRepository.findSearchDocumentsAfter(isNull(), eq(2)))
+                .thenReturn(List.of(document("post1", "비자 질문", ContentStatus.NORMAL)));
+        postSearchService.rebuild();
+        when(postDomainRepository.findSearchDocumentsUpdatedSince(any(), isNull(), eq(2)))
+                .thenReturn(List.of(document("post1", "비자 질문", ContentStatus.DELETED), document("post2", "비자 연장", ContentStatus.NORMAL)));
+        when(postDomainRepository.findSearchDocumentsUpdatedSince(any(), eq("post2"), eq(2)))
+                .thenReturn(List.of());
+
+        //when
+        postSearchService.sync();
+
+        //then
+        var hits = postSearchService.search("비자", PageRequest.of(0, 10));
+        assertThat(hits).isPresent();
+        assertThat(hits.get().postIds()).containsExactly("post2");
+    }
+
+    @Test
+    @DisplayName("동기화는 기준점보다 syncLag만큼 앞에서부터 다시 읽어 늦게 커밋된 변경도 반영한다")
+    void syncRereadsOverlapWindow() {
+        //given
+        when(postDomainRepository.findSearchDocumentsAfter(isNull(), eq(2))).thenReturn(List.of());
+        postSearchService.rebuild();
+        var watermark = now.plusHours(1);
+        when(postDomainRepository.findSearchDocumentsUpdatedSince(any(), isNull(), eq(2)))
+                .thenReturn(List.of(document("post1", "비자 질문", ContentStatus.NORMAL, watermark)));
+        postSearchService.sync();
+        // post2는 post1보다 이른 updated_at으로 늦게 커밋됨
+        when(postDomainRepository.findSearchDocumentsUpdatedSince(eq(watermark.minus(properties.syncLag())), isNull(), eq(2)))
+                .thenReturn(List.of(
+                        document("post2", "비자 연장", ContentStatus.NORMAL, watermark.minusSeconds(30)),
+                        document("post1", "비자 질문", ContentStatus.NORMAL, watermark)
+                ));
+        when(postDomainRepository.findSearchDocumentsUpdatedSince(eq(watermark), eq("post1"), eq(2)))
+                .thenReturn(List.of());
+
+        //when
+        postSearchService.sync();
+
+        //then
+        var hits = postSearchService.search("비자", PageRequest.of(0, 10));
+        assertThat(hits).isPresent();
+        assertThat(hits.get().postIds()).containsExactlyInAnyOrder("post1", "post2");
+        verify(postDomainRepository).findSearchDocumentsUpdatedSince(watermark.minus(properties.syncLag()), null, 2);
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 색인으로 처리하지 않는다")
+    void singleCharacterKeywordFallsBack() {
+        //given
+        when(postDomainRepository.findSearchDocumentsAfter(isNull(), eq(2))).thenReturn(List.of());
+        postSearchService.rebuild();
+
+        //when
+        var hits = postSearchService.search("비", PageRequest.of(0, 10));
+
+        //then
+        assertThat(hits).isEmpty();
+    }
+
+    private PostSearchDocument document(
+            String postId,
+            String title,
+            ContentStatus status
+    ) {
+        return document(postId, title, status, now);
+    }
+
+    private PostSearchDocument document(
+            String postId,
+            String title,
+            ContentStatus status,
+            LocalDateTime updatedAt
+    ) {
+        return new PostSearchDocument(postId, title, "내용", status, now, updatedAt);
+    }
+}
@@ -0,0 +1,100 @@
+package com.backend.immilog.post.application.services;
+
+import com.backend.immilog.post.application.dto.PostResult;
+import com.backend.immilog.post.domain.model.post.PopularityRanking;
+import com.backend.immilog.post.domain.repositories.PopularPostRepository;
+import com.backend.immilog.shared.config.properties.PopularityProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class PopularPostSnapshotServiceTest {
+    private final PostQueryService postQueryService = mock(PostQueryService.class);
+    private final PopularPostRepository popularPostRepository = mock(PopularPostRepository.class);
+    private final PopularityProperties properties = new PopularityProperties(
+            null, null, null, null, null, null, null, null, null, Duration.ofMinutes(5), null
+    );
+    private final PopularPostSnapshotService snapshotService = new PopularPostSnapshotService(
+            postQueryService,
+            popularPostRepository,
+            new ObjectMapper(),
+            properties
+    );
+
+    @Test
+    @DisplayName("버전이 바뀌지 않으면 Redis를 다시 읽지 않고 같은 바이트를 반환한다")
+    void servesSameBytesWhileVersionUnchanged() {
+        //given
+        when(popularPostRepository.getVersion()).thenReturn(3L);
+        when(postQueryService.getPostsFromRedis("hot_posts")).thenReturn(List.of());
+
+        //when
+        var first = snapshotService.getSnapshot(PopularityRanking.HOT, PopularityRanking.GLOBAL_SCOPE);
+        var second = snapshotService.getSnapshot(PopularityRanking.HOT, PopularityRanking.GLOBAL_SCOPE);
+
+        //then
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first.body(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"status\":200,\"message\":\"success\",\"data\":[]}");
+        verify(postQueryService, times(1)).getPostsFromRedis("hot_posts");
+    }
+
+    @Test
+    @DisplayName("새 버전이 발행되면 다음 요청에서 한 번만 다시 만든다")
+    void rebuildsOnceAfterVersionBump() {
+        //given
+        var post = mock(PostResult.class);
+        when(popularPostRepository.getVersion()).thenReturn(1L, 2L);
+        when(postQueryService.getPostsFromRedis("most_viewed_posts:KR")).thenReturn(List.of()).thenReturn(List.of(post));
+        var before = snapshotService.getSnapshot(PopularityRanking.MOST_VIEWED, "KR");
+
+        //when
+        snapshotService.onVersionPublished(2L);
+        var after = snapshotService.getSnapshot(PopularityRanking.MOST_VIEWED, "KR");
+        snapshotService.getSnapshot(PopularityRanking.MOST_VIEWED, "KR");
+
+        //then
+        assertThat(after.version()).isEqualTo(2L);
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        verify(postQueryService, times(2)).getPostsFromRedis("most_viewed_posts:KR");
+    }
+
+    @Test
+    @DisplayName("버전 조회에 실패하면 기존 스냅샷을 계속 사용한다")
+    void keepsCurrentSnapshotWhenVersionUnavailable() {
+        //given
+        when(popularPostRepository.getVersion()).thenReturn(1L).thenThrow(new RuntimeException("redis down"));
+        when(postQueryService.getPostsFromRedis("hot_posts")).thenReturn(List.of());
+        var before = snapshotService.getSnapshot(PopularityRanking.HOT, PopularityRanking.GLOBAL_SCOPE);
+        snapshotService.onVersionPublished(5L);
+
+        //when
+        var after = snapshotService.getSnapshot(PopularityRanking.HOT, PopularityRanking.GLOBAL_SCOPE);
+
+        //then
+        assertThat(after).isSameAs(before);
+        verify(postQueryService, times(1)).getPostsFromRedis("hot_posts");
+    }
+
+    @Test
+    @DisplayName("If-None-Match는 목록, 약한 ETag, *를 모두 인식한다")
+    void matchesIfNoneMatch() {
+        //given
+        when(postQueryService.getPostsFromRedis("hot_posts")).thenReturn(List.of());
+        var snapshot = snapshotService.getSnapshot(PopularityRanking.HOT, PopularityRanking.GLOBAL_SCOPE);
+
+        //when & then
+        assertThat(snapshot.matches(snapshot.etag())).isTrue();
+        assertThat(snapshot.matches("\"other\", W/" + snapshot.etag())).isTrue();
+        assertThat(snapshot.matches("*")).isTrue();
+        assertThat(snapshot.matches("\"other\"")).isFalse();
+        assertThat(snapshot.matches(null)).isFalse();
+    }
+}
@@ -0,0 +1,124 @@
+package com.backend.immilog.post.application.services;
+
+import com.backend.immilog.post.application.dto.PostResult;
+import com.backend.immilog.post.domain.model.post.Badge;
+import com.backend.immilog.post.domain.model.post.BadgeAssignment;
+import com.backend.immilog.post.domain.model.post.PostActivity;
+import com.backend.immilog.post.domain.repositories.PostDomainRepository;
+import com.backend.immilog.shared.config.properties.PopularityProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PostBadgeServiceTest {
+    private final PostDomainRepository postDomainRepository = mock(PostDomainRepository.class);
+    private final PopularityProperties properties = new PopularityProperties(
+            Duration.ofHours(12), Duration.ofDays(3), 1.0, 3.0, 2.0, 10, 2, 100, 1_000L, null, null
+    );
+    private final PostCacheService postCacheService = mock(PostCacheService.class);
+    private final PostBadgeService postBadgeService = new PostBadgeService(postDomainRepository, properties, postCacheService);
+
+    @Test
+    @DisplayName("인기 뱃지는 현재 상태를 한 번 조회해 차이만 한 번에 반영한다")
+    void updatePostBadgesAppliesDiffOnce() {
+        //given
+        var hotPost = mock(PostResult.class);
+        when(hotPost.postId()).thenReturn("hot");
+        var viewedPost = mock(PostResult.class);
+        when(viewedPost.postId()).thenReturn("viewed");
+        var current = new HashMap<String, Badge>();
+        current.put("hot", Badge.HOT);
+        current.put("viewed", null);
+        current.put("stale", Badge.HOT);
+        when(postDomainRepository.findBadges(Set.of(Badge.HOT, Badge.MOST_VIEWED), Set.of("hot", "viewed")))
+                .thenReturn(current);
+
+        //when
+        postBadgeService.updatePostBadges(List.of(hotPost), List.of(viewedPost, hotPost));
+
+        //then
+        var captor = ArgumentCaptor.forClass(BadgeAssignment.class);
+        verify(postDomainRepository, times(1)).findBadges(any(), any());
+        verify(postDomainRepository, times(1)).applyBadgeAssignment(captor.capture());
+        assertThat(captor.getValue().assignments()).containsOnly(Map.entry(Badge.MOST_VIEWED, List.of("viewed")));
+        assertThat(captor.getValue().clears()).containsExactly("stale");
+        verify(postCacheService).onBadgesChanged(Set.of("viewed", "stale"));
+    }
+
+    @Test
+    @DisplayName("바뀐 뱃지가 없으면 UPDATE를 실행하지 않는다")
+    void updatePostBadgesWithoutChanges() {
+        //given
+        var hotPost = mock(PostResult.class);
+        when(hotPost.postId()).thenReturn("hot");
+        when(postDomainRepository.findBadges(any(), any())).thenReturn(Map.of("hot", Badge.HOT));
+
+        //when
+        postBadgeService.updatePostBadges(List.of(hotPost), List.of());
+
+        //then
+        verify(postDomainRepository, never()).applyBadgeAssignment(any());
+        verify(postCacheService, never()).onBadgesChanged(any());
+    }
+
+    @Test
+    @DisplayName("주간 베스트는 조회수/댓글/좋아요 가중 합계 상위 게시물에 배정되고 다른 뱃지를 대체한다")
+    @SuppressWarnings("unchecked")
+    void updateWeeklyBestBadges() {
+        //given
+        doAnswer(invocation -> {
+            Consumer<PostActivity> consumer = invocation.getArgument(2);
+            consumer.accept(new PostActivity("views", 10, 0, 0));       // 10
+            consumer.accept(new PostActivity("comments", 0, 5, 0));     // 15
+            consumer.accept(new PostActivity("likes", 1, 0, 6));        // 13
+            consumer.accept(new PostActivity("idle", 0, 0, 0));         // 0
+            return null;
+        }).when(postDomainRepository).streamPostActivities(any(), any(), any());
+        var current = new HashMap<String, Badge>();
+        current.put("comments", Badge.HOT);
+        current.put("likes", null);
+        current.put("last-week", Badge.WEEKLY_BEST);
+        when(postDomainRepository.findBadges(Set.of(Badge.WEEKLY_BEST), Set.of("comments", "likes")))
+                .thenReturn(current);
+
+        //when
+        postBadgeService.updateWeeklyBestBadges();
+
+        //then
+        var captor = ArgumentCaptor.forClass(BadgeAssignment.class);
+        verify(postDomainRepository).applyBadgeAssignment(captor.capture());
+        assertThat(captor.getValue().assignments())
+                .containsOnly(Map.entry(Badge.WEEKLY_BEST, List.of("comments", "likes")));
+        assertThat(captor.getValue().clears()).containsExactly("last-week");
+    }
+
+    @Test
+    @DisplayName("주간 점수 스트림에서 상위 N개만 점수 내림차순으로 남긴다")
+    void weeklyBestKeepsTopN() {
+        //given
+        doAnswer(invocation -> {
+            Consumer<PostActivity> consumer = invocation.getArgument(2);
+            for (int i = 1; i <= 100; i++) {
+                consumer.accept(new PostActivity("post" + i, i, 0, 0));
+            }
+            return null;
+        }).when(postDomainRepository).streamPostActivities(any(), any(), any());
+
+        //when
+        var result = postBadgeService.getWeeklyBestPostIds(null, null);
+
+        //then
+        assertThat(result).containsExactly("post100", "post99");
+    }
+}
@@ -0,0 +1,126 @@
+package com.backend.immilog.post.application.services;
+
+import com.backend.immilog.post.domain.model.post.PopularityRanking;
+import com.backend.immilog.post.domain.repositories.PopularityRankingRepository;
+import com.backend.immilog.post.domain.repositories.PostDomainRepository;
+import com.backend.immilog.shared.config.properties.PopularityProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PostPopularityService 테스트")
+class PostPopularityServiceTest {
+    private final PopularityRankingRepository popularityRankingRepository = mock(PopularityRankingRepository.class);
+    private final PostDomainRepository postDomainRepository = mock(PostDomainRepository.class);
+    private final PopularityProperties properties = new PopularityProperties(
+            Duration.ofHours(12), Duration.ofDays(3), 0.5, 3.0, 2.0, 10, 10, 100, 1_000L, null, null
+    );
+    private final PostPopularityService postPopularityService = new PostPopularityService(
+            popularityRankingRepository,
+            postDomainRepository,
+            properties
+    );
+
+    @Test
+    @DisplayName("조회수는 두 순위 모두에, 전체와 게시물 국가 범위에 현재/다음 세대로 누적된다")
+    @SuppressWarnings("unchecked")
+    void recordViewsIncrementsGlobalAndCountryScopes() {
+        //given
+        when(postDomainRepository.findCountryIdsByPostIds(List.of("post1"))).thenReturn(Map.of("post1", "KR"));
+
+        //when
+        postPopularityService.recordViews(Map.of("post1", 4L));
+
+        //then
+        ArgumentCaptor<Map<String, Map<String, Double>>> captor = ArgumentCaptor.forClass(Map.class);
+        ArgumentCaptor<Long> generations = ArgumentCaptor.forClass(Long.class);
+        verify(popularityRankingRepository, times(2))
+                .incrementScores(eq(PopularityRanking.MOST_VIEWED), generations.capture(), captor.capture(), any());
+        verify(popularityRankingRepository, times(2))
+                .incrementScores(eq(PopularityRanking.HOT), anyLong(), anyMap(), any());
+
+        var current = captor.getAllValues().get(0);
+        var next = captor.getAllValues().get(1);
+        assertThat(generations.getAllValues().get(1)).isEqualTo(generations.getAllValues().get(0) + 1);
+        assertThat(current).containsOnlyKeys(PopularityRanking.GLOBAL_SCOPE, "KR");
+        assertThat(current.get("KR").get("post1")).isEqualTo(current.get(PopularityRanking.GLOBAL_SCOPE).get("post1"));
+        // 다음 세대의 기준시각은 반감기 16배 뒤이므로 같은 이벤트가 2^-16 배율로 기록됨
+        assertThat(next.get("KR").get("post1") / current.get("KR").get("post1"))
+                .isCloseTo(Math.pow(2, -PostPopularityService.GENERATION_HALF_LIVES), within(1e-9));
+    }
+
+    @Test
+    @DisplayName("나중에 발생한 같은 크기의 활동일수록 더 큰 점수가 더해진다")
+    @SuppressWarnings("unchecked")
+    void laterActivityWeighsMore() throws InterruptedException {
+        //given
+        var shortHalfLife = new PopularityProperties(Duration.ofMillis(50), Duration.ofMillis(50), 1.0, 1.0, 1.0, 10, 10, 100, 1_000L, null, null);
+        var service = new PostPopularityService(popularityRankingRepository, postDomainRepository, shortHalfLife);
+        when(postDomainRepository.findCountryIdsByPostIds(anyList())).thenReturn(Map.of());
+        ArgumentCaptor<Map<String, Map<String, Double>>> captor = ArgumentCaptor.forClass(Map.class);
+
+        //when
+        service.recordLikes(Map.of("post1", 1L));
+        Thread.sleep(60);
+        service.recordLikes(Map.of("post1", 1L));
+
+        //then
+        verify(popularityRankingRepository, times(4))
+                .incrementScores(eq(PopularityRanking.HOT), anyLong(), captor.capture(), any());
+        double first = captor.getAllValues().get(0).get(PopularityRanking.GLOBAL_SCOPE).get("post1");
+        double second = captor.getAllValues().get(2).get(PopularityRanking.GLOBAL_SCOPE).get("post1");
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    @DisplayName("댓글은 HOT 순위에만 반영되고, 국가는 한 번 조회하면 캐시된다")
+    void recordCommentsOnlyHotAndCachesCountry() {
+        //given
+        when(postDomainRepository.findCountryIdsByPostIds(List.of("post1"))).thenReturn(Map.of("post1", "JP"));
+
+        //when
+        postPopularityService.recordComments(Map.of("post1", 1L));
+        postPopularityService.recordComments(Map.of("post1", 2L));
+
+        //then
+        verify(postDomainRepository, times(1)).findCountryIdsByPostIds(anyList());
+        verify(popularityRankingRepository, times(4)).incrementScores(eq(PopularityRanking.HOT), anyLong(), anyMap(), any());
+        verify(popularityRankingRepository, never()).incrementScores(eq(PopularityRanking.MOST_VIEWED), anyLong(), anyMap(), any());
+    }
+
+    @Test
+    @DisplayName("순위 저장소 오류는 호출 측으로 전파되지 않는다")
+    void recordFailureIsSwallowed() {
+        //given
+        when(postDomainRepository.findCountryIdsByPostIds(anyList())).thenThrow(new RuntimeException("db down"));
+
+        //when & then
+        postPopularityService.recordViews(Map.of("post1", 1L));
+        verifyNoInteractions(popularityRankingRepository);
+    }
+
+    @Test
+    @DisplayName("정리는 기록된 모든 범위와 전체 범위를 maxEntries로 자른다")
+    void trimAllScopes() {
+        //given
+        when(popularityRankingRepository.findScopes(any())).thenReturn(Set.of("KR"));
+
+        //when
+        postPopularityService.trim();
+
+        //then
+        verify(popularityRankingRepository, times(2)).trim(eq(PopularityRanking.HOT), eq("KR"), anyLong(), eq(100));
+        verify(popularityRankingRepository, times(2)).trim(eq(PopularityRanking.HOT), eq(PopularityRanking.GLOBAL_SCOPE), anyLong(), eq(100));
+        verify(popularityRankingRepository, times(4)).trim(eq(PopularityRanking.MOST_VIEWED), anyString(), anyLong(), eq(100));
+    }
+}
@@ -0,0 +1,201 @@
+package com.backend.immilog.post.application.services;
+
+import com.backend.immilog.post.application.dto.InteractionView;
+import com.backend.immilog.post.application.dto.PostResult;
+import com.backend.immilog.post.application.enrichment.PostEnrichment;
+import com.backend.immilog.post.application.enrichment.PostEnrichmentService;
+import com.backend.immilog.post.application.feed.PostFeedViewService;
+import com.backend.immilog.post.application.mapper.PostResultAssembler;
+import com.backend.immilog.post.application.search.PostSearchService;
+import com.backend.immilog.post.application.search.SearchHits;
+import com.backend.immilog.post.domain.model.post.Categories;
+import com.backend.immilog.post.domain.model.post.CursorSlice;
+import com.backend.immilog.post.domain.model.post.Post;
+import com.backend.immilog.post.domain.model.post.PostCursor;
+import com.backend.immilog.post.domain.model.post.PostInfo;
+import com.backend.immilog.post.domain.model.post.PostUserInfo;
+import com.backend.immilog.post.domain.model.post.SortingMethods;
+import com.backend.immilog.post.domain.model.resource.ContentResource;
+import com.backend.immilog.post.domain.model.resource.ResourceType;
+import com.backend.immilog.post.domain.repositories.PostDomainRepository;
+import com.backend.immilog.shared.domain.model.InteractionData;
+import com.backend.immilog.shared.enums.ContentStatus;
+import com.backend.immilog.shared.enums.ContentType;
+import com.backend.immilog.shared.infrastructure.DataRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PostQueryServiceTest {
+    private final PostDomainRepository postDomainRepository = mock(PostDomainRepository.class);
+    private final PostEnrichmentService postEnrichmentService = mock(PostEnrichmentService.class);
+    private final PostFeedViewService postFeedViewService = mock(PostFeedViewService.class);
+    private final PostSearchService postSearchService = mock(PostSearchService.class);
+    private final PostQueryService postQueryService = new PostQueryService(
+            new ObjectMapper(),
+            postDomainRepository,
+            mock(DataRepository.class),
+            new PostResultAssembler(),
+            postEnrichmentService,
+            postSearchService,
+            postFeedViewService
+    );
+
+    private final PageRequest pageable = PageRequest.of(0, 10);
+
+    @BeforeEach
+    void setUp() {
+        when(postEnrichmentService.enrich(anyList(), eq(ContentType.POST), any())).thenReturn(new PostEnrichment(
+                List.of(new InteractionData("i1", "post1", "user2", "ACTIVE", "LIKE", "POST")),
+                List.of(
+                        new ContentResource("r1", "post1", ContentType.POST, ResourceType.TAG, "tag1"),
+                        new ContentResource("r2", "post1", ContentType.POST, ResourceType.TAG, "tag2"),
+                        new ContentResource("r3", "post1", ContentType.POST, ResourceType.ATTACHMENT, "image1"),
+                        new ContentResource("r4", "post1", ContentType.POST, ResourceType.ATTACHMENT, "image2")
+                ),
+                Map.of("post1", 3L)
+        ));
+        // 투영 행은 대표 이미지 1개와 사용자 목록 없이 내려옴
+        when(postFeedViewService.getFeed(any(), any(), any(), any(), any()))
+                .thenReturn(new PageImpl<>(List.of(projectionRow()), pageable, 1));
+        when(postFeedViewService.getFeedAfter(any(), any(), any(), any(), any(), anyInt(), anyBoolean()))
+                .thenReturn(new CursorSlice<>(List.of(projectionRow()), null, null));
+    }
+
+    @Test
+    @DisplayName("오프셋 피드는 투영을 읽을 수 있어도 원본에서 조립한 FULL 결과와 같다")
+    void fullFeedIgnoresProjection() {
+        //given
+        when(postDomainRepository.findPosts("KR", SortingMethods.CREATED_DATE, "Y", Categories.ALL, pageable))
+                .thenReturn(new PageImpl<>(List.of(post()), pageable, 1));
+
+        //when
+        when(postFeedViewService.isReadable()).thenReturn(false);
+        var withoutProjection = postQueryService.getPosts("KR", SortingMethods.CREATED_DATE, "Y", Categories.ALL, pageable);
+        when(postFeedViewService.isReadable()).thenReturn(true);
+        var withProjection = postQueryService.getPosts("KR", SortingMethods.CREATED_DATE, "Y", Categories.ALL, pageable);
+
+        //then
+        assertThat(withProjection.getContent()).isEqualTo(withoutProjection.getContent());
+        assertThat(withProjection.getTotalElements()).isEqualTo(withoutProjection.getTotalElements());
+        var postResult = withProjection.getContent().getFirst();
+        assertThat(postResult.likeUsers()).containsExactly("user2");
+        assertThat(postResult.tags()).containsExactly("tag1", "tag2");
+        assertThat(postResult.attachments()).containsExactly("image1", "image2");
+        verify(postFeedViewService, never()).getFeed(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("FULL 커서 피드는 투영을 읽을 수 있어도 원본에서 조립한 결과와 같다")
+    void fullCursorFeedIgnoresProjection() {
+        //given
+        when(postDomainRepository.findPostsAfter("KR", SortingMethods.CREATED_DATE, "Y", Categories.ALL, null, 10, false))
+                .thenReturn(new CursorSlice<>(List.of(post()), null, null));
+
+        //when
+        when(postFeedViewService.isReadable()).thenReturn(false);
+        var withoutProjection = postQueryService.getPostsAfter(
+                "KR", SortingMethods.CREATED_DATE, "Y", Categories.ALL, null, 10, false, InteractionView.FULL);
+        when(postFeedViewService.isReadable()).thenReturn(true);
+        var withProjection = postQueryService.getPostsAfter(
+                "KR", SortingMethods.CREATED_DATE, "Y", Categories.ALL, null, 10, false, InteractionView.FULL);
+
+        //then
+        assertThat(withProjection).isEqualTo(withoutProjection);
+        assertThat(withProjection.content().getFirst().likeUsers()).containsExactly("user2");
+        assertThat(withProjection.content().getFirst().attachments()).containsExactly("image1", "image2");
+        verify(postFeedViewService, never()).getFeedAfter(any(), any(), any(), any(), any(), anyInt(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("SUMMARY 커서 피드는 투영을 읽을 수 있으면 투영에서 읽는다")
+    void summaryCursorFeedReadsProjection() {
+        //given
+        when(postFeedViewService.isReadable()).thenReturn(true);
+
+        //when
+        var result = postQueryService.getPostsAfter(
+                "KR", SortingMethods.CREATED_DATE, "Y", Categories.ALL, null, 10, false, InteractionView.SUMMARY);
+
+        //then
+        assertThat(result.content()).containsExactly(projectionRow());
+        verify(postDomainRepository, never()).findPostsAfter(any(), any(), any(), any(), any(), anyInt(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("키워드 커서 피드는 색인에서 size + 1건을 얻어 ID로 읽고 마지막 게시물로 다음 커서를 만든다")
+    void keywordCursorFeedReadsSearchIndex() {
+        //given
+        var cursor = new PostCursor(SortingMethods.CREATED_DATE, "2024-01-02T00:00", "post9");
+        when(postSearchService.searchAfter("비자", LocalDateTime.of(2024, 1, 2, 0, 0), "post9", 2))
+                .thenReturn(Optional.of(new SearchHits(List.of("post1", "post2"), 5)));
+        when(postDomainRepository.findPostsByIdList(List.of("post1"))).thenReturn(List.of(post()));
+
+        //when
+        var result = postQueryService.getPostsByKeywordAfter("비자", cursor, 1, InteractionView.FULL);
+
+        //then
+        assertThat(result.content()).extracting(PostResult::postId).containsExactly("post1");
+        assertThat(result.nextCursor()).isEqualTo(new PostCursor(SortingMethods.CREATED_DATE, "2024-01-01T00:00", "post1"));
+        verify(postDomainRepository, never()).findPostsByKeywordAfter(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("색인을 쓸 수 없으면 키워드 커서 피드는 DB 검색으로 대체한다")
+    void keywordCursorFeedFallsBackToDatabase() {
+        //given
+        when(postSearchService.searchAfter(any(), any(), any(), anyInt())).thenReturn(Optional.empty());
+        when(postDomainRepository.findPostsByKeywordAfter("비자", null, 10))
+                .thenReturn(new CursorSlice<>(List.of(post()), null, null));
+
+        //when
+        var result = postQueryService.getPostsByKeywordAfter("비자", null, 10, InteractionView.FULL);
+
+        //then
+        assertThat(result.content()).extracting(PostResult::postId).containsExactly("post1");
+        verify(postDomainRepository).findPostsByKeywordAfter("비자", null, 10);
+    }
+
+    private static Post post() {
+        var createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        return new Post(
+                "post1",
+                new PostUserInfo("user1", "nick", "profile"),
+                new PostInfo("title", "content", 10L, "Seoul", ContentStatus.NORMAL, "KR"),
+                Categories.COMMUNICATION,
+                "Y",
+                null,
+                3L,
+                1L,
+                0L,
+                createdAt,
+                createdAt
+        );
+    }
+
+    private static PostResult projectionRow() {
+        var createdAt = LocalDateTime.of(2024, 1, 1, 0, 0).toString();
+        return new PostResult(
+                "post1", "user1", "profile", "nick", 3L, 10L, 1L, 0L,
+                List.of("tag1"), List.of("image1"), List.of(), List.of(), null, null,
+                "Y", "KR", "Seoul", Categories.COMMUNICATION, ContentStatus.NORMAL,
+                createdAt, createdAt, "title", "content", null
+        );
+    }
+}
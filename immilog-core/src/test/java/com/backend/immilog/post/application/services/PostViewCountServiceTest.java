@@ -0,0 +1,183 @@
+package com.backend.immilog.post.application.services;
+
+import com.backend.immilog.post.application.feed.PostFeedViewService;
+import com.backend.immilog.post.domain.repositories.PostDomainRepository;
+import com.backend.immilog.post.exception.PostErrorCode;
+import com.backend.immilog.post.exception.PostException;
+import com.backend.immilog.shared.config.properties.PostViewCountProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class PostViewCountServiceTest {
+    private final PostDomainRepository postDomainRepository = mock(PostDomainRepository.class);
+    private final PostPopularityService postPopularityService = mock(PostPopularityService.class);
+    private final PostFeedViewService postFeedViewService = mock(PostFeedViewService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PostViewCountService postViewCountService = new PostViewCountService(
+            postDomainRepository,
+            postPopularityService,
+            postFeedViewService,
+            new PostViewCountProperties(null, 2, null, null),
+            meterRegistry
+    );
+
+    @BeforeEach
+    void setUp() {
+        when(postDomainRepository.existsById(anyString())).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("조회수는 게시물별로 합산되어 한 번에 반영된다")
+    void flushCoalescesPerPost() {
+        //given
+        postViewCountService.increaseViewCount("post1");
+        postViewCountService.increaseViewCount("post1");
+        postViewCountService.increaseViewCount("post1");
+        postViewCountService.increaseViewCount("post2");
+
+        //when
+        postViewCountService.flush();
+
+        //then
+        verify(postDomainRepository, times(1)).increaseViewCounts(Map.of("post1", 3L, "post2", 1L));
+        verify(postPopularityService).recordViews(Map.of("post1", 3L, "post2", 1L));
+        verify(postFeedViewService).increaseViewCounts(Map.of("post1", 3L, "post2", 1L));
+        assertThat(postViewCountService.pendingPostCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("누적된 조회수가 없으면 DB에 반영하지 않는다")
+    void flushWithoutPendingViews() {
+        //when
+        postViewCountService.flush();
+
+        //then
+        verifyNoInteractions(postDomainRepository);
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 증가분을 버퍼에 되돌려 다음 주기에 재시도한다")
+    void flushFailureRebuffers() {
+        //given
+        postViewCountService.increaseViewCount("post1");
+        doThrow(new RuntimeException("db down")).doNothing()
+                .when(postDomainRepository).increaseViewCounts(anyMap());
+
+        //when
+        postViewCountService.flush();
+        postViewCountService.increaseViewCount("post1");
+        postViewCountService.flush();
+
+        //then
+        verify(postDomainRepository).increaseViewCounts(Map.of("post1", 1L));
+        verify(postDomainRepository).increaseViewCounts(Map.of("post1", 2L));
+        // 실패한 주기의 증가분은 인기 점수에 반영되지 않고, 재시도에서 합산되어 한 번만 반영됨
+        verify(postPopularityService, times(1)).recordViews(anyMap());
+        verify(postPopularityService).recordViews(Map.of("post1", 2L));
+    }
+
+    @Test
+    @DisplayName("동시에 증가시켜도 조회수가 유실되지 않는다")
+    void concurrentIncrements() throws InterruptedException {
+        //given
+        int threads = 16;
+        int viewsPerThread = 1_000;
+        var latch = new CountDownLatch(threads);
+
+        //when
+        try (var executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < threads; i++) {
+                executor.submit(() -> {
+                    for (int j = 0; j < viewsPerThread; j++) {
+                        postViewCountService.increaseViewCount("hot");
+                    }
+                    latch.countDown();
+                });
+            }
+            latch.await();
+        }
+        postViewCountService.flush();
+
+        //then
+        verify(postDomainRepository).increaseViewCounts(Map.of("hot", (long) threads * viewsPerThread));
+    }
+
+    @Test
+    @DisplayName("없는 게시물의 조회수는 404로 거부하고 버퍼에 담지 않는다")
+    void unknownPostIsRejected() {
+        //given
+        when(postDomainRepository.existsById("missing")).thenReturn(false);
+
+        //when & then
+        assertThatThrownBy(() -> postViewCountService.increaseViewCount("missing"))
+                .isInstanceOf(PostException.class)
+                .extracting(e -> ((PostException) e).getErrorCode())
+                .isEqualTo(PostErrorCode.POST_NOT_FOUND);
+        assertThat(postViewCountService.pendingPostCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("존재를 확인한 게시물은 다시 DB에서 확인하지 않는다")
+    void knownPostIsCheckedOnce() {
+        //when
+        postViewCountService.increaseViewCount("post1");
+        postViewCountService.increaseViewCount("post1");
+        postViewCountService.increaseViewCount("post1");
+
+        //then
+        verify(postDomainRepository, times(1)).existsById("post1");
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 새 게시물의 조회수는 버리고 dropped 카운터에 기록하며, 이미 담긴 게시물은 계속 합산한다")
+    void fullBufferDropsNewPosts() {
+        //when
+        postViewCountService.increaseViewCount("post1");
+        postViewCountService.increaseViewCount("post2");
+        postViewCountService.increaseViewCount("post3");
+        postViewCountService.increaseViewCount("post1");
+        postViewCountService.flush();
+
+        //then
+        verify(postDomainRepository).increaseViewCounts(Map.of("post1", 2L, "post2", 1L));
+        assertThat(dropped("buffer_full")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("반영 실패 후 되돌릴 자리가 없으면 증가분을 버리고 dropped 카운터에 기록한다")
+    void failedFlushDropsWhenBufferIsFull() {
+        //given
+        postViewCountService.increaseViewCount("post1");
+        postViewCountService.increaseViewCount("post1");
+        // 반영하는 동안 다른 게시물 조회가 버퍼를 채운 뒤 반영이 실패
+        doAnswer(invocation -> {
+            postViewCountService.increaseViewCount("post2");
+            postViewCountService.increaseViewCount("post3");
+            throw new RuntimeException("db down");
+        }).when(postDomainRepository).increaseViewCounts(anyMap());
+
+        //when
+        postViewCountService.flush();
+
+        //then
+        assertThat(postViewCountService.pendingPostCount()).isEqualTo(2);
+        assertThat(dropped("flush_failed")).isEqualTo(2.0);
+        verifyNoInteractions(postPopularityService);
+    }
+
+    private double dropped(String reason) {
+        return meterRegistry.get("immilog.post.views.dropped").tag("reason", reason).counter().count();
+    }
+}
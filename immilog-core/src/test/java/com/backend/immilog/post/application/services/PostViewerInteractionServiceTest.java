@@ -0,0 +1,68 @@
+package com.backend.immilog.post.application.services;
+
+import com.backend.immilog.post.application.dto.PostResult;
+import com.backend.immilog.post.application.enrichment.InteractionDataTransport;
+import com.backend.immilog.post.domain.model.post.Categories;
+import com.backend.immilog.shared.domain.model.InteractionData;
+import com.backend.immilog.shared.enums.ContentStatus;
+import com.backend.immilog.shared.enums.ContentType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PostViewerInteractionServiceTest {
+    private final InteractionDataTransport interactionDataTransport = mock(InteractionDataTransport.class);
+    private final PostViewerInteractionService postViewerInteractionService =
+            new PostViewerInteractionService(interactionDataTransport);
+
+    @Test
+    @DisplayName("조회자의 인터랙션을 한 번 조회해 여부를 채우고 사용자 목록은 비운다")
+    void appliesViewerFlagsWithSingleLookup() {
+        //given
+        var posts = List.of(postResult("post1"), postResult("post2"), postResult("post1"));
+        when(interactionDataTransport.fetchViewerInteractions("viewer", List.of("post1", "post2"), ContentType.POST))
+                .thenReturn(List.of(
+                        new InteractionData("i1", "post1", "viewer", "ACTIVE", "LIKE", "POST"),
+                        new InteractionData("i2", "post2", "viewer", "ACTIVE", "BOOKMARK", "POST")
+                ));
+
+        //when
+        var result = postViewerInteractionService.apply(posts, "viewer");
+
+        //then
+        assertThat(result).extracting(PostResult::likedByMe).containsExactly(true, false, true);
+        assertThat(result).extracting(PostResult::bookmarkedByMe).containsExactly(false, true, false);
+        assertThat(result).extracting(PostResult::likeUsers).containsOnlyNulls();
+        assertThat(result).extracting(PostResult::bookmarkUsers).containsOnlyNulls();
+        assertThat(result.getFirst().likeCount()).isEqualTo(5L);
+        verify(interactionDataTransport, times(1)).fetchViewerInteractions(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("조회 실패 시 여부를 false로 채운다")
+    void fallsBackToFalseWhenLookupFails() {
+        //given
+        when(interactionDataTransport.fetchViewerInteractions(any(), any(), any())).thenThrow(new RuntimeException("timeout"));
+
+        //when
+        var result = postViewerInteractionService.apply(List.of(postResult("post1")), "viewer");
+
+        //then
+        assertThat(result.getFirst().likedByMe()).isFalse();
+        assertThat(result.getFirst().bookmarkedByMe()).isFalse();
+    }
+
+    private static PostResult postResult(String postId) {
+        return new PostResult(
+                postId, "writer", null, "nickname", 0L, 3L, 5L, 1L,
+                List.of(), List.of(), List.of("user1"), List.of("user2"), null, null,
+                "Y", "KR", "Seoul", Categories.COMMUNICATION, ContentStatus.NORMAL,
+                "2024-01-01T00:00", "2024-01-01T00:00", "title", "content", null
+        );
+    }
+}
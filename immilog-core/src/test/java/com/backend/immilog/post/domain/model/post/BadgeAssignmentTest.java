@@ -0,0 +1,60 @@
+package com.backend.immilog.post.domain.model.post;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BadgeAssignmentTest {
+    private static final Set<Badge> POPULAR = EnumSet.of(Badge.HOT, Badge.MOST_VIEWED);
+
+    @Test
+    @DisplayName("뱃지가 없거나 다른 관리 뱃지를 가진 대상만 배정하고, 목표에서 빠진 보유 게시물은 뱃지를 뗀다")
+    void diffAssignsAndClears() {
+        //given
+        var targets = Map.of(
+                "new", Badge.HOT,
+                "same", Badge.HOT,
+                "switch", Badge.MOST_VIEWED
+        );
+        var current = new HashMap<String, Badge>();
+        current.put("new", null);
+        current.put("same", Badge.HOT);
+        current.put("switch", Badge.HOT);
+        current.put("stale", Badge.MOST_VIEWED);
+
+        //when
+        var assignment = BadgeAssignment.diff(targets, current, POPULAR, POPULAR);
+
+        //then
+        assertThat(assignment.assignments()).containsOnly(
+                Map.entry(Badge.HOT, List.of("new")),
+                Map.entry(Badge.MOST_VIEWED, List.of("switch"))
+        );
+        assertThat(assignment.clears()).containsExactly("stale");
+    }
+
+    @Test
+    @DisplayName("교체할 수 없는 뱃지를 가진 게시물과 존재하지 않는 게시물은 건드리지 않는다")
+    void diffKeepsProtectedBadges() {
+        //given
+        var targets = Map.of(
+                "weekly", Badge.HOT,
+                "missing", Badge.HOT
+        );
+        var current = new HashMap<String, Badge>();
+        current.put("weekly", Badge.WEEKLY_BEST);
+
+        //when
+        var assignment = BadgeAssignment.diff(targets, current, POPULAR, POPULAR);
+
+        //then
+        assertThat(assignment.isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,77 @@
+package com.backend.immilog.post.domain.model.post;
+
+import com.backend.immilog.post.exception.PostErrorCode;
+import com.backend.immilog.post.exception.PostException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostCursorTest {
+
+    @Test
+    @DisplayName("커서를 인코딩한 뒤 디코딩하면 같은 값이 복원된다")
+    void encodeAndDecode() {
+        //given
+        var createdAt = LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_456_000);
+        var cursor = new PostCursor(SortingMethods.CREATED_DATE, createdAt.toString(), "post_-1A");
+
+        //when
+        var decoded = PostCursor.decode(cursor.encode());
+
+        //then
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.sortKey()).isEqualTo(createdAt);
+    }
+
+    @Test
+    @DisplayName("카운트 정렬 커서의 정렬 키는 Long으로 바인딩된다")
+    void countSortKeyIsLong() {
+        //given
+        var cursor = new PostCursor(SortingMethods.VIEW_COUNT, "42", "post1");
+
+        //when
+        var sortKey = PostCursor.decode(cursor.encode()).sortKey();
+
+        //then
+        assertThat(sortKey).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("빈 커서는 첫 페이지 요청으로 null을 반환한다")
+    void blankCursorIsFirstPage() {
+        assertThat(PostCursor.decode(null)).isNull();
+        assertThat(PostCursor.decode("")).isNull();
+    }
+
+    @Test
+    @DisplayName("변조된 커서는 INVALID_CURSOR 예외가 발생한다")
+    void invalidCursor() {
+        //given
+        var malformed = Base64.getUrlEncoder().encodeToString("VIEW_COUNT|abc|post1".getBytes(StandardCharsets.UTF_8));
+
+        //when & then
+        assertThatThrownBy(() -> PostCursor.decode(malformed))
+                .isInstanceOf(PostException.class)
+                .extracting("errorCode")
+                .isEqualTo(PostErrorCode.INVALID_CURSOR);
+        assertThatThrownBy(() -> PostCursor.decode("not base64!"))
+                .isInstanceOf(PostException.class);
+    }
+
+    @Test
+    @DisplayName("정렬 방식이 다른 커서는 사용할 수 없다")
+    void sortingMethodMismatch() {
+        //given
+        var cursor = new PostCursor(SortingMethods.CREATED_DATE, LocalDateTime.now().toString(), "post1");
+
+        //when & then
+        assertThatThrownBy(() -> cursor.validateSortingMethod(SortingMethods.VIEW_COUNT))
+                .isInstanceOf(PostException.class);
+    }
+}
@@ -0,0 +1,168 @@
+package com.backend.immilog.post.infrastructure.jdbc;
+
+import com.backend.immilog.post.domain.model.post.Categories;
+import com.backend.immilog.post.domain.model.post.Post;
+import com.backend.immilog.post.domain.model.post.PostCursor;
+import com.backend.immilog.post.domain.model.post.SortingMethods;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MySQL에서 키셋 조건과 ORDER BY가 같은 순서를 만드는지 확인 (Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("PostJdbcRepository 키셋 페이지네이션 테스트")
+class PostJdbcRepositoryKeysetTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static JdbcTemplate jdbcTemplate;
+    private static PostJdbcRepository postJdbcRepository;
+
+    private final LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @BeforeAll
+    static void setUpSchema() {
+        var dataSource = new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        postJdbcRepository = new PostJdbcRepository(JdbcClient.create(dataSource), jdbcTemplate);
+        jdbcTemplate.execute("""
+                CREATE TABLE user (
+                    user_id VARCHAR(64) PRIMARY KEY,
+                    nickname VARCHAR(64),
+                    image_url VARCHAR(255)
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE post (
+                    post_id VARCHAR(64) PRIMARY KEY,
+                    user_id VARCHAR(64),
+                    title VARCHAR(255),
+                    content TEXT,
+                    view_count BIGINT NOT NULL DEFAULT 0,
+                    region VARCHAR(64),
+                    status VARCHAR(32),
+                    country_id VARCHAR(16),
+                    category VARCHAR(32),
+                    is_public VARCHAR(1),
+                    badge VARCHAR(32),
+                    comment_count BIGINT NOT NULL DEFAULT 0,
+                    like_count BIGINT NOT NULL DEFAULT 0,
+                    bookmark_count BIGINT NOT NULL DEFAULT 0,
+                    created_at DATETIME(6) NOT NULL,
+                    updated_at DATETIME(6),
+                    INDEX idx_post_feed_likes (country_id, is_public, like_count, post_id)
+                )
+                """);
+    }
+
+    @BeforeEach
+    void clear() {
+        jdbcTemplate.update("DELETE FROM post");
+    }
+
+    @Test
+    @DisplayName("정렬 값이 같은 게시물은 post_id로 이어서 읽어 누락/중복이 없다")
+    void keysetBreaksTiesByPostId() {
+        //given
+        for (int i = 1; i <= 5; i++) {
+            insertPost("post" + i, createdAt, 0L);
+        }
+        insertPost("post6", createdAt.plusMinutes(1), 0L);
+
+        //when
+        var postIds = readAll(SortingMethods.CREATED_DATE, 2);
+
+        //then
+        assertThat(postIds).containsExactly("post6", "post5", "post4", "post3", "post2", "post1");
+    }
+
+    @Test
+    @DisplayName("카운터 정렬은 같은 값 사이를 post_id로 이어서 읽고, 값을 넣지 않은 카운터는 기본값 0으로 정렬된다")
+    void keysetOrdersCountersWithDefaults() {
+        //given
+        insertPost("post1", createdAt, 3L);
+        insertPost("post2", createdAt, 0L);
+        insertPostWithoutCounters("post3");
+        insertPost("post4", createdAt, 0L);
+        insertPost("post5", createdAt, 1L);
+
+        //when
+        var postIds = readAll(SortingMethods.LIKE_COUNT, 2);
+
+        //then
+        assertThat(postIds).containsExactly("post1", "post5", "post4", "post3", "post2");
+    }
+
+    @Test
+    @DisplayName("NULL 허용으로 남은 카운터 컬럼은 NULL을 0으로 채우고 NOT NULL DEFAULT 0으로 바꾼다")
+    void initializerConvertsNullableCounters() {
+        //given
+        jdbcTemplate.execute("ALTER TABLE post MODIFY like_count BIGINT NULL");
+        insertPost("post1", createdAt, null);
+
+        //when
+        new PostCounterColumnInitializer(jdbcTemplate).migrateNullableCounters();
+
+        //then
+        var likeCount = jdbcTemplate.queryForObject("SELECT like_count FROM post WHERE post_id = 'post1'", Long.class);
+        var nullable = jdbcTemplate.queryForObject("""
+                SELECT is_nullable FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'post' AND column_name = 'like_count'
+                """, String.class);
+        assertThat(likeCount).isZero();
+        assertThat(nullable).isEqualTo("NO");
+    }
+
+    private List<String> readAll(
+            SortingMethods sortingMethod,
+            int size
+    ) {
+        List<String> postIds = new ArrayList<>();
+        PostCursor cursor = null;
+        do {
+            var slice = postJdbcRepository.getPostsAfter("KR", sortingMethod, "Y", Categories.ALL, cursor, size, false);
+            slice.content().stream().map(Post::id).forEach(postIds::add);
+            // 커서를 문자열로 주고받는 실제 경로와 같게 인코딩 후 다시 해석
+            cursor = slice.hasNext() ? PostCursor.decode(slice.nextCursor().encode()) : null;
+        } while (cursor != null);
+        return postIds;
+    }
+
+    private void insertPostWithoutCounters(String postId) {
+        jdbcTemplate.update("""
+                        INSERT INTO post (post_id, user_id, title, content, region, status, country_id,
+                                          category, is_public, created_at, updated_at)
+                        VALUES (?, 'user1', 'title', 'content', 'Seoul', 'NORMAL', 'KR', 'COMMUNICATION', 'Y', ?, ?)
+                        """,
+                postId, createdAt, createdAt);
+    }
+
+    private void insertPost(
+            String postId,
+            LocalDateTime postCreatedAt,
+            Long likeCount
+    ) {
+        jdbcTemplate.update("""
+                        INSERT INTO post (post_id, user_id, title, content, view_count, region, status, country_id,
+                                          category, is_public, comment_count, like_count, bookmark_count, created_at, updated_at)
+                        VALUES (?, 'user1', 'title', 'content', 0, 'Seoul', 'NORMAL', 'KR', 'COMMUNICATION', 'Y', 0, ?, 0, ?, ?)
+                        """,
+                postId, likeCount, postCreatedAt, postCreatedAt);
+    }
+}
@@ -0,0 +1,116 @@
+package com.backend.immilog.shared.infrastructure.cache;
+
+import com.backend.immilog.shared.config.properties.PostCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TwoLevelCacheManager 테스트")
+class TwoLevelCacheManagerTest {
+    private final ConcurrentMapCacheManager remoteCacheManager = new ConcurrentMapCacheManager();
+    private final PostCacheProperties properties = new PostCacheProperties(null, null, null, null, null, null, null);
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(
+            remoteCacheManager,
+            properties,
+            redisTemplate,
+            meterRegistry
+    );
+
+    @Test
+    @DisplayName("로컬과 원격에 모두 없을 때만 로더를 실행하고, 원격에만 있으면 로컬로 가져온다")
+    void loadsThroughBothLevels() {
+        //given
+        var cache = cacheManager.getCache("postDetail");
+        var loads = new AtomicInteger();
+
+        //when
+        var first = cache.get("post1", () -> "value-" + loads.incrementAndGet());
+        var second = cache.get("post1", () -> "value-" + loads.incrementAndGet());
+        remoteCacheManager.getCache("postDetail").put("post2", "remote");
+        var fromRemote = cache.get("post2", () -> "loaded");
+
+        //then
+        assertThat(first).isEqualTo("value-1");
+        assertThat(second).isEqualTo("value-1");
+        assertThat(loads).hasValue(1);
+        assertThat(fromRemote).isEqualTo("remote");
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "postDetail").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("immilog.cache.remote.gets").tag("result", "hit").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("삭제하면 원격과 로컬을 지우고 다른 노드에 무효화 메시지를 보낸다")
+    void evictPublishesInvalidation() {
+        //given
+        var cache = cacheManager.getCache("postDetail");
+        cache.put("post1", "value");
+
+        //when
+        cache.evict("post1");
+
+        //then
+        assertThat(remoteCacheManager.getCache("postDetail").get("post1")).isNull();
+        assertThat(cache.get("post1")).isNull();
+        verify(redisTemplate).convertAndSend(
+                eq(properties.invalidationChannel()),
+                eq(CacheInvalidation.evict(cacheManager.nodeId(), "postDetail", "post1").encode())
+        );
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지는 로컬 캐시만 지우고, 자기 메시지는 무시한다")
+    void onMessageInvalidatesLocalOnly() {
+        //given
+        var cache = cacheManager.getCache("postFeed");
+        cache.put("page0", "value");
+        cache.put("page1", "value");
+
+        //when
+        cacheManager.onMessage(message(CacheInvalidation.evict(cacheManager.nodeId(), "postFeed", "page0")), null);
+        var afterOwnMessage = ((Cache<?, ?>) cache.getNativeCache()).estimatedSize();
+        cacheManager.onMessage(message(CacheInvalidation.clear("other-node", "postFeed")), null);
+
+        //then
+        assertThat(afterOwnMessage).isEqualTo(2);
+        assertThat(((Cache<?, ?>) cache.getNativeCache()).asMap()).isEmpty();
+        assertThat(remoteCacheManager.getCache("postFeed").get("page0")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("원본 조회에서 발생한 예외는 그대로 전파된다")
+    void loaderExceptionPropagates() {
+        //given
+        var cache = cacheManager.getCache("postDetail");
+
+        //when & then
+        assertThatThrownBy(() -> cache.get("missing", () -> {
+                    throw new IllegalStateException("not found");
+                }))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(cache.get("missing")).isNull();
+    }
+
+    private static DefaultMessage message(CacheInvalidation invalidation) {
+        return new DefaultMessage(
+                "cache-invalidation".getBytes(StandardCharsets.UTF_8),
+                invalidation.encode().getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
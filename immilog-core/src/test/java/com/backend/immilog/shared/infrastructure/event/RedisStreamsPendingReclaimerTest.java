@@ -0,0 +1,165 @@
+package com.backend.immilog.shared.infrastructure.event;
+
+import com.backend.immilog.shared.config.event.RedisEventConfig;
+import com.backend.immilog.shared.config.properties.EventStreamProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RedisStreamsPendingReclaimer 테스트")
+class RedisStreamsPendingReclaimerTest {
+    private static final String STREAM = RedisEventConfig.DOMAIN_EVENT_STREAM;
+    private static final String GROUP = RedisEventConfig.DOMAIN_EVENT_GROUP;
+    private static final String CONSUMER = "immilog-node1";
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, Object> eventRedisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final StreamOperations<String, Object, Object> streamOperations = mock(StreamOperations.class);
+    private final RedisStreamsPushEventListener eventListener = mock(RedisStreamsPushEventListener.class);
+    private final EventStreamProperties properties = new EventStreamProperties(
+            null, null, null, null, CONSUMER,
+            null, Duration.ofMinutes(1), Duration.ofMinutes(10), null, 3, 1_000L, null
+    );
+    private RedisStreamsPendingReclaimer reclaimer;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(streamOperations).when(eventRedisTemplate).opsForStream();
+        reclaimer = new RedisStreamsPendingReclaimer(
+                eventRedisTemplate,
+                eventListener,
+                properties,
+                CONSUMER,
+                Map.of(STREAM, GROUP),
+                new SimpleMeterRegistry()
+        );
+    }
+
+    @Test
+    @DisplayName("재시도 백오프는 전달 횟수에 따라 두 배씩 늘어나고 최대값에서 멈춘다")
+    void backoffGrowsExponentially() {
+        assertThat(reclaimer.backoff(1)).isEqualTo(Duration.ofMinutes(1));
+        assertThat(reclaimer.backoff(2)).isEqualTo(Duration.ofMinutes(2));
+        assertThat(reclaimer.backoff(3)).isEqualTo(Duration.ofMinutes(4));
+        assertThat(reclaimer.backoff(10)).isEqualTo(Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("백오프가 지난 레코드만 회수하고, 최대 전달 횟수를 넘으면 데드레터로 옮긴다")
+    @SuppressWarnings("unchecked")
+    void reclaimRetriesAndDeadLetters() {
+        //given
+        var retry = pending("1-0", Duration.ofMinutes(2), 1);
+        var notDue = pending("2-0", Duration.ofMinutes(1), 2);
+        var poison = pending("3-0", Duration.ofMinutes(30), 3);
+        when(streamOperations.pending(eq(STREAM), eq(GROUP), any(Range.class), eq(100L)))
+                .thenReturn(new PendingMessages(GROUP, List.of(retry, notDue, poison)));
+        when(streamOperations.claim(eq(STREAM), eq(GROUP), eq(CONSUMER), eq(Duration.ofMinutes(1)), any(RecordId[].class)))
+                .thenReturn((List) List.of(record("1-0"), record("3-0")));
+
+        //when
+        reclaimer.reclaim();
+
+        //then
+        verify(streamOperations).claim(
+                eq(STREAM), eq(GROUP), eq(CONSUMER), eq(Duration.ofMinutes(1)),
+                eq(RecordId.of("1-0")), eq(RecordId.of("3-0"))
+        );
+        verify(eventListener).onBatch(eq(STREAM), argThat(records ->
+                records.size() == 1 && records.getFirst().getId().equals(RecordId.of("1-0"))));
+        verify(streamOperations).add(eq(RedisEventConfig.DEAD_LETTER_EVENT_STREAM), argThat((Map<Object, Object> fields) ->
+                "3-0".equals(fields.get("originalId")) && "4".equals(fields.get("deliveryCount"))));
+        verify(streamOperations).acknowledge(STREAM, GROUP, RecordId.of("3-0"));
+        verify(streamOperations).trim(STREAM, 1_000L, true);
+        verify(streamOperations).trim(RedisEventConfig.DEAD_LETTER_EVENT_STREAM, 1_000L, true);
+    }
+
+    @Test
+    @DisplayName("회수할 레코드가 없으면 XCLAIM을 보내지 않는다")
+    @SuppressWarnings("unchecked")
+    void nothingToReclaim() {
+        //given
+        when(streamOperations.pending(eq(STREAM), eq(GROUP), any(Range.class), anyLong()))
+                .thenReturn(new PendingMessages(GROUP, List.of()));
+
+        //when
+        reclaimer.reclaim();
+
+        //then
+        verify(streamOperations, never()).claim(anyString(), anyString(), anyString(), any(Duration.class), any(RecordId[].class));
+        verifyNoInteractions(eventListener);
+    }
+
+    @Test
+    @DisplayName("XPENDING은 마지막으로 본 ID 다음부터 이어 읽어 앞쪽이 백오프 중이어도 뒤쪽 레코드를 회수한다")
+    @SuppressWarnings("unchecked")
+    void reclaimPagesThroughPendingEntries() {
+        //given
+        var pagedReclaimer = new RedisStreamsPendingReclaimer(
+                eventRedisTemplate,
+                eventListener,
+                new EventStreamProperties(
+                        null, null, null, null, CONSUMER,
+                        null, Duration.ofMinutes(1), Duration.ofMinutes(10), 2, 3, 1_000L, null
+                ),
+                CONSUMER,
+                Map.of(STREAM, GROUP),
+                new SimpleMeterRegistry()
+        );
+        when(streamOperations.pending(eq(STREAM), eq(GROUP), eq(Range.unbounded()), eq(2L)))
+                .thenReturn(new PendingMessages(GROUP, List.of(
+                        pending("1-0", Duration.ofSeconds(10), 1),
+                        pending("1-1", Duration.ofSeconds(10), 1)
+                )));
+        when(streamOperations.pending(eq(STREAM), eq(GROUP), eq(Range.rightUnbounded(Range.Bound.inclusive("1-2"))), eq(2L)))
+                .thenReturn(new PendingMessages(GROUP, List.of(pending("5-0", Duration.ofMinutes(2), 1))));
+        when(streamOperations.claim(eq(STREAM), eq(GROUP), eq(CONSUMER), eq(Duration.ofMinutes(1)), any(RecordId[].class)))
+                .thenReturn((List) List.of(record("5-0")));
+
+        //when
+        pagedReclaimer.reclaim();
+
+        //then
+        verify(streamOperations, times(2)).pending(eq(STREAM), eq(GROUP), any(Range.class), eq(2L));
+        verify(streamOperations).claim(
+                eq(STREAM), eq(GROUP), eq(CONSUMER), eq(Duration.ofMinutes(1)),
+                eq(RecordId.of("5-0"))
+        );
+        verify(eventListener).onBatch(eq(STREAM), argThat(records ->
+                records.size() == 1 && records.getFirst().getId().equals(RecordId.of("5-0"))));
+    }
+
+    private PendingMessage pending(
+            String id,
+            Duration idle,
+            long deliveries
+    ) {
+        return new PendingMessage(RecordId.of(id), Consumer.from(GROUP, "immilog-node1-1700000000000"), idle, deliveries);
+    }
+
+    private MapRecord<String, String, String> record(String id) {
+        return StreamRecords.newRecord()
+                .in(STREAM)
+                .withId(RecordId.of(id))
+                .ofMap(Map.of("event", "{}"));
+    }
+}
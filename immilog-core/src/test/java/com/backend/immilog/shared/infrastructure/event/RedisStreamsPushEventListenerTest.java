@@ -0,0 +1,152 @@
+package com.backend.immilog.shared.infrastructure.event;
+
+import com.backend.immilog.shared.config.event.RedisEventConfig;
+import com.backend.immilog.shared.domain.event.BatchDomainEventHandler;
+import com.backend.immilog.shared.domain.event.DomainEvent;
+import com.backend.immilog.shared.domain.event.DomainEventHandler;
+import com.backend.immilog.shared.infrastructure.event.dto.RedisEventMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RedisStreamsPushEventListener 배치 처리 테스트")
+class RedisStreamsPushEventListenerTest {
+    private static final String STREAM = RedisEventConfig.DOMAIN_EVENT_STREAM;
+    private static final String GROUP = RedisEventConfig.DOMAIN_EVENT_GROUP;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final ApplicationContext applicationContext = mock(ApplicationContext.class);
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, Object> eventRedisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final StreamOperations<String, Object, Object> streamOperations = mock(StreamOperations.class);
+    @SuppressWarnings("unchecked")
+    private final BatchDomainEventHandler<BatchEvent> batchHandler = mock(BatchDomainEventHandler.class);
+    @SuppressWarnings("unchecked")
+    private final DomainEventHandler<SingleEvent> singleHandler = mock(DomainEventHandler.class);
+    private SimpleMeterRegistry meterRegistry;
+    private RedisStreamsPushEventListener listener;
+
+    @BeforeEach
+    void setUp() {
+        when(batchHandler.getEventType()).thenReturn(BatchEvent.class);
+        when(singleHandler.getEventType()).thenReturn(SingleEvent.class);
+        when(applicationContext.getBeansOfType(DomainEventHandler.class))
+                .thenReturn(Map.of("batchHandler", batchHandler, "singleHandler", singleHandler));
+        doReturn(streamOperations).when(eventRedisTemplate).opsForStream();
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new RedisStreamsPushEventListener(objectMapper, applicationContext, eventRedisTemplate, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("배치 핸들러는 연속된 이벤트를 한 번에 받고, ACK는 한 번만 전송된다")
+    @SuppressWarnings("unchecked")
+    void batchHandlerReceivesAllEvents() throws Exception {
+        //given
+        var records = List.of(
+                record("1-0", new BatchEvent("a", LocalDateTime.now())),
+                record("2-0", new BatchEvent("b", LocalDateTime.now())),
+                record("3-0", new BatchEvent("c", LocalDateTime.now()))
+        );
+
+        //when
+        listener.onBatch(STREAM, records);
+
+        //then
+        ArgumentCaptor<List<BatchEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(batchHandler, times(1)).handleAll(captor.capture());
+        verify(batchHandler, never()).handle(any());
+        assertThat(captor.getValue()).extracting(BatchEvent::value).containsExactly("a", "b", "c");
+        verify(streamOperations, times(1)).acknowledge(
+                eq(STREAM), eq(GROUP), eq(RecordId.of("1-0")), eq(RecordId.of("2-0")), eq(RecordId.of("3-0"))
+        );
+        assertThat(meterRegistry.get("immilog.events.processed").tag("outcome", "success").counter().count())
+                .isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("실패한 레코드는 ACK하지 않고 나머지만 확인한다")
+    void failedRecordIsNotAcknowledged() throws Exception {
+        //given
+        var failing = new SingleEvent("fail", LocalDateTime.now());
+        doThrow(new RuntimeException("handler error")).when(singleHandler).handle(failing);
+        var records = List.of(
+                record("1-0", new SingleEvent("ok", LocalDateTime.now())),
+                record("2-0", failing),
+                record("3-0", new BatchEvent("a", LocalDateTime.now()))
+        );
+
+        //when
+        listener.onBatch(STREAM, records);
+
+        //then
+        verify(singleHandler, times(2)).handle(any());
+        verify(batchHandler).handleAll(anyList());
+        verify(streamOperations).acknowledge(
+                eq(STREAM), eq(GROUP), eq(RecordId.of("1-0")), eq(RecordId.of("3-0"))
+        );
+        assertThat(meterRegistry.get("immilog.events.processed").tag("outcome", "failure").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("immilog.events.handler.latency").timers()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("역직렬화할 수 없는 레코드는 ACK하지 않는다")
+    void undecodableRecordIsNotAcknowledged() throws Exception {
+        //given
+        MapRecord<String, String, String> broken = StreamRecords.newRecord()
+                .in(STREAM)
+                .withId(RecordId.of("1-0"))
+                .ofMap(Map.of("event", "{not json"));
+        var records = List.of(broken, record("2-0", new BatchEvent("a", LocalDateTime.now())));
+
+        //when
+        listener.onBatch(STREAM, records);
+
+        //then
+        verify(streamOperations).acknowledge(eq(STREAM), eq(GROUP), eq(RecordId.of("2-0")));
+    }
+
+    private MapRecord<String, String, String> record(
+            String id,
+            DomainEvent event
+    ) throws Exception {
+        var message = new RedisEventMessage(
+                id,
+                event.getClass().getName(),
+                objectMapper.writeValueAsString(event),
+                LocalDateTime.now().withNano(0)
+        );
+        return StreamRecords.newRecord()
+                .in(STREAM)
+                .withId(RecordId.of(id))
+                .ofMap(Map.of("event", objectMapper.writeValueAsString(message)));
+    }
+
+    public record BatchEvent(String value, LocalDateTime occurredAt) implements DomainEvent {
+    }
+
+    public record SingleEvent(String value, LocalDateTime occurredAt) implements DomainEvent {
+    }
+}
@@ -0,0 +1,90 @@
+package com.backend.immilog.shared.security.jtw;
+
+import com.backend.immilog.user.exception.UserErrorCode;
+import com.backend.immilog.user.exception.UserException;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+
+class JwtFilterTest {
+    private final JwtProvider jwtProvider = mock(JwtProvider.class);
+    private final FilterChain chain = mock(FilterChain.class);
+    private final JwtFilter jwtFilter = new JwtFilter(jwtProvider);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("차단된 사용자의 요청은 401이 아닌 403으로 거부한다")
+    void blockedUserIsForbidden() throws Exception {
+        //given
+        var request = request("token");
+        var response = new MockHttpServletResponse();
+        when(jwtProvider.getAuthentication("token")).thenThrow(new UserException(UserErrorCode.BLOCKED_USER));
+
+        //when
+        jwtFilter.doFilterInternal(request, response, chain);
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(403);
+        assertThat(response.getErrorMessage()).isEqualTo(UserErrorCode.BLOCKED_USER.getMessage());
+        verify(chain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 401로 거부한다")
+    void invalidTokenIsUnauthorized() throws Exception {
+        //given
+        var request = request("token");
+        var response = new MockHttpServletResponse();
+        when(jwtProvider.getAuthentication("token")).thenThrow(new IllegalArgumentException("invalid token"));
+
+        //when
+        jwtFilter.doFilterInternal(request, response, chain);
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(401);
+        verify(chain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("유효한 토큰은 인증 정보를 설정하고 다음 필터로 진행한다")
+    void validTokenSetsAuthentication() throws Exception {
+        //given
+        var request = request("token");
+        var response = new MockHttpServletResponse();
+        var authentication = new UsernamePasswordAuthenticationToken("user-1", null, List.of());
+        when(jwtProvider.getAuthentication("token")).thenReturn(authentication);
+
+        //when
+        jwtFilter.doFilterInternal(request, response, chain);
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isSameAs(authentication);
+        verify(chain).doFilter(request, response);
+    }
+
+    private MockHttpServletRequest request(String token) {
+        var request = new MockHttpServletRequest("GET", "/api/v1/posts");
+        request.addHeader(AUTHORIZATION, "Bearer " + token);
+        return request;
+    }
+}
@@ -0,0 +1,110 @@
+package com.backend.immilog.shared.security.jtw;
+
+import com.backend.immilog.shared.config.properties.JwtProperties;
+import com.backend.immilog.user.domain.enums.UserRole;
+import com.backend.immilog.user.domain.enums.UserStatus;
+import com.backend.immilog.user.exception.UserErrorCode;
+import com.backend.immilog.user.exception.UserException;
+import com.backend.immilog.user.infrastructure.security.UserDetailsServiceImpl;
+import com.backend.immilog.user.infrastructure.security.UserStatusCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JwtProviderTest {
+    private final UserDetailsServiceImpl userDetailsService = mock(UserDetailsServiceImpl.class);
+    private final UserStatusCache userStatusCache = mock(UserStatusCache.class);
+    private SimpleMeterRegistry meterRegistry;
+    private JwtProvider jwtProvider;
+
+    @BeforeEach
+    void setUp() {
+        var secretKey = Base64.getEncoder().encodeToString("immilog-test-secret-key-0123456789abcdef".getBytes());
+        var jwtProperties = new JwtProperties(
+                "immilog",
+                secretKey,
+                Duration.ofMinutes(30),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+        );
+        meterRegistry = new SimpleMeterRegistry();
+        jwtProvider = new JwtProvider(jwtProperties, userDetailsService, userStatusCache, meterRegistry);
+        jwtProvider.init();
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 검증하고 이후에는 캐시된 클레임을 사용한다")
+    void verifiedClaimsAreCached() {
+        //given
+        var token = jwtProvider.issueAccessToken("user-1", "user@test.com", UserRole.ROLE_USER, "KR");
+        when(userStatusCache.getStatus(anyString())).thenReturn(UserStatus.ACTIVE);
+
+        //when
+        var valid = jwtProvider.validateToken(token);
+        var userId = jwtProvider.getIdFromToken("Bearer " + token);
+        var email = jwtProvider.getEmailFromToken(token);
+        var authentication = jwtProvider.getAuthentication("Bearer " + token);
+
+        //then
+        assertThat(valid).isTrue();
+        assertThat(userId).isEqualTo("user-1");
+        assertThat(email).isEqualTo("user@test.com");
+        assertThat(authentication.getPrincipal()).isEqualTo("user-1");
+        assertThat(cacheGets("miss")).isEqualTo(1.0);
+        assertThat(cacheGets("hit")).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("서명이 유효하지 않은 토큰은 캐시되지 않고 검증에 실패한다")
+    void invalidTokenIsNotCached() {
+        //given
+        var token = jwtProvider.issueAccessToken("user-1", "user@test.com", UserRole.ROLE_USER, "KR");
+        var tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        //when
+        var first = jwtProvider.validateToken(tampered);
+        var second = jwtProvider.validateToken(tampered);
+
+        //then
+        assertThat(first).isFalse();
+        assertThat(second).isFalse();
+        assertThat(cacheGets("hit")).isZero();
+        assertThat(cacheGets("miss")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("상태 캐시에서 차단된 사용자는 인증 정보를 만들지 않고 BLOCKED_USER로 거부한다")
+    void blockedUserIsRejected() {
+        //given
+        var token = jwtProvider.issueAccessToken("user-1", "user@test.com", UserRole.ROLE_USER, "KR");
+        when(userStatusCache.getStatus("user-1")).thenReturn(UserStatus.BLOCKED);
+
+        //when & then
+        assertThatThrownBy(() -> jwtProvider.getAuthentication("Bearer " + token))
+                .isInstanceOf(UserException.class)
+                .extracting(e -> ((UserException) e).getErrorCode())
+                .isEqualTo(UserErrorCode.BLOCKED_USER);
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", "jwtVerifiedClaims")
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
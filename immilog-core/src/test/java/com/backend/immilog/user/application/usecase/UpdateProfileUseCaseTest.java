@@ -12,6 +12,7 @@ import com.backend.immilog.user.domain.model.*;
 import com.backend.immilog.user.domain.service.UserPasswordPolicy;
 import com.backend.immilog.user.exception.UserErrorCode;
 import com.backend.immilog.user.exception.UserException;
+import com.backend.immilog.user.infrastructure.security.UserStatusCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,6 +32,7 @@ class UpdateProfileUseCaseTest {
     private final UserCommandService userCommandService = mock(UserCommandService.class);
     // private final UploadImageUseCase uploadImageUseCase = mock(UploadImageUseCase.class);
     private final UserPasswordPolicy userPasswordPolicy = mock(UserPasswordPolicy.class);
+    private final UserStatusCache userStatusCache = mock(UserStatusCache.class);
 
     private UpdateProfileUseCase userUpdater;
 
@@ -40,7 +42,8 @@ class UpdateProfileUseCaseTest {
                 userQueryService,
                 userCommandService,
                 // uploadImageUseCase,
-                userPasswordPolicy
+                userPasswordPolicy,
+                userStatusCache
         );
     }
 
@@ -295,6 +298,7 @@ class UpdateProfileUseCaseTest {
         verify(userQueryService).getUserById(adminUserId);
         verify(userQueryService).getUserById(targetUserId);
         verify(userCommandService).save(any(User.class));
+        verify(userStatusCache).invalidate(targetUserId);
     }
 
     @Test
@@ -328,6 +332,7 @@ class UpdateProfileUseCaseTest {
         verify(userQueryService).getUserById(adminUserId);
         verify(userQueryService).getUserById(targetUserId);
         verify(userCommandService).save(any(User.class));
+        verify(userStatusCache).invalidate(targetUserId);
     }
 
     @Test
@@ -353,6 +358,7 @@ class UpdateProfileUseCaseTest {
         verify(mockRegularUser).validateAdminRole();
         verify(userQueryService, never()).getUserById(targetUserId);
         verify(userCommandService, never()).save(any(User.class));
+        verify(userStatusCache, never()).invalidate(any());
     }
 
     @Test
@@ -0,0 +1,155 @@
+package com.backend.immilog.user.infrastructure.security;
+
+import com.backend.immilog.shared.config.properties.JwtProperties;
+import com.backend.immilog.shared.config.properties.PostCacheProperties;
+import com.backend.immilog.shared.infrastructure.cache.CacheInvalidation;
+import com.backend.immilog.user.application.services.query.UserQueryService;
+import com.backend.immilog.user.domain.enums.UserStatus;
+import com.backend.immilog.user.domain.model.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserStatusCacheTest {
+    private final UserQueryService userQueryService = mock(UserQueryService.class);
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    private final UserStatusCache userStatusCache = new UserStatusCache(
+            userQueryService,
+            new JwtProperties("immilog", "secret", null, null, null, null, null, null, null),
+            redisTemplate,
+            new PostCacheProperties(null, null, null, null, null, null, "cache-invalidation")
+    );
+
+    @Test
+    @DisplayName("처음 조회한 사용자 상태는 DB에서 읽고, 이후 조회는 캐시에서 반환한다")
+    void missLoadsThenHitServesFromCache() {
+        //given
+        var user = userWithStatus(UserStatus.ACTIVE);
+        when(userQueryService.getUserById("user-1")).thenReturn(user);
+
+        //when
+        var first = userStatusCache.getStatus("user-1");
+        var second = userStatusCache.getStatus("user-1");
+
+        //then
+        assertThat(first).isEqualTo(UserStatus.ACTIVE);
+        assertThat(second).isEqualTo(UserStatus.ACTIVE);
+        verify(userQueryService, times(1)).getUserById("user-1");
+    }
+
+    @Test
+    @DisplayName("사용자마다 따로 캐시한다")
+    void cachesPerUser() {
+        //given
+        var active = userWithStatus(UserStatus.ACTIVE);
+        var blocked = userWithStatus(UserStatus.BLOCKED);
+        when(userQueryService.getUserById("user-1")).thenReturn(active);
+        when(userQueryService.getUserById("user-2")).thenReturn(blocked);
+
+        //when
+        var first = userStatusCache.getStatus("user-1");
+        var second = userStatusCache.getStatus("user-2");
+
+        //then
+        assertThat(first).isEqualTo(UserStatus.ACTIVE);
+        assertThat(second).isEqualTo(UserStatus.BLOCKED);
+        verify(userQueryService, times(1)).getUserById("user-1");
+        verify(userQueryService, times(1)).getUserById("user-2");
+    }
+
+    @Test
+    @DisplayName("상태 변경 후 invalidate 하면 다음 조회에서 바뀐 상태를 다시 읽는다")
+    void invalidateReloadsChangedStatus() {
+        //given
+        var user = userWithStatus(UserStatus.ACTIVE);
+        when(userQueryService.getUserById("user-1")).thenReturn(user);
+        userStatusCache.getStatus("user-1");
+        when(user.getUserStatus()).thenReturn(UserStatus.BLOCKED);
+        var beforeInvalidate = userStatusCache.getStatus("user-1");
+
+        //when
+        userStatusCache.invalidate("user-1");
+        var afterInvalidate = userStatusCache.getStatus("user-1");
+
+        //then
+        assertThat(beforeInvalidate).isEqualTo(UserStatus.ACTIVE);
+        assertThat(afterInvalidate).isEqualTo(UserStatus.BLOCKED);
+        verify(userQueryService, times(2)).getUserById("user-1");
+    }
+
+    @Test
+    @DisplayName("invalidate 하면 다른 노드에 무효화 메시지를 보낸다")
+    void invalidatePublishesToOtherNodes() {
+        //when
+        userStatusCache.invalidate("user-1");
+
+        //then
+        var captor = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq("cache-invalidation"), captor.capture());
+        var invalidation = CacheInvalidation.decode(captor.getValue());
+        assertThat(invalidation.cacheName()).isEqualTo(UserStatusCache.CACHE_NAME);
+        assertThat(invalidation.key()).isEqualTo("user-1");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 invalidate 하면 커밋 이후에 지우고 알린다")
+    void invalidateWaitsForCommit() {
+        //given
+        var user = userWithStatus(UserStatus.ACTIVE);
+        when(userQueryService.getUserById("user-1")).thenReturn(user);
+        userStatusCache.getStatus("user-1");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            //when
+            userStatusCache.invalidate("user-1");
+            userStatusCache.getStatus("user-1");
+            verify(userQueryService, times(1)).getUserById("user-1");
+            verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        userStatusCache.getStatus("user-1");
+
+        //then
+        verify(userQueryService, times(2)).getUserById("user-1");
+        verify(redisTemplate).convertAndSend(eq("cache-invalidation"), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 로컬 캐시를 지우고, 다른 캐시의 메시지는 무시한다")
+    void remoteInvalidationEvictsLocalEntry() {
+        //given
+        var user = userWithStatus(UserStatus.ACTIVE);
+        when(userQueryService.getUserById("user-1")).thenReturn(user);
+        userStatusCache.getStatus("user-1");
+
+        //when
+        userStatusCache.onInvalidation(CacheInvalidation.evict("other-node", "postDetail", "user-1"));
+        userStatusCache.getStatus("user-1");
+        userStatusCache.onInvalidation(CacheInvalidation.evict("other-node", UserStatusCache.CACHE_NAME, "user-1"));
+        userStatusCache.getStatus("user-1");
+
+        //then
+        verify(userQueryService, times(2)).getUserById("user-1");
+    }
+
+    private User userWithStatus(UserStatus status) {
+        var user = mock(User.class);
+        when(user.getUserStatus()).thenReturn(status);
+        return user;
+    }
+}